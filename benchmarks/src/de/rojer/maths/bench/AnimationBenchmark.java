@@ -0,0 +1,173 @@
+package de.rojer.maths.bench;
+
+import java.util.Arrays;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import de.rojer.maths.anim.AnimationClip;
+import de.rojer.maths.anim.AnimationCursor;
+import de.rojer.maths.anim.AnimationSampler;
+import de.rojer.maths.mat.Mat4;
+import de.rojer.maths.quat.Quat;
+import de.rojer.maths.vec.Vec3;
+
+/**
+ * Benchmarks for {@link AnimationSampler}, compared with searching the keys of
+ * every track and building every bone matrix by multiplying a scale, a
+ * rotation and a translation matrix
+ *
+ * @author Rojer
+ * @version 18.10.2026
+ */
+@BenchmarkMode({ Mode.Throughput, Mode.AverageTime })
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class AnimationBenchmark {
+
+	private static final int BONES = 64;
+	private static final int KEYS = 60;
+	private static final float DURATION = 2.0f;
+	private static final float FRAME = 1.0f / 60.0f;
+
+	// State
+
+	private AnimationClip walk;
+	private AnimationClip run;
+	private AnimationCursor walkCursor;
+	private AnimationCursor runCursor;
+	private AnimationCursor[] cursors;
+	private float[] blendTimes;
+	private float[] weights;
+	private AnimationSampler sampler;
+	private float[] palette;
+	private float time;
+	private Random random;
+
+	/**
+	 * The keys of walk for the matrix chain, with the rotations as Euler angles
+	 */
+	private float[] times;
+	private float[][] translations, angles, scales;
+
+	@Setup
+	public void setup() {
+		Random keys = new Random(17);
+		walk = new AnimationClip(BONES, DURATION);
+		run = new AnimationClip(BONES, DURATION);
+		times = new float[KEYS];
+		for (int k = 0; k < KEYS; k++) {
+			times[k] = k * DURATION / (KEYS - 1);
+		}
+		translations = new float[BONES][KEYS * 3];
+		angles = new float[BONES][KEYS * 3];
+		scales = new float[BONES][KEYS * 3];
+		Quat rotation = new Quat();
+		for (AnimationClip clip : new AnimationClip[] { walk, run }) {
+			for (int b = 0; b < BONES; b++) {
+				float[] rotations = new float[KEYS * 4];
+				for (int k = 0; k < KEYS; k++) {
+					for (int j = 0; j < 3; j++) {
+						translations[b][k * 3 + j] = keys.nextFloat();
+						angles[b][k * 3 + j] = keys.nextFloat() * 360.0f;
+						scales[b][k * 3 + j] = 0.5f + keys.nextFloat();
+					}
+					Quat.Rotation(angles[b][k * 3], angles[b][k * 3 + 1], angles[b][k * 3 + 2], rotation);
+					rotations[k * 4] = rotation.x;
+					rotations[k * 4 + 1] = rotation.y;
+					rotations[k * 4 + 2] = rotation.z;
+					rotations[k * 4 + 3] = rotation.w;
+				}
+				clip.setKeys(b, AnimationClip.TRANSLATION, times, translations[b])
+						.setKeys(b, AnimationClip.ROTATION, times, rotations)
+						.setKeys(b, AnimationClip.SCALE, times, scales[b]);
+			}
+		}
+		walkCursor = new AnimationCursor(walk);
+		runCursor = new AnimationCursor(run);
+		cursors = new AnimationCursor[] { walkCursor, runCursor };
+		blendTimes = new float[2];
+		weights = new float[] { 0.3f, 0.7f };
+		sampler = new AnimationSampler();
+		palette = new float[BONES * 16];
+		random = new Random(5);
+	}
+
+	private float nextFrame() {
+		time += FRAME;
+		if (time >= DURATION) {
+			time -= DURATION;
+		}
+		return time;
+	}
+
+	// Sampling
+
+	@Benchmark
+	@OperationsPerInvocation(BONES)
+	public float[] sample() {
+		sampler.sample(walkCursor, nextFrame(), palette, 0);
+		return palette;
+	}
+
+	/**
+	 * Samples at random times, so the cursor has to search the keys
+	 */
+	@Benchmark
+	@OperationsPerInvocation(BONES)
+	public float[] sampleRandomTime() {
+		sampler.sample(walkCursor, random.nextFloat() * DURATION, palette, 0);
+		return palette;
+	}
+
+	@Benchmark
+	@OperationsPerInvocation(BONES)
+	public float[] blend() {
+		float t = nextFrame();
+		blendTimes[0] = t;
+		blendTimes[1] = t;
+		sampler.blend(cursors, blendTimes, weights, 2, palette, 0);
+		return palette;
+	}
+
+	@Benchmark
+	@OperationsPerInvocation(BONES)
+	public float[] matrixChain() {
+		float t = nextFrame();
+		int key = Arrays.binarySearch(times, t);
+		key = key >= 0 ? key : -key - 2;
+		float f = (t - times[key]) / (times[key + 1] - times[key]);
+		for (int b = 0; b < BONES; b++) {
+			Vec3 translation = lerp(translations[b], key, f);
+			Vec3 angle = lerp(angles[b], key, f);
+			Vec3 scale = lerp(scales[b], key, f);
+			// multiply applies this matrix first, so this scales, rotates and then
+			// translates like the sampler
+			Mat4 bone = Mat4.Scale(scale).multiply(Mat4.Rotation(angle.x, angle.y, angle.z))
+					.multiply(Mat4.Translation(translation));
+			System.arraycopy(bone.elements, 0, palette, b * 16, 16);
+		}
+		return palette;
+	}
+
+	private static Vec3 lerp(float[] values, int key, float f) {
+		int a = key * 3, b = a + 3;
+		return new Vec3(values[a] + f * (values[b] - values[a]), values[a + 1] + f * (values[b + 1] - values[a + 1]),
+				values[a + 2] + f * (values[b + 2] - values[a + 2]));
+	}
+
+}
@@ -0,0 +1,112 @@
+package de.rojer.maths.bench;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import de.rojer.maths.backend.MathBackend;
+import de.rojer.maths.backend.ScalarBackend;
+import de.rojer.maths.mat.Mat4;
+import de.rojer.maths.simd.VectorBackend;
+import de.rojer.maths.vec.Vec3Buffer;
+import de.rojer.maths.vec.Vec4Buffer;
+
+/**
+ * Compares the scalar and the SIMD backend
+ * 
+ * @author Rojer
+ * @version 18.10.2026
+ */
+@BenchmarkMode({ Mode.Throughput, Mode.AverageTime })
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class BackendBenchmark {
+
+	@Param({ "scalar", "simd" })
+	private String backendName;
+
+	@Param({ "10000" })
+	private int size;
+
+	// State
+
+	private MathBackend backend;
+	private Mat4 matrix;
+	private Mat4 other;
+	private Mat4 dest;
+	private float[] matricesA;
+	private float[] matricesB;
+	private float[] matricesDest;
+	private Vec3Buffer vec3Src;
+	private Vec3Buffer vec3Dest;
+	private Vec4Buffer vec4Src;
+	private Vec4Buffer vec4Dest;
+
+	@Setup
+	public void setup() {
+		backend = backendName.equals("simd") ? new VectorBackend() : new ScalarBackend();
+		Random random = new Random(42);
+		matrix = Mat4.Perspective(70.0f, 16.0f / 9.0f, 0.1f, 1000.0f).multiply(Mat4.Rotation(10.0f, 20.0f, 30.0f));
+		other = Mat4.Rotation(1.0f, 2.0f, 3.0f);
+		dest = new Mat4();
+		matricesA = new float[size * 16];
+		matricesB = new float[size * 16];
+		matricesDest = new float[size * 16];
+		for (int i = 0; i < matricesA.length; i++) {
+			matricesA[i] = random.nextFloat();
+			matricesB[i] = random.nextFloat();
+		}
+		vec3Src = new Vec3Buffer(size);
+		vec3Dest = new Vec3Buffer(size);
+		vec4Src = new Vec4Buffer(size);
+		vec4Dest = new Vec4Buffer(size);
+		for (int i = 0; i < size; i++) {
+			vec3Src.set(i, random.nextFloat(), random.nextFloat(), random.nextFloat());
+			vec4Src.set(i, random.nextFloat(), random.nextFloat(), random.nextFloat(), 1.0f);
+		}
+	}
+
+	@Benchmark
+	public Mat4 mul() {
+		return backend.mul(matrix, other, dest);
+	}
+
+	@Benchmark
+	public float[] mulBatch() {
+		backend.mul(matricesA, matricesB, matricesDest, 0, size);
+		return matricesDest;
+	}
+
+	@Benchmark
+	public Vec3Buffer transformVec3() {
+		backend.transform(matrix, vec3Src, vec3Dest, 0, size);
+		return vec3Dest;
+	}
+
+	@Benchmark
+	public Vec3Buffer transformVec3InPlace() {
+		backend.transform(other, vec3Dest, vec3Dest, 0, size);
+		return vec3Dest;
+	}
+
+	@Benchmark
+	public Vec4Buffer transformVec4() {
+		backend.transform(matrix, vec4Src, vec4Dest, 0, size);
+		return vec4Dest;
+	}
+
+}
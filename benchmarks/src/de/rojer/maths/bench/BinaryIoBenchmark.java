@@ -0,0 +1,145 @@
+package de.rojer.maths.bench;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import de.rojer.maths.io.BinaryReader;
+import de.rojer.maths.io.BinaryWriter;
+import de.rojer.maths.io.ElementType;
+import de.rojer.maths.offheap.OffHeapArena;
+import de.rojer.maths.offheap.Vec3View;
+import de.rojer.maths.vec.Vec3;
+import de.rojer.maths.vec.Vec3Buffer;
+
+/**
+ * Benchmarks for {@link BinaryWriter} and {@link BinaryReader}, compared with
+ * writing and reading every float through a DataOutputStream and a
+ * DataInputStream
+ *
+ * @author Rojer
+ * @version 18.10.2026
+ */
+@BenchmarkMode({ Mode.Throughput, Mode.AverageTime })
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class BinaryIoBenchmark {
+
+	private static final int COUNT = 1 << 18;
+
+	// State
+
+	private Vec3Buffer vectors;
+	private Vec3Buffer dest;
+	private Vec3 vector;
+	private Path binary;
+	private Path data;
+	private Path out;
+
+	@Setup
+	public void setup() throws IOException {
+		vectors = new Vec3Buffer(COUNT);
+		dest = new Vec3Buffer(COUNT);
+		vector = new Vec3();
+		for (int i = 0; i < COUNT; i++) {
+			vectors.set(i, i, -0.5f * i, 0.25f * i);
+		}
+		binary = Files.createTempFile("vectors", ".bin");
+		data = Files.createTempFile("vectors", ".dat");
+		out = Files.createTempFile("out", ".bin");
+		try (BinaryWriter writer = new BinaryWriter(binary)) {
+			writer.begin(ElementType.VEC3).write(vectors, 0, COUNT);
+		}
+		writeDataStream(data);
+	}
+
+	@TearDown
+	public void tearDown() throws IOException {
+		Files.delete(binary);
+		Files.delete(data);
+		Files.delete(out);
+	}
+
+	// Writing
+
+	@Benchmark
+	@OperationsPerInvocation(COUNT)
+	public Path writeDataStream() throws IOException {
+		return writeDataStream(out);
+	}
+
+	@Benchmark
+	@OperationsPerInvocation(COUNT)
+	public Path writeBinary() throws IOException {
+		try (BinaryWriter writer = new BinaryWriter(out)) {
+			writer.begin(ElementType.VEC3).write(vectors, 0, COUNT);
+		}
+		return out;
+	}
+
+	// Reading
+
+	@Benchmark
+	@OperationsPerInvocation(COUNT)
+	public Vec3Buffer readDataStream() throws IOException {
+		try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(data)))) {
+			for (int i = 0; i < COUNT; i++) {
+				dest.set(i, in.readFloat(), in.readFloat(), in.readFloat());
+			}
+		}
+		return dest;
+	}
+
+	@Benchmark
+	@OperationsPerInvocation(COUNT)
+	public Vec3Buffer readBinary() throws IOException {
+		try (BinaryReader reader = new BinaryReader(binary)) {
+			return reader.read(0, 0, dest, 0, COUNT);
+		}
+	}
+
+	/**
+	 * Opens the file and reads one vector through a view, which only touches the
+	 * page of that vector
+	 */
+	@Benchmark
+	public Vec3 openMapped() throws IOException {
+		try (BinaryReader reader = new BinaryReader(binary)) {
+			OffHeapArena arena = reader.map(0);
+			return new Vec3View(arena, (COUNT / 2) * Vec3View.FLOATS).get(vector);
+		}
+	}
+
+	private Path writeDataStream(Path path) throws IOException {
+		try (DataOutputStream stream = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(path)))) {
+			for (int i = 0; i < COUNT; i++) {
+				stream.writeFloat(vectors.x[i]);
+				stream.writeFloat(vectors.y[i]);
+				stream.writeFloat(vectors.z[i]);
+			}
+		}
+		return path;
+	}
+
+}
@@ -0,0 +1,108 @@
+package de.rojer.maths.bench;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import de.rojer.maths.mat.Mat4;
+import de.rojer.maths.vec.InterleavedVec3Buffer;
+import de.rojer.maths.vec.Vec3;
+import de.rojer.maths.vec.Vec3Buffer;
+
+/**
+ * Bulk transform of a point set: one Vec3 object at a time compared to the
+ * structure-of-arrays and the interleaved buffer
+ * 
+ * @author Rojer
+ * @version 18.10.2026
+ */
+@BenchmarkMode({ Mode.Throughput, Mode.AverageTime })
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class BufferBenchmark {
+
+	@Param({ "1000", "100000" })
+	private int size;
+
+	// State
+
+	private Mat4 matrix;
+	private Vec3[] points;
+	private Vec3 dest;
+	private Vec3Buffer soa;
+	private Vec3Buffer soaDest;
+	private InterleavedVec3Buffer interleaved;
+	private InterleavedVec3Buffer interleavedDest;
+
+	@Setup
+	public void setup() {
+		Random random = new Random(42);
+		matrix = Mat4.Perspective(70.0f, 16.0f / 9.0f, 0.1f, 1000.0f).multiply(Mat4.Rotation(10.0f, 20.0f, 30.0f));
+		points = new Vec3[size];
+		dest = new Vec3();
+		soa = new Vec3Buffer(size);
+		soaDest = new Vec3Buffer(size);
+		interleaved = new InterleavedVec3Buffer(size);
+		interleavedDest = new InterleavedVec3Buffer(size);
+		for (int i = 0; i < size; i++) {
+			points[i] = new Vec3(random.nextFloat(), random.nextFloat(), random.nextFloat());
+			soa.set(i, points[i]);
+		}
+		interleaved.copyFrom(soa, 0, size);
+	}
+
+	@Benchmark
+	public void multiplyPerObject(Blackhole blackhole) {
+		for (int i = 0; i < size; i++) {
+			blackhole.consume(matrix.multiply(points[i]));
+		}
+	}
+
+	@Benchmark
+	public Vec3 transformPerObject() {
+		for (int i = 0; i < size; i++) {
+			matrix.transform(points[i], dest);
+		}
+		return dest;
+	}
+
+	@Benchmark
+	public Vec3Buffer transformSoA() {
+		Vec3Buffer.transform(matrix, soa, soaDest, 0, size);
+		return soaDest;
+	}
+
+	@Benchmark
+	public InterleavedVec3Buffer transformInterleaved() {
+		InterleavedVec3Buffer.transform(matrix, interleaved, interleavedDest, 0, size);
+		return interleavedDest;
+	}
+
+	@Benchmark
+	public Vec3Buffer addSoA() {
+		Vec3Buffer.add(soa, soa, soaDest, 0, size);
+		return soaDest;
+	}
+
+	@Benchmark
+	public InterleavedVec3Buffer addInterleaved() {
+		InterleavedVec3Buffer.add(interleaved, interleaved, interleavedDest, 0, size);
+		return interleavedDest;
+	}
+
+}
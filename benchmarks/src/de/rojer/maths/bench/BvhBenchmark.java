@@ -0,0 +1,153 @@
+package de.rojer.maths.bench;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import de.rojer.maths.spatial.Bvh;
+import de.rojer.maths.spatial.BvhQuery;
+
+/**
+ * Benchmarks for {@link Bvh} over 100000 random points and boxes, with a brute
+ * force nearest neighbour search for comparison
+ *
+ * @author Rojer
+ * @version 18.10.2026
+ */
+@BenchmarkMode({ Mode.Throughput, Mode.AverageTime })
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class BvhBenchmark {
+
+	private static final int POINTS = 100000;
+	private static final int QUERIES = 1024;
+
+	// State
+
+	private float[] x, y, z;
+	private float[] minX, minY, minZ, maxX, maxY, maxZ;
+	private float[] queryX, queryY, queryZ;
+	private Bvh points;
+	private Bvh boxes;
+	private BvhQuery query;
+	private int next;
+
+	@Setup
+	public void setup() {
+		Random random = new Random(42);
+		x = new float[POINTS];
+		y = new float[POINTS];
+		z = new float[POINTS];
+		minX = new float[POINTS];
+		minY = new float[POINTS];
+		minZ = new float[POINTS];
+		maxX = new float[POINTS];
+		maxY = new float[POINTS];
+		maxZ = new float[POINTS];
+		for (int i = 0; i < POINTS; i++) {
+			x[i] = random.nextFloat() * 1000.0f;
+			y[i] = random.nextFloat() * 1000.0f;
+			z[i] = random.nextFloat() * 1000.0f;
+			minX[i] = x[i] - 1.0f;
+			minY[i] = y[i] - 1.0f;
+			minZ[i] = z[i] - 1.0f;
+			maxX[i] = x[i] + 1.0f;
+			maxY[i] = y[i] + 1.0f;
+			maxZ[i] = z[i] + 1.0f;
+		}
+		queryX = new float[QUERIES];
+		queryY = new float[QUERIES];
+		queryZ = new float[QUERIES];
+		for (int i = 0; i < QUERIES; i++) {
+			queryX[i] = random.nextFloat() * 1000.0f;
+			queryY[i] = random.nextFloat() * 1000.0f;
+			queryZ[i] = random.nextFloat() * 1000.0f;
+		}
+		points = Bvh.Points(x, y, z, 0, POINTS);
+		boxes = Bvh.Boxes(minX, minY, minZ, maxX, maxY, maxZ, 0, POINTS);
+		query = new BvhQuery(64);
+	}
+
+	private int nextQuery() {
+		next = (next + 1) & (QUERIES - 1);
+		return next;
+	}
+
+	// Building
+
+	@Benchmark
+	public Bvh buildPoints() {
+		return Bvh.Points(x, y, z, 0, POINTS);
+	}
+
+	@Benchmark
+	public Bvh rebuild() {
+		return points.rebuild();
+	}
+
+	@Benchmark
+	public int refitOnePercent() {
+		for (int i = next; i < POINTS; i += 100) {
+			points.setPoint(i, x[i], y[i], z[i]);
+		}
+		nextQuery();
+		return points.refit();
+	}
+
+	// Queries
+
+	@Benchmark
+	public int nearest1() {
+		int q = nextQuery();
+		return points.nearest(queryX[q], queryY[q], queryZ[q], 1, query);
+	}
+
+	@Benchmark
+	public int nearest8() {
+		int q = nextQuery();
+		return points.nearest(queryX[q], queryY[q], queryZ[q], 8, query);
+	}
+
+	@Benchmark
+	public int nearest1BruteForce() {
+		int q = nextQuery();
+		float qx = queryX[q], qy = queryY[q], qz = queryZ[q];
+		float best = Float.POSITIVE_INFINITY;
+		int index = -1;
+		for (int i = 0; i < POINTS; i++) {
+			float dx = x[i] - qx, dy = y[i] - qy, dz = z[i] - qz;
+			float distance = dx * dx + dy * dy + dz * dz;
+			if (distance < best) {
+				best = distance;
+				index = i;
+			}
+		}
+		return index;
+	}
+
+	@Benchmark
+	public int radius() {
+		int q = nextQuery();
+		return points.radius(queryX[q], queryY[q], queryZ[q], 50.0f, query);
+	}
+
+	@Benchmark
+	public int raycast() {
+		int q = nextQuery();
+		return boxes.raycast(-1.0f, queryY[q], queryZ[q], 1.0f, 0.01f, -0.01f, 2000.0f, query);
+	}
+
+}
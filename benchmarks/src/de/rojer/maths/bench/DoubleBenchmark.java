@@ -0,0 +1,143 @@
+package de.rojer.maths.bench;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import de.rojer.maths.mat.Mat4;
+import de.rojer.maths.mat.Mat4d;
+import de.rojer.maths.scene.CameraRelative;
+import de.rojer.maths.vec.Vec3;
+import de.rojer.maths.vec.Vec3Buffer;
+import de.rojer.maths.vec.Vec3d;
+import de.rojer.maths.vec.Vec4d;
+
+/**
+ * Benchmarks for {@link Mat4d}, {@link Vec3d}, {@link Vec4d} and the
+ * conversions of {@link CameraRelative}
+ *
+ * @author Rojer
+ * @version 18.10.2026
+ */
+@BenchmarkMode({ Mode.Throughput, Mode.AverageTime })
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class DoubleBenchmark {
+
+	private static final int BATCH = 1024;
+
+	// State
+
+	private Mat4d model;
+	private Mat4d view;
+	private Mat4d destMat4d;
+	private Vec3d position;
+	private Vec3d origin;
+	private Vec3d destVec3d;
+	private Vec4d vec4d;
+	private Vec4d destVec4d;
+	private Mat4 destMat4;
+	private Vec3 destVec3;
+	private double[] x, y, z;
+	private double[] models;
+	private Vec3Buffer positions;
+	private float[] packed;
+
+	@Setup
+	public void setup() {
+		model = Mat4d.Translation(new Vec3d(20005.5, 5.25, -30001.125)).multiply(Mat4d.Rotation(10.0, 20.0, 30.0));
+		origin = new Vec3d(20000.125, 5.0, -30000.5);
+		view = Mat4d.Translation(origin).invert();
+		destMat4d = new Mat4d();
+		position = new Vec3d(20001.0, 2.0, -30001.0);
+		destVec3d = new Vec3d();
+		vec4d = new Vec4d(1.0, 2.0, 3.0, 1.0);
+		destVec4d = new Vec4d();
+		destMat4 = new Mat4();
+		destVec3 = new Vec3();
+		x = new double[BATCH];
+		y = new double[BATCH];
+		z = new double[BATCH];
+		models = new double[BATCH * 16];
+		for (int i = 0; i < BATCH; i++) {
+			x[i] = origin.x + i;
+			y[i] = origin.y - i;
+			z[i] = origin.z + 0.5 * i;
+			System.arraycopy(model.elements, 0, models, i * 16, 16);
+		}
+		positions = new Vec3Buffer(BATCH);
+		packed = new float[BATCH * 16];
+	}
+
+	// Mat4d
+
+	@Benchmark
+	public Mat4d mulMat4d() {
+		return Mat4d.mul(model, view, destMat4d);
+	}
+
+	@Benchmark
+	public Mat4d invertMat4d() {
+		return Mat4d.invert(model, destMat4d);
+	}
+
+	@Benchmark
+	public Vec3d transformVec3d() {
+		return model.transform(position, destVec3d);
+	}
+
+	@Benchmark
+	public Vec4d transformVec4d() {
+		return model.transform(vec4d, destVec4d);
+	}
+
+	@Benchmark
+	public Mat4 toMat4() {
+		return model.get(destMat4);
+	}
+
+	// CameraRelative
+
+	@Benchmark
+	public Vec3 relativePosition() {
+		return CameraRelative.position(position, origin, destVec3);
+	}
+
+	@Benchmark
+	public Mat4 relativeModel() {
+		return CameraRelative.model(model, origin, destMat4);
+	}
+
+	@Benchmark
+	public Mat4 relativeView() {
+		return CameraRelative.view(view, origin, destMat4);
+	}
+
+	@Benchmark
+	@OperationsPerInvocation(BATCH)
+	public Vec3Buffer relativePositions() {
+		CameraRelative.positions(x, y, z, origin, positions, 0, BATCH);
+		return positions;
+	}
+
+	@Benchmark
+	@OperationsPerInvocation(BATCH)
+	public float[] relativeModels() {
+		CameraRelative.models(models, origin, packed, 0, BATCH);
+		return packed;
+	}
+
+}
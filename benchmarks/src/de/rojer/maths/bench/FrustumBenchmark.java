@@ -0,0 +1,135 @@
+package de.rojer.maths.bench;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import de.rojer.maths.mat.Mat4;
+import de.rojer.maths.scene.Frustum;
+import de.rojer.maths.vec.Vec3;
+
+/**
+ * Benchmarks for {@link Frustum}, culling randomly placed objects of which
+ * roughly a fifth is visible, against testing them one by one
+ *
+ * @author Rojer
+ * @version 18.10.2026
+ */
+@BenchmarkMode({ Mode.Throughput, Mode.AverageTime })
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class FrustumBenchmark {
+
+	private static final int OBJECTS = 32768;
+
+	// State
+
+	private Frustum frustum;
+	private Mat4 viewProjection;
+	private float[] x, y, z, radius;
+	private float[] minX, minY, minZ, maxX, maxY, maxZ;
+	private long[] visible;
+	private int[] indices;
+
+	@Setup
+	public void setup() {
+		viewProjection = Mat4.Translation(new Vec3(0.0f, 0.0f, -10.0f))
+				.multiply(Mat4.Perspective(70.0f, 16.0f / 9.0f, 0.1f, 100.0f));
+		frustum = new Frustum(viewProjection);
+		Random random = new Random(42);
+		x = new float[OBJECTS];
+		y = new float[OBJECTS];
+		z = new float[OBJECTS];
+		radius = new float[OBJECTS];
+		minX = new float[OBJECTS];
+		minY = new float[OBJECTS];
+		minZ = new float[OBJECTS];
+		maxX = new float[OBJECTS];
+		maxY = new float[OBJECTS];
+		maxZ = new float[OBJECTS];
+		for (int i = 0; i < OBJECTS; i++) {
+			x[i] = random.nextFloat() * 200.0f - 100.0f;
+			y[i] = random.nextFloat() * 200.0f - 100.0f;
+			z[i] = random.nextFloat() * 200.0f - 100.0f;
+			radius[i] = random.nextFloat() * 3.0f;
+			minX[i] = x[i] - radius[i];
+			minY[i] = y[i] - radius[i];
+			minZ[i] = z[i] - radius[i];
+			maxX[i] = x[i] + radius[i];
+			maxY[i] = y[i] + radius[i];
+			maxZ[i] = z[i] + radius[i];
+		}
+		visible = new long[(OBJECTS + 63) / 64];
+		indices = new int[OBJECTS];
+	}
+
+	// Benchmarks
+
+	@Benchmark
+	public Frustum extract() {
+		return frustum.set(viewProjection);
+	}
+
+	@Benchmark
+	@OperationsPerInvocation(OBJECTS)
+	public int spheresOneByOne() {
+		int total = 0;
+		for (int i = 0; i < OBJECTS; i++) {
+			if (frustum.intersectsSphere(x[i], y[i], z[i], radius[i])) {
+				indices[total++] = i;
+			}
+		}
+		return total;
+	}
+
+	@Benchmark
+	@OperationsPerInvocation(OBJECTS)
+	public int spheresBitset() {
+		return frustum.cullSpheres(x, y, z, radius, 0, OBJECTS, visible);
+	}
+
+	@Benchmark
+	@OperationsPerInvocation(OBJECTS)
+	public int spheresIndices() {
+		return frustum.cullSpheres(x, y, z, radius, 0, OBJECTS, indices);
+	}
+
+	@Benchmark
+	@OperationsPerInvocation(OBJECTS)
+	public int aabbsOneByOne() {
+		int total = 0;
+		for (int i = 0; i < OBJECTS; i++) {
+			if (frustum.intersectsAabb(minX[i], minY[i], minZ[i], maxX[i], maxY[i], maxZ[i])) {
+				indices[total++] = i;
+			}
+		}
+		return total;
+	}
+
+	@Benchmark
+	@OperationsPerInvocation(OBJECTS)
+	public int aabbsBitset() {
+		return frustum.cullAabbs(minX, minY, minZ, maxX, maxY, maxZ, 0, OBJECTS, visible);
+	}
+
+	@Benchmark
+	@OperationsPerInvocation(OBJECTS)
+	public int aabbsIndices() {
+		return frustum.cullAabbs(minX, minY, minZ, maxX, maxY, maxZ, 0, OBJECTS, indices);
+	}
+
+}
@@ -0,0 +1,286 @@
+package de.rojer.maths.bench;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import de.rojer.maths.mat.Mat4;
+import de.rojer.maths.vec.Vec3;
+import de.rojer.maths.vec.Vec4;
+
+/**
+ * Benchmarks for every public method of {@link Mat4}
+ * 
+ * In-place operations are run against a rotation matrix, so the values of the
+ * target stay bounded however often the benchmark is invoked.
+ * 
+ * @author Rojer
+ * @version 18.10.2026
+ */
+@BenchmarkMode({ Mode.Throughput, Mode.AverageTime })
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class Mat4Benchmark {
+
+	private static final int BATCH = 1024;
+
+	// State
+
+	private Mat4 target;
+	private Mat4 rotation;
+	private Mat4 other;
+	private Mat4 identity;
+	private Vec3 vec3;
+	private Vec4 vec4;
+	private Mat4 destMat4;
+	private Vec3 destVec3;
+	private Vec4 destVec4;
+	private Vec3 translation;
+	private Vec3 scale;
+	private float angleX, angleY, angleZ;
+	private float[] packed;
+	private float[] packedDest;
+	private float[] determinants;
+
+	@Setup
+	public void setup() {
+		target = Mat4.Rotation(10.0f, 20.0f, 30.0f, new Mat4());
+		rotation = Mat4.Rotation(1.0f, 2.0f, 3.0f, new Mat4());
+		other = Mat4.Perspective(70.0f, 16.0f / 9.0f, 0.1f, 1000.0f);
+		identity = Mat4.Identity(new Mat4());
+		vec3 = new Vec3(1.0f, 2.0f, 3.0f);
+		vec4 = new Vec4(1.0f, 2.0f, 3.0f, 1.0f);
+		destMat4 = new Mat4();
+		destVec3 = new Vec3();
+		destVec4 = new Vec4();
+		translation = new Vec3(4.0f, 5.0f, 6.0f);
+		scale = new Vec3(2.0f, 3.0f, 4.0f);
+		angleX = 15.0f;
+		angleY = 30.0f;
+		angleZ = 45.0f;
+		packed = new float[BATCH * 16];
+		packedDest = new float[BATCH * 16];
+		determinants = new float[BATCH];
+		for (int i = 0; i < BATCH; i++) {
+			System.arraycopy((i % 2 == 0 ? rotation : other).elements, 0, packed, i * 16, 16);
+		}
+	}
+
+	// Constructors
+
+	@Benchmark
+	public Mat4 construct() {
+		return new Mat4();
+	}
+
+	@Benchmark
+	public Mat4 constructDiagonal() {
+		return new Mat4(1.0f);
+	}
+
+	@Benchmark
+	@SuppressWarnings("deprecation")
+	public Mat4 constructAndDestroy() {
+		Mat4 matrix = new Mat4();
+		matrix.destroy(matrix);
+		return matrix;
+	}
+
+	// Arithmetic
+
+	@Benchmark
+	public Mat4 multiplyMat4() {
+		return target.multiply(rotation);
+	}
+
+	@Benchmark
+	public Mat4 cmultiplyMat4() {
+		return other.cmultiply(rotation);
+	}
+
+	@Benchmark
+	public Vec3 multiplyVec3() {
+		return other.multiply(vec3);
+	}
+
+	@Benchmark
+	public Vec3 cmultiplyVec3() {
+		return other.cmultiply(vec3);
+	}
+
+	@Benchmark
+	public Vec4 multiplyVec4() {
+		return other.multiply(vec4);
+	}
+
+	@Benchmark
+	public Vec4 cmultiplyVec4() {
+		return other.cmultiply(vec4);
+	}
+
+	@Benchmark
+	public Vec3 transformVec3() {
+		return other.transform(vec3, destVec3);
+	}
+
+	@Benchmark
+	public Vec4 transformVec4() {
+		return other.transform(vec4, destVec4);
+	}
+
+	@Benchmark
+	public Mat4 mul() {
+		return Mat4.mul(other, rotation, destMat4);
+	}
+
+	@Benchmark
+	public Mat4 mulAffine() {
+		return Mat4.mul(target, rotation, destMat4);
+	}
+
+	@Benchmark
+	public Mat4 mulIdentity() {
+		return Mat4.mul(identity, rotation, destMat4);
+	}
+
+	@Benchmark
+	public Mat4 invertGeneral() {
+		return Mat4.invert(other, destMat4);
+	}
+
+	@Benchmark
+	public Mat4 invertAffine() {
+		return Mat4.invert(rotation, destMat4);
+	}
+
+	@Benchmark
+	public Mat4 cinvert() {
+		return other.cinvert();
+	}
+
+	@Benchmark
+	public Mat4 invertRigid() {
+		return Mat4.invertRigid(rotation, destMat4);
+	}
+
+	@Benchmark
+	public Mat4 normal() {
+		return Mat4.normal(rotation, destMat4);
+	}
+
+	@Benchmark
+	public float determinantGeneral() {
+		return other.determinant();
+	}
+
+	@Benchmark
+	public float determinantAffine() {
+		return rotation.determinant();
+	}
+
+	@Benchmark
+	@OperationsPerInvocation(BATCH)
+	public int invertBatch() {
+		return Mat4.invert(packed, packedDest, 0, BATCH);
+	}
+
+	@Benchmark
+	@OperationsPerInvocation(BATCH)
+	public float[] invertRigidBatch() {
+		Mat4.invertRigid(packed, packedDest, 0, BATCH);
+		return packedDest;
+	}
+
+	@Benchmark
+	@OperationsPerInvocation(BATCH)
+	public int normalBatch() {
+		return Mat4.normal(packed, packedDest, 0, BATCH);
+	}
+
+	@Benchmark
+	@OperationsPerInvocation(BATCH)
+	public float[] determinantBatch() {
+		Mat4.determinant(packed, determinants, 0, BATCH);
+		return determinants;
+	}
+
+	// Kind
+
+	@Benchmark
+	public Mat4 updateKind() {
+		return other.updateKind();
+	}
+
+	@Benchmark
+	public Mat4 set() {
+		return destMat4.set(other);
+	}
+
+	// Static Methods
+
+	@Benchmark
+	public Mat4 identity() {
+		return Mat4.Identity();
+	}
+
+	@Benchmark
+	public Mat4 orthographic() {
+		return Mat4.Orthographic(-1.0f, 1.0f, -1.0f, 1.0f, 0.1f, 100.0f);
+	}
+
+	@Benchmark
+	public Mat4 perspective() {
+		return Mat4.Perspective(70.0f, 16.0f / 9.0f, 0.1f, 1000.0f);
+	}
+
+	@Benchmark
+	public Mat4 translation() {
+		return Mat4.Translation(translation);
+	}
+
+	@Benchmark
+	public Mat4 rotation() {
+		return Mat4.Rotation(angleX, angleY, angleZ);
+	}
+
+	@Benchmark
+	public Mat4 rotationDest() {
+		return Mat4.Rotation(angleX, angleY, angleZ, destMat4);
+	}
+
+	@Benchmark
+	public Mat4 scale() {
+		return Mat4.Scale(scale);
+	}
+
+	// Object-inherited methods
+
+	@Benchmark
+	public String toStringMat4() {
+		return other.toString();
+	}
+
+	@Benchmark
+	public boolean equalsMat4() {
+		return other.equals(rotation);
+	}
+
+	@Benchmark
+	public Object cloneMat4() throws CloneNotSupportedException {
+		return other.clone();
+	}
+
+}
@@ -0,0 +1,115 @@
+package de.rojer.maths.bench;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import de.rojer.maths.mat.CholeskyDecomposition;
+import de.rojer.maths.mat.LuDecomposition;
+import de.rojer.maths.mat.MatN;
+import de.rojer.maths.parallel.BatchTransformer;
+import de.rojer.maths.vec.VecN;
+
+/**
+ * Benchmarks for {@link MatN}, comparing the blocked product with the triple
+ * loop of Mat4.multiply (a dot product per element, reading b down its
+ * columns), and the decompositions, per call
+ *
+ * @author Rojer
+ * @version 18.10.2026
+ */
+@BenchmarkMode({ Mode.Throughput, Mode.AverageTime })
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class MatNBenchmark {
+
+	@Param({ "64", "256", "512" })
+	private int size;
+
+	// State
+
+	private MatN a;
+	private MatN b;
+	private MatN dest;
+	private MatN spd;
+	private VecN rhs;
+	private VecN x;
+	private BatchTransformer transformer;
+
+	@Setup
+	public void setup() {
+		Random random = new Random(24);
+		a = new MatN(size, size);
+		b = new MatN(size, size);
+		dest = new MatN(size, size);
+		for (int i = 0; i < size * size; i++) {
+			a.elements[i] = random.nextGaussian();
+			b.elements[i] = random.nextGaussian();
+		}
+		spd = MatN.mul(MatN.transpose(a, new MatN(size, size)), a, new MatN(size, size));
+		for (int i = 0; i < size; i++) {
+			spd.set(i, i, spd.get(i, i) + 1.0);
+		}
+		rhs = new VecN(size);
+		x = new VecN(size);
+		for (int i = 0; i < size; i++) {
+			rhs.set(i, random.nextGaussian());
+		}
+		transformer = new BatchTransformer();
+	}
+
+	// Products
+
+	@Benchmark
+	public MatN naive() {
+		double[] l = a.elements, m = b.elements, d = dest.elements;
+		int n = size;
+		for (int i = 0; i < n; i++) {
+			for (int j = 0; j < n; j++) {
+				double sum = 0.0;
+				for (int k = 0; k < n; k++) {
+					sum += l[i * n + k] * m[k * n + j];
+				}
+				d[i * n + j] = sum;
+			}
+		}
+		return dest;
+	}
+
+	@Benchmark
+	public MatN blocked() {
+		return MatN.mul(a, b, dest);
+	}
+
+	@Benchmark
+	public MatN parallel() {
+		return transformer.mul(a, b, dest);
+	}
+
+	// Solving
+
+	@Benchmark
+	public VecN lu() {
+		return new LuDecomposition(a).solve(rhs, x);
+	}
+
+	@Benchmark
+	public VecN cholesky() {
+		return new CholeskyDecomposition(spd).solve(rhs, x);
+	}
+
+}
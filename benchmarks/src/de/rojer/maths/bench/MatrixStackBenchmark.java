@@ -0,0 +1,89 @@
+package de.rojer.maths.bench;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import de.rojer.maths.mat.Mat4;
+import de.rojer.maths.scene.MatrixStack;
+import de.rojer.maths.vec.Vec3;
+
+/**
+ * Benchmarks for {@link MatrixStack}, compared with building every step with
+ * the factory methods of {@link Mat4} and a stack of copied matrices. Every
+ * operation is one node of a small hierarchy: push, translate, rotate, scale
+ * and pop.
+ *
+ * @author Rojer
+ * @version 18.10.2026
+ */
+@BenchmarkMode({ Mode.Throughput, Mode.AverageTime })
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class MatrixStackBenchmark {
+
+	private static final int NODES = 64;
+
+	// State
+
+	private Mat4 projection;
+	private MatrixStack stack;
+	private Mat4[] matrices;
+	private float sink;
+
+	@Setup
+	public void setup() {
+		projection = Mat4.Perspective(60.0f, 1.5f, 0.1f, 100.0f);
+		stack = new MatrixStack();
+		matrices = new Mat4[NODES + 1];
+	}
+
+	// Nodes
+
+	@Benchmark
+	@OperationsPerInvocation(NODES)
+	public float factories() {
+		int depth = 0;
+		matrices[0] = projection;
+		for (int i = 0; i < NODES; i++) {
+			Mat4 current = matrices[depth];
+			current = Mat4.Translation(new Vec3(i, 1.0f, 2.0f)).multiply(current);
+			current = Mat4.Rotation(i, 2.0f * i, 3.0f * i).multiply(current);
+			current = Mat4.Scale(new Vec3(1.0f, 2.0f, 1.0f)).multiply(current);
+			matrices[++depth] = current;
+			sink += current.elements[12];
+			if ((i & 3) == 3) {
+				depth -= 2;
+			}
+		}
+		return sink;
+	}
+
+	@Benchmark
+	@OperationsPerInvocation(NODES)
+	public float stack() {
+		MatrixStack stack = this.stack.clear().set(projection);
+		for (int i = 0; i < NODES; i++) {
+			stack.push().translate(i, 1.0f, 2.0f).rotate(i, 2.0f * i, 3.0f * i).scale(1.0f, 2.0f, 1.0f);
+			sink += stack.elements()[stack.offset() + 12];
+			if ((i & 3) == 3) {
+				stack.pop().pop();
+			}
+		}
+		return sink;
+	}
+
+}
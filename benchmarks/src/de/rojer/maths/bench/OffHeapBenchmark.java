@@ -0,0 +1,86 @@
+package de.rojer.maths.bench;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.FloatBuffer;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import de.rojer.maths.mat.Mat4;
+import de.rojer.maths.offheap.Mat4View;
+import de.rojer.maths.offheap.OffHeapArena;
+
+/**
+ * Updating a set of model matrices and handing them to native code: heap
+ * matrices copied into a direct buffer compared to matrices living in an
+ * {@link OffHeapArena}
+ * 
+ * @author Rojer
+ * @version 18.10.2026
+ */
+@BenchmarkMode({ Mode.Throughput, Mode.AverageTime })
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class OffHeapBenchmark {
+
+	@Param({ "1000" })
+	private int size;
+
+	// State
+
+	private Mat4 rotation;
+	private Mat4[] heap;
+	private FloatBuffer upload;
+	private OffHeapArena arena;
+	private int first;
+	private Mat4View view;
+	private Mat4View rotationView;
+
+	@Setup
+	public void setup() {
+		rotation = Mat4.Rotation(1.0f, 2.0f, 3.0f);
+		heap = new Mat4[size];
+		upload = ByteBuffer.allocateDirect(size * 16 * Float.BYTES).order(ByteOrder.nativeOrder()).asFloatBuffer();
+		arena = new OffHeapArena(size * 16 + 16);
+		rotationView = arena.mat4().set(rotation);
+		first = arena.allocateMat4s(size);
+		view = new Mat4View(arena, first);
+		for (int i = 0; i < size; i++) {
+			heap[i] = Mat4.Rotation(i, i, i);
+			view.at(first + i * Mat4View.FLOATS).set(heap[i]);
+		}
+	}
+
+	@Benchmark
+	public FloatBuffer heapAndCopy() {
+		upload.clear();
+		for (int i = 0; i < size; i++) {
+			heap[i].multiply(rotation);
+			upload.put(heap[i].elements);
+		}
+		return upload.flip();
+	}
+
+	@Benchmark
+	public FloatBuffer arenaExport() {
+		for (int i = 0; i < size; i++) {
+			view.at(first + i * Mat4View.FLOATS).multiply(rotationView);
+		}
+		return arena.export();
+	}
+
+}
@@ -0,0 +1,74 @@
+package de.rojer.maths.bench;
+
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import de.rojer.maths.mat.Mat4;
+import de.rojer.maths.parallel.BatchTransformer;
+import de.rojer.maths.vec.Vec3Buffer;
+
+/**
+ * Sequential compared to fork-join batch transforms of large point sets
+ * 
+ * @author Rojer
+ * @version 18.10.2026
+ */
+@BenchmarkMode({ Mode.Throughput, Mode.AverageTime })
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class ParallelBenchmark {
+
+	@Param({ "10000000" })
+	private int size;
+
+	@Param({ "16384", "262144" })
+	private int threshold;
+
+	// State
+
+	private Mat4 matrix;
+	private Vec3Buffer src;
+	private Vec3Buffer dest;
+	private BatchTransformer transformer;
+
+	@Setup
+	public void setup() {
+		Random random = new Random(42);
+		matrix = Mat4.Perspective(70.0f, 16.0f / 9.0f, 0.1f, 1000.0f).multiply(Mat4.Rotation(10.0f, 20.0f, 30.0f));
+		src = new Vec3Buffer(size);
+		dest = new Vec3Buffer(size);
+		for (int i = 0; i < size; i++) {
+			src.set(i, random.nextFloat(), random.nextFloat(), random.nextFloat());
+		}
+		transformer = new BatchTransformer(ForkJoinPool.commonPool(), threshold);
+	}
+
+	@Benchmark
+	public Vec3Buffer sequential() {
+		Vec3Buffer.transform(matrix, src, dest, 0, size);
+		return dest;
+	}
+
+	@Benchmark
+	public Vec3Buffer parallel() {
+		transformer.transform(matrix, src, dest, 0, size);
+		return dest;
+	}
+
+}
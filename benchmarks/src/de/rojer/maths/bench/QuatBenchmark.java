@@ -0,0 +1,104 @@
+package de.rojer.maths.bench;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import de.rojer.maths.mat.Mat4;
+import de.rojer.maths.quat.Quat;
+import de.rojer.maths.vec.Vec3;
+
+/**
+ * Rotations with {@link Quat} compared to building them with
+ * {@link Mat4#Rotation(float, float, float)}
+ * 
+ * @author Rojer
+ * @version 18.10.2026
+ */
+@BenchmarkMode({ Mode.Throughput, Mode.AverageTime })
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class QuatBenchmark {
+
+	// State
+
+	private Quat a;
+	private Quat b;
+	private Quat dest;
+	private Mat4 matrixA;
+	private Mat4 matrixB;
+	private Mat4 destMat4;
+	private Vec3 vector;
+	private Vec3 destVec3;
+	private float angleX, angleY, angleZ;
+	private float t;
+
+	@Setup
+	public void setup() {
+		angleX = 15.0f;
+		angleY = 30.0f;
+		angleZ = 45.0f;
+		a = Quat.Rotation(angleX, angleY, angleZ, new Quat());
+		b = Quat.Rotation(1.0f, 2.0f, 3.0f, new Quat());
+		dest = new Quat();
+		matrixA = Mat4.Rotation(angleX, angleY, angleZ);
+		matrixB = Mat4.Rotation(1.0f, 2.0f, 3.0f);
+		destMat4 = new Mat4();
+		vector = new Vec3(1.0f, 2.0f, 3.0f);
+		destVec3 = new Vec3();
+		t = 0.3f;
+	}
+
+	@Benchmark
+	public Mat4 rotationMat4() {
+		return Mat4.Rotation(angleX, angleY, angleZ);
+	}
+
+	@Benchmark
+	public Mat4 rotationQuatToMat4() {
+		return Quat.Rotation(angleX, angleY, angleZ, dest).toMat4(destMat4);
+	}
+
+	@Benchmark
+	public Mat4 composeMat4() {
+		return Mat4.mul(matrixA, matrixB, destMat4);
+	}
+
+	@Benchmark
+	public Quat composeQuat() {
+		return Quat.mul(a, b, dest);
+	}
+
+	@Benchmark
+	public Vec3 rotateMat4() {
+		return matrixA.transform(vector, destVec3);
+	}
+
+	@Benchmark
+	public Vec3 rotateQuat() {
+		return a.rotate(vector, destVec3);
+	}
+
+	@Benchmark
+	public Quat nlerp() {
+		return Quat.nlerp(a, b, t, dest);
+	}
+
+	@Benchmark
+	public Quat slerp() {
+		return Quat.slerp(a, b, t, dest);
+	}
+
+}
@@ -0,0 +1,97 @@
+package de.rojer.maths.bench;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import de.rojer.maths.mat.Mat4;
+import de.rojer.maths.scratch.MathScratch;
+import de.rojer.maths.vec.Vec3;
+
+/**
+ * Benchmarks for {@link MathScratch}, against the same computation with
+ * temporaries allocated by the copying methods
+ *
+ * Run with the gc profiler (the default of the jmh task), the pooled
+ * benchmarks should show 0 B/op.
+ *
+ * @author Rojer
+ * @version 18.10.2026
+ */
+@BenchmarkMode({ Mode.Throughput, Mode.AverageTime })
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class ScratchBenchmark {
+
+	// State
+
+	private Mat4 model;
+	private Mat4 view;
+	private Vec3 point;
+	private Vec3 offset;
+
+	@Setup
+	public void setup() {
+		model = Mat4.Rotation(10.0f, 20.0f, 30.0f);
+		view = Mat4.Translation(new Vec3(1.0f, 2.0f, 3.0f));
+		point = new Vec3(1.0f, 2.0f, 3.0f);
+		offset = new Vec3(0.5f, 0.5f, 0.5f);
+	}
+
+	// Benchmarks
+
+	@Benchmark
+	public float allocating() {
+		Mat4 modelView = model.cmultiply(view);
+		Vec3 moved = point.cadd(offset);
+		Vec3 transformed = modelView.cmultiply(moved);
+		return transformed.x + transformed.y + transformed.z;
+	}
+
+	@Benchmark
+	public float pooled() {
+		try (MathScratch s = MathScratch.open()) {
+			Mat4 modelView = Mat4.mul(model, view, s.mat4());
+			Vec3 moved = s.vec3();
+			moved.x = point.x + offset.x;
+			moved.y = point.y + offset.y;
+			moved.z = point.z + offset.z;
+			Vec3 transformed = modelView.transform(moved, s.vec3());
+			return transformed.x + transformed.y + transformed.z;
+		}
+	}
+
+	@Benchmark
+	public MathScratch openClose() {
+		try (MathScratch s = MathScratch.open()) {
+			return s;
+		}
+	}
+
+	@Benchmark
+	public float nested() {
+		try (MathScratch outer = MathScratch.open()) {
+			Vec3 sum = outer.vec3();
+			for (int i = 0; i < 4; i++) {
+				try (MathScratch inner = MathScratch.open()) {
+					Vec3 t = model.transform(point, inner.vec3());
+					sum.add(t);
+				}
+			}
+			return sum.x;
+		}
+	}
+
+}
@@ -0,0 +1,138 @@
+package de.rojer.maths.bench;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import de.rojer.maths.anim.Skinning;
+import de.rojer.maths.mat.Mat4;
+import de.rojer.maths.parallel.BatchTransformer;
+import de.rojer.maths.vec.Vec3;
+import de.rojer.maths.vec.Vec3Buffer;
+import de.rojer.maths.vec.Vec4;
+
+/**
+ * Benchmarks for {@link Skinning}, compared with skinning Vec3 objects by
+ * multiplying a Vec4 with the matrix of every influence
+ *
+ * @author Rojer
+ * @version 18.10.2026
+ */
+@BenchmarkMode({ Mode.Throughput, Mode.AverageTime })
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class SkinningBenchmark {
+
+	private static final int VERTICES = 1 << 16;
+	private static final int BONES = 64;
+	private static final int INFLUENCES = 4;
+
+	// State
+
+	private float[] palette;
+	private Mat4[] matrices;
+	private int[] bones;
+	private float[] weights;
+	private Vec3Buffer positions;
+	private Vec3Buffer normals;
+	private Vec3Buffer destPositions;
+	private Vec3Buffer destNormals;
+	private Vec3[] vertices;
+	private Vec3[] skinned;
+	private BatchTransformer transformer;
+
+	@Setup
+	public void setup() {
+		Random random = new Random(11);
+		palette = new float[BONES * 16];
+		matrices = new Mat4[BONES];
+		for (int b = 0; b < BONES; b++) {
+			matrices[b] = Mat4.Translation(new Vec3(random.nextFloat(), random.nextFloat(), random.nextFloat()))
+					.multiply(Mat4.Rotation(random.nextFloat() * 360.0f, random.nextFloat() * 360.0f,
+							random.nextFloat() * 360.0f));
+			System.arraycopy(matrices[b].elements, 0, palette, b * 16, 16);
+		}
+		bones = new int[VERTICES * INFLUENCES];
+		weights = new float[VERTICES * INFLUENCES];
+		positions = new Vec3Buffer(VERTICES);
+		normals = new Vec3Buffer(VERTICES);
+		destPositions = new Vec3Buffer(VERTICES);
+		destNormals = new Vec3Buffer(VERTICES);
+		vertices = new Vec3[VERTICES];
+		skinned = new Vec3[VERTICES];
+		for (int v = 0; v < VERTICES; v++) {
+			vertices[v] = new Vec3(random.nextFloat(), random.nextFloat(), random.nextFloat());
+			positions.set(v, vertices[v]);
+			normals.set(v, 0.0f, 1.0f, 0.0f);
+			// Neighbouring vertices are influenced by neighbouring bones, like in a real mesh
+			int bone = v * BONES / VERTICES;
+			float sum = 0.0f;
+			for (int j = 0; j < INFLUENCES; j++) {
+				bones[v * INFLUENCES + j] = Math.min(BONES - 1, bone + j);
+				weights[v * INFLUENCES + j] = random.nextFloat();
+				sum += weights[v * INFLUENCES + j];
+			}
+			for (int j = 0; j < INFLUENCES; j++) {
+				weights[v * INFLUENCES + j] /= sum;
+			}
+		}
+		transformer = new BatchTransformer();
+	}
+
+	// Skinning
+
+	@Benchmark
+	@OperationsPerInvocation(VERTICES)
+	public Vec3[] objects() {
+		for (int v = 0; v < VERTICES; v++) {
+			Vec3 vertex = vertices[v];
+			Vec4 position = new Vec4(vertex.x, vertex.y, vertex.z, 1.0f);
+			Vec3 sum = new Vec3();
+			for (int j = 0; j < INFLUENCES; j++) {
+				float weight = weights[v * INFLUENCES + j];
+				Vec4 influence = matrices[bones[v * INFLUENCES + j]].multiply(position);
+				sum.add(new Vec3(influence.x * weight, influence.y * weight, influence.z * weight));
+			}
+			skinned[v] = sum;
+		}
+		return skinned;
+	}
+
+	@Benchmark
+	@OperationsPerInvocation(VERTICES)
+	public Vec3Buffer positions() {
+		Skinning.skin(palette, bones, weights, INFLUENCES, positions, destPositions, 0, VERTICES);
+		return destPositions;
+	}
+
+	@Benchmark
+	@OperationsPerInvocation(VERTICES)
+	public Vec3Buffer positionsAndNormals() {
+		Skinning.skin(palette, bones, weights, INFLUENCES, positions, normals, destPositions, destNormals, 0,
+				VERTICES);
+		return destPositions;
+	}
+
+	@Benchmark
+	@OperationsPerInvocation(VERTICES)
+	public Vec3Buffer positionsAndNormalsParallel() {
+		transformer.skin(palette, bones, weights, INFLUENCES, positions, normals, destPositions, destNormals, 0,
+				VERTICES);
+		return destPositions;
+	}
+
+}
@@ -0,0 +1,110 @@
+package de.rojer.maths.bench;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import de.rojer.maths.mat.Mat4;
+import de.rojer.maths.parallel.BatchTransformer;
+import de.rojer.maths.vec.Vec4;
+
+/**
+ * Benchmarks for solving many 4 * 4 systems at once with
+ * {@link Mat4#solve(float[], float[], float[], int, int, boolean[])},
+ * compared with inverting each matrix and transforming its vector
+ *
+ * @author Rojer
+ * @version 18.10.2026
+ */
+@BenchmarkMode({ Mode.Throughput, Mode.AverageTime })
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class SolveBenchmark {
+
+	private static final int SYSTEMS = 1 << 14;
+
+	// State
+
+	private Mat4[] matrices;
+	private Vec4[] vectors;
+	private Vec4[] solutions;
+	private float[] packedMatrices;
+	private float[] packedVectors;
+	private float[] packedSolutions;
+	private boolean[] singular;
+	private BatchTransformer transformer;
+
+	@Setup
+	public void setup() {
+		Random random = new Random(25);
+		matrices = new Mat4[SYSTEMS];
+		vectors = new Vec4[SYSTEMS];
+		solutions = new Vec4[SYSTEMS];
+		packedMatrices = new float[SYSTEMS * 16];
+		packedVectors = new float[SYSTEMS * 4];
+		packedSolutions = new float[SYSTEMS * 4];
+		singular = new boolean[SYSTEMS];
+		for (int i = 0; i < SYSTEMS; i++) {
+			matrices[i] = new Mat4();
+			for (int e = 0; e < 16; e++) {
+				matrices[i].elements[e] = random.nextFloat() * 2.0f - 1.0f;
+			}
+			matrices[i].updateKind();
+			vectors[i] = new Vec4(random.nextFloat(), random.nextFloat(), random.nextFloat(), random.nextFloat());
+			solutions[i] = new Vec4();
+			System.arraycopy(matrices[i].elements, 0, packedMatrices, i * 16, 16);
+			packedVectors[i * 4] = vectors[i].x;
+			packedVectors[i * 4 + 1] = vectors[i].y;
+			packedVectors[i * 4 + 2] = vectors[i].z;
+			packedVectors[i * 4 + 3] = vectors[i].w;
+		}
+		transformer = new BatchTransformer();
+	}
+
+	// Solving
+
+	@Benchmark
+	@OperationsPerInvocation(SYSTEMS)
+	public Vec4[] invertTransform() {
+		for (int i = 0; i < SYSTEMS; i++) {
+			matrices[i].cinvert().transform(vectors[i], solutions[i]);
+		}
+		return solutions;
+	}
+
+	@Benchmark
+	@OperationsPerInvocation(SYSTEMS)
+	public Vec4[] solveObjects() {
+		Mat4.solve(matrices, vectors, solutions, 0, SYSTEMS, singular);
+		return solutions;
+	}
+
+	@Benchmark
+	@OperationsPerInvocation(SYSTEMS)
+	public float[] solvePacked() {
+		Mat4.solve(packedMatrices, packedVectors, packedSolutions, 0, SYSTEMS, singular);
+		return packedSolutions;
+	}
+
+	@Benchmark
+	@OperationsPerInvocation(SYSTEMS)
+	public float[] solveParallel() {
+		transformer.solve(packedMatrices, packedVectors, packedSolutions, 0, SYSTEMS, singular);
+		return packedSolutions;
+	}
+
+}
@@ -0,0 +1,128 @@
+package de.rojer.maths.bench;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import de.rojer.maths.io.CsvReader;
+import de.rojer.maths.io.CsvWriter;
+import de.rojer.maths.io.ObjReader;
+import de.rojer.maths.io.ObjWriter;
+import de.rojer.maths.vec.Vec3Buffer;
+
+/**
+ * Benchmarks for the text codecs of the io package, compared with String
+ * concatenation and String.split with Float.parseFloat, per vector
+ *
+ * @author Rojer
+ * @version 18.10.2026
+ */
+@BenchmarkMode({ Mode.Throughput, Mode.AverageTime })
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class TextIoBenchmark {
+
+	private static final int VECTORS = 1 << 14;
+
+	// State
+
+	private Vec3Buffer vectors;
+	private Vec3Buffer dest;
+	private String csv;
+	private String obj;
+
+	@Setup
+	public void setup() throws IOException {
+		Random random = new Random(23);
+		vectors = new Vec3Buffer(VECTORS);
+		dest = new Vec3Buffer(VECTORS);
+		for (int i = 0; i < VECTORS; i++) {
+			vectors.set(i, (random.nextFloat() - 0.5f) * 200.0f, random.nextFloat(), -random.nextFloat());
+		}
+		csv = writeCsv();
+		obj = writeObj();
+	}
+
+	// Writing
+
+	@Benchmark
+	@OperationsPerInvocation(VECTORS)
+	public String concatenate() {
+		StringWriter out = new StringWriter(VECTORS * 32);
+		for (int i = 0; i < VECTORS; i++) {
+			out.write(vectors.x[i] + "," + vectors.y[i] + "," + vectors.z[i] + "\n");
+		}
+		return out.toString();
+	}
+
+	@Benchmark
+	@OperationsPerInvocation(VECTORS)
+	public String writeCsv() throws IOException {
+		StringWriter out = new StringWriter(VECTORS * 32);
+		try (CsvWriter writer = new CsvWriter(out)) {
+			writer.rows(vectors, 0, VECTORS);
+		}
+		return out.toString();
+	}
+
+	@Benchmark
+	@OperationsPerInvocation(VECTORS)
+	public String writeObj() throws IOException {
+		StringWriter out = new StringWriter(VECTORS * 32);
+		try (ObjWriter writer = new ObjWriter(out)) {
+			writer.vertices(vectors, 0, VECTORS);
+		}
+		return out.toString();
+	}
+
+	// Reading
+
+	@Benchmark
+	@OperationsPerInvocation(VECTORS)
+	public Vec3Buffer split() throws IOException {
+		BufferedReader reader = new BufferedReader(new StringReader(csv));
+		String line;
+		for (int i = 0; (line = reader.readLine()) != null; i++) {
+			String[] columns = line.split(",");
+			dest.set(i, Float.parseFloat(columns[0]), Float.parseFloat(columns[1]), Float.parseFloat(columns[2]));
+		}
+		return dest;
+	}
+
+	@Benchmark
+	@OperationsPerInvocation(VECTORS)
+	public Vec3Buffer readCsv() throws IOException {
+		try (CsvReader reader = new CsvReader(new StringReader(csv))) {
+			reader.read(dest, 0, VECTORS);
+		}
+		return dest;
+	}
+
+	@Benchmark
+	@OperationsPerInvocation(VECTORS)
+	public Vec3Buffer readObj() throws IOException {
+		try (ObjReader reader = new ObjReader(new StringReader(obj))) {
+			reader.read(dest, null);
+		}
+		return dest;
+	}
+
+}
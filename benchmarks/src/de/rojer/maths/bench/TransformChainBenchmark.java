@@ -0,0 +1,98 @@
+package de.rojer.maths.bench;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import de.rojer.maths.mat.Mat4;
+import de.rojer.maths.mat.TransformChain;
+import de.rojer.maths.vec.Vec3;
+import de.rojer.maths.vec.Vec3Buffer;
+
+/**
+ * Benchmarks for {@link TransformChain}, compared with applying model, view
+ * and projection to a buffer one after another and with multiplying them
+ * eagerly with cmultiply
+ *
+ * @author Rojer
+ * @version 18.10.2026
+ */
+@BenchmarkMode({ Mode.Throughput, Mode.AverageTime })
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class TransformChainBenchmark {
+
+	private static final int VERTICES = 1 << 16;
+
+	// State
+
+	private Mat4 model;
+	private Mat4 view;
+	private Mat4 projection;
+	private Vec3Buffer positions;
+	private Vec3Buffer dest;
+	private TransformChain chain;
+	private TransformChain projected;
+
+	@Setup
+	public void setup() {
+		Random random = new Random(21);
+		model = Mat4.Translation(new Vec3(1.0f, 2.0f, 3.0f)).multiply(Mat4.Rotation(10.0f, 20.0f, 30.0f));
+		view = Mat4.Rotation(5.0f, -40.0f, 0.0f).multiply(Mat4.Translation(new Vec3(0.0f, 0.0f, -10.0f)));
+		projection = Mat4.Perspective(60.0f, 1.5f, 0.1f, 100.0f);
+		positions = new Vec3Buffer(VERTICES);
+		dest = new Vec3Buffer(VERTICES);
+		for (int v = 0; v < VERTICES; v++) {
+			positions.set(v, random.nextFloat(), random.nextFloat(), random.nextFloat());
+		}
+		chain = new TransformChain().then(model).then(view).then(projection);
+		projected = new TransformChain().then(model).then(view).then(projection).project();
+	}
+
+	// Transforms
+
+	@Benchmark
+	@OperationsPerInvocation(VERTICES)
+	public Vec3Buffer stepwise() {
+		Vec3Buffer.transform(model, positions, dest, 0, VERTICES);
+		Vec3Buffer.transform(view, dest, dest, 0, VERTICES);
+		Vec3Buffer.transform(projection, dest, dest, 0, VERTICES);
+		return dest;
+	}
+
+	@Benchmark
+	@OperationsPerInvocation(VERTICES)
+	public Vec3Buffer cmultiply() {
+		Vec3Buffer.transform(model.cmultiply(view).multiply(projection), positions, dest, 0, VERTICES);
+		return dest;
+	}
+
+	@Benchmark
+	@OperationsPerInvocation(VERTICES)
+	public Vec3Buffer chain() {
+		chain.apply(positions, dest, 0, VERTICES);
+		return dest;
+	}
+
+	@Benchmark
+	@OperationsPerInvocation(VERTICES)
+	public Vec3Buffer chainProjected() {
+		projected.apply(positions, dest, 0, VERTICES);
+		return dest;
+	}
+
+}
@@ -0,0 +1,95 @@
+package de.rojer.maths.bench;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import de.rojer.maths.mat.Mat4;
+import de.rojer.maths.scene.Transform;
+import de.rojer.maths.scene.TransformHierarchy;
+import de.rojer.maths.vec.Vec3;
+
+/**
+ * Updating the world matrices of a scene in which only a few nodes move,
+ * rebuilt from Translation/Rotation/Scale every frame compared to the cached
+ * {@link TransformHierarchy}
+ * 
+ * @author Rojer
+ * @version 18.10.2026
+ */
+@BenchmarkMode({ Mode.Throughput, Mode.AverageTime })
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class TransformHierarchyBenchmark {
+
+	@Param({ "10000" })
+	private int size;
+
+	/**
+	 * Every moving-th node is changed per frame
+	 */
+	@Param({ "100" })
+	private int moving;
+
+	// State
+
+	private int[] parents;
+	private Vec3[] translations;
+	private Vec3[] scales;
+	private Mat4[] worlds;
+	private TransformHierarchy hierarchy;
+	private float angle;
+
+	@Setup
+	public void setup() {
+		parents = new int[size];
+		translations = new Vec3[size];
+		scales = new Vec3[size];
+		worlds = new Mat4[size];
+		hierarchy = new TransformHierarchy(size);
+		for (int i = 0; i < size; i++) {
+			// Four children per node
+			parents[i] = i == 0 ? TransformHierarchy.NO_PARENT : (i - 1) / 4;
+			translations[i] = new Vec3(i % 7, i % 5, i % 3);
+			scales[i] = new Vec3(1.0f, 1.0f, 1.0f);
+			Transform parent = i == 0 ? null : hierarchy.get(parents[i]);
+			hierarchy.add(parent).setTranslation(i % 7, i % 5, i % 3);
+		}
+		hierarchy.update();
+	}
+
+	@Benchmark
+	public Mat4[] rebuildAll() {
+		angle += 1.0f;
+		for (int i = 0; i < size; i++) {
+			float a = i % moving == 0 ? angle : 0.0f;
+			Mat4 local = Mat4.Scale(scales[i]).multiply(Mat4.Rotation(0.0f, a, 0.0f))
+					.multiply(Mat4.Translation(translations[i]));
+			worlds[i] = parents[i] == TransformHierarchy.NO_PARENT ? local : local.multiply(worlds[parents[i]]);
+		}
+		return worlds;
+	}
+
+	@Benchmark
+	public int updateChanged() {
+		angle += 1.0f;
+		for (int i = size - 1; i >= 0; i -= moving) {
+			hierarchy.get(i).setRotation(0.0f, angle, 0.0f);
+		}
+		return hierarchy.update();
+	}
+
+}
@@ -0,0 +1,134 @@
+package de.rojer.maths.bench;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import de.rojer.maths.mat.Mat4;
+import de.rojer.maths.value.Mat4Value;
+import de.rojer.maths.value.Vec2Value;
+import de.rojer.maths.value.Vec3Value;
+import de.rojer.maths.value.Vec4Value;
+import de.rojer.maths.vec.Vec2;
+import de.rojer.maths.vec.Vec3;
+import de.rojer.maths.vec.Vec4;
+
+/**
+ * Benchmarks for the immutable value classes against the copying methods of
+ * the mutable ones, for the same expression chains
+ *
+ * Run with the gc profiler (the default of the jmh task): the chains of value
+ * classes are scalar replaced and should show 0 B/op, as long as only a
+ * primitive result leaves them.
+ *
+ * @author Rojer
+ * @version 18.10.2026
+ */
+@BenchmarkMode({ Mode.Throughput, Mode.AverageTime })
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class ValueBenchmark {
+
+	// State
+
+	private Vec2 a2, b2;
+	private Vec3 a3, b3, c3;
+	private Vec4 a4, b4;
+	private Mat4 model, view;
+	private Vec2Value va2, vb2;
+	private Vec3Value va3, vb3, vc3;
+	private Vec4Value va4, vb4;
+	private Mat4Value vmodel, vview;
+
+	@Setup
+	public void setup() {
+		a2 = new Vec2(1.0f, 2.0f);
+		b2 = new Vec2(3.0f, 4.0f);
+		a3 = new Vec3(1.0f, 2.0f, 3.0f);
+		b3 = new Vec3(4.0f, 5.0f, 6.0f);
+		c3 = new Vec3(0.5f, 0.25f, 2.0f);
+		a4 = new Vec4(1.0f, 2.0f, 3.0f, 4.0f);
+		b4 = new Vec4(5.0f, 6.0f, 7.0f, 8.0f);
+		model = Mat4.Rotation(10.0f, 20.0f, 30.0f);
+		view = Mat4.Translation(new Vec3(1.0f, 2.0f, 3.0f));
+		va2 = new Vec2Value(a2);
+		vb2 = new Vec2Value(b2);
+		va3 = new Vec3Value(a3);
+		vb3 = new Vec3Value(b3);
+		vc3 = new Vec3Value(c3);
+		va4 = new Vec4Value(a4);
+		vb4 = new Vec4Value(b4);
+		vmodel = new Mat4Value(model);
+		vview = new Mat4Value(view);
+	}
+
+	// Mutable
+
+	@Benchmark
+	public float mutableVec2() {
+		Vec2 r = a2.cadd(b2).cmultiply(b2);
+		return r.x + r.y;
+	}
+
+	@Benchmark
+	public float mutableVec3() {
+		Vec3 r = a3.cadd(b3).csubtract(c3).cmultiply(c3);
+		return r.x + r.y + r.z;
+	}
+
+	@Benchmark
+	public float mutableVec4() {
+		Vec4 r = a4.cadd(b4).cmultiply(b4);
+		return r.x + r.y + r.z + r.w;
+	}
+
+	@Benchmark
+	public float mutableMat4() {
+		Vec3 r = model.cmultiply(view).cmultiply(a3);
+		return r.x + r.y + r.z;
+	}
+
+	// Value
+
+	@Benchmark
+	public float valueVec2() {
+		Vec2Value r = va2.add(vb2).multiply(vb2);
+		return r.x + r.y;
+	}
+
+	@Benchmark
+	public float valueVec3() {
+		Vec3Value r = va3.add(vb3).subtract(vc3).multiply(vc3);
+		return r.x + r.y + r.z;
+	}
+
+	@Benchmark
+	public float valueVec4() {
+		Vec4Value r = va4.add(vb4).multiply(vb4);
+		return r.x + r.y + r.z + r.w;
+	}
+
+	@Benchmark
+	public float valueMat4() {
+		Vec3Value r = vmodel.multiply(vview).transform(va3);
+		return r.x + r.y + r.z;
+	}
+
+	@Benchmark
+	public float valueVec3Chain() {
+		return va3.cross(vb3).normalize().lerp(vc3, 0.5f).dot(va3);
+	}
+
+}
@@ -0,0 +1,131 @@
+package de.rojer.maths.bench;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import de.rojer.maths.vec.Vec2;
+
+/**
+ * Benchmarks for every public method of {@link Vec2}
+ * 
+ * In-place operations use neutral operands (0 for add/subtract, 1 for
+ * multiply/divide), so the target keeps its values however often the
+ * benchmark is invoked.
+ * 
+ * @author Rojer
+ * @version 18.10.2026
+ */
+@BenchmarkMode({ Mode.Throughput, Mode.AverageTime })
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class Vec2Benchmark {
+
+	// State
+
+	private Vec2 target;
+	private Vec2 scratch;
+	private Vec2 other;
+	private Vec2 zero;
+	private Vec2 one;
+
+	@Setup
+	public void setup() {
+		target = new Vec2(1.5f, 2.5f);
+		scratch = new Vec2(1.5f, 2.5f);
+		other = new Vec2(1.5f, 2.5f);
+		zero = new Vec2(0.0f, 0.0f);
+		one = new Vec2(1.0f, 1.0f);
+	}
+
+	// Constructors
+
+	@Benchmark
+	public Vec2 construct() {
+		return new Vec2();
+	}
+
+	@Benchmark
+	public Vec2 constructComponents() {
+		return new Vec2(1.5f, 2.5f);
+	}
+
+	@Benchmark
+	@SuppressWarnings("deprecation")
+	public Vec2 destroy() {
+		scratch.destroy(scratch);
+		return scratch;
+	}
+
+	// Arithmetic
+
+	@Benchmark
+	public Vec2 add() {
+		return target.add(zero);
+	}
+
+	@Benchmark
+	public Vec2 cadd() {
+		return target.cadd(other);
+	}
+
+	@Benchmark
+	public Vec2 subtract() {
+		return target.subtract(zero);
+	}
+
+	@Benchmark
+	public Vec2 csubtract() {
+		return target.csubtract(other);
+	}
+
+	@Benchmark
+	public Vec2 multiply() {
+		return target.multiply(one);
+	}
+
+	@Benchmark
+	public Vec2 cmultiply() {
+		return target.cmultiply(other);
+	}
+
+	@Benchmark
+	public Vec2 divide() {
+		return target.divide(one);
+	}
+
+	@Benchmark
+	public Vec2 cdivide() {
+		return target.cdivide(other);
+	}
+
+	// Object-inherited methods
+
+	@Benchmark
+	public String toStringVec2() {
+		return target.toString();
+	}
+
+	@Benchmark
+	public boolean equalsVec2() {
+		return target.equals(other);
+	}
+
+	@Benchmark
+	public Object cloneVec2() throws CloneNotSupportedException {
+		return target.clone();
+	}
+
+}
@@ -0,0 +1,131 @@
+package de.rojer.maths.bench;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import de.rojer.maths.vec.Vec3;
+
+/**
+ * Benchmarks for every public method of {@link Vec3}
+ * 
+ * In-place operations use neutral operands (0 for add/subtract, 1 for
+ * multiply/divide), so the target keeps its values however often the
+ * benchmark is invoked.
+ * 
+ * @author Rojer
+ * @version 18.10.2026
+ */
+@BenchmarkMode({ Mode.Throughput, Mode.AverageTime })
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class Vec3Benchmark {
+
+	// State
+
+	private Vec3 target;
+	private Vec3 scratch;
+	private Vec3 other;
+	private Vec3 zero;
+	private Vec3 one;
+
+	@Setup
+	public void setup() {
+		target = new Vec3(1.5f, 2.5f, 3.5f);
+		scratch = new Vec3(1.5f, 2.5f, 3.5f);
+		other = new Vec3(1.5f, 2.5f, 3.5f);
+		zero = new Vec3(0.0f, 0.0f, 0.0f);
+		one = new Vec3(1.0f, 1.0f, 1.0f);
+	}
+
+	// Constructors
+
+	@Benchmark
+	public Vec3 construct() {
+		return new Vec3();
+	}
+
+	@Benchmark
+	public Vec3 constructComponents() {
+		return new Vec3(1.5f, 2.5f, 3.5f);
+	}
+
+	@Benchmark
+	@SuppressWarnings("deprecation")
+	public Vec3 destroy() {
+		scratch.destroy(scratch);
+		return scratch;
+	}
+
+	// Arithmetic
+
+	@Benchmark
+	public Vec3 add() {
+		return target.add(zero);
+	}
+
+	@Benchmark
+	public Vec3 cadd() {
+		return target.cadd(other);
+	}
+
+	@Benchmark
+	public Vec3 subtract() {
+		return target.subtract(zero);
+	}
+
+	@Benchmark
+	public Vec3 csubtract() {
+		return target.csubtract(other);
+	}
+
+	@Benchmark
+	public Vec3 multiply() {
+		return target.multiply(one);
+	}
+
+	@Benchmark
+	public Vec3 cmultiply() {
+		return target.cmultiply(other);
+	}
+
+	@Benchmark
+	public Vec3 divide() {
+		return target.divide(one);
+	}
+
+	@Benchmark
+	public Vec3 cdivide() {
+		return target.cdivide(other);
+	}
+
+	// Object-inherited methods
+
+	@Benchmark
+	public String toStringVec3() {
+		return target.toString();
+	}
+
+	@Benchmark
+	public boolean equalsVec3() {
+		return target.equals(other);
+	}
+
+	@Benchmark
+	public Object cloneVec3() throws CloneNotSupportedException {
+		return target.clone();
+	}
+
+}
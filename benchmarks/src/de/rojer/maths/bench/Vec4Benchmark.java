@@ -0,0 +1,131 @@
+package de.rojer.maths.bench;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import de.rojer.maths.vec.Vec4;
+
+/**
+ * Benchmarks for every public method of {@link Vec4}
+ * 
+ * In-place operations use neutral operands (0 for add/subtract, 1 for
+ * multiply/divide), so the target keeps its values however often the
+ * benchmark is invoked.
+ * 
+ * @author Rojer
+ * @version 18.10.2026
+ */
+@BenchmarkMode({ Mode.Throughput, Mode.AverageTime })
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class Vec4Benchmark {
+
+	// State
+
+	private Vec4 target;
+	private Vec4 scratch;
+	private Vec4 other;
+	private Vec4 zero;
+	private Vec4 one;
+
+	@Setup
+	public void setup() {
+		target = new Vec4(1.5f, 2.5f, 3.5f, 4.5f);
+		scratch = new Vec4(1.5f, 2.5f, 3.5f, 4.5f);
+		other = new Vec4(1.5f, 2.5f, 3.5f, 4.5f);
+		zero = new Vec4(0.0f, 0.0f, 0.0f, 0.0f);
+		one = new Vec4(1.0f, 1.0f, 1.0f, 1.0f);
+	}
+
+	// Constructors
+
+	@Benchmark
+	public Vec4 construct() {
+		return new Vec4();
+	}
+
+	@Benchmark
+	public Vec4 constructComponents() {
+		return new Vec4(1.5f, 2.5f, 3.5f, 4.5f);
+	}
+
+	@Benchmark
+	@SuppressWarnings("deprecation")
+	public Vec4 destroy() {
+		scratch.destroy(scratch);
+		return scratch;
+	}
+
+	// Arithmetic
+
+	@Benchmark
+	public Vec4 add() {
+		return target.add(zero);
+	}
+
+	@Benchmark
+	public Vec4 cadd() {
+		return target.cadd(other);
+	}
+
+	@Benchmark
+	public Vec4 subtract() {
+		return target.subtract(zero);
+	}
+
+	@Benchmark
+	public Vec4 csubtract() {
+		return target.csubtract(other);
+	}
+
+	@Benchmark
+	public Vec4 multiply() {
+		return target.multiply(one);
+	}
+
+	@Benchmark
+	public Vec4 cmultiply() {
+		return target.cmultiply(other);
+	}
+
+	@Benchmark
+	public Vec4 divide() {
+		return target.divide(one);
+	}
+
+	@Benchmark
+	public Vec4 cdivide() {
+		return target.cdivide(other);
+	}
+
+	// Object-inherited methods
+
+	@Benchmark
+	public String toStringVec4() {
+		return target.toString();
+	}
+
+	@Benchmark
+	public boolean equalsVec4() {
+		return target.equals(other);
+	}
+
+	@Benchmark
+	public Object cloneVec4() throws CloneNotSupportedException {
+		return target.clone();
+	}
+
+}
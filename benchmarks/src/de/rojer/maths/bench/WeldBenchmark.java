@@ -0,0 +1,103 @@
+package de.rojer.maths.bench;
+
+import java.util.HashMap;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import de.rojer.maths.spatial.QuantizedVec3Map;
+import de.rojer.maths.value.Vec3Value;
+import de.rojer.maths.vec.Vec3Buffer;
+
+/**
+ * Benchmarks for welding vertices with {@link QuantizedVec3Map}, compared with
+ * a HashMap from snapped Vec3Values to boxed indices
+ *
+ * @author Rojer
+ * @version 18.10.2026
+ */
+@BenchmarkMode({ Mode.Throughput, Mode.AverageTime })
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class WeldBenchmark {
+
+	private static final int VERTICES = 1 << 20;
+	private static final float TOLERANCE = 1e-4f;
+
+	// State
+
+	private Vec3Buffer vertices;
+	private Vec3Buffer distinct;
+	private int[] indices;
+	private QuantizedVec3Map map;
+
+	@Setup
+	public void setup() {
+		Random random = new Random(23);
+		vertices = new Vec3Buffer(VERTICES);
+		distinct = new Vec3Buffer(VERTICES);
+		indices = new int[VERTICES];
+		// Like an imported mesh, where every vertex is shared by about 3 triangles
+		for (int i = 0; i < VERTICES; i++) {
+			if (i % 3 != 0) {
+				int j = random.nextInt(i);
+				vertices.set(i, vertices.x[j], vertices.y[j], vertices.z[j]);
+			} else {
+				vertices.set(i, random.nextFloat() * 10.0f, random.nextFloat() * 10.0f, random.nextFloat() * 10.0f);
+			}
+		}
+		map = new QuantizedVec3Map(TOLERANCE, VERTICES / 3);
+	}
+
+	// Welding
+
+	@Benchmark
+	@OperationsPerInvocation(VERTICES)
+	public int weld() {
+		QuantizedVec3Map map = new QuantizedVec3Map(TOLERANCE);
+		return map.weld(vertices, 0, VERTICES, indices, distinct);
+	}
+
+	/**
+	 * Welds into a map sized for the vertices, which is reused
+	 */
+	@Benchmark
+	@OperationsPerInvocation(VERTICES)
+	public int weldPresized() {
+		map.clear();
+		return map.weld(vertices, 0, VERTICES, indices, distinct);
+	}
+
+	@Benchmark
+	@OperationsPerInvocation(VERTICES)
+	public int hashMap() {
+		HashMap<Vec3Value, Integer> map = new HashMap<>();
+		float scale = 1.0f / TOLERANCE;
+		for (int i = 0; i < VERTICES; i++) {
+			Vec3Value key = new Vec3Value(Math.round(vertices.x[i] * scale) * TOLERANCE,
+					Math.round(vertices.y[i] * scale) * TOLERANCE, Math.round(vertices.z[i] * scale) * TOLERANCE);
+			Integer index = map.putIfAbsent(key, map.size());
+			if (index == null) {
+				index = map.size() - 1;
+				distinct.set(index, vertices.x[i], vertices.y[i], vertices.z[i]);
+			}
+			indices[i] = index;
+		}
+		return map.size();
+	}
+
+}
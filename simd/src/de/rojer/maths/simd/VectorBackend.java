@@ -0,0 +1,137 @@
+package de.rojer.maths.simd;
+
+import de.rojer.maths.backend.MathBackend;
+import de.rojer.maths.backend.ScalarBackend;
+import de.rojer.maths.mat.Mat4;
+import de.rojer.maths.metrics.MathCounter;
+import de.rojer.maths.metrics.MathMetrics;
+import de.rojer.maths.vec.Vec3Buffer;
+import de.rojer.maths.vec.Vec4Buffer;
+import jdk.incubator.vector.FloatVector;
+import jdk.incubator.vector.VectorSpecies;
+
+/**
+ * Backend using the Vector API (jdk.incubator.vector)
+ * 
+ * Matrix products use 4 float lanes, one row of the result per vector. Batch
+ * transforms use the widest species of the CPU, e.g. 8 lanes with AVX2. The
+ * operations are done in the same order as in the scalar kernels, so the
+ * results are bit-identical.
+ * 
+ * @author Rojer
+ * @version 18.10.2026
+ */
+public final class VectorBackend implements MathBackend {
+
+	private static final VectorSpecies<Float> ROW = FloatVector.SPECIES_128;
+	private static final VectorSpecies<Float> BATCH = FloatVector.SPECIES_PREFERRED;
+
+	/**
+	 * Transforms the vectors that do not fill all lanes
+	 */
+	private static final ScalarBackend SCALAR = new ScalarBackend();
+
+	@Override
+	public String name() {
+		return "simd";
+	}
+
+	@Override
+	public boolean isSupported() {
+		return BATCH.length() >= ROW.length();
+	}
+
+	@Override
+	public Mat4 mul(Mat4 a, Mat4 b, Mat4 dest) {
+		if (a.getKind() != Mat4.Kind.GENERAL || b.getKind() != Mat4.Kind.GENERAL) {
+			// The kind-aware scalar kernels skip more work than the lanes save
+			return Mat4.mul(a, b, dest);
+		}
+		MathMetrics.count(MathCounter.MAT4_MULTIPLY);
+		mul(a.elements, 0, b.elements, 0, dest.elements, 0);
+		return dest.setKind(Mat4.Kind.GENERAL);
+	}
+
+	@Override
+	public void mul(float[] a, float[] b, float[] dest, int offset, int count) {
+		int end = (offset + count) * 16;
+		for (int i = offset * 16; i < end; i += 16) {
+			mul(a, i, b, i, dest, i);
+		}
+	}
+
+	private static void mul(float[] l, int lOffset, float[] m, int mOffset, float[] data, int dataOffset) {
+		// m is read completely before anything is written, so data may alias it
+		FloatVector b0 = FloatVector.fromArray(ROW, m, mOffset);
+		FloatVector b1 = FloatVector.fromArray(ROW, m, mOffset + 4);
+		FloatVector b2 = FloatVector.fromArray(ROW, m, mOffset + 8);
+		FloatVector b3 = FloatVector.fromArray(ROW, m, mOffset + 12);
+		for (int row = 0; row < 4; row++) {
+			int i = lOffset + row * 4;
+			b0.mul(l[i]).add(b1.mul(l[i + 1])).add(b2.mul(l[i + 2])).add(b3.mul(l[i + 3])).intoArray(data,
+					dataOffset + row * 4);
+		}
+	}
+
+	@Override
+	public void transform(Mat4 matrix, Vec3Buffer src, Vec3Buffer dest, int offset, int count) {
+		float[] m = matrix.elements;
+		float m00 = m[0 + 4 * 0], m01 = m[0 + 4 * 1], m02 = m[0 + 4 * 2], m03 = m[0 + 4 * 3];
+		float m10 = m[1 + 4 * 0], m11 = m[1 + 4 * 1], m12 = m[1 + 4 * 2], m13 = m[1 + 4 * 3];
+		float m20 = m[2 + 4 * 0], m21 = m[2 + 4 * 1], m22 = m[2 + 4 * 2], m23 = m[2 + 4 * 3];
+		float[] sx = src.x, sy = src.y, sz = src.z;
+		float[] dx = dest.x, dy = dest.y, dz = dest.z;
+		FloatVector v00 = FloatVector.broadcast(BATCH, m00), v01 = FloatVector.broadcast(BATCH, m01);
+		FloatVector v02 = FloatVector.broadcast(BATCH, m02), v03 = FloatVector.broadcast(BATCH, m03);
+		FloatVector v10 = FloatVector.broadcast(BATCH, m10), v11 = FloatVector.broadcast(BATCH, m11);
+		FloatVector v12 = FloatVector.broadcast(BATCH, m12), v13 = FloatVector.broadcast(BATCH, m13);
+		FloatVector v20 = FloatVector.broadcast(BATCH, m20), v21 = FloatVector.broadcast(BATCH, m21);
+		FloatVector v22 = FloatVector.broadcast(BATCH, m22), v23 = FloatVector.broadcast(BATCH, m23);
+		int end = offset + BATCH.loopBound(count);
+		int i = offset;
+		// All components of a lane block are loaded before any is stored, so src may be dest
+		for (; i < end; i += BATCH.length()) {
+			FloatVector x = FloatVector.fromArray(BATCH, sx, i);
+			FloatVector y = FloatVector.fromArray(BATCH, sy, i);
+			FloatVector z = FloatVector.fromArray(BATCH, sz, i);
+			x.mul(v00).add(y.mul(v01)).add(z.mul(v02)).add(v03).intoArray(dx, i);
+			x.mul(v10).add(y.mul(v11)).add(z.mul(v12)).add(v13).intoArray(dy, i);
+			x.mul(v20).add(y.mul(v21)).add(z.mul(v22)).add(v23).intoArray(dz, i);
+		}
+		SCALAR.transform(matrix, src, dest, i, offset + count - i);
+	}
+
+	@Override
+	public void transform(Mat4 matrix, Vec4Buffer src, Vec4Buffer dest, int offset, int count) {
+		float[] m = matrix.elements;
+		float m00 = m[0 + 4 * 0], m01 = m[0 + 4 * 1], m02 = m[0 + 4 * 2], m03 = m[0 + 4 * 3];
+		float m10 = m[1 + 4 * 0], m11 = m[1 + 4 * 1], m12 = m[1 + 4 * 2], m13 = m[1 + 4 * 3];
+		float m20 = m[2 + 4 * 0], m21 = m[2 + 4 * 1], m22 = m[2 + 4 * 2], m23 = m[2 + 4 * 3];
+		float m30 = m[3 + 4 * 0], m31 = m[3 + 4 * 1], m32 = m[3 + 4 * 2], m33 = m[3 + 4 * 3];
+		float[] sx = src.x, sy = src.y, sz = src.z, sw = src.w;
+		float[] dx = dest.x, dy = dest.y, dz = dest.z, dw = dest.w;
+		FloatVector v00 = FloatVector.broadcast(BATCH, m00), v01 = FloatVector.broadcast(BATCH, m01);
+		FloatVector v02 = FloatVector.broadcast(BATCH, m02), v03 = FloatVector.broadcast(BATCH, m03);
+		FloatVector v10 = FloatVector.broadcast(BATCH, m10), v11 = FloatVector.broadcast(BATCH, m11);
+		FloatVector v12 = FloatVector.broadcast(BATCH, m12), v13 = FloatVector.broadcast(BATCH, m13);
+		FloatVector v20 = FloatVector.broadcast(BATCH, m20), v21 = FloatVector.broadcast(BATCH, m21);
+		FloatVector v22 = FloatVector.broadcast(BATCH, m22), v23 = FloatVector.broadcast(BATCH, m23);
+		FloatVector v30 = FloatVector.broadcast(BATCH, m30), v31 = FloatVector.broadcast(BATCH, m31);
+		FloatVector v32 = FloatVector.broadcast(BATCH, m32), v33 = FloatVector.broadcast(BATCH, m33);
+		int end = offset + BATCH.loopBound(count);
+		int i = offset;
+		// All components of a lane block are loaded before any is stored, so src may be dest
+		for (; i < end; i += BATCH.length()) {
+			FloatVector x = FloatVector.fromArray(BATCH, sx, i);
+			FloatVector y = FloatVector.fromArray(BATCH, sy, i);
+			FloatVector z = FloatVector.fromArray(BATCH, sz, i);
+			FloatVector w = FloatVector.fromArray(BATCH, sw, i);
+			x.mul(v00).add(y.mul(v01)).add(z.mul(v02)).add(w.mul(v03)).intoArray(dx, i);
+			x.mul(v10).add(y.mul(v11)).add(z.mul(v12)).add(w.mul(v13)).intoArray(dy, i);
+			x.mul(v20).add(y.mul(v21)).add(z.mul(v22)).add(w.mul(v23)).intoArray(dz, i);
+			x.mul(v30).add(y.mul(v31)).add(z.mul(v32)).add(w.mul(v33)).intoArray(dw, i);
+		}
+		SCALAR.transform(matrix, src, dest, i, offset + count - i);
+	}
+
+}
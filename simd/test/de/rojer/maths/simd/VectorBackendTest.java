@@ -0,0 +1,114 @@
+package de.rojer.maths.simd;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+import de.rojer.maths.backend.MathBackends;
+import de.rojer.maths.backend.ScalarBackend;
+import de.rojer.maths.mat.Mat4;
+import de.rojer.maths.vec.Vec3Buffer;
+import de.rojer.maths.vec.Vec4Buffer;
+
+/**
+ * Tests that {@link VectorBackend} gives the same bits as {@link ScalarBackend}
+ *
+ * @author Rojer
+ * @version 18.10.2026
+ */
+class VectorBackendTest {
+
+	private static final int COUNT = 1003;
+
+	private final VectorBackend simd = new VectorBackend();
+	private final ScalarBackend scalar = new ScalarBackend();
+	private final Random random = new Random(4);
+
+	@Test
+	void mulMatchesScalar() {
+		float[] a = floats(COUNT * 16), b = floats(COUNT * 16);
+		float[] expected = new float[COUNT * 16], actual = new float[COUNT * 16];
+		scalar.mul(a, b, expected, 0, COUNT);
+		simd.mul(a, b, actual, 0, COUNT);
+		assertArrayEquals(expected, actual);
+
+		Mat4 l = matrix(), m = matrix();
+		assertArrayEquals(scalar.mul(l, m, new Mat4()).elements, simd.mul(l, m, new Mat4()).elements);
+	}
+
+	@Test
+	void transformVec3BufferMatchesScalar() {
+		Mat4 matrix = matrix();
+		Vec3Buffer src = new Vec3Buffer(COUNT);
+		fill(src.x);
+		fill(src.y);
+		fill(src.z);
+		Vec3Buffer expected = new Vec3Buffer(COUNT), actual = new Vec3Buffer(COUNT);
+		scalar.transform(matrix, src, expected, 1, COUNT - 1);
+		simd.transform(matrix, src, actual, 1, COUNT - 1);
+		assertArrayEquals(expected.x, actual.x);
+		assertArrayEquals(expected.y, actual.y);
+		assertArrayEquals(expected.z, actual.z);
+	}
+
+	@Test
+	void transformVec4BufferMatchesScalar() {
+		Mat4 matrix = matrix();
+		Vec4Buffer src = new Vec4Buffer(COUNT);
+		fill(src.x);
+		fill(src.y);
+		fill(src.z);
+		fill(src.w);
+		Vec4Buffer expected = new Vec4Buffer(COUNT), actual = new Vec4Buffer(COUNT);
+		scalar.transform(matrix, src, expected, 1, COUNT - 1);
+		simd.transform(matrix, src, actual, 1, COUNT - 1);
+		assertArrayEquals(expected.x, actual.x);
+		assertArrayEquals(expected.y, actual.y);
+		assertArrayEquals(expected.z, actual.z);
+		assertArrayEquals(expected.w, actual.w);
+	}
+
+	@Test
+	void bulkOperationsRunOnSelectedBackend() {
+		// The tests run with jdk.incubator.vector, so the service is picked up
+		assertEquals(simd.name(), MathBackends.get().name());
+		Mat4 matrix = matrix();
+		Vec3Buffer src = new Vec3Buffer(COUNT);
+		fill(src.x);
+		fill(src.y);
+		fill(src.z);
+		Vec3Buffer expected = new Vec3Buffer(COUNT), actual = new Vec3Buffer(COUNT);
+		scalar.transform(matrix, src, expected, 0, COUNT);
+		Vec3Buffer.transform(matrix, src, actual, 0, COUNT);
+		assertArrayEquals(expected.x, actual.x);
+		assertArrayEquals(expected.z, actual.z);
+
+		float[] a = floats(COUNT * 16), b = floats(COUNT * 16);
+		float[] products = new float[COUNT * 16];
+		scalar.mul(a, b, products, 0, COUNT);
+		Mat4.mul(a, b, a, 0, COUNT);
+		assertArrayEquals(products, a);
+	}
+
+	private Mat4 matrix() {
+		Mat4 matrix = new Mat4();
+		fill(matrix.elements);
+		return matrix;
+	}
+
+	private float[] floats(int length) {
+		float[] values = new float[length];
+		fill(values);
+		return values;
+	}
+
+	private void fill(float[] values) {
+		for (int i = 0; i < values.length; i++) {
+			values[i] = random.nextFloat() * 2.0f - 1.0f;
+		}
+	}
+
+}
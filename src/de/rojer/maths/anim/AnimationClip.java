@@ -0,0 +1,154 @@
+package de.rojer.maths.anim;
+
+/**
+ * The keyframes of an animation of a skeleton
+ *
+ * Every bone has three tracks, translation, rotation and scale, each with its
+ * own key times. The keys of a track are stored in two primitive arrays, the
+ * times and the values packed back to back (3 floats per translation and
+ * scale key, 4 per rotation key). A bone without keys on a track keeps the
+ * identity value on it. Sample clips with an {@link AnimationSampler}.
+ *
+ * @author Rojer
+ * @version 18.10.2026
+ */
+public class AnimationClip {
+
+	// Attributes
+
+	/**
+	 * The track of the translations (x, y, z)
+	 */
+	public static final int TRANSLATION = 0;
+
+	/**
+	 * The track of the rotations, unit quaternions (x, y, z, w)
+	 */
+	public static final int ROTATION = 1;
+
+	/**
+	 * The track of the scales (x, y, z)
+	 */
+	public static final int SCALE = 2;
+
+	/**
+	 * The number of tracks per bone
+	 */
+	static final int TRACKS = 3;
+
+	private final int bones;
+	private final float duration;
+
+	/**
+	 * The key times of the tracks, the track of bone b is at b * TRACKS + track
+	 */
+	final float[][] times;
+
+	/**
+	 * The key values of the tracks, indexed like {@link #times}
+	 */
+	final float[][] values;
+
+	// Constructors
+
+	/**
+	 * Creates a clip without keys, every bone keeps the identity
+	 *
+	 * @param bones    the number of bones
+	 * @param duration the length of the clip, in the unit of the key times
+	 */
+	public AnimationClip(int bones, float duration) {
+		this.bones = bones;
+		this.duration = duration;
+		times = new float[bones * TRACKS][];
+		values = new float[bones * TRACKS][];
+	}
+
+	// Keys
+
+	/**
+	 * Sets the keys of a track of a bone, copying the arrays
+	 *
+	 * @param bone   the index of the bone
+	 * @param track  {@link #TRANSLATION}, {@link #ROTATION} or {@link #SCALE}
+	 * @param times  the key times, ascending
+	 * @param values the key values, {@link #components(int)} floats per key
+	 * @return this clip for multiple operations "in one line"
+	 * @throws IllegalArgumentException if there are no keys, the times are not
+	 *                                  ascending or the number of values does
+	 *                                  not match
+	 */
+	public AnimationClip setKeys(int bone, int track, float[] times, float[] values) {
+		if (times.length == 0) {
+			throw new IllegalArgumentException("A track needs at least one key");
+		}
+		if (values.length != times.length * components(track)) {
+			throw new IllegalArgumentException(
+					times.length + " keys need " + times.length * components(track) + " values, not " + values.length);
+		}
+		for (int i = 1; i < times.length; i++) {
+			if (!(times[i] >= times[i - 1])) {
+				throw new IllegalArgumentException("The key times have to be ascending");
+			}
+		}
+		this.times[bone * TRACKS + track] = times.clone();
+		this.values[bone * TRACKS + track] = values.clone();
+		return this;
+	}
+
+	/**
+	 * Removes the keys of a track of a bone, so it keeps the identity value
+	 *
+	 * @param bone  the index of the bone
+	 * @param track {@link #TRANSLATION}, {@link #ROTATION} or {@link #SCALE}
+	 * @return this clip for multiple operations "in one line"
+	 */
+	public AnimationClip clearKeys(int bone, int track) {
+		times[bone * TRACKS + track] = null;
+		values[bone * TRACKS + track] = null;
+		return this;
+	}
+
+	/**
+	 * @param bone  the index of the bone
+	 * @param track {@link #TRANSLATION}, {@link #ROTATION} or {@link #SCALE}
+	 * @return the number of keys of the track, 0 if it has none
+	 */
+	public int keys(int bone, int track) {
+		float[] keys = times[bone * TRACKS + track];
+		return keys == null ? 0 : keys.length;
+	}
+
+	/**
+	 * @return the number of bones
+	 */
+	public int bones() {
+		return bones;
+	}
+
+	/**
+	 * @return the length of the clip
+	 */
+	public float duration() {
+		return duration;
+	}
+
+	// Static Methods
+
+	/**
+	 * @param track {@link #TRANSLATION}, {@link #ROTATION} or {@link #SCALE}
+	 * @return the number of floats of a key of the track
+	 */
+	public static int components(int track) {
+		switch (track) {
+		case TRANSLATION:
+		case SCALE:
+			return 3;
+		case ROTATION:
+			return 4;
+		default:
+			throw new IllegalArgumentException("Unknown track " + track);
+		}
+	}
+
+}
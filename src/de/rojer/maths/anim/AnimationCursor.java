@@ -0,0 +1,107 @@
+package de.rojer.maths.anim;
+
+import java.util.Arrays;
+
+/**
+ * The playback position of an {@link AnimationClip}: the key last used on
+ * every track
+ *
+ * When a clip is played forward, the next sample usually lies between the same
+ * two keys as the last one or the ones right after, so the cursor steps
+ * forward from the cached keys instead of searching the key times. Only jumps,
+ * like seeking or looping back, fall back to a binary search. Every instance
+ * of a playing clip needs its own cursor.
+ *
+ * @author Rojer
+ * @version 18.10.2026
+ */
+public class AnimationCursor {
+
+	// Attributes
+
+	/**
+	 * The number of keys stepped over before falling back to a binary search
+	 */
+	private static final int STEPS = 4;
+
+	private final AnimationClip clip;
+
+	/**
+	 * The key last used on every track, indexed like the tracks of the clip
+	 */
+	private final int[] keys;
+
+	// Constructors
+
+	/**
+	 * Creates a cursor at the start of a clip
+	 *
+	 * @param clip the clip to play
+	 */
+	public AnimationCursor(AnimationClip clip) {
+		this.clip = clip;
+		keys = new int[clip.bones() * AnimationClip.TRACKS];
+	}
+
+	// Access
+
+	/**
+	 * @return the clip this cursor plays
+	 */
+	public AnimationClip clip() {
+		return clip;
+	}
+
+	/**
+	 * Moves this cursor back to the start of the clip
+	 *
+	 * @return this cursor for multiple operations "in one line"
+	 */
+	public AnimationCursor reset() {
+		Arrays.fill(keys, 0);
+		return this;
+	}
+
+	/**
+	 * Finds the last key at or before a time, the first one if there is none
+	 *
+	 * @param track the index of the track in the clip
+	 * @param times the key times of the track
+	 * @param time  the time
+	 * @return the index of the key
+	 */
+	int find(int track, float[] times, float time) {
+		int key = keys[track];
+		int last = times.length - 1;
+		if (key > last || time < times[key]) {
+			key = search(times, 0, key > last ? last : key, time);
+		} else {
+			int steps = 0;
+			while (key < last && times[key + 1] <= time) {
+				key++;
+				if (++steps == STEPS) {
+					key = search(times, key, last, time);
+					break;
+				}
+			}
+		}
+		keys[track] = key;
+		return key;
+	}
+
+	/**
+	 * Finds the last key at or before a time between two keys by binary search
+	 */
+	private static int search(float[] times, int low, int high, float time) {
+		while (low < high) {
+			int middle = (low + high + 1) >>> 1;
+			if (times[middle] <= time) {
+				low = middle;
+			} else {
+				high = middle - 1;
+			}
+		}
+		return low;
+	}
+
+}
@@ -0,0 +1,237 @@
+package de.rojer.maths.anim;
+
+import static java.lang.Math.sqrt;
+
+import de.rojer.maths.mat.Mat4;
+
+/**
+ * Samples {@link AnimationClip}s into palettes of local bone matrices
+ *
+ * A palette is a float array holding the matrices of the bones back to back,
+ * 16 elements each and column-major like {@link Mat4#elements}, so it can be
+ * passed to the batch methods of {@link Mat4} or uploaded as it is. The
+ * translation, rotation and scale of a bone are interpolated between the keys
+ * around the time and written into the palette as one matrix, which scales,
+ * then rotates and then translates like the local matrix of a Transform,
+ * without creating a matrix per step. Rotations are interpolated with nlerp.
+ *
+ * As {@link Mat4#multiply(Mat4)} applies its own matrix first, that is the
+ * matrix of Mat4.Scale(s).multiply(r.toMat4(..)).multiply(Mat4.Translation(t)).
+ * The chain Mat4.Translation(t).multiply(..).multiply(Mat4.Scale(s)) builds a
+ * different matrix, which translates first.
+ *
+ * A sampler must not be used by several threads at once.
+ *
+ * @author Rojer
+ * @version 18.10.2026
+ */
+public class AnimationSampler {
+
+	// Attributes
+
+	/**
+	 * The sampled translation (0 - 2), rotation (3 - 6) and scale (7 - 9) of a
+	 * bone
+	 */
+	private final float[] sample = new float[10];
+
+	// Sampling
+
+	/**
+	 * Samples a clip at a time, times outside of the keys of a track take the
+	 * first or last key
+	 *
+	 * @param cursor  the cursor of the clip to sample, moved to the time
+	 * @param time    the time, use time % duration to loop the clip
+	 * @param palette the array to store the matrices of the bones in
+	 * @param offset  the index of the matrix of the first bone in palette
+	 */
+	public void sample(AnimationCursor cursor, float time, float[] palette, int offset) {
+		AnimationClip clip = cursor.clip();
+		float[] sample = this.sample;
+		for (int bone = 0; bone < clip.bones(); bone++) {
+			sample(clip, cursor, bone, time, sample);
+			compose(sample, palette, (offset + bone) * 16);
+		}
+	}
+
+	/**
+	 * Samples several clips of the same skeleton and blends them in one pass
+	 * over the bones. Translations and scales are averaged by the weights,
+	 * rotations are summed by the weights in the same hemisphere and normalized.
+	 *
+	 * @param cursors the cursors of the clips to sample, moved to their times
+	 * @param times   the time of every clip
+	 * @param weights the weight of every clip, their sum has to be positive
+	 * @param count   the number of clips
+	 * @param palette the array to store the matrices of the bones in
+	 * @param offset  the index of the matrix of the first bone in palette
+	 * @throws IllegalArgumentException if the clips have different numbers of
+	 *                                  bones or the weights do not sum up to a
+	 *                                  positive value
+	 */
+	public void blend(AnimationCursor[] cursors, float[] times, float[] weights, int count, float[] palette,
+			int offset) {
+		int bones = cursors[0].clip().bones();
+		float total = 0.0f;
+		for (int c = 0; c < count; c++) {
+			if (cursors[c].clip().bones() != bones) {
+				throw new IllegalArgumentException("All clips need " + bones + " bones");
+			}
+			total += weights[c];
+		}
+		if (!(total > 0.0f)) {
+			throw new IllegalArgumentException("The weights have to sum up to a positive value");
+		}
+		float normal = 1.0f / total;
+		float[] sample = this.sample;
+		for (int bone = 0; bone < bones; bone++) {
+			float tx = 0.0f, ty = 0.0f, tz = 0.0f;
+			float qx = 0.0f, qy = 0.0f, qz = 0.0f, qw = 0.0f;
+			float sx = 0.0f, sy = 0.0f, sz = 0.0f;
+			for (int c = 0; c < count; c++) {
+				AnimationCursor cursor = cursors[c];
+				sample(cursor.clip(), cursor, bone, times[c], sample);
+				float w = weights[c] * normal;
+				tx += w * sample[0];
+				ty += w * sample[1];
+				tz += w * sample[2];
+				// q and -q are the same rotation, add the one closer to the sum so far
+				float r = qx * sample[3] + qy * sample[4] + qz * sample[5] + qw * sample[6] < 0.0f ? -w : w;
+				qx += r * sample[3];
+				qy += r * sample[4];
+				qz += r * sample[5];
+				qw += r * sample[6];
+				sx += w * sample[7];
+				sy += w * sample[8];
+				sz += w * sample[9];
+			}
+			float inverseLength = (float) (1.0 / sqrt(qx * qx + qy * qy + qz * qz + qw * qw));
+			sample[0] = tx;
+			sample[1] = ty;
+			sample[2] = tz;
+			sample[3] = qx * inverseLength;
+			sample[4] = qy * inverseLength;
+			sample[5] = qz * inverseLength;
+			sample[6] = qw * inverseLength;
+			sample[7] = sx;
+			sample[8] = sy;
+			sample[9] = sz;
+			compose(sample, palette, (offset + bone) * 16);
+		}
+	}
+
+	/**
+	 * Copies a matrix out of a palette
+	 *
+	 * @param palette the palette
+	 * @param index   the index of the matrix in palette
+	 * @param dest    the matrix to store the bone matrix in
+	 * @return dest
+	 */
+	public static Mat4 get(float[] palette, int index, Mat4 dest) {
+		System.arraycopy(palette, index * 16, dest.elements, 0, 16);
+		return dest.setKind(Mat4.Kind.AFFINE);
+	}
+
+	// Internals
+
+	/**
+	 * Samples the three tracks of a bone into dest
+	 */
+	private static void sample(AnimationClip clip, AnimationCursor cursor, int bone, float time, float[] dest) {
+		int track = bone * AnimationClip.TRACKS;
+		if (!sample(clip, cursor, track + AnimationClip.TRANSLATION, 3, time, dest, 0)) {
+			dest[0] = 0.0f;
+			dest[1] = 0.0f;
+			dest[2] = 0.0f;
+		}
+		if (!sample(clip, cursor, track + AnimationClip.ROTATION, 4, time, dest, 3)) {
+			dest[3] = 0.0f;
+			dest[4] = 0.0f;
+			dest[5] = 0.0f;
+			dest[6] = 1.0f;
+		}
+		if (!sample(clip, cursor, track + AnimationClip.SCALE, 3, time, dest, 7)) {
+			dest[7] = 1.0f;
+			dest[8] = 1.0f;
+			dest[9] = 1.0f;
+		}
+	}
+
+	/**
+	 * Interpolates a track at a time into dest
+	 *
+	 * @return false if the track has no keys
+	 */
+	private static boolean sample(AnimationClip clip, AnimationCursor cursor, int track, int components, float time,
+			float[] dest, int d) {
+		float[] times = clip.times[track];
+		if (times == null) {
+			return false;
+		}
+		float[] values = clip.values[track];
+		int key = cursor.find(track, times, time);
+		int a = key * components;
+		if (key == times.length - 1 || time <= times[key]) {
+			System.arraycopy(values, a, dest, d, components);
+			return true;
+		}
+		int b = a + components;
+		float t = (time - times[key]) / (times[key + 1] - times[key]);
+		if (components == 3) {
+			dest[d] = values[a] + t * (values[b] - values[a]);
+			dest[d + 1] = values[a + 1] + t * (values[b + 1] - values[a + 1]);
+			dest[d + 2] = values[a + 2] + t * (values[b + 2] - values[a + 2]);
+			return true;
+		}
+		// nlerp along the shorter way, like Quat.nlerp
+		float dot = values[a] * values[b] + values[a + 1] * values[b + 1] + values[a + 2] * values[b + 2]
+				+ values[a + 3] * values[b + 3];
+		float s = dot < 0.0f ? -t : t;
+		float r = 1.0f - t;
+		float x = r * values[a] + s * values[b];
+		float y = r * values[a + 1] + s * values[b + 1];
+		float z = r * values[a + 2] + s * values[b + 2];
+		float w = r * values[a + 3] + s * values[b + 3];
+		float inverseLength = (float) (1.0 / sqrt(x * x + y * y + z * z + w * w));
+		dest[d] = x * inverseLength;
+		dest[d + 1] = y * inverseLength;
+		dest[d + 2] = z * inverseLength;
+		dest[d + 3] = w * inverseLength;
+		return true;
+	}
+
+	/**
+	 * Writes the matrix of a sampled translation, rotation and scale, like
+	 * Quat.toMat4 with the columns scaled and the translation set
+	 */
+	private static void compose(float[] sample, float[] e, int o) {
+		float x = sample[3], y = sample[4], z = sample[5], w = sample[6];
+		float sx = sample[7], sy = sample[8], sz = sample[9];
+		float xx = x * x, yy = y * y, zz = z * z;
+		float xy = x * y, xz = x * z, yz = y * z;
+		float wx = w * x, wy = w * y, wz = w * z;
+
+		e[o + 0 + 0 * 4] = (1.0f - 2.0f * (yy + zz)) * sx;
+		e[o + 1 + 0 * 4] = 2.0f * (xy + wz) * sx;
+		e[o + 2 + 0 * 4] = 2.0f * (xz - wy) * sx;
+		e[o + 3 + 0 * 4] = 0.0f;
+
+		e[o + 0 + 1 * 4] = 2.0f * (xy - wz) * sy;
+		e[o + 1 + 1 * 4] = (1.0f - 2.0f * (xx + zz)) * sy;
+		e[o + 2 + 1 * 4] = 2.0f * (yz + wx) * sy;
+		e[o + 3 + 1 * 4] = 0.0f;
+
+		e[o + 0 + 2 * 4] = 2.0f * (xz + wy) * sz;
+		e[o + 1 + 2 * 4] = 2.0f * (yz - wx) * sz;
+		e[o + 2 + 2 * 4] = (1.0f - 2.0f * (xx + yy)) * sz;
+		e[o + 3 + 2 * 4] = 0.0f;
+
+		e[o + 0 + 3 * 4] = sample[0];
+		e[o + 1 + 3 * 4] = sample[1];
+		e[o + 2 + 3 * 4] = sample[2];
+		e[o + 3 + 3 * 4] = 1.0f;
+	}
+
+}
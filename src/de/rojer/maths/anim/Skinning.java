@@ -0,0 +1,118 @@
+package de.rojer.maths.anim;
+
+import static java.lang.Math.sqrt;
+
+import de.rojer.maths.metrics.BulkKernelEvent;
+import de.rojer.maths.metrics.MathMetrics;
+import de.rojer.maths.vec.Vec3Buffer;
+
+/**
+ * Linear blend skinning of vertices stored in {@link Vec3Buffer}s
+ *
+ * Every vertex is influenced by a fixed number of bones. Their indices and
+ * weights are packed per vertex, the j-th influence of vertex v is at v *
+ * influences + j, and the weights of a vertex should sum up to 1 (unused
+ * influences have weight 0). The bone matrices come from a palette like the
+ * one of {@link AnimationSampler}, 16 elements per bone, and have to be
+ * affine; for skinning they are usually the model matrices of the bones times
+ * their inverse bind matrices.
+ *
+ * The matrices of the influences are blended into one matrix per vertex,
+ * which transforms the position and the normal, so a vertex costs the same
+ * whether its influences are blended or not. Normals are transformed by the
+ * upper 3 * 3 part of the blended matrix and normalized, which is exact for
+ * rotations and uniform scales. Nothing is allocated. Use
+ * de.rojer.maths.parallel.BatchTransformer#skin to skin large meshes on
+ * several cores.
+ *
+ * @author Rojer
+ * @version 18.10.2026
+ */
+public final class Skinning {
+
+	private Skinning() {
+	}
+
+	/**
+	 * Skins positions
+	 *
+	 * @param palette    the bone matrices, 16 elements each
+	 * @param bones      the bone indices of the influences
+	 * @param weights    the weights of the influences
+	 * @param influences the number of influences per vertex
+	 * @param positions  the positions in bind pose
+	 * @param dest       the buffer to store the skinned positions in, may be
+	 *                   positions
+	 * @param offset     the index of the first vertex
+	 * @param count      the number of vertices
+	 */
+	public static void skin(float[] palette, int[] bones, float[] weights, int influences, Vec3Buffer positions,
+			Vec3Buffer dest, int offset, int count) {
+		skin(palette, bones, weights, influences, positions, null, dest, null, offset, count);
+	}
+
+	/**
+	 * Skins positions and normals
+	 *
+	 * @param palette       the bone matrices, 16 elements each
+	 * @param bones         the bone indices of the influences
+	 * @param weights       the weights of the influences
+	 * @param influences    the number of influences per vertex
+	 * @param positions     the positions in bind pose
+	 * @param normals       the unit normals in bind pose, or null to skin only
+	 *                      the positions
+	 * @param destPositions the buffer to store the skinned positions in, may be
+	 *                      positions
+	 * @param destNormals   the buffer to store the skinned normals in, may be
+	 *                      normals
+	 * @param offset        the index of the first vertex
+	 * @param count         the number of vertices
+	 */
+	public static void skin(float[] palette, int[] bones, float[] weights, int influences, Vec3Buffer positions,
+			Vec3Buffer normals, Vec3Buffer destPositions, Vec3Buffer destNormals, int offset, int count) {
+		BulkKernelEvent event = MathMetrics.begin("Skinning.skin", count);
+		float[] px = positions.x, py = positions.y, pz = positions.z;
+		float[] dx = destPositions.x, dy = destPositions.y, dz = destPositions.z;
+		int end = offset + count;
+		for (int v = offset; v < end; v++) {
+			// The rows of the blended matrix, its last row is (0, 0, 0, 1)
+			float m00 = 0.0f, m01 = 0.0f, m02 = 0.0f, m03 = 0.0f;
+			float m10 = 0.0f, m11 = 0.0f, m12 = 0.0f, m13 = 0.0f;
+			float m20 = 0.0f, m21 = 0.0f, m22 = 0.0f, m23 = 0.0f;
+			for (int i = v * influences, last = i + influences; i < last; i++) {
+				float w = weights[i];
+				int e = bones[i] * 16;
+				m00 += w * palette[e + 0 + 0 * 4];
+				m10 += w * palette[e + 1 + 0 * 4];
+				m20 += w * palette[e + 2 + 0 * 4];
+				m01 += w * palette[e + 0 + 1 * 4];
+				m11 += w * palette[e + 1 + 1 * 4];
+				m21 += w * palette[e + 2 + 1 * 4];
+				m02 += w * palette[e + 0 + 2 * 4];
+				m12 += w * palette[e + 1 + 2 * 4];
+				m22 += w * palette[e + 2 + 2 * 4];
+				m03 += w * palette[e + 0 + 3 * 4];
+				m13 += w * palette[e + 1 + 3 * 4];
+				m23 += w * palette[e + 2 + 3 * 4];
+			}
+			float x = px[v], y = py[v], z = pz[v];
+			dx[v] = m00 * x + m01 * y + m02 * z + m03;
+			dy[v] = m10 * x + m11 * y + m12 * z + m13;
+			dz[v] = m20 * x + m21 * y + m22 * z + m23;
+			if (normals != null) {
+				x = normals.x[v];
+				y = normals.y[v];
+				z = normals.z[v];
+				float nx = m00 * x + m01 * y + m02 * z;
+				float ny = m10 * x + m11 * y + m12 * z;
+				float nz = m20 * x + m21 * y + m22 * z;
+				float inverseLength = (float) (1.0 / sqrt(nx * nx + ny * ny + nz * nz));
+				destNormals.x[v] = nx * inverseLength;
+				destNormals.y[v] = ny * inverseLength;
+				destNormals.z[v] = nz * inverseLength;
+			}
+		}
+		MathMetrics.end(event);
+	}
+
+}
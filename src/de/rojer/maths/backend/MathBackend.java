@@ -0,0 +1,80 @@
+package de.rojer.maths.backend;
+
+import de.rojer.maths.mat.Mat4;
+import de.rojer.maths.vec.Vec3Buffer;
+import de.rojer.maths.vec.Vec4Buffer;
+
+/**
+ * Kernels that can be replaced by an optimized implementation, e.g. one using
+ * SIMD instructions
+ * 
+ * Every backend has to produce exactly the same results as the scalar one. Use
+ * {@link MathBackends#get()} to get the backend that has been selected for this
+ * JVM. The bulk operations of Mat4 and the vector buffers call the selected
+ * backend and record the metrics themselves, so a backend must not call them
+ * back; it can hand remaining elements to a {@link ScalarBackend} instead.
+ * 
+ * @author Rojer
+ * @version 18.10.2026
+ */
+public interface MathBackend {
+
+	/**
+	 * @return the name of this backend, used to report which backend is active
+	 */
+	String name();
+
+	/**
+	 * @return whether this backend can run on the current JVM and hardware
+	 */
+	boolean isSupported();
+
+	/**
+	 * Multiplies two matrices like {@link Mat4#mul(Mat4, Mat4, Mat4)}
+	 * 
+	 * @param a    the left matrix
+	 * @param b    the right matrix
+	 * @param dest the matrix to store the result in, may be a or b
+	 * @return dest
+	 */
+	Mat4 mul(Mat4 a, Mat4 b, Mat4 dest);
+
+	/**
+	 * Multiplies matrices pairwise like {@link Mat4#mul(Mat4, Mat4, Mat4)}, the
+	 * matrices are packed into float arrays with 16 floats each (the layout of
+	 * {@link Mat4#elements}). This is the kernel behind
+	 * {@link Mat4#mul(float[], float[], float[], int, int)}.
+	 * 
+	 * @param a      the left matrices
+	 * @param b      the right matrices
+	 * @param dest   the array to store the results in, may be a or b
+	 * @param offset the index of the first matrix
+	 * @param count  the number of matrices
+	 */
+	void mul(float[] a, float[] b, float[] dest, int offset, int count);
+
+	/**
+	 * Transforms vectors as points (w = 1), the kernel behind
+	 * {@link Vec3Buffer#transform(Mat4, Vec3Buffer, Vec3Buffer, int, int)}
+	 * 
+	 * @param matrix the matrix to transform the vectors with
+	 * @param src    the vectors to transform
+	 * @param dest   the buffer to store the results in, may be src
+	 * @param offset the index of the first vector
+	 * @param count  the number of vectors
+	 */
+	void transform(Mat4 matrix, Vec3Buffer src, Vec3Buffer dest, int offset, int count);
+
+	/**
+	 * Transforms vectors, the kernel behind
+	 * {@link Vec4Buffer#transform(Mat4, Vec4Buffer, Vec4Buffer, int, int)}
+	 * 
+	 * @param matrix the matrix to transform the vectors with
+	 * @param src    the vectors to transform
+	 * @param dest   the buffer to store the results in, may be src
+	 * @param offset the index of the first vector
+	 * @param count  the number of vectors
+	 */
+	void transform(Mat4 matrix, Vec4Buffer src, Vec4Buffer dest, int offset, int count);
+
+}
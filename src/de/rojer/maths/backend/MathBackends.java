@@ -0,0 +1,73 @@
+package de.rojer.maths.backend;
+
+import java.lang.System.Logger.Level;
+import java.util.ServiceConfigurationError;
+import java.util.ServiceLoader;
+
+import de.rojer.maths.mat.Mat4;
+import de.rojer.maths.vec.Vec3Buffer;
+import de.rojer.maths.vec.Vec4Buffer;
+
+/**
+ * Selects the {@link MathBackend} once, when this class is initialized
+ * 
+ * Backends other than the scalar one are found with a {@link ServiceLoader},
+ * so they only have to be on the class path. The first one that is supported
+ * is used, the scalar backend otherwise. The choice is logged and can be
+ * forced with the system property {@value #PROPERTY}, e.g.
+ * -Dde.rojer.maths.backend=scalar
+ * 
+ * The bulk operations {@link Mat4#mul(float[], float[], float[], int, int)},
+ * {@link Vec3Buffer#transform(Mat4, Vec3Buffer, Vec3Buffer, int, int)} and
+ * {@link Vec4Buffer#transform(Mat4, Vec4Buffer, Vec4Buffer, int, int)}, and
+ * the BatchTransformer built on them, run on the selected backend. Single
+ * products and transforms of Mat4 objects stay on the kind-aware scalar
+ * kernels of Mat4, which skip more work than lanes save on one matrix.
+ * 
+ * @author Rojer
+ * @version 18.10.2026
+ */
+public final class MathBackends {
+
+	/**
+	 * The system property to force a backend by its name
+	 */
+	public static final String PROPERTY = "de.rojer.maths.backend";
+
+	private static final MathBackend ACTIVE = select();
+
+	private MathBackends() {
+	}
+
+	/**
+	 * @return the backend selected for this JVM
+	 */
+	public static MathBackend get() {
+		return ACTIVE;
+	}
+
+	private static MathBackend select() {
+		System.Logger logger = System.getLogger(MathBackends.class.getName());
+		String requested = System.getProperty(PROPERTY);
+		MathBackend selected = new ScalarBackend();
+		if (!selected.name().equals(requested)) {
+			try {
+				for (MathBackend backend : ServiceLoader.load(MathBackend.class)) {
+					if ((requested == null || backend.name().equals(requested)) && backend.isSupported()) {
+						selected = backend;
+						break;
+					}
+				}
+			} catch (ServiceConfigurationError | LinkageError e) {
+				// e.g. the SIMD backend is on the class path, but jdk.incubator.vector is not
+				logger.log(Level.DEBUG, "Could not load a math backend", e);
+			}
+		}
+		if (requested != null && !selected.name().equals(requested)) {
+			logger.log(Level.WARNING, "Math backend \"{0}\" is not available", requested);
+		}
+		logger.log(Level.INFO, "Using the {0} math backend", selected.name());
+		return selected;
+	}
+
+}
@@ -0,0 +1,110 @@
+package de.rojer.maths.backend;
+
+import de.rojer.maths.mat.Mat4;
+import de.rojer.maths.vec.Vec3Buffer;
+import de.rojer.maths.vec.Vec4Buffer;
+
+/**
+ * The default backend, holding the plain Java kernels behind the bulk
+ * operations of the library
+ * 
+ * The kernels are simple counted loops, which C2 unrolls and vectorizes on
+ * its own. Other backends use them for the elements that do not fill a whole
+ * vector of lanes.
+ * 
+ * @author Rojer
+ * @version 18.10.2026
+ */
+public final class ScalarBackend implements MathBackend {
+
+	@Override
+	public String name() {
+		return "scalar";
+	}
+
+	@Override
+	public boolean isSupported() {
+		return true;
+	}
+
+	@Override
+	public Mat4 mul(Mat4 a, Mat4 b, Mat4 dest) {
+		return Mat4.mul(a, b, dest);
+	}
+
+	@Override
+	public void mul(float[] a, float[] b, float[] dest, int offset, int count) {
+		int end = (offset + count) * 16;
+		for (int i = offset * 16; i < end; i += 16) {
+			Mat4.mul(a, i, b, i, dest, i);
+		}
+	}
+
+	@Override
+	public void transform(Mat4 matrix, Vec3Buffer src, Vec3Buffer dest, int offset, int count) {
+		float[] m = matrix.elements;
+		float m00 = m[0 + 4 * 0], m01 = m[0 + 4 * 1], m02 = m[0 + 4 * 2], m03 = m[0 + 4 * 3];
+		float m10 = m[1 + 4 * 0], m11 = m[1 + 4 * 1], m12 = m[1 + 4 * 2], m13 = m[1 + 4 * 3];
+		float m20 = m[2 + 4 * 0], m21 = m[2 + 4 * 1], m22 = m[2 + 4 * 2], m23 = m[2 + 4 * 3];
+		float[] sx = src.x, sy = src.y, sz = src.z;
+		float[] dx = dest.x, dy = dest.y, dz = dest.z;
+		int end = offset + count;
+		if (src == dest) {
+			// In place: every component has to be read before any is written
+			for (int i = offset; i < end; i++) {
+				float x = sx[i], y = sy[i], z = sz[i];
+				dx[i] = m00 * x + m01 * y + m02 * z + m03;
+				dy[i] = m10 * x + m11 * y + m12 * z + m13;
+				dz[i] = m20 * x + m21 * y + m22 * z + m23;
+			}
+			return;
+		}
+		// One loop per output component, each with a single store, which C2 vectorizes
+		for (int i = offset; i < end; i++) {
+			dx[i] = m00 * sx[i] + m01 * sy[i] + m02 * sz[i] + m03;
+		}
+		for (int i = offset; i < end; i++) {
+			dy[i] = m10 * sx[i] + m11 * sy[i] + m12 * sz[i] + m13;
+		}
+		for (int i = offset; i < end; i++) {
+			dz[i] = m20 * sx[i] + m21 * sy[i] + m22 * sz[i] + m23;
+		}
+	}
+
+	@Override
+	public void transform(Mat4 matrix, Vec4Buffer src, Vec4Buffer dest, int offset, int count) {
+		float[] m = matrix.elements;
+		float m00 = m[0 + 4 * 0], m01 = m[0 + 4 * 1], m02 = m[0 + 4 * 2], m03 = m[0 + 4 * 3];
+		float m10 = m[1 + 4 * 0], m11 = m[1 + 4 * 1], m12 = m[1 + 4 * 2], m13 = m[1 + 4 * 3];
+		float m20 = m[2 + 4 * 0], m21 = m[2 + 4 * 1], m22 = m[2 + 4 * 2], m23 = m[2 + 4 * 3];
+		float m30 = m[3 + 4 * 0], m31 = m[3 + 4 * 1], m32 = m[3 + 4 * 2], m33 = m[3 + 4 * 3];
+		float[] sx = src.x, sy = src.y, sz = src.z, sw = src.w;
+		float[] dx = dest.x, dy = dest.y, dz = dest.z, dw = dest.w;
+		int end = offset + count;
+		if (src == dest) {
+			// In place: every component has to be read before any is written
+			for (int i = offset; i < end; i++) {
+				float x = sx[i], y = sy[i], z = sz[i], w = sw[i];
+				dx[i] = m00 * x + m01 * y + m02 * z + m03 * w;
+				dy[i] = m10 * x + m11 * y + m12 * z + m13 * w;
+				dz[i] = m20 * x + m21 * y + m22 * z + m23 * w;
+				dw[i] = m30 * x + m31 * y + m32 * z + m33 * w;
+			}
+			return;
+		}
+		// One loop per output component, each with a single store, which C2 vectorizes
+		for (int i = offset; i < end; i++) {
+			dx[i] = m00 * sx[i] + m01 * sy[i] + m02 * sz[i] + m03 * sw[i];
+		}
+		for (int i = offset; i < end; i++) {
+			dy[i] = m10 * sx[i] + m11 * sy[i] + m12 * sz[i] + m13 * sw[i];
+		}
+		for (int i = offset; i < end; i++) {
+			dz[i] = m20 * sx[i] + m21 * sy[i] + m22 * sz[i] + m23 * sw[i];
+		}
+		for (int i = offset; i < end; i++) {
+			dw[i] = m30 * sx[i] + m31 * sy[i] + m32 * sz[i] + m33 * sw[i];
+		}
+	}
+
+}
@@ -0,0 +1,315 @@
+package de.rojer.maths.io;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.FloatBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+import de.rojer.maths.offheap.OffHeapArena;
+import de.rojer.maths.vec.Vec3Buffer;
+import de.rojer.maths.vec.Vec4Buffer;
+
+/**
+ * Reads files written by {@link BinaryWriter} by mapping them into memory
+ *
+ * Opening a file only reads the headers of its arrays. The floats of an array
+ * are mapped when they are first needed and are read by the operating system
+ * as they are accessed. {@link #map(int)} returns an {@link OffHeapArena} on
+ * top of the mapped file, so the views of the offheap package read the values
+ * without copying them, like
+ *
+ * <pre>
+ * OffHeapArena bones = reader.map(0);
+ * Mat4View bone = new Mat4View(bones, 0);
+ * for (int i = 0; i &lt; reader.count(0); i++) {
+ * 	bone.at(i * Mat4View.FLOATS).get(matrix);
+ * 	...
+ * }
+ * </pre>
+ *
+ * The read methods copy values into heap buffers instead. The mapped memory
+ * stays valid after the reader is closed. A reader must not be used by several
+ * threads at once.
+ *
+ * @author Rojer
+ * @version 18.10.2026
+ */
+public class BinaryReader implements Closeable {
+
+	// Attributes
+
+	private final FileChannel channel;
+	private final int version;
+
+	private final ElementType[] types;
+	private final long[] counts;
+
+	/**
+	 * The positions of the floats of the arrays in the file
+	 */
+	private final long[] positions;
+
+	/**
+	 * The mapped arrays, created when first needed
+	 */
+	private final ByteBuffer[] mapped;
+
+	// Constructors
+
+	/**
+	 * Opens a file and reads the headers of its arrays
+	 *
+	 * @param path the path of the file
+	 * @throws IOException if the file cannot be read, is not in the format of
+	 *                     {@link BinaryWriter}, has a newer version or is
+	 *                     truncated
+	 */
+	public BinaryReader(Path path) throws IOException {
+		channel = FileChannel.open(path, StandardOpenOption.READ);
+		try {
+			long size = channel.size();
+			ByteBuffer header = ByteBuffer.allocate(16).order(ByteOrder.LITTLE_ENDIAN);
+			read(header, 0, size);
+			if (header.getInt(0) != BinaryWriter.MAGIC) {
+				throw new IOException("Not a binary vector file: " + path);
+			}
+			version = header.getInt(4);
+			if (version < 1 || version > BinaryWriter.VERSION) {
+				throw new IOException("Unsupported version " + version + " of " + path);
+			}
+			int arrays = header.getInt(8);
+			types = new ElementType[arrays];
+			counts = new long[arrays];
+			positions = new long[arrays];
+			mapped = new ByteBuffer[arrays];
+			long position = BinaryWriter.ALIGNMENT;
+			for (int i = 0; i < arrays; i++) {
+				read(header, position, size);
+				types[i] = ElementType.of(header.getInt(0));
+				counts[i] = header.getLong(8);
+				if (types[i] == null || counts[i] < 0) {
+					throw new IOException("Corrupt header of array " + i + " in " + path);
+				}
+				positions[i] = position + BinaryWriter.ALIGNMENT;
+				long bytes = counts[i] * types[i].floats * Float.BYTES;
+				position = positions[i] + (bytes + BinaryWriter.ALIGNMENT - 1) / BinaryWriter.ALIGNMENT
+						* BinaryWriter.ALIGNMENT;
+				if (positions[i] + bytes > size) {
+					throw new IOException("Array " + i + " of " + path + " is truncated");
+				}
+			}
+		} catch (IOException | RuntimeException e) {
+			channel.close();
+			throw e;
+		}
+	}
+
+	// Headers
+
+	/**
+	 * @return the version of the format of the file
+	 */
+	public int version() {
+		return version;
+	}
+
+	/**
+	 * @return the number of arrays in the file
+	 */
+	public int arrays() {
+		return types.length;
+	}
+
+	/**
+	 * @param array the index of the array
+	 * @return the type of the elements of the array
+	 */
+	public ElementType type(int array) {
+		return types[array];
+	}
+
+	/**
+	 * @param array the index of the array
+	 * @return the number of elements of the array
+	 */
+	public long count(int array) {
+		return counts[array];
+	}
+
+	// Mapping
+
+	/**
+	 * Maps an array into memory, without copying it. The i-th element starts at
+	 * float i times the floats of an element of the arena, matrices are aligned
+	 * like the ones allocated from an arena.
+	 *
+	 * @param array the index of the array
+	 * @return a read-only arena on top of the mapped file
+	 * @throws IOException              if mapping fails
+	 * @throws IllegalArgumentException if the array has more than 2 GB, use
+	 *                                  {@link #map(int, long, int)} to map a
+	 *                                  part of it
+	 */
+	public OffHeapArena map(int array) throws IOException {
+		return new OffHeapArena(mapped(array));
+	}
+
+	/**
+	 * Maps a part of an array into memory, without copying it
+	 *
+	 * @param array the index of the array
+	 * @param first the index of the first element to map
+	 * @param count the number of elements to map
+	 * @return a read-only arena on top of the mapped file, with element first at
+	 *         float 0
+	 * @throws IOException              if mapping fails
+	 * @throws IllegalArgumentException if the part has more than 2 GB
+	 */
+	public OffHeapArena map(int array, long first, int count) throws IOException {
+		checkRange(array, first, count);
+		int floats = types[array].floats;
+		long bytes = (long) count * floats * Float.BYTES;
+		if (bytes > Integer.MAX_VALUE) {
+			throw new IllegalArgumentException("Cannot map more than 2 GB at once");
+		}
+		if (mapped[array] != null || counts[array] * floats * Float.BYTES <= Integer.MAX_VALUE) {
+			ByteBuffer whole = mapped(array);
+			int from = (int) (first * floats * Float.BYTES);
+			return new OffHeapArena(whole.duplicate().position(from).limit(from + (int) bytes)
+					.order(ByteOrder.LITTLE_ENDIAN));
+		}
+		return new OffHeapArena(channel
+				.map(FileChannel.MapMode.READ_ONLY, positions[array] + first * floats * Float.BYTES, bytes)
+				.order(ByteOrder.LITTLE_ENDIAN));
+	}
+
+	// Copying
+
+	/**
+	 * Copies elements of an array into packed floats, for example the data of an
+	 * InterleavedVec3Buffer or matrices for the batch methods of Mat4
+	 *
+	 * @param array  the index of the array
+	 * @param first  the index of the first element to copy
+	 * @param dest   the array to store the floats of the elements in
+	 * @param offset the index of the first element in dest, it starts at offset
+	 *               times the floats of an element
+	 * @param count  the number of elements
+	 * @return dest
+	 * @throws IOException if mapping fails
+	 */
+	public float[] read(int array, long first, float[] dest, int offset, int count) throws IOException {
+		int floats = types[array].floats;
+		floats(array, first, count).get(dest, offset * floats, count * floats);
+		return dest;
+	}
+
+	/**
+	 * Copies vectors of an array into a buffer
+	 *
+	 * @param array  the index of the array, of {@link ElementType#VEC3}
+	 * @param first  the index of the first vector to copy
+	 * @param dest   the buffer to store the vectors in
+	 * @param offset the index of the first vector in dest
+	 * @param count  the number of vectors
+	 * @return dest
+	 * @throws IOException              if mapping fails
+	 * @throws IllegalArgumentException if the array has another type
+	 */
+	public Vec3Buffer read(int array, long first, Vec3Buffer dest, int offset, int count) throws IOException {
+		checkType(array, ElementType.VEC3);
+		FloatBuffer src = floats(array, first, count);
+		float[] x = dest.x, y = dest.y, z = dest.z;
+		for (int i = 0, p = 0; i < count; i++, p += 3) {
+			x[offset + i] = src.get(p);
+			y[offset + i] = src.get(p + 1);
+			z[offset + i] = src.get(p + 2);
+		}
+		return dest;
+	}
+
+	/**
+	 * Copies vectors of an array into a buffer
+	 *
+	 * @param array  the index of the array, of {@link ElementType#VEC4}
+	 * @param first  the index of the first vector to copy
+	 * @param dest   the buffer to store the vectors in
+	 * @param offset the index of the first vector in dest
+	 * @param count  the number of vectors
+	 * @return dest
+	 * @throws IOException              if mapping fails
+	 * @throws IllegalArgumentException if the array has another type
+	 */
+	public Vec4Buffer read(int array, long first, Vec4Buffer dest, int offset, int count) throws IOException {
+		checkType(array, ElementType.VEC4);
+		FloatBuffer src = floats(array, first, count);
+		float[] x = dest.x, y = dest.y, z = dest.z, w = dest.w;
+		for (int i = 0, p = 0; i < count; i++, p += 4) {
+			x[offset + i] = src.get(p);
+			y[offset + i] = src.get(p + 1);
+			z[offset + i] = src.get(p + 2);
+			w[offset + i] = src.get(p + 3);
+		}
+		return dest;
+	}
+
+	// Closing
+
+	/**
+	 * Closes the file, arrays mapped before stay usable
+	 *
+	 * @throws IOException if closing fails
+	 */
+	@Override
+	public void close() throws IOException {
+		channel.close();
+	}
+
+	// Internals
+
+	private void read(ByteBuffer header, long position, long size) throws IOException {
+		if (position + header.capacity() > size) {
+			throw new IOException("Truncated file, the header at " + position + " is missing");
+		}
+		header.clear();
+		while (header.hasRemaining()) {
+			channel.read(header, position + header.position());
+		}
+	}
+
+	private ByteBuffer mapped(int array) throws IOException {
+		if (mapped[array] == null) {
+			long bytes = counts[array] * types[array].floats * Float.BYTES;
+			if (bytes > Integer.MAX_VALUE) {
+				throw new IllegalArgumentException(
+						"Array " + array + " has more than 2 GB, map parts of it with map(array, first, count)");
+			}
+			mapped[array] = channel.map(FileChannel.MapMode.READ_ONLY, positions[array], bytes)
+					.order(ByteOrder.LITTLE_ENDIAN);
+		}
+		return mapped[array];
+	}
+
+	private FloatBuffer floats(int array, long first, int count) throws IOException {
+		return map(array, first, count).exportBytes().asFloatBuffer();
+	}
+
+	private void checkRange(int array, long first, int count) {
+		if (first < 0 || count < 0 || first + count > counts[array]) {
+			throw new IndexOutOfBoundsException(
+					"Elements " + first + " to " + (first + count) + " of array " + array + " with " + counts[array]);
+		}
+	}
+
+	private void checkType(int array, ElementType expected) {
+		if (types[array] != expected) {
+			throw new IllegalArgumentException("Array " + array + " has elements of " + types[array] + ", not "
+					+ expected);
+		}
+	}
+
+}
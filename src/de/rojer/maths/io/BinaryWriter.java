@@ -0,0 +1,379 @@
+package de.rojer.maths.io;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+import de.rojer.maths.mat.Mat4;
+import de.rojer.maths.vec.Vec2;
+import de.rojer.maths.vec.Vec3;
+import de.rojer.maths.vec.Vec3Buffer;
+import de.rojer.maths.vec.Vec4;
+import de.rojer.maths.vec.Vec4Buffer;
+
+/**
+ * Writes arrays of vectors and matrices into a file in a compact binary format,
+ * which {@link BinaryReader} maps into memory
+ *
+ * The format is little-endian. A file starts with a header of
+ * {@value #ALIGNMENT} bytes: the magic bytes "RMBF", the version and the
+ * number of arrays (ints). Every array follows with a header of
+ * {@value #ALIGNMENT} bytes, the code of its {@link ElementType} (int), 0 (int)
+ * and the number of elements (long), and then the floats of its elements.
+ * Headers and arrays start at multiples of {@value #ALIGNMENT} bytes, so the
+ * matrices of a mapped file are aligned like the ones of an OffHeapArena.
+ *
+ * The writer streams the values through a small buffer, so a file can be
+ * larger than the memory. The counts are written into the headers when an
+ * array is ended and when the writer is closed. A writer must not be used by
+ * several threads at once.
+ *
+ * @author Rojer
+ * @version 18.10.2026
+ */
+public class BinaryWriter implements Closeable {
+
+	// Attributes
+
+	/**
+	 * The magic bytes a file starts with, "RMBF" read as a little-endian int
+	 */
+	public static final int MAGIC = 'R' | 'M' << 8 | 'B' << 16 | 'F' << 24;
+
+	/**
+	 * The version of the format written, readers accept this one and older ones
+	 */
+	public static final int VERSION = 1;
+
+	/**
+	 * The alignment of headers and arrays in the file, in bytes
+	 */
+	public static final int ALIGNMENT = 64;
+
+	private static final int BUFFER_SIZE = 1 << 16;
+
+	private final FileChannel channel;
+	private final ByteBuffer buffer = ByteBuffer.allocateDirect(BUFFER_SIZE).order(ByteOrder.LITTLE_ENDIAN);
+
+	/**
+	 * Used to interleave the components of vector buffers
+	 */
+	private final float[] scratch = new float[1024 * 12];
+
+	/**
+	 * The number of bytes written to the channel so far, not counting the ones
+	 * still in the buffer
+	 */
+	private long flushed;
+
+	private int arrays;
+
+	/**
+	 * The type of the array being written, or null
+	 */
+	private ElementType type;
+
+	/**
+	 * The position of the header of the array being written
+	 */
+	private long header;
+
+	/**
+	 * The number of elements of the array being written
+	 */
+	private long count;
+
+	// Constructors
+
+	/**
+	 * Creates a file, replacing an existing one, and writes its header
+	 *
+	 * @param path the path of the file
+	 * @throws IOException if the file cannot be created
+	 */
+	public BinaryWriter(Path path) throws IOException {
+		channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING,
+				StandardOpenOption.WRITE);
+		buffer.putInt(MAGIC).putInt(VERSION).putInt(0);
+		pad();
+	}
+
+	// Arrays
+
+	/**
+	 * Begins a new array, ending the one being written
+	 *
+	 * @param type the type of the elements of the array
+	 * @return this writer for multiple operations "in one line"
+	 * @throws IOException if writing fails
+	 */
+	public BinaryWriter begin(ElementType type) throws IOException {
+		end();
+		ensure(ALIGNMENT);
+		header = position();
+		buffer.putInt(type.code).putInt(0).putLong(0);
+		pad();
+		this.type = type;
+		count = 0;
+		arrays++;
+		return this;
+	}
+
+	/**
+	 * Ends the array being written, if any, and writes its number of elements
+	 * into its header
+	 *
+	 * @return this writer for multiple operations "in one line"
+	 * @throws IOException if writing fails
+	 */
+	public BinaryWriter end() throws IOException {
+		if (type == null) {
+			return this;
+		}
+		pad();
+		patchLong(header + 8, count);
+		type = null;
+		return this;
+	}
+
+	// Elements
+
+	/**
+	 * Writes a vector into the array being written
+	 *
+	 * @param vector the vector
+	 * @return this writer for multiple operations "in one line"
+	 * @throws IOException           if writing fails
+	 * @throws IllegalStateException if no array of {@link ElementType#VEC2} is
+	 *                               being written
+	 */
+	public BinaryWriter write(Vec2 vector) throws IOException {
+		check(ElementType.VEC2);
+		ensure(8);
+		buffer.putFloat(vector.x).putFloat(vector.y);
+		count++;
+		return this;
+	}
+
+	/**
+	 * Writes a vector into the array being written
+	 *
+	 * @param vector the vector
+	 * @return this writer for multiple operations "in one line"
+	 * @throws IOException           if writing fails
+	 * @throws IllegalStateException if no array of {@link ElementType#VEC3} is
+	 *                               being written
+	 */
+	public BinaryWriter write(Vec3 vector) throws IOException {
+		check(ElementType.VEC3);
+		ensure(12);
+		buffer.putFloat(vector.x).putFloat(vector.y).putFloat(vector.z);
+		count++;
+		return this;
+	}
+
+	/**
+	 * Writes a vector into the array being written
+	 *
+	 * @param vector the vector
+	 * @return this writer for multiple operations "in one line"
+	 * @throws IOException           if writing fails
+	 * @throws IllegalStateException if no array of {@link ElementType#VEC4} is
+	 *                               being written
+	 */
+	public BinaryWriter write(Vec4 vector) throws IOException {
+		check(ElementType.VEC4);
+		ensure(16);
+		buffer.putFloat(vector.x).putFloat(vector.y).putFloat(vector.z).putFloat(vector.w);
+		count++;
+		return this;
+	}
+
+	/**
+	 * Writes a matrix into the array being written
+	 *
+	 * @param matrix the matrix
+	 * @return this writer for multiple operations "in one line"
+	 * @throws IOException           if writing fails
+	 * @throws IllegalStateException if no array of {@link ElementType#MAT4} is
+	 *                               being written
+	 */
+	public BinaryWriter write(Mat4 matrix) throws IOException {
+		check(ElementType.MAT4);
+		put(matrix.elements, 0, 16);
+		count++;
+		return this;
+	}
+
+	/**
+	 * Writes vectors of a buffer into the array being written
+	 *
+	 * @param src    the buffer
+	 * @param offset the index of the first vector
+	 * @param count  the number of vectors
+	 * @return this writer for multiple operations "in one line"
+	 * @throws IOException           if writing fails
+	 * @throws IllegalStateException if no array of {@link ElementType#VEC3} is
+	 *                               being written
+	 */
+	public BinaryWriter write(Vec3Buffer src, int offset, int count) throws IOException {
+		check(ElementType.VEC3);
+		float[] x = src.x, y = src.y, z = src.z, packed = scratch;
+		// Interleave into a heap array and copy that, which is cheaper than a put per float
+		for (int i = offset, end = offset + count; i < end;) {
+			int n = Math.min(end - i, packed.length / 3);
+			for (int j = 0, p = 0; j < n; j++, i++, p += 3) {
+				packed[p] = x[i];
+				packed[p + 1] = y[i];
+				packed[p + 2] = z[i];
+			}
+			put(packed, 0, n * 3);
+		}
+		this.count += count;
+		return this;
+	}
+
+	/**
+	 * Writes vectors of a buffer into the array being written
+	 *
+	 * @param src    the buffer
+	 * @param offset the index of the first vector
+	 * @param count  the number of vectors
+	 * @return this writer for multiple operations "in one line"
+	 * @throws IOException           if writing fails
+	 * @throws IllegalStateException if no array of {@link ElementType#VEC4} is
+	 *                               being written
+	 */
+	public BinaryWriter write(Vec4Buffer src, int offset, int count) throws IOException {
+		check(ElementType.VEC4);
+		float[] x = src.x, y = src.y, z = src.z, w = src.w, packed = scratch;
+		for (int i = offset, end = offset + count; i < end;) {
+			int n = Math.min(end - i, packed.length / 4);
+			for (int j = 0, p = 0; j < n; j++, i++, p += 4) {
+				packed[p] = x[i];
+				packed[p + 1] = y[i];
+				packed[p + 2] = z[i];
+				packed[p + 3] = w[i];
+			}
+			put(packed, 0, n * 4);
+		}
+		this.count += count;
+		return this;
+	}
+
+	/**
+	 * Writes packed elements into the array being written, for example the data
+	 * of an InterleavedVec3Buffer or matrices for the batch methods of
+	 * {@link Mat4}
+	 *
+	 * @param src    the floats of the elements, back to back
+	 * @param offset the index of the first element, src is read from offset times
+	 *               the floats of an element
+	 * @param count  the number of elements
+	 * @return this writer for multiple operations "in one line"
+	 * @throws IOException           if writing fails
+	 * @throws IllegalStateException if no array is being written
+	 */
+	public BinaryWriter write(float[] src, int offset, int count) throws IOException {
+		if (type == null) {
+			throw new IllegalStateException("No array is being written");
+		}
+		put(src, offset * type.floats, count * type.floats);
+		this.count += count;
+		return this;
+	}
+
+	// Closing
+
+	/**
+	 * Ends the array being written, writes the number of arrays into the header
+	 * of the file and closes it
+	 *
+	 * @throws IOException if writing fails
+	 */
+	@Override
+	public void close() throws IOException {
+		if (!channel.isOpen()) {
+			return;
+		}
+		try {
+			end();
+			flush();
+			ByteBuffer value = ByteBuffer.allocate(4).order(ByteOrder.LITTLE_ENDIAN).putInt(0, arrays);
+			channel.write(value, 8);
+		} finally {
+			channel.close();
+		}
+	}
+
+	// Internals
+
+	private void check(ElementType expected) {
+		if (type != expected) {
+			throw new IllegalStateException("No array of " + expected + " is being written, but "
+					+ (type == null ? "none" : "one of " + type));
+		}
+	}
+
+	private long position() {
+		return flushed + buffer.position();
+	}
+
+	/**
+	 * Flushes the buffer if it has less than a number of bytes left
+	 *
+	 * @return the number of bytes left in the buffer
+	 */
+	private int ensure(int bytes) throws IOException {
+		if (buffer.remaining() < bytes) {
+			flush();
+		}
+		return buffer.remaining();
+	}
+
+	private void flush() throws IOException {
+		buffer.flip();
+		while (buffer.hasRemaining()) {
+			flushed += channel.write(buffer);
+		}
+		buffer.clear();
+	}
+
+	private void put(float[] src, int offset, int length) throws IOException {
+		while (length > 0) {
+			int n = Math.min(length, ensure(4) / 4);
+			// A bulk put into a little-endian view is a plain copy on little-endian machines
+			buffer.asFloatBuffer().put(src, offset, n);
+			buffer.position(buffer.position() + n * 4);
+			offset += n;
+			length -= n;
+		}
+	}
+
+	/**
+	 * Writes zeros up to the next multiple of {@link #ALIGNMENT}
+	 */
+	private void pad() throws IOException {
+		int padding = (int) (-position() & (ALIGNMENT - 1));
+		ensure(padding);
+		for (int i = 0; i < padding; i++) {
+			buffer.put((byte) 0);
+		}
+	}
+
+	private void patchLong(long position, long value) throws IOException {
+		if (position >= flushed) {
+			buffer.putLong((int) (position - flushed), value);
+			return;
+		}
+		ByteBuffer bytes = ByteBuffer.allocate(8).order(ByteOrder.LITTLE_ENDIAN).putLong(0, value);
+		while (bytes.hasRemaining()) {
+			channel.write(bytes, position + bytes.position());
+		}
+	}
+
+}
@@ -0,0 +1,188 @@
+package de.rojer.maths.io;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.Reader;
+
+import de.rojer.maths.vec.Vec3Buffer;
+import de.rojer.maths.vec.Vec4Buffer;
+
+/**
+ * Reads rows of separated floats, like the ones of {@link CsvWriter}, into
+ * vector buffers and float arrays
+ *
+ * The input is read in chunks and parsed in place, so reading does not create
+ * Strings, and files larger than the memory can be read in batches of rows.
+ * Spaces and tabs around the values are ignored, as are empty lines. Quoted
+ * values are not supported. A reader must not be used by several threads at
+ * once.
+ *
+ * @author Rojer
+ * @version 18.10.2026
+ */
+public class CsvReader implements Closeable {
+
+	// Attributes
+
+	private final TextInput in;
+	private final char separator;
+
+	/**
+	 * True if the separator is a space or tab, any run of them then separates
+	 * the columns
+	 */
+	private final boolean whitespace;
+
+	/**
+	 * The parsed columns of a row
+	 */
+	private final float[] row = new float[4];
+
+	// Constructors
+
+	/**
+	 * Creates a reader for comma-separated values, wrapping the input into a
+	 * BufferedReader is not needed
+	 *
+	 * @param in the input
+	 */
+	public CsvReader(Reader in) {
+		this(in, ',');
+	}
+
+	/**
+	 * Creates a reader, wrapping the input into a BufferedReader is not needed
+	 *
+	 * @param in        the input
+	 * @param separator the character between the columns
+	 */
+	public CsvReader(Reader in, char separator) {
+		this.in = new TextInput(in);
+		this.separator = separator;
+		whitespace = separator == ' ' || separator == '\t';
+	}
+
+	// Reading
+
+	/**
+	 * Skips lines, like a header
+	 *
+	 * @param lines the number of lines to skip
+	 * @return the number of lines skipped, less if the input ended
+	 * @throws IOException if reading fails
+	 */
+	public int skip(int lines) throws IOException {
+		for (int i = 0; i < lines; i++) {
+			if (!in.nextLine()) {
+				return i;
+			}
+		}
+		return lines;
+	}
+
+	/**
+	 * Reads rows of 3 columns into a buffer
+	 *
+	 * @param dest   the buffer to store the vectors in
+	 * @param offset the index of the first vector
+	 * @param count  the number of rows to read at most
+	 * @return the number of rows read, less than count if the input ended
+	 * @throws IOException if reading fails or a row is malformed
+	 */
+	public int read(Vec3Buffer dest, int offset, int count) throws IOException {
+		float[] row = this.row;
+		for (int i = 0; i < count; i++) {
+			if (!nextRow(row, 0, 3)) {
+				return i;
+			}
+			dest.set(offset + i, row[0], row[1], row[2]);
+		}
+		return count;
+	}
+
+	/**
+	 * Reads rows of 4 columns into a buffer
+	 *
+	 * @param dest   the buffer to store the vectors in
+	 * @param offset the index of the first vector
+	 * @param count  the number of rows to read at most
+	 * @return the number of rows read, less than count if the input ended
+	 * @throws IOException if reading fails or a row is malformed
+	 */
+	public int read(Vec4Buffer dest, int offset, int count) throws IOException {
+		float[] row = this.row;
+		for (int i = 0; i < count; i++) {
+			if (!nextRow(row, 0, 4)) {
+				return i;
+			}
+			dest.set(offset + i, row[0], row[1], row[2], row[3]);
+		}
+		return count;
+	}
+
+	/**
+	 * Reads rows packed into a float array, like matrices with 16 columns
+	 *
+	 * @param dest    the array to store the rows in, columns floats each
+	 * @param columns the number of columns
+	 * @param offset  the index of the first row in dest
+	 * @param count   the number of rows to read at most
+	 * @return the number of rows read, less than count if the input ended
+	 * @throws IOException if reading fails or a row is malformed
+	 */
+	public int read(float[] dest, int columns, int offset, int count) throws IOException {
+		for (int i = 0; i < count; i++) {
+			if (!nextRow(dest, (offset + i) * columns, columns)) {
+				return i;
+			}
+		}
+		return count;
+	}
+
+	/**
+	 * @return the number of lines read so far
+	 */
+	public long line() {
+		return in.line();
+	}
+
+	/**
+	 * Closes the input
+	 */
+	@Override
+	public void close() throws IOException {
+		in.close();
+	}
+
+	// Internals
+
+	/**
+	 * Parses the next row that is not empty into dest
+	 *
+	 * @return false if the input ended
+	 */
+	private boolean nextRow(float[] dest, int index, int columns) throws IOException {
+		TextInput in = this.in;
+		do {
+			if (!in.nextLine()) {
+				return false;
+			}
+		} while (!in.skipSpaces());
+		for (int c = 0; c < columns; c++) {
+			if (c > 0 && !whitespace) {
+				if (in.peek() != separator) {
+					throw in.error("Expected " + columns + " columns");
+				}
+				in.skip();
+				in.skipSpaces();
+			}
+			dest[index + c] = in.parseFloat();
+			in.skipSpaces();
+		}
+		if (in.peek() != -1) {
+			throw in.error("Expected " + columns + " columns");
+		}
+		return true;
+	}
+
+}
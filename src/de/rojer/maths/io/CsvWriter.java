@@ -0,0 +1,233 @@
+package de.rojer.maths.io;
+
+import java.io.Closeable;
+import java.io.Flushable;
+import java.io.IOException;
+
+import de.rojer.maths.mat.Mat4;
+import de.rojer.maths.vec.Vec2;
+import de.rojer.maths.vec.Vec3;
+import de.rojer.maths.vec.Vec3Buffer;
+import de.rojer.maths.vec.Vec4;
+import de.rojer.maths.vec.Vec4Buffer;
+
+/**
+ * Writes vectors and matrices as rows of comma-separated values, one row per
+ * vector or matrix
+ *
+ * The rows are formatted into a buffer and handed to the output in chunks,
+ * so writing does not create Strings and the file can be larger than the
+ * memory. Floats are rounded to a fixed number of fraction digits and written
+ * without trailing zeros. Matrices are written as 16 columns in the order of
+ * {@link Mat4#elements}. A writer must not be used by several threads at
+ * once.
+ *
+ * @author Rojer
+ * @version 18.10.2026
+ */
+public class CsvWriter implements Closeable, Flushable {
+
+	// Attributes
+
+	private final TextOutput out;
+	private final char separator;
+
+	// Constructors
+
+	/**
+	 * Creates a writer separating the columns with commas and rounding to 6
+	 * fraction digits
+	 *
+	 * @param out the output, a Writer or any other Appendable
+	 */
+	public CsvWriter(Appendable out) {
+		this(out, ',', 6);
+	}
+
+	/**
+	 * Creates a writer
+	 *
+	 * @param out       the output, a Writer or any other Appendable
+	 * @param separator the character between the columns
+	 * @param decimals  the number of fraction digits floats are rounded to, at
+	 *                  most 9
+	 * @throws IllegalArgumentException if decimals is not in [0, 9]
+	 */
+	public CsvWriter(Appendable out, char separator, int decimals) {
+		this.out = new TextOutput(out, decimals);
+		this.separator = separator;
+	}
+
+	// Rows
+
+	/**
+	 * Writes a row of names, like a header
+	 *
+	 * @param names the names of the columns, without separators and line
+	 *              breaks
+	 * @return this writer for multiple operations "in one line"
+	 * @throws IOException if writing fails
+	 */
+	public CsvWriter header(String... names) throws IOException {
+		for (int i = 0; i < names.length; i++) {
+			if (i > 0) {
+				out.append(separator);
+			}
+			out.append(names[i]);
+		}
+		out.append('\n');
+		return this;
+	}
+
+	/**
+	 * Writes a vector as a row of 2 columns
+	 *
+	 * @param vector the vector
+	 * @return this writer for multiple operations "in one line"
+	 * @throws IOException if writing fails
+	 */
+	public CsvWriter row(Vec2 vector) throws IOException {
+		out.append(vector.x);
+		out.append(separator);
+		out.append(vector.y);
+		out.append('\n');
+		return this;
+	}
+
+	/**
+	 * Writes a vector as a row of 3 columns
+	 *
+	 * @param vector the vector
+	 * @return this writer for multiple operations "in one line"
+	 * @throws IOException if writing fails
+	 */
+	public CsvWriter row(Vec3 vector) throws IOException {
+		return row(vector.x, vector.y, vector.z);
+	}
+
+	/**
+	 * Writes a vector as a row of 4 columns
+	 *
+	 * @param vector the vector
+	 * @return this writer for multiple operations "in one line"
+	 * @throws IOException if writing fails
+	 */
+	public CsvWriter row(Vec4 vector) throws IOException {
+		return row(vector.x, vector.y, vector.z, vector.w);
+	}
+
+	/**
+	 * Writes a matrix as a row of 16 columns
+	 *
+	 * @param matrix the matrix
+	 * @return this writer for multiple operations "in one line"
+	 * @throws IOException if writing fails
+	 */
+	public CsvWriter row(Mat4 matrix) throws IOException {
+		return rows(matrix.elements, 16, 0, 1);
+	}
+
+	/**
+	 * Writes a row per vector of a buffer
+	 *
+	 * @param vectors the vectors
+	 * @param offset  the index of the first vector
+	 * @param count   the number of vectors
+	 * @return this writer for multiple operations "in one line"
+	 * @throws IOException if writing fails
+	 */
+	public CsvWriter rows(Vec3Buffer vectors, int offset, int count) throws IOException {
+		float[] x = vectors.x, y = vectors.y, z = vectors.z;
+		int end = offset + count;
+		for (int i = offset; i < end; i++) {
+			row(x[i], y[i], z[i]);
+		}
+		return this;
+	}
+
+	/**
+	 * Writes a row per vector of a buffer
+	 *
+	 * @param vectors the vectors
+	 * @param offset  the index of the first vector
+	 * @param count   the number of vectors
+	 * @return this writer for multiple operations "in one line"
+	 * @throws IOException if writing fails
+	 */
+	public CsvWriter rows(Vec4Buffer vectors, int offset, int count) throws IOException {
+		float[] x = vectors.x, y = vectors.y, z = vectors.z, w = vectors.w;
+		int end = offset + count;
+		for (int i = offset; i < end; i++) {
+			row(x[i], y[i], z[i], w[i]);
+		}
+		return this;
+	}
+
+	/**
+	 * Writes rows packed into a float array, like the matrices of the batch
+	 * methods of {@link Mat4} with 16 columns
+	 *
+	 * @param values  the rows, columns floats each
+	 * @param columns the number of columns
+	 * @param offset  the index of the first row
+	 * @param count   the number of rows
+	 * @return this writer for multiple operations "in one line"
+	 * @throws IOException if writing fails
+	 */
+	public CsvWriter rows(float[] values, int columns, int offset, int count) throws IOException {
+		TextOutput out = this.out;
+		int end = (offset + count) * columns;
+		for (int row = offset * columns; row < end; row += columns) {
+			out.append(values[row]);
+			for (int i = row + 1; i < row + columns; i++) {
+				out.append(separator);
+				out.append(values[i]);
+			}
+			out.append('\n');
+		}
+		return this;
+	}
+
+	/**
+	 * Hands the buffered rows to the output and flushes it
+	 */
+	@Override
+	public void flush() throws IOException {
+		out.flush();
+	}
+
+	/**
+	 * Hands the buffered rows to the output and closes it
+	 */
+	@Override
+	public void close() throws IOException {
+		out.close();
+	}
+
+	// Internals
+
+	private CsvWriter row(float x, float y, float z) throws IOException {
+		TextOutput out = this.out;
+		out.append(x);
+		out.append(separator);
+		out.append(y);
+		out.append(separator);
+		out.append(z);
+		out.append('\n');
+		return this;
+	}
+
+	private CsvWriter row(float x, float y, float z, float w) throws IOException {
+		TextOutput out = this.out;
+		out.append(x);
+		out.append(separator);
+		out.append(y);
+		out.append(separator);
+		out.append(z);
+		out.append(separator);
+		out.append(w);
+		out.append('\n');
+		return this;
+	}
+
+}
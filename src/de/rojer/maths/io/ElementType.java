@@ -0,0 +1,63 @@
+package de.rojer.maths.io;
+
+/**
+ * The types of the elements of an array in the binary format of
+ * {@link BinaryWriter} and {@link BinaryReader}
+ *
+ * @author Rojer
+ * @version 18.10.2026
+ */
+public enum ElementType {
+
+	/**
+	 * 2-dimensional vectors (x, y)
+	 */
+	VEC2(1, 2),
+	/**
+	 * 3-dimensional vectors (x, y, z)
+	 */
+	VEC3(2, 3),
+	/**
+	 * 4-dimensional vectors (x, y, z, w)
+	 */
+	VEC4(3, 4),
+	/**
+	 * 4 * 4 matrices, column-major like the elements of a Mat4
+	 */
+	MAT4(4, 16);
+
+	// Attributes
+
+	/**
+	 * The code of the type in the file
+	 */
+	final int code;
+
+	/**
+	 * The number of floats of an element
+	 */
+	public final int floats;
+
+	// Constructors
+
+	private ElementType(int code, int floats) {
+		this.code = code;
+		this.floats = floats;
+	}
+
+	// Static Methods
+
+	/**
+	 * @param code the code of a type in the file
+	 * @return the type, or null if the code is unknown
+	 */
+	static ElementType of(int code) {
+		for (ElementType type : values()) {
+			if (type.code == code) {
+				return type;
+			}
+		}
+		return null;
+	}
+
+}
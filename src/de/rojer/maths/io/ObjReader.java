@@ -0,0 +1,132 @@
+package de.rojer.maths.io;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.Reader;
+
+import de.rojer.maths.vec.Vec3Buffer;
+
+/**
+ * Reads the "v" and "vn" lines of a Wavefront OBJ file into vector buffers
+ *
+ * The input is read in chunks and parsed in place, so reading does not create
+ * Strings. All other lines, like faces, texture coordinates and comments, are
+ * skipped, as are extra values of "v" lines like w or colors. Files larger
+ * than the memory are read in batches:
+ *
+ * <pre>
+ * while (reader.read(positions, normals)) {
+ * 	process(positions, reader.positions(), normals, reader.normals());
+ * }
+ * process(positions, reader.positions(), normals, reader.normals());
+ * </pre>
+ *
+ * A reader must not be used by several threads at once.
+ *
+ * @author Rojer
+ * @version 18.10.2026
+ */
+public class ObjReader implements Closeable {
+
+	// Attributes
+
+	private final TextInput in;
+
+	/**
+	 * The numbers of positions and normals stored by the last read
+	 */
+	private int positions, normals;
+
+	// Constructors
+
+	/**
+	 * Creates a reader, wrapping the input into a BufferedReader is not needed
+	 *
+	 * @param in the input
+	 */
+	public ObjReader(Reader in) {
+		this.in = new TextInput(in);
+	}
+
+	// Reading
+
+	/**
+	 * Reads positions and normals into buffers, starting at index 0 of each,
+	 * until the input ends or one of the buffers is full
+	 *
+	 * @param positions the buffer to store the positions in
+	 * @param normals   the buffer to store the normals in, or null to skip
+	 *                  them
+	 * @return true if the input may have more lines, false if it ended
+	 * @throws IOException if reading fails or a "v" or "vn" line is malformed
+	 */
+	public boolean read(Vec3Buffer positions, Vec3Buffer normals) throws IOException {
+		TextInput in = this.in;
+		int p = 0, n = 0;
+		int maxPositions = positions.size(), maxNormals = normals == null ? 0 : normals.size();
+		try {
+			while (p < maxPositions && (normals == null || n < maxNormals)) {
+				if (!in.nextLine()) {
+					return false;
+				}
+				if (!in.skipSpaces() || in.peek() != 'v') {
+					continue;
+				}
+				in.skip();
+				boolean normal = in.peek() == 'n';
+				if (normal) {
+					in.skip();
+				}
+				int separator = in.peek();
+				if (separator != ' ' && separator != '\t' || normal && normals == null) {
+					continue;
+				}
+				in.skipSpaces();
+				float x = in.parseFloat();
+				in.skipSpaces();
+				float y = in.parseFloat();
+				in.skipSpaces();
+				float z = in.parseFloat();
+				if (normal) {
+					normals.set(n++, x, y, z);
+				} else {
+					positions.set(p++, x, y, z);
+				}
+			}
+			return true;
+		} finally {
+			this.positions = p;
+			this.normals = n;
+		}
+	}
+
+	/**
+	 * @return the number of positions stored by the last read
+	 */
+	public int positions() {
+		return positions;
+	}
+
+	/**
+	 * @return the number of normals stored by the last read
+	 */
+	public int normals() {
+		return normals;
+	}
+
+	/**
+	 * @return the number of lines read so far
+	 */
+	public long line() {
+		return in.line();
+	}
+
+	/**
+	 * Closes the input
+	 */
+	@Override
+	public void close() throws IOException {
+		in.close();
+	}
+
+}
@@ -0,0 +1,188 @@
+package de.rojer.maths.io;
+
+import java.io.Closeable;
+import java.io.Flushable;
+import java.io.IOException;
+
+import de.rojer.maths.vec.Vec3;
+import de.rojer.maths.vec.Vec3Buffer;
+
+/**
+ * Writes vertex positions and normals as the "v" and "vn" lines of a Wavefront
+ * OBJ file
+ *
+ * The lines are formatted into a buffer and handed to the output in chunks,
+ * so writing does not create Strings and the file can be larger than the
+ * memory. Floats are rounded to a fixed number of fraction digits and written
+ * without trailing zeros. A writer must not be used by several threads at
+ * once.
+ *
+ * @author Rojer
+ * @version 18.10.2026
+ */
+public class ObjWriter implements Closeable, Flushable {
+
+	// Attributes
+
+	private final TextOutput out;
+
+	// Constructors
+
+	/**
+	 * Creates a writer rounding to 6 fraction digits
+	 *
+	 * @param out the output, a Writer or any other Appendable
+	 */
+	public ObjWriter(Appendable out) {
+		this(out, 6);
+	}
+
+	/**
+	 * Creates a writer
+	 *
+	 * @param out      the output, a Writer or any other Appendable
+	 * @param decimals the number of fraction digits floats are rounded to, at
+	 *                 most 9
+	 * @throws IllegalArgumentException if decimals is not in [0, 9]
+	 */
+	public ObjWriter(Appendable out, int decimals) {
+		this.out = new TextOutput(out, decimals);
+	}
+
+	// Lines
+
+	/**
+	 * Writes a "v" line
+	 *
+	 * @param x the x-component of the position
+	 * @param y the y-component of the position
+	 * @param z the z-component of the position
+	 * @return this writer for multiple operations "in one line"
+	 * @throws IOException if writing fails
+	 */
+	public ObjWriter vertex(float x, float y, float z) throws IOException {
+		return line('v', x, y, z);
+	}
+
+	/**
+	 * Writes a "v" line
+	 *
+	 * @param position the position
+	 * @return this writer for multiple operations "in one line"
+	 * @throws IOException if writing fails
+	 */
+	public ObjWriter vertex(Vec3 position) throws IOException {
+		return line('v', position.x, position.y, position.z);
+	}
+
+	/**
+	 * Writes a "vn" line
+	 *
+	 * @param x the x-component of the normal
+	 * @param y the y-component of the normal
+	 * @param z the z-component of the normal
+	 * @return this writer for multiple operations "in one line"
+	 * @throws IOException if writing fails
+	 */
+	public ObjWriter normal(float x, float y, float z) throws IOException {
+		return line('n', x, y, z);
+	}
+
+	/**
+	 * Writes a "vn" line
+	 *
+	 * @param normal the normal
+	 * @return this writer for multiple operations "in one line"
+	 * @throws IOException if writing fails
+	 */
+	public ObjWriter normal(Vec3 normal) throws IOException {
+		return line('n', normal.x, normal.y, normal.z);
+	}
+
+	/**
+	 * Writes a "v" line per vector of a buffer
+	 *
+	 * @param positions the positions
+	 * @param offset    the index of the first position
+	 * @param count     the number of positions
+	 * @return this writer for multiple operations "in one line"
+	 * @throws IOException if writing fails
+	 */
+	public ObjWriter vertices(Vec3Buffer positions, int offset, int count) throws IOException {
+		return lines('v', positions, offset, count);
+	}
+
+	/**
+	 * Writes a "vn" line per vector of a buffer
+	 *
+	 * @param normals the normals
+	 * @param offset  the index of the first normal
+	 * @param count   the number of normals
+	 * @return this writer for multiple operations "in one line"
+	 * @throws IOException if writing fails
+	 */
+	public ObjWriter normals(Vec3Buffer normals, int offset, int count) throws IOException {
+		return lines('n', normals, offset, count);
+	}
+
+	/**
+	 * Writes a comment line, starting with "# "
+	 *
+	 * @param comment the comment, without line breaks
+	 * @return this writer for multiple operations "in one line"
+	 * @throws IOException if writing fails
+	 */
+	public ObjWriter comment(String comment) throws IOException {
+		out.append("# ");
+		out.append(comment);
+		out.append('\n');
+		return this;
+	}
+
+	/**
+	 * Hands the buffered lines to the output and flushes it
+	 */
+	@Override
+	public void flush() throws IOException {
+		out.flush();
+	}
+
+	/**
+	 * Hands the buffered lines to the output and closes it
+	 */
+	@Override
+	public void close() throws IOException {
+		out.close();
+	}
+
+	// Internals
+
+	/**
+	 * Writes a line, kind being 'v' or 'n'
+	 */
+	private ObjWriter line(char kind, float x, float y, float z) throws IOException {
+		TextOutput out = this.out;
+		out.append('v');
+		if (kind == 'n') {
+			out.append('n');
+		}
+		out.append(' ');
+		out.append(x);
+		out.append(' ');
+		out.append(y);
+		out.append(' ');
+		out.append(z);
+		out.append('\n');
+		return this;
+	}
+
+	private ObjWriter lines(char kind, Vec3Buffer vectors, int offset, int count) throws IOException {
+		float[] x = vectors.x, y = vectors.y, z = vectors.z;
+		int end = offset + count;
+		for (int i = offset; i < end; i++) {
+			line(kind, x[i], y[i], z[i]);
+		}
+		return this;
+	}
+
+}
@@ -0,0 +1,294 @@
+package de.rojer.maths.io;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.Reader;
+import java.util.Arrays;
+
+/**
+ * The character buffer of the text readers, which reads the input in chunks,
+ * one line at a time, and parses floats without creating Strings
+ *
+ * The current line is always completely in the buffer, which grows for lines
+ * longer than it.
+ *
+ * @author Rojer
+ * @version 18.10.2026
+ */
+final class TextInput implements Closeable {
+
+	// Attributes
+
+	private static final int BUFFER_SIZE = 1 << 16;
+
+	/**
+	 * The most significant digits collected into a long
+	 */
+	private static final int MAX_DIGITS = 18;
+
+	/**
+	 * Integers below this are exact doubles
+	 */
+	private static final long EXACT = 1L << 53;
+
+	/**
+	 * The powers of 10 that are exact doubles
+	 */
+	private static final double[] POWERS = new double[23];
+
+	static {
+		POWERS[0] = 1.0;
+		for (int i = 1; i < POWERS.length; i++) {
+			POWERS[i] = POWERS[i - 1] * 10.0;
+		}
+	}
+
+	private final Reader reader;
+
+	private char[] buffer = new char[BUFFER_SIZE];
+
+	/**
+	 * The number of characters in the buffer
+	 */
+	private int limit;
+
+	private boolean end;
+
+	/**
+	 * The position in the current line
+	 */
+	private int position;
+
+	/**
+	 * The end of the current line, without the line break
+	 */
+	private int lineEnd;
+
+	/**
+	 * The start of the next line
+	 */
+	private int next;
+
+	private long line;
+
+	// Constructors
+
+	/**
+	 * @param reader the input
+	 */
+	TextInput(Reader reader) {
+		this.reader = reader;
+	}
+
+	// Lines
+
+	/**
+	 * Moves to the next line
+	 *
+	 * @return false if the input has no more lines
+	 */
+	boolean nextLine() throws IOException {
+		int start = next;
+		int search = start;
+		while (true) {
+			for (int i = search; i < limit; i++) {
+				if (buffer[i] == '\n') {
+					setLine(start, i, i + 1);
+					return true;
+				}
+			}
+			if (end) {
+				if (start == limit) {
+					position = lineEnd = next = limit;
+					return false;
+				}
+				setLine(start, limit, limit);
+				return true;
+			}
+			// Keep the start of the line and read more behind it
+			int kept = limit - start;
+			if (start == 0 && kept == buffer.length) {
+				buffer = Arrays.copyOf(buffer, buffer.length * 2);
+			} else {
+				System.arraycopy(buffer, start, buffer, 0, kept);
+			}
+			limit = kept;
+			start = 0;
+			search = kept;
+			int read = reader.read(buffer, limit, buffer.length - limit);
+			if (read < 0) {
+				end = true;
+			} else {
+				limit += read;
+			}
+		}
+	}
+
+	/**
+	 * @return the number of the current line, starting at 1
+	 */
+	long line() {
+		return line;
+	}
+
+	/**
+	 * Skips spaces and tabs
+	 *
+	 * @return true if the current line has more characters
+	 */
+	boolean skipSpaces() {
+		while (position < lineEnd && (buffer[position] == ' ' || buffer[position] == '\t')) {
+			position++;
+		}
+		return position < lineEnd;
+	}
+
+	/**
+	 * @return the character at the position in the current line, or -1 at its
+	 *         end
+	 */
+	int peek() {
+		return position < lineEnd ? buffer[position] : -1;
+	}
+
+	/**
+	 * Moves past the current character of the line
+	 */
+	void skip() {
+		position++;
+	}
+
+	/**
+	 * @return an exception for a syntax error in the current line
+	 */
+	IOException error(String message) {
+		return new IOException(message + " in line " + line);
+	}
+
+	// Numbers
+
+	/**
+	 * Parses a float like Float.parseFloat, at the position in the current line
+	 *
+	 * Numbers with at most 18 significant digits and a decimal exponent in
+	 * [-22, 22], which are the ones written by the text writers, are converted
+	 * with one double operation. That is correctly rounded, so the float of the
+	 * double is too unless the double is exactly halfway between two floats;
+	 * that and all other numbers are converted by Float.parseFloat.
+	 *
+	 * @return the float
+	 * @throws IOException if there is no float at the position
+	 */
+	float parseFloat() throws IOException {
+		char[] buffer = this.buffer;
+		int start = position;
+		int i = start;
+		boolean negative = false;
+		if (i < lineEnd && (buffer[i] == '-' || buffer[i] == '+')) {
+			negative = buffer[i] == '-';
+			i++;
+		}
+		long mantissa = 0;
+		int digits = 0;
+		int exponent = 0;
+		boolean any = false;
+		boolean exact = true;
+		for (; i < lineEnd && buffer[i] >= '0' && buffer[i] <= '9'; i++) {
+			any = true;
+			if (digits < MAX_DIGITS) {
+				mantissa = mantissa * 10 + (buffer[i] - '0');
+				if (mantissa != 0) {
+					digits++;
+				}
+			} else {
+				exponent++;
+				exact &= buffer[i] == '0';
+			}
+		}
+		if (i < lineEnd && buffer[i] == '.') {
+			for (i++; i < lineEnd && buffer[i] >= '0' && buffer[i] <= '9'; i++) {
+				any = true;
+				if (digits < MAX_DIGITS) {
+					mantissa = mantissa * 10 + (buffer[i] - '0');
+					if (mantissa != 0) {
+						digits++;
+					}
+					exponent--;
+				} else {
+					exact &= buffer[i] == '0';
+				}
+			}
+		}
+		if (!any) {
+			return parseWord(start);
+		}
+		if (i < lineEnd && (buffer[i] == 'e' || buffer[i] == 'E')) {
+			i++;
+			boolean negativeExponent = false;
+			if (i < lineEnd && (buffer[i] == '-' || buffer[i] == '+')) {
+				negativeExponent = buffer[i] == '-';
+				i++;
+			}
+			if (i == lineEnd || buffer[i] < '0' || buffer[i] > '9') {
+				throw error("Malformed number");
+			}
+			int power = 0;
+			for (; i < lineEnd && buffer[i] >= '0' && buffer[i] <= '9'; i++) {
+				power = Math.min(power * 10 + (buffer[i] - '0'), 100000);
+			}
+			exponent += negativeExponent ? -power : power;
+		}
+		position = i;
+		if (mantissa == 0) {
+			return negative ? -0.0f : 0.0f;
+		}
+		if (exact && mantissa < EXACT && exponent >= -22 && exponent <= 22) {
+			double value = exponent < 0 ? mantissa / POWERS[-exponent] : mantissa * POWERS[exponent];
+			long bits = Double.doubleToRawLongBits(value);
+			// The 29 bits a float drops are exactly 1 followed by 28 zeros halfway between two floats
+			if (value >= Float.MIN_NORMAL && (bits & 0x1FFFFFFFL) != 0x10000000L) {
+				float result = (float) value;
+				return negative ? -result : result;
+			}
+		}
+		return parse(start, i);
+	}
+
+	@Override
+	public void close() throws IOException {
+		reader.close();
+	}
+
+	// Internals
+
+	private void setLine(int start, int end, int next) {
+		if (end > start && buffer[end - 1] == '\r') {
+			end--;
+		}
+		position = start;
+		lineEnd = end;
+		this.next = next;
+		line++;
+	}
+
+	/**
+	 * Parses NaN, Infinity and the like, up to the next space or separator
+	 */
+	private float parseWord(int start) throws IOException {
+		int i = start;
+		while (i < lineEnd && (Character.isLetter(buffer[i]) || buffer[i] == '-' || buffer[i] == '+')) {
+			i++;
+		}
+		position = i;
+		return parse(start, i);
+	}
+
+	private float parse(int start, int end) throws IOException {
+		try {
+			return Float.parseFloat(new String(buffer, start, end - start));
+		} catch (NumberFormatException e) {
+			throw error("Malformed number");
+		}
+	}
+
+}
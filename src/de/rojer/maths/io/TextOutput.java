@@ -0,0 +1,199 @@
+package de.rojer.maths.io;
+
+import java.io.Closeable;
+import java.io.Flushable;
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.CharBuffer;
+
+/**
+ * The character buffer of the text writers, which formats floats without
+ * creating Strings and hands the characters to the output in chunks
+ *
+ * @author Rojer
+ * @version 18.10.2026
+ */
+final class TextOutput implements Closeable, Flushable {
+
+	// Attributes
+
+	/**
+	 * The most fraction digits a float can be written with
+	 */
+	static final int MAX_DECIMALS = 9;
+
+	private static final int BUFFER_SIZE = 1 << 16;
+
+	/**
+	 * The longest float: sign, 9 integer digits, point and 9 fraction digits,
+	 * or Float.toString
+	 */
+	private static final int MAX_FLOAT_LENGTH = 24;
+
+	/**
+	 * Floats this large are written with Float.toString, their scaled value
+	 * would not fit into a long
+	 */
+	private static final float LARGE = 1e9f;
+
+	private static final long[] POWERS = { 1L, 10L, 100L, 1000L, 10000L, 100000L, 1000000L, 10000000L, 100000000L,
+			1000000000L };
+
+	private final Appendable out;
+
+	/**
+	 * The output as a Writer, or null if it is another Appendable
+	 */
+	private final Writer writer;
+
+	private final char[] buffer = new char[BUFFER_SIZE];
+
+	/**
+	 * The buffer as a CharSequence, for outputs that are not Writers
+	 */
+	private final CharBuffer sequence = CharBuffer.wrap(buffer);
+
+	private final int decimals;
+
+	private int length;
+
+	// Constructors
+
+	/**
+	 * @param out      the output
+	 * @param decimals the number of fraction digits floats are rounded to
+	 * @throws IllegalArgumentException if decimals is not in [0, 9]
+	 */
+	TextOutput(Appendable out, int decimals) {
+		if (decimals < 0 || decimals > MAX_DECIMALS) {
+			throw new IllegalArgumentException("decimals has to be in [0, " + MAX_DECIMALS + "], but is " + decimals);
+		}
+		this.out = out;
+		this.writer = out instanceof Writer ? (Writer) out : null;
+		this.decimals = decimals;
+	}
+
+	// Appending
+
+	/**
+	 * Appends a character
+	 */
+	void append(char c) throws IOException {
+		if (length == buffer.length) {
+			drain();
+		}
+		buffer[length++] = c;
+	}
+
+	/**
+	 * Appends the characters of a String
+	 */
+	void append(String text) throws IOException {
+		for (int i = 0; i < text.length(); i++) {
+			append(text.charAt(i));
+		}
+	}
+
+	/**
+	 * Appends a float rounded to the fraction digits of this output, without
+	 * trailing zeros, like 1.5 or -0.125. NaN, infinities and values of at
+	 * least 1e9 are written like Float.toString.
+	 */
+	void append(float value) throws IOException {
+		if (length + MAX_FLOAT_LENGTH > buffer.length) {
+			drain();
+		}
+		float magnitude = Math.abs(value);
+		if (!(magnitude < LARGE)) {
+			String text = Float.toString(value);
+			text.getChars(0, text.length(), buffer, length);
+			length += text.length();
+			return;
+		}
+		long power = POWERS[decimals];
+		long scaled = Math.round((double) magnitude * power);
+		if (scaled == 0) {
+			buffer[length++] = '0';
+			return;
+		}
+		if (value < 0.0f) {
+			buffer[length++] = '-';
+		}
+		appendDigits(scaled / power);
+		long fraction = scaled % power;
+		if (fraction != 0) {
+			int digits = decimals;
+			while (fraction % 10 == 0) {
+				fraction /= 10;
+				digits--;
+			}
+			buffer[length++] = '.';
+			for (int i = length + digits - 1; i >= length; i--) {
+				buffer[i] = (char) ('0' + fraction % 10);
+				fraction /= 10;
+			}
+			length += digits;
+		}
+	}
+
+	// Output
+
+	/**
+	 * Hands the buffered characters to the output and flushes it, if it is
+	 * Flushable
+	 */
+	@Override
+	public void flush() throws IOException {
+		drain();
+		if (out instanceof Flushable) {
+			((Flushable) out).flush();
+		}
+	}
+
+	/**
+	 * Hands the buffered characters to the output and closes it, if it is
+	 * Closeable
+	 */
+	@Override
+	public void close() throws IOException {
+		drain();
+		if (out instanceof Closeable) {
+			((Closeable) out).close();
+		} else if (out instanceof Flushable) {
+			((Flushable) out).flush();
+		}
+	}
+
+	// Internals
+
+	/**
+	 * Appends a non-negative integer
+	 */
+	private void appendDigits(long value) {
+		int digits = 1;
+		while (digits < POWERS.length && value >= POWERS[digits]) {
+			digits++;
+		}
+		for (int i = length + digits - 1; i >= length; i--) {
+			buffer[i] = (char) ('0' + value % 10);
+			value /= 10;
+		}
+		length += digits;
+	}
+
+	/**
+	 * Hands the buffered characters to the output
+	 */
+	private void drain() throws IOException {
+		if (length == 0) {
+			return;
+		}
+		if (writer != null) {
+			writer.write(buffer, 0, length);
+		} else {
+			out.append(sequence, 0, length);
+		}
+		length = 0;
+	}
+
+}
@@ -0,0 +1,182 @@
+package de.rojer.maths.mat;
+
+import de.rojer.maths.vec.VecN;
+
+/**
+ * Cholesky decomposition matrix = L * L^T of a symmetric positive definite
+ * {@link MatN}, like the normal equations of a least-squares fit or a
+ * covariance matrix
+ *
+ * About twice as fast as {@link LuDecomposition} and needs no pivoting. Only
+ * the lower triangle of the matrix is read, the upper one is assumed to
+ * mirror it.
+ *
+ * @author Rojer
+ * @version 18.10.2026
+ */
+public class CholeskyDecomposition {
+
+	// Attributes
+
+	private final int size;
+
+	/**
+	 * L on and below the diagonal, row by row, 0 above it
+	 */
+	private final double[] l;
+
+	// Constructors
+
+	/**
+	 * Decomposes a matrix, which is not changed
+	 *
+	 * @param matrix the symmetric positive definite matrix to decompose
+	 * @throws IllegalArgumentException if the matrix is not square
+	 * @throws ArithmeticException      if the matrix is not positive definite
+	 */
+	public CholeskyDecomposition(MatN matrix) {
+		if (matrix.rows() != matrix.columns()) {
+			throw new IllegalArgumentException(
+					"Expected a square matrix, but it is " + matrix.rows() + " * " + matrix.columns());
+		}
+		int n = size = matrix.rows();
+		double[] a = matrix.elements;
+		l = new double[n * n];
+		for (int i = 0; i < n; i++) {
+			int rowI = i * n;
+			for (int j = 0; j <= i; j++) {
+				int rowJ = j * n;
+				// The dot product of two contiguous rows of L
+				double sum = a[rowI + j];
+				for (int k = 0; k < j; k++) {
+					sum -= l[rowI + k] * l[rowJ + k];
+				}
+				if (j < i) {
+					l[rowI + j] = sum / l[rowJ + j];
+				} else if (sum > 0.0) {
+					l[rowI + i] = Math.sqrt(sum);
+				} else {
+					throw new ArithmeticException("Matrix is not positive definite");
+				}
+			}
+		}
+	}
+
+	// Access
+
+	/**
+	 * @return the number of rows and columns of the decomposed matrix
+	 */
+	public int size() {
+		return size;
+	}
+
+	/**
+	 * Copies the lower triangular factor L
+	 *
+	 * @param dest the matrix to store L in, of the size of the matrix
+	 * @return dest
+	 */
+	public MatN getL(MatN dest) {
+		MatN.checkShape(dest, size, size, "dest");
+		System.arraycopy(l, 0, dest.elements, 0, l.length);
+		return dest;
+	}
+
+	/**
+	 * @return the determinant of the decomposed matrix
+	 */
+	public double determinant() {
+		double determinant = 1.0;
+		for (int i = 0; i < size; i++) {
+			double diagonal = l[i * size + i];
+			determinant *= diagonal * diagonal;
+		}
+		return determinant;
+	}
+
+	// Solving
+
+	/**
+	 * Solves matrix * x = b
+	 *
+	 * @param b    the right-hand side
+	 * @param dest the vector to store x in, may be b
+	 * @return dest
+	 * @throws IllegalArgumentException if a vector does not have the size of the
+	 *                                  matrix
+	 */
+	public VecN solve(VecN b, VecN dest) {
+		if (b.size() != size || dest.size() != size) {
+			throw new IllegalArgumentException("Expected vectors of size " + size);
+		}
+		int n = size;
+		double[] x = dest.elements;
+		System.arraycopy(b.elements, 0, x, 0, n);
+		// L * y = b along the rows of L
+		for (int i = 0; i < n; i++) {
+			double sum = x[i];
+			for (int k = 0; k < i; k++) {
+				sum -= l[i * n + k] * x[k];
+			}
+			x[i] = sum / l[i * n + i];
+		}
+		// L^T * x = y, the rows of L^T are the columns of L
+		for (int i = n - 1; i >= 0; i--) {
+			double value = x[i] / l[i * n + i];
+			x[i] = value;
+			for (int k = 0; k < i; k++) {
+				x[k] -= l[i * n + k] * value;
+			}
+		}
+		return dest;
+	}
+
+	/**
+	 * Solves matrix * x = b for several right-hand sides at once, the columns of
+	 * b
+	 *
+	 * @param b    the right-hand sides, with as many rows as the matrix
+	 * @param dest the matrix to store x in, of the same size as b, may be b
+	 * @return dest
+	 */
+	public MatN solve(MatN b, MatN dest) {
+		if (b.rows() != size) {
+			throw new IllegalArgumentException("Expected b to have " + size + " rows, but it has " + b.rows());
+		}
+		MatN.checkShape(dest, size, b.columns(), "dest");
+		int n = size, m = b.columns();
+		double[] x = dest.elements;
+		System.arraycopy(b.elements, 0, x, 0, n * m);
+		for (int i = 0; i < n; i++) {
+			int rowI = i * m;
+			for (int k = 0; k < i; k++) {
+				double factor = l[i * n + k];
+				int rowK = k * m;
+				for (int c = 0; c < m; c++) {
+					x[rowI + c] -= factor * x[rowK + c];
+				}
+			}
+			double inverse = 1.0 / l[i * n + i];
+			for (int c = 0; c < m; c++) {
+				x[rowI + c] *= inverse;
+			}
+		}
+		for (int i = n - 1; i >= 0; i--) {
+			int rowI = i * m;
+			double inverse = 1.0 / l[i * n + i];
+			for (int c = 0; c < m; c++) {
+				x[rowI + c] *= inverse;
+			}
+			for (int k = 0; k < i; k++) {
+				double factor = l[i * n + k];
+				int rowK = k * m;
+				for (int c = 0; c < m; c++) {
+					x[rowK + c] -= factor * x[rowI + c];
+				}
+			}
+		}
+		return dest;
+	}
+
+}
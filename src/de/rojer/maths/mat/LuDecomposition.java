@@ -0,0 +1,244 @@
+package de.rojer.maths.mat;
+
+import de.rojer.maths.vec.VecN;
+
+/**
+ * LU decomposition with partial pivoting of a square {@link MatN}, for
+ * solving linear systems, inverses and determinants
+ *
+ * The matrix is decomposed once when the decomposition is created, every
+ * solve then only costs two triangular substitutions. Elimination works on
+ * contiguous rows, which the JIT vectorizes. A matrix with a pivot of exactly
+ * 0 is singular; the decomposition can still be created, but solving throws.
+ *
+ * @author Rojer
+ * @version 18.10.2026
+ */
+public class LuDecomposition {
+
+	// Attributes
+
+	private final int size;
+
+	/**
+	 * L below the diagonal (its diagonal being 1) and U on and above it, row by
+	 * row
+	 */
+	private final double[] lu;
+
+	/**
+	 * The row of the matrix every row of lu came from
+	 */
+	private final int[] pivots;
+
+	private final boolean singular;
+
+	/**
+	 * 1 or -1, the sign of the permutation
+	 */
+	private final int sign;
+
+	// Constructors
+
+	/**
+	 * Decomposes a matrix, which is not changed
+	 *
+	 * @param matrix the square matrix to decompose
+	 * @throws IllegalArgumentException if the matrix is not square
+	 */
+	public LuDecomposition(MatN matrix) {
+		if (matrix.rows() != matrix.columns()) {
+			throw new IllegalArgumentException(
+					"Expected a square matrix, but it is " + matrix.rows() + " * " + matrix.columns());
+		}
+		int n = size = matrix.rows();
+		double[] a = lu = matrix.elements.clone();
+		pivots = new int[n];
+		for (int i = 0; i < n; i++) {
+			pivots[i] = i;
+		}
+		boolean singular = false;
+		int sign = 1;
+		for (int k = 0; k < n; k++) {
+			int pivot = k;
+			double max = Math.abs(a[k * n + k]);
+			for (int i = k + 1; i < n; i++) {
+				double value = Math.abs(a[i * n + k]);
+				if (value > max) {
+					max = value;
+					pivot = i;
+				}
+			}
+			if (pivot != k) {
+				swapRows(a, n, pivot, k);
+				int p = pivots[pivot];
+				pivots[pivot] = pivots[k];
+				pivots[k] = p;
+				sign = -sign;
+			}
+			double diagonal = a[k * n + k];
+			if (diagonal == 0.0) {
+				singular = true;
+				continue;
+			}
+			int rowK = k * n;
+			for (int i = k + 1; i < n; i++) {
+				int rowI = i * n;
+				double factor = a[rowI + k] / diagonal;
+				a[rowI + k] = factor;
+				if (factor != 0.0) {
+					for (int j = k + 1; j < n; j++) {
+						a[rowI + j] -= factor * a[rowK + j];
+					}
+				}
+			}
+		}
+		this.singular = singular;
+		this.sign = sign;
+	}
+
+	// Access
+
+	/**
+	 * @return the number of rows and columns of the decomposed matrix
+	 */
+	public int size() {
+		return size;
+	}
+
+	/**
+	 * @return true if the decomposed matrix is singular
+	 */
+	public boolean isSingular() {
+		return singular;
+	}
+
+	/**
+	 * @return the determinant of the decomposed matrix
+	 */
+	public double determinant() {
+		double determinant = sign;
+		for (int i = 0; i < size; i++) {
+			determinant *= lu[i * size + i];
+		}
+		return determinant;
+	}
+
+	// Solving
+
+	/**
+	 * Solves matrix * x = b
+	 *
+	 * @param b    the right-hand side
+	 * @param dest the vector to store x in, may be b
+	 * @return dest
+	 * @throws IllegalArgumentException if a vector does not have the size of the
+	 *                                  matrix
+	 * @throws ArithmeticException      if the matrix is singular
+	 */
+	public VecN solve(VecN b, VecN dest) {
+		if (b.size() != size || dest.size() != size) {
+			throw new IllegalArgumentException("Expected vectors of size " + size);
+		}
+		checkSingular();
+		int n = size;
+		double[] a = lu, x = new double[n];
+		for (int i = 0; i < n; i++) {
+			x[i] = b.elements[pivots[i]];
+		}
+		for (int i = 0; i < n; i++) {
+			double sum = x[i];
+			for (int j = 0; j < i; j++) {
+				sum -= a[i * n + j] * x[j];
+			}
+			x[i] = sum;
+		}
+		for (int i = n - 1; i >= 0; i--) {
+			double sum = x[i];
+			for (int j = i + 1; j < n; j++) {
+				sum -= a[i * n + j] * x[j];
+			}
+			x[i] = sum / a[i * n + i];
+		}
+		System.arraycopy(x, 0, dest.elements, 0, n);
+		return dest;
+	}
+
+	/**
+	 * Solves matrix * x = b for several right-hand sides at once, the columns of
+	 * b
+	 *
+	 * @param b    the right-hand sides, with as many rows as the matrix
+	 * @param dest the matrix to store x in, of the same size as b, may be b
+	 * @return dest
+	 * @throws ArithmeticException if the matrix is singular
+	 */
+	public MatN solve(MatN b, MatN dest) {
+		if (b.rows() != size) {
+			throw new IllegalArgumentException("Expected b to have " + size + " rows, but it has " + b.rows());
+		}
+		MatN.checkShape(dest, size, b.columns(), "dest");
+		checkSingular();
+		int n = size, m = b.columns();
+		double[] a = lu, x = new double[n * m], s = b.elements;
+		for (int i = 0; i < n; i++) {
+			System.arraycopy(s, pivots[i] * m, x, i * m, m);
+		}
+		// Row operations on whole rows of x, vectorized over the right-hand sides
+		for (int i = 0; i < n; i++) {
+			int rowI = i * m;
+			for (int j = 0; j < i; j++) {
+				double factor = a[i * n + j];
+				int rowJ = j * m;
+				for (int c = 0; c < m; c++) {
+					x[rowI + c] -= factor * x[rowJ + c];
+				}
+			}
+		}
+		for (int i = n - 1; i >= 0; i--) {
+			int rowI = i * m;
+			for (int j = i + 1; j < n; j++) {
+				double factor = a[i * n + j];
+				int rowJ = j * m;
+				for (int c = 0; c < m; c++) {
+					x[rowI + c] -= factor * x[rowJ + c];
+				}
+			}
+			double inverse = 1.0 / a[i * n + i];
+			for (int c = 0; c < m; c++) {
+				x[rowI + c] *= inverse;
+			}
+		}
+		System.arraycopy(x, 0, dest.elements, 0, n * m);
+		return dest;
+	}
+
+	/**
+	 * Computes the inverse of the decomposed matrix
+	 *
+	 * @param dest the matrix to store the inverse in, of the size of the matrix
+	 * @return dest
+	 * @throws ArithmeticException if the matrix is singular
+	 */
+	public MatN inverse(MatN dest) {
+		return solve(MatN.Identity(size), dest);
+	}
+
+	// Internals
+
+	private void checkSingular() {
+		if (singular) {
+			throw new ArithmeticException("Matrix is singular");
+		}
+	}
+
+	private static void swapRows(double[] a, int n, int r, int s) {
+		int rowR = r * n, rowS = s * n;
+		for (int j = 0; j < n; j++) {
+			double t = a[rowR + j];
+			a[rowR + j] = a[rowS + j];
+			a[rowS + j] = t;
+		}
+	}
+
+}
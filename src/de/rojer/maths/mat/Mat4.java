@@ -5,24 +5,72 @@ import static java.lang.Math.sin;
 import static java.lang.Math.tan;
 import static java.lang.Math.toRadians;
 
+import java.util.Arrays;
+
+import de.rojer.maths.backend.MathBackends;
+import de.rojer.maths.metrics.BulkKernelEvent;
+import de.rojer.maths.metrics.MathCounter;
+import de.rojer.maths.metrics.MathMetrics;
 import de.rojer.maths.vec.Vec3;
 import de.rojer.maths.vec.Vec4;
 
 /**
  * 4 * 4 Matrix of float elements, column-major
  * 
+ * Every matrix knows its {@link Kind}, which lets multiplications, transforms
+ * and inversions skip the work that the structure of the matrix makes
+ * unnecessary. Matrices from the constructors, from the factories without a
+ * dest parameter and from clone() are GENERAL, so their elements can be
+ * changed directly. The kind is only set by {@link #setKind(Kind)},
+ * {@link #updateKind()}, {@link #set(Mat4)} and the methods storing their
+ * result in a dest matrix, e.g. {@link #Translation(Vec3, Mat4)} or
+ * {@link #mul(Mat4, Mat4, Mat4)}.
+ * 
  * @author Rojer
  * @version 23.03.2019
  */
 public class Mat4 {
 
+	/**
+	 * The structure of a matrix, from the most to the least special one
+	 */
+	public enum Kind {
+		/**
+		 * The identity matrix
+		 */
+		IDENTITY,
+		/**
+		 * The identity matrix with a translation in elements 12, 13 and 14
+		 */
+		TRANSLATION,
+		/**
+		 * The identity matrix with a scale in elements 0, 5 and 10
+		 */
+		SCALE,
+		/**
+		 * Elements 3, 7 and 11 are 0 and element 15 is 1, so w stays the same
+		 */
+		AFFINE,
+		/**
+		 * Nothing known about the matrix
+		 */
+		GENERAL
+	}
+
 	// Attributes
 
 	/**
-	 * The elements of the matrix
+	 * The elements of the matrix. Code changing them directly in a matrix whose
+	 * kind is not GENERAL has to call {@link #setKind(Kind)} or
+	 * {@link #updateKind()} afterwards, unless the kind stays correct.
 	 */
 	public float elements[];
 
+	/**
+	 * The structure of the matrix, GENERAL if not known
+	 */
+	private Kind kind = Kind.GENERAL;
+
 	// Constructors
 
 	/**
@@ -58,7 +106,10 @@ public class Mat4 {
 	 * Destroys this object
 	 * 
 	 * @param matrix this object
+	 * @deprecated frees nothing and does not make the object reusable, use
+	 *             {@link de.rojer.maths.scratch.MathScratch} for temporaries
 	 */
+	@Deprecated
 	public void destroy(Mat4 matrix) {
 		this.elements = null;
 		matrix = null;
@@ -73,22 +124,7 @@ public class Mat4 {
 	 * @return this matrix for multiple operations "in one line"
 	 */
 	public Mat4 multiply(Mat4 other) {
-		// Used to store the solutions
-		float[] data = new float[16];
-		for (int row = 0; row < 4; row++) {
-			for (int column = 0; column < 4; column++) {
-				float sum = 0.0f;
-				for (int e = 0; e < 4; e++) {
-					sum += elements[e + row * 4] * other.elements[column + e * 4];
-				}
-				data[column + row * 4] = sum;
-			}
-		}
-		// Stores the solutions in elements[]
-		for (int i = 0; i < 16; i++) {
-			elements[i] = data[i];
-		}
-		return this;
+		return mul(this, other, this);
 	}
 
 	/**
@@ -98,91 +134,834 @@ public class Mat4 {
 	 * @return the multiplied copy
 	 */
 	public Mat4 cmultiply(Mat4 other) {
-		try {
-			Mat4 matrix = (Mat4) this.clone();
-			return matrix.multiply(other);
-		} catch (CloneNotSupportedException e) {
-			e.printStackTrace();
-		}
-		return null;
+		MathMetrics.count(MathCounter.MAT4_COPY);
+		return mul(this, other, new Mat4());
+	}
+
+	/**
+	 * Inverts this matrix
+	 * 
+	 * @return this matrix for multiple operations "in one line"
+	 * @throws ArithmeticException if the matrix is singular
+	 */
+	public Mat4 invert() {
+		return invert(this, this);
+	}
+
+	/**
+	 * Inverts a copy of this matrix
+	 * 
+	 * @return the inverted copy
+	 * @throws ArithmeticException if the matrix is singular
+	 */
+	public Mat4 cinvert() {
+		MathMetrics.count(MathCounter.MAT4_COPY);
+		return invert(this, new Mat4());
 	}
 
 	/**
 	 * Multiplies this matrix with a Vec3
 	 * 
 	 * @param vector the vector to multiply with this matrix
-	 * @return this matrix for multiple operations "in one line"
+	 * @return a new vector containing the result
 	 */
 	public Vec3 multiply(Vec3 vector) {
-		Vec3 result = null;
-		try {
-			result = (Vec3) vector.clone();
-		} catch (CloneNotSupportedException e) {
-			e.printStackTrace();
-		}
-		result.x = elements[0 + 4 * 0] * vector.x + elements[0 + 4 * 1] * vector.y + elements[0 + 4 * 2] * vector.z
-				+ elements[0 + 4 * 3];
-		result.y = elements[1 + 4 * 0] * vector.x + elements[1 + 4 * 1] * vector.y + elements[1 + 4 * 2] * vector.z
-				+ elements[1 + 4 * 3];
-		result.z = elements[2 + 4 * 0] * vector.x + elements[2 + 4 * 1] * vector.y + elements[2 + 4 * 2] * vector.z
-				+ elements[2 + 4 * 3];
-		return result;
+		MathMetrics.count(MathCounter.VECTOR_COPY);
+		return transform(vector, new Vec3());
 	}
 
 	/**
-	 * Multiplies a copy of this matrix with a Vec3
+	 * Multiplies this matrix with a Vec3, the matrix itself is never changed, so
+	 * this is the same as {@link #multiply(Vec3)}
 	 * 
-	 * @param other the vector to multiply with the copy
-	 * @return the multiplied copy
+	 * @param other the vector to multiply with this matrix
+	 * @return a new vector containing the result
 	 */
 	public Vec3 cmultiply(Vec3 other) {
-		try {
-			Mat4 matrix = (Mat4) this.clone();
-			return matrix.multiply(other);
-		} catch (CloneNotSupportedException e) {
-			e.printStackTrace();
-		}
-		return null;
+		MathMetrics.count(MathCounter.VECTOR_COPY);
+		return transform(other, new Vec3());
 	}
 
 	/**
 	 * Multiplies this matrix with a Vec4
 	 * 
 	 * @param vector the vector to multiply with this matrix
-	 * @return this matrix for multiple operations "in one line"
+	 * @return a new vector containing the result
 	 */
 	public Vec4 multiply(Vec4 vector) {
-		Vec4 result = null;
-		try {
-			result = (Vec4) vector.clone();
-		} catch (CloneNotSupportedException e) {
-			e.printStackTrace();
-		}
-		result.x = elements[0 + 4 * 0] * vector.x + elements[0 + 4 * 1] * vector.y + elements[0 + 4 * 2] * vector.z
-				+ elements[0 + 4 * 3] * vector.w;
-		result.y = elements[1 + 4 * 0] * vector.x + elements[1 + 4 * 1] * vector.y + elements[1 + 4 * 2] * vector.z
-				+ elements[1 + 4 * 3] * vector.w;
-		result.z = elements[2 + 4 * 0] * vector.x + elements[2 + 4 * 1] * vector.y + elements[2 + 4 * 2] * vector.z
-				+ elements[2 + 4 * 3] * vector.w;
-		result.w = elements[3 + 4 * 0] * vector.x + elements[3 + 4 * 1] * vector.y + elements[3 + 4 * 2] * vector.z
-				+ elements[3 + 4 * 3] * vector.w;
-		return result;
+		MathMetrics.count(MathCounter.VECTOR_COPY);
+		return transform(vector, new Vec4());
 	}
 
 	/**
-	 * Multiplies a copy of this matrix with a Vec4
+	 * Multiplies this matrix with a Vec4, the matrix itself is never changed, so
+	 * this is the same as {@link #multiply(Vec4)}
 	 * 
-	 * @param other the vector to multiply with the copy
-	 * @return the multiplied copy
+	 * @param other the vector to multiply with this matrix
+	 * @return a new vector containing the result
 	 */
 	public Vec4 cmultiply(Vec4 other) {
-		try {
-			Mat4 matrix = (Mat4) this.clone();
-			return matrix.multiply(other);
-		} catch (CloneNotSupportedException e) {
-			e.printStackTrace();
+		MathMetrics.count(MathCounter.VECTOR_COPY);
+		return transform(other, new Vec4());
+	}
+
+	/**
+	 * Transforms a Vec3 as a point (w = 1) and stores the result in dest, without
+	 * allocating anything. in and dest may be the same vector.
+	 * 
+	 * @param in   the vector to transform
+	 * @param dest the vector to store the result in
+	 * @return dest
+	 */
+	public Vec3 transform(Vec3 in, Vec3 dest) {
+		MathMetrics.count(MathCounter.MAT4_TRANSFORM);
+		float x = in.x, y = in.y, z = in.z;
+		if (kind == Kind.IDENTITY) {
+			dest.x = x;
+			dest.y = y;
+			dest.z = z;
+		} else if (kind == Kind.TRANSLATION) {
+			dest.x = x + elements[0 + 4 * 3];
+			dest.y = y + elements[1 + 4 * 3];
+			dest.z = z + elements[2 + 4 * 3];
+		} else if (kind == Kind.SCALE) {
+			dest.x = elements[0 + 4 * 0] * x;
+			dest.y = elements[1 + 4 * 1] * y;
+			dest.z = elements[2 + 4 * 2] * z;
+		} else {
+			dest.x = elements[0 + 4 * 0] * x + elements[0 + 4 * 1] * y + elements[0 + 4 * 2] * z + elements[0 + 4 * 3];
+			dest.y = elements[1 + 4 * 0] * x + elements[1 + 4 * 1] * y + elements[1 + 4 * 2] * z + elements[1 + 4 * 3];
+			dest.z = elements[2 + 4 * 0] * x + elements[2 + 4 * 1] * y + elements[2 + 4 * 2] * z + elements[2 + 4 * 3];
+		}
+		return dest;
+	}
+
+	/**
+	 * Transforms a Vec4 and stores the result in dest, without allocating
+	 * anything. in and dest may be the same vector.
+	 * 
+	 * @param in   the vector to transform
+	 * @param dest the vector to store the result in
+	 * @return dest
+	 */
+	public Vec4 transform(Vec4 in, Vec4 dest) {
+		MathMetrics.count(MathCounter.MAT4_TRANSFORM);
+		float x = in.x, y = in.y, z = in.z, w = in.w;
+		if (kind == Kind.IDENTITY) {
+			dest.x = x;
+			dest.y = y;
+			dest.z = z;
+			dest.w = w;
+		} else if (kind == Kind.TRANSLATION) {
+			dest.x = x + elements[0 + 4 * 3] * w;
+			dest.y = y + elements[1 + 4 * 3] * w;
+			dest.z = z + elements[2 + 4 * 3] * w;
+			dest.w = w;
+		} else if (kind == Kind.SCALE) {
+			dest.x = elements[0 + 4 * 0] * x;
+			dest.y = elements[1 + 4 * 1] * y;
+			dest.z = elements[2 + 4 * 2] * z;
+			dest.w = w;
+		} else {
+			dest.x = elements[0 + 4 * 0] * x + elements[0 + 4 * 1] * y + elements[0 + 4 * 2] * z
+					+ elements[0 + 4 * 3] * w;
+			dest.y = elements[1 + 4 * 0] * x + elements[1 + 4 * 1] * y + elements[1 + 4 * 2] * z
+					+ elements[1 + 4 * 3] * w;
+			dest.z = elements[2 + 4 * 0] * x + elements[2 + 4 * 1] * y + elements[2 + 4 * 2] * z
+					+ elements[2 + 4 * 3] * w;
+			if (kind == Kind.AFFINE) {
+				dest.w = w;
+			} else {
+				dest.w = elements[3 + 4 * 0] * x + elements[3 + 4 * 1] * y + elements[3 + 4 * 2] * z
+						+ elements[3 + 4 * 3] * w;
+			}
+		}
+		return dest;
+	}
+
+	/**
+	 * Multiplies two matrices the same way {@link #multiply(Mat4)} does and stores
+	 * the result in dest, without allocating anything. dest may be a or b.
+	 * 
+	 * @param a    the left matrix
+	 * @param b    the right matrix
+	 * @param dest the matrix to store the result in
+	 * @return dest
+	 */
+	public static Mat4 mul(Mat4 a, Mat4 b, Mat4 dest) {
+		MathMetrics.count(MathCounter.MAT4_MULTIPLY);
+		Kind ka = a.kind, kb = b.kind;
+		if (ka == Kind.IDENTITY) {
+			return dest.set(b);
+		}
+		if (kb == Kind.IDENTITY) {
+			return dest.set(a);
+		}
+		float[] l = a.elements, m = b.elements, data = dest.elements;
+		if (ka == Kind.TRANSLATION && kb == Kind.TRANSLATION) {
+			float x = l[12] + m[12], y = l[13] + m[13], z = l[14] + m[14];
+			dest.set(b);
+			data[12] = x;
+			data[13] = y;
+			data[14] = z;
+		} else if (ka == Kind.SCALE && kb == Kind.SCALE) {
+			float x = l[0] * m[0], y = l[5] * m[5], z = l[10] * m[10];
+			dest.set(b);
+			data[0] = x;
+			data[5] = y;
+			data[10] = z;
+		} else if (ka != Kind.GENERAL && kb != Kind.GENERAL) {
+			mulAffine(l, m, data);
+			dest.kind = Kind.AFFINE;
+		} else {
+			mul(l, 0, m, 0, data, 0);
+			dest.kind = Kind.GENERAL;
+		}
+		return dest;
+	}
+
+	/**
+	 * Multiplies matrices pairwise like {@link #mul(Mat4, Mat4, Mat4)}, the
+	 * matrices are packed into float arrays with 16 floats each (the layout of
+	 * {@link #elements}). The work is done by the backend selected by
+	 * {@link MathBackends}.
+	 * 
+	 * @param a      the left matrices
+	 * @param b      the right matrices
+	 * @param dest   the array to store the results in, may be a or b
+	 * @param offset the index of the first matrix
+	 * @param count  the number of matrices
+	 */
+	public static void mul(float[] a, float[] b, float[] dest, int offset, int count) {
+		BulkKernelEvent event = MathMetrics.begin("Mat4.mul", count);
+		MathBackends.get().mul(a, b, dest, offset, count);
+		MathMetrics.end(event);
+	}
+
+	/**
+	 * Multiplies two matrices stored at offsets of float arrays, in the layout
+	 * of {@link #elements}, with the plain scalar kernel. The matrices are
+	 * treated as GENERAL.
+	 * 
+	 * @param l          the array holding the left matrix
+	 * @param lOffset    the index of the first element of the left matrix
+	 * @param m          the array holding the right matrix
+	 * @param mOffset    the index of the first element of the right matrix
+	 * @param data       the array to store the result in, may be l or m
+	 * @param dataOffset the index to store the first element of the result at
+	 */
+	public static void mul(float[] l, int lOffset, float[] m, int mOffset, float[] data, int dataOffset) {
+		// m is read completely before anything is written, so data may alias it
+		float b0 = m[mOffset + 0], b1 = m[mOffset + 1], b2 = m[mOffset + 2], b3 = m[mOffset + 3];
+		float b4 = m[mOffset + 4], b5 = m[mOffset + 5], b6 = m[mOffset + 6], b7 = m[mOffset + 7];
+		float b8 = m[mOffset + 8], b9 = m[mOffset + 9], b10 = m[mOffset + 10], b11 = m[mOffset + 11];
+		float b12 = m[mOffset + 12], b13 = m[mOffset + 13], b14 = m[mOffset + 14], b15 = m[mOffset + 15];
+		for (int row = 0; row < 4; row++) {
+			int i = lOffset + row * 4;
+			int j = dataOffset + row * 4;
+			// Each row of l is only needed for the same row of data
+			float a0 = l[i], a1 = l[i + 1], a2 = l[i + 2], a3 = l[i + 3];
+			data[j + 0] = a0 * b0 + a1 * b4 + a2 * b8 + a3 * b12;
+			data[j + 1] = a0 * b1 + a1 * b5 + a2 * b9 + a3 * b13;
+			data[j + 2] = a0 * b2 + a1 * b6 + a2 * b10 + a3 * b14;
+			data[j + 3] = a0 * b3 + a1 * b7 + a2 * b11 + a3 * b15;
+		}
+	}
+
+	/**
+	 * Inverts a matrix and stores the result in dest, without allocating
+	 * anything. dest may be the matrix itself.
+	 * 
+	 * @param matrix the matrix to invert
+	 * @param dest   the matrix to store the inverse in
+	 * @return dest
+	 * @throws ArithmeticException if the matrix is singular, dest is not changed
+	 *                             then
+	 */
+	public static Mat4 invert(Mat4 matrix, Mat4 dest) {
+		MathMetrics.count(MathCounter.MAT4_INVERT);
+		float[] e = matrix.elements;
+		switch (matrix.kind) {
+		case IDENTITY:
+			return dest.set(matrix);
+		case TRANSLATION: {
+			float x = -e[12], y = -e[13], z = -e[14];
+			dest.set(matrix);
+			dest.elements[12] = x;
+			dest.elements[13] = y;
+			dest.elements[14] = z;
+			return dest;
+		}
+		case SCALE: {
+			if (e[0] == 0.0f || e[5] == 0.0f || e[10] == 0.0f) {
+				throw new ArithmeticException("Matrix is singular");
+			}
+			float x = 1.0f / e[0], y = 1.0f / e[5], z = 1.0f / e[10];
+			dest.set(matrix);
+			dest.elements[0] = x;
+			dest.elements[5] = y;
+			dest.elements[10] = z;
+			return dest;
+		}
+		case AFFINE:
+			if (!invertAffine(e, 0, dest.elements, 0)) {
+				throw new ArithmeticException("Matrix is singular");
+			}
+			dest.kind = Kind.AFFINE;
+			return dest;
+		default:
+			if (!invertGeneral(e, 0, dest.elements, 0)) {
+				throw new ArithmeticException("Matrix is singular");
+			}
+			dest.kind = Kind.GENERAL;
+			return dest;
+		}
+	}
+
+	/**
+	 * Inverts matrices like {@link #invert(Mat4, Mat4)}, the matrices are packed
+	 * into float arrays with 16 floats each (the layout of {@link #elements}).
+	 * Nothing is known about their kind, so the general inverse is used.
+	 * 
+	 * @param src    the matrices to invert
+	 * @param dest   the array to store the inverses in, may be src
+	 * @param offset the index of the first matrix
+	 * @param count  the number of matrices
+	 * @return the number of singular matrices, their inverses are set to NaN
+	 */
+	public static int invert(float[] src, float[] dest, int offset, int count) {
+		BulkKernelEvent event = MathMetrics.begin("Mat4.invert", count);
+		int singular = 0;
+		int end = (offset + count) * 16;
+		for (int i = offset * 16; i < end; i += 16) {
+			if (!invertGeneral(src, i, dest, i)) {
+				Arrays.fill(dest, i, i + 16, Float.NaN);
+				singular++;
+			}
+		}
+		MathMetrics.end(event);
+		return singular;
+	}
+
+	/**
+	 * Solves many independent linear systems matrix * x = vector at once. The
+	 * matrices are packed into a float array with 16 floats each (the layout of
+	 * {@link #elements}), the vectors and solutions with 4 floats each (x, y, z,
+	 * w). Each system is solved with the cofactors of its matrix, without
+	 * inverting it first and without allocating.
+	 *
+	 * @param matrices the matrices of the systems
+	 * @param vectors  the right-hand sides of the systems
+	 * @param dest     the array to store the solutions in, may be vectors
+	 * @param offset   the index of the first system
+	 * @param count    the number of systems
+	 * @param singular the array to flag the systems with a singular matrix in,
+	 *                 at the index of the system, or null
+	 * @return the number of singular systems, their solutions are set to NaN
+	 */
+	public static int solve(float[] matrices, float[] vectors, float[] dest, int offset, int count,
+			boolean[] singular) {
+		BulkKernelEvent event = MathMetrics.begin("Mat4.solve", count);
+		int singulars = 0;
+		for (int i = offset; i < offset + count; i++) {
+			boolean failed = !solve(matrices, i * 16, vectors, i * 4, dest, i * 4);
+			if (failed) {
+				Arrays.fill(dest, i * 4, i * 4 + 4, Float.NaN);
+				singulars++;
+			}
+			if (singular != null) {
+				singular[i] = failed;
+			}
+		}
+		MathMetrics.end(event);
+		return singulars;
+	}
+
+	/**
+	 * Solves many independent linear systems matrices[i] * x = vectors[i] like
+	 * {@link #solve(float[], float[], float[], int, int, boolean[])}
+	 *
+	 * @param matrices the matrices of the systems
+	 * @param vectors  the right-hand sides of the systems
+	 * @param dest     the vectors to store the solutions in, may be vectors
+	 * @param offset   the index of the first system
+	 * @param count    the number of systems
+	 * @param singular the array to flag the systems with a singular matrix in,
+	 *                 at the index of the system, or null
+	 * @return the number of singular systems, their solutions are set to NaN
+	 */
+	public static int solve(Mat4[] matrices, Vec4[] vectors, Vec4[] dest, int offset, int count,
+			boolean[] singular) {
+		BulkKernelEvent event = MathMetrics.begin("Mat4.solve", count);
+		float[] scratch = new float[4];
+		int singulars = 0;
+		for (int i = offset; i < offset + count; i++) {
+			Vec4 vector = vectors[i], result = dest[i];
+			scratch[0] = vector.x;
+			scratch[1] = vector.y;
+			scratch[2] = vector.z;
+			scratch[3] = vector.w;
+			boolean failed = !solve(matrices[i].elements, 0, scratch, 0, scratch, 0);
+			if (failed) {
+				result.x = result.y = result.z = result.w = Float.NaN;
+				singulars++;
+			} else {
+				result.x = scratch[0];
+				result.y = scratch[1];
+				result.z = scratch[2];
+				result.w = scratch[3];
+			}
+			if (singular != null) {
+				singular[i] = failed;
+			}
+		}
+		MathMetrics.end(event);
+		return singulars;
+	}
+
+	/**
+	 * Inverts this matrix, which has to consist of a rotation and a translation
+	 * only. Much cheaper than {@link #invert()}, but wrong for any other matrix.
+	 * 
+	 * @return this matrix for multiple operations "in one line"
+	 */
+	public Mat4 invertRigid() {
+		return invertRigid(this, this);
+	}
+
+	/**
+	 * Inverts a matrix that consists of a rotation and a translation only, by
+	 * transposing the rotation and rotating the negated translation back. Much
+	 * cheaper than {@link #invert(Mat4, Mat4)}, but wrong for any other matrix.
+	 * dest may be the matrix itself.
+	 * 
+	 * @param matrix the matrix to invert
+	 * @param dest   the matrix to store the inverse in
+	 * @return dest
+	 */
+	public static Mat4 invertRigid(Mat4 matrix, Mat4 dest) {
+		invertRigid(matrix.elements, 0, dest.elements, 0);
+		dest.kind = matrix.kind == Kind.IDENTITY || matrix.kind == Kind.TRANSLATION ? matrix.kind : Kind.AFFINE;
+		return dest;
+	}
+
+	/**
+	 * Inverts rigid matrices like {@link #invertRigid(Mat4, Mat4)}, the matrices
+	 * are packed into float arrays with 16 floats each
+	 * 
+	 * @param src    the matrices to invert
+	 * @param dest   the array to store the inverses in, may be src
+	 * @param offset the index of the first matrix
+	 * @param count  the number of matrices
+	 */
+	public static void invertRigid(float[] src, float[] dest, int offset, int count) {
+		BulkKernelEvent event = MathMetrics.begin("Mat4.invertRigid", count);
+		int end = (offset + count) * 16;
+		for (int i = offset * 16; i < end; i += 16) {
+			invertRigid(src, i, dest, i);
+		}
+		MathMetrics.end(event);
+	}
+
+	/**
+	 * Computes the normal matrix of a matrix: the transposed inverse of its
+	 * upper 3 * 3 part, which transforms normals correctly even if the matrix
+	 * scales non-uniformly. dest may be the matrix itself.
+	 * 
+	 * @param matrix the matrix to compute the normal matrix of
+	 * @param dest   the matrix to store the normal matrix in
+	 * @return dest
+	 * @throws ArithmeticException if the upper 3 * 3 part is singular
+	 */
+	public static Mat4 normal(Mat4 matrix, Mat4 dest) {
+		switch (matrix.kind) {
+		case IDENTITY:
+		case TRANSLATION:
+			Arrays.fill(dest.elements, 0.0f);
+			dest.elements[0] = dest.elements[5] = dest.elements[10] = dest.elements[15] = 1.0f;
+			dest.kind = Kind.IDENTITY;
+			return dest;
+		default:
+			if (!normal(matrix.elements, 0, dest.elements, 0)) {
+				throw new ArithmeticException("Matrix is singular");
+			}
+			dest.kind = matrix.kind == Kind.SCALE ? Kind.SCALE : Kind.AFFINE;
+			return dest;
+		}
+	}
+
+	/**
+	 * Computes normal matrices like {@link #normal(Mat4, Mat4)}, the matrices are
+	 * packed into float arrays with 16 floats each
+	 * 
+	 * @param src    the matrices to compute the normal matrices of
+	 * @param dest   the array to store the normal matrices in, may be src
+	 * @param offset the index of the first matrix
+	 * @param count  the number of matrices
+	 * @return the number of singular matrices, their normal matrices are set to
+	 *         NaN
+	 */
+	public static int normal(float[] src, float[] dest, int offset, int count) {
+		BulkKernelEvent event = MathMetrics.begin("Mat4.normal", count);
+		int singular = 0;
+		int end = (offset + count) * 16;
+		for (int i = offset * 16; i < end; i += 16) {
+			if (!normal(src, i, dest, i)) {
+				Arrays.fill(dest, i, i + 16, Float.NaN);
+				singular++;
+			}
+		}
+		MathMetrics.end(event);
+		return singular;
+	}
+
+	/**
+	 * @return the determinant of this matrix
+	 */
+	public float determinant() {
+		float[] e = elements;
+		switch (kind) {
+		case IDENTITY:
+		case TRANSLATION:
+			return 1.0f;
+		case SCALE:
+			return e[0] * e[5] * e[10];
+		case AFFINE:
+			return determinant3(e, 0);
+		default:
+			return determinant(e, 0);
+		}
+	}
+
+	/**
+	 * Computes the determinants of matrices packed into a float array with 16
+	 * floats each
+	 * 
+	 * @param src    the matrices
+	 * @param dest   the array to store the determinants in, one per matrix
+	 * @param offset the index of the first matrix, in src and dest
+	 * @param count  the number of matrices
+	 */
+	public static void determinant(float[] src, float[] dest, int offset, int count) {
+		BulkKernelEvent event = MathMetrics.begin("Mat4.determinant", count);
+		for (int i = offset; i < offset + count; i++) {
+			dest[i] = determinant(src, i * 16);
+		}
+		MathMetrics.end(event);
+	}
+
+	/**
+	 * Inverts the upper 3 * 3 part with its cofactors and moves the translation
+	 * back through it
+	 */
+	private static boolean invertAffine(float[] e, int o, float[] data, int d) {
+		float a00 = e[o + 0], a01 = e[o + 1], a02 = e[o + 2];
+		float a10 = e[o + 4], a11 = e[o + 5], a12 = e[o + 6];
+		float a20 = e[o + 8], a21 = e[o + 9], a22 = e[o + 10];
+		float t0 = e[o + 12], t1 = e[o + 13], t2 = e[o + 14];
+
+		float i00 = a11 * a22 - a12 * a21, i01 = a02 * a21 - a01 * a22, i02 = a01 * a12 - a02 * a11;
+		float i10 = a12 * a20 - a10 * a22, i11 = a00 * a22 - a02 * a20, i12 = a02 * a10 - a00 * a12;
+		float i20 = a10 * a21 - a11 * a20, i21 = a01 * a20 - a00 * a21, i22 = a00 * a11 - a01 * a10;
+
+		float det = a00 * i00 + a01 * i10 + a02 * i20;
+		if (det == 0.0f) {
+			return false;
+		}
+		float inv = 1.0f / det;
+		i00 *= inv;
+		i01 *= inv;
+		i02 *= inv;
+		i10 *= inv;
+		i11 *= inv;
+		i12 *= inv;
+		i20 *= inv;
+		i21 *= inv;
+		i22 *= inv;
+
+		data[d + 0] = i00;
+		data[d + 1] = i01;
+		data[d + 2] = i02;
+		data[d + 3] = 0.0f;
+		data[d + 4] = i10;
+		data[d + 5] = i11;
+		data[d + 6] = i12;
+		data[d + 7] = 0.0f;
+		data[d + 8] = i20;
+		data[d + 9] = i21;
+		data[d + 10] = i22;
+		data[d + 11] = 0.0f;
+		data[d + 12] = -(t0 * i00 + t1 * i10 + t2 * i20);
+		data[d + 13] = -(t0 * i01 + t1 * i11 + t2 * i21);
+		data[d + 14] = -(t0 * i02 + t1 * i12 + t2 * i22);
+		data[d + 15] = 1.0f;
+		return true;
+	}
+
+	/**
+	 * Inverts a matrix with the cofactor (Laplace) expansion over 2 * 2
+	 * sub-determinants
+	 */
+	private static boolean invertGeneral(float[] e, int o, float[] data, int d) {
+		float a00 = e[o + 0], a01 = e[o + 1], a02 = e[o + 2], a03 = e[o + 3];
+		float a10 = e[o + 4], a11 = e[o + 5], a12 = e[o + 6], a13 = e[o + 7];
+		float a20 = e[o + 8], a21 = e[o + 9], a22 = e[o + 10], a23 = e[o + 11];
+		float a30 = e[o + 12], a31 = e[o + 13], a32 = e[o + 14], a33 = e[o + 15];
+
+		float b00 = a00 * a11 - a01 * a10;
+		float b01 = a00 * a12 - a02 * a10;
+		float b02 = a00 * a13 - a03 * a10;
+		float b03 = a01 * a12 - a02 * a11;
+		float b04 = a01 * a13 - a03 * a11;
+		float b05 = a02 * a13 - a03 * a12;
+		float b06 = a20 * a31 - a21 * a30;
+		float b07 = a20 * a32 - a22 * a30;
+		float b08 = a20 * a33 - a23 * a30;
+		float b09 = a21 * a32 - a22 * a31;
+		float b10 = a21 * a33 - a23 * a31;
+		float b11 = a22 * a33 - a23 * a32;
+
+		float det = b00 * b11 - b01 * b10 + b02 * b09 + b03 * b08 - b04 * b07 + b05 * b06;
+		if (det == 0.0f) {
+			return false;
+		}
+		float inv = 1.0f / det;
+
+		data[d + 0] = (a11 * b11 - a12 * b10 + a13 * b09) * inv;
+		data[d + 1] = (a02 * b10 - a01 * b11 - a03 * b09) * inv;
+		data[d + 2] = (a31 * b05 - a32 * b04 + a33 * b03) * inv;
+		data[d + 3] = (a22 * b04 - a21 * b05 - a23 * b03) * inv;
+		data[d + 4] = (a12 * b08 - a10 * b11 - a13 * b07) * inv;
+		data[d + 5] = (a00 * b11 - a02 * b08 + a03 * b07) * inv;
+		data[d + 6] = (a32 * b02 - a30 * b05 - a33 * b01) * inv;
+		data[d + 7] = (a20 * b05 - a22 * b02 + a23 * b01) * inv;
+		data[d + 8] = (a10 * b10 - a11 * b08 + a13 * b06) * inv;
+		data[d + 9] = (a01 * b08 - a00 * b10 - a03 * b06) * inv;
+		data[d + 10] = (a30 * b04 - a31 * b02 + a33 * b00) * inv;
+		data[d + 11] = (a21 * b02 - a20 * b04 - a23 * b00) * inv;
+		data[d + 12] = (a11 * b07 - a10 * b09 - a12 * b06) * inv;
+		data[d + 13] = (a00 * b09 - a01 * b07 + a02 * b06) * inv;
+		data[d + 14] = (a31 * b01 - a30 * b03 - a32 * b00) * inv;
+		data[d + 15] = (a20 * b03 - a21 * b01 + a22 * b00) * inv;
+		return true;
+	}
+
+	/**
+	 * Solves matrix * x = vector with the cofactors of {@link #invertGeneral},
+	 * multiplying the adjugate with the vector before dividing by the
+	 * determinant
+	 */
+	private static boolean solve(float[] e, int o, float[] v, int i, float[] data, int d) {
+		float a00 = e[o + 0], a01 = e[o + 1], a02 = e[o + 2], a03 = e[o + 3];
+		float a10 = e[o + 4], a11 = e[o + 5], a12 = e[o + 6], a13 = e[o + 7];
+		float a20 = e[o + 8], a21 = e[o + 9], a22 = e[o + 10], a23 = e[o + 11];
+		float a30 = e[o + 12], a31 = e[o + 13], a32 = e[o + 14], a33 = e[o + 15];
+
+		float b00 = a00 * a11 - a01 * a10;
+		float b01 = a00 * a12 - a02 * a10;
+		float b02 = a00 * a13 - a03 * a10;
+		float b03 = a01 * a12 - a02 * a11;
+		float b04 = a01 * a13 - a03 * a11;
+		float b05 = a02 * a13 - a03 * a12;
+		float b06 = a20 * a31 - a21 * a30;
+		float b07 = a20 * a32 - a22 * a30;
+		float b08 = a20 * a33 - a23 * a30;
+		float b09 = a21 * a32 - a22 * a31;
+		float b10 = a21 * a33 - a23 * a31;
+		float b11 = a22 * a33 - a23 * a32;
+
+		float det = b00 * b11 - b01 * b10 + b02 * b09 + b03 * b08 - b04 * b07 + b05 * b06;
+		if (det == 0.0f) {
+			return false;
+		}
+		float inv = 1.0f / det;
+
+		// The vector is read completely before anything is written, so data may alias it
+		float x = v[i], y = v[i + 1], z = v[i + 2], w = v[i + 3];
+		data[d + 0] = ((a11 * b11 - a12 * b10 + a13 * b09) * x + (a12 * b08 - a10 * b11 - a13 * b07) * y
+				+ (a10 * b10 - a11 * b08 + a13 * b06) * z + (a11 * b07 - a10 * b09 - a12 * b06) * w) * inv;
+		data[d + 1] = ((a02 * b10 - a01 * b11 - a03 * b09) * x + (a00 * b11 - a02 * b08 + a03 * b07) * y
+				+ (a01 * b08 - a00 * b10 - a03 * b06) * z + (a00 * b09 - a01 * b07 + a02 * b06) * w) * inv;
+		data[d + 2] = ((a31 * b05 - a32 * b04 + a33 * b03) * x + (a32 * b02 - a30 * b05 - a33 * b01) * y
+				+ (a30 * b04 - a31 * b02 + a33 * b00) * z + (a31 * b01 - a30 * b03 - a32 * b00) * w) * inv;
+		data[d + 3] = ((a22 * b04 - a21 * b05 - a23 * b03) * x + (a20 * b05 - a22 * b02 + a23 * b01) * y
+				+ (a21 * b02 - a20 * b04 - a23 * b00) * z + (a20 * b03 - a21 * b01 + a22 * b00) * w) * inv;
+		return true;
+	}
+
+	private static void invertRigid(float[] e, int o, float[] data, int d) {
+		float a00 = e[o + 0], a01 = e[o + 1], a02 = e[o + 2];
+		float a10 = e[o + 4], a11 = e[o + 5], a12 = e[o + 6];
+		float a20 = e[o + 8], a21 = e[o + 9], a22 = e[o + 10];
+		float t0 = e[o + 12], t1 = e[o + 13], t2 = e[o + 14];
+		// The inverse of a rotation is its transpose
+		data[d + 0] = a00;
+		data[d + 1] = a10;
+		data[d + 2] = a20;
+		data[d + 3] = 0.0f;
+		data[d + 4] = a01;
+		data[d + 5] = a11;
+		data[d + 6] = a21;
+		data[d + 7] = 0.0f;
+		data[d + 8] = a02;
+		data[d + 9] = a12;
+		data[d + 10] = a22;
+		data[d + 11] = 0.0f;
+		data[d + 12] = -(t0 * a00 + t1 * a01 + t2 * a02);
+		data[d + 13] = -(t0 * a10 + t1 * a11 + t2 * a12);
+		data[d + 14] = -(t0 * a20 + t1 * a21 + t2 * a22);
+		data[d + 15] = 1.0f;
+	}
+
+	/**
+	 * The transposed inverse of the upper 3 * 3 part is its cofactor matrix
+	 * divided by its determinant
+	 */
+	private static boolean normal(float[] e, int o, float[] data, int d) {
+		float a00 = e[o + 0], a01 = e[o + 1], a02 = e[o + 2];
+		float a10 = e[o + 4], a11 = e[o + 5], a12 = e[o + 6];
+		float a20 = e[o + 8], a21 = e[o + 9], a22 = e[o + 10];
+
+		float c00 = a11 * a22 - a12 * a21, c01 = a12 * a20 - a10 * a22, c02 = a10 * a21 - a11 * a20;
+		float c10 = a02 * a21 - a01 * a22, c11 = a00 * a22 - a02 * a20, c12 = a01 * a20 - a00 * a21;
+		float c20 = a01 * a12 - a02 * a11, c21 = a02 * a10 - a00 * a12, c22 = a00 * a11 - a01 * a10;
+
+		float det = a00 * c00 + a01 * c01 + a02 * c02;
+		if (det == 0.0f) {
+			return false;
+		}
+		float inv = 1.0f / det;
+		data[d + 0] = c00 * inv;
+		data[d + 1] = c01 * inv;
+		data[d + 2] = c02 * inv;
+		data[d + 3] = 0.0f;
+		data[d + 4] = c10 * inv;
+		data[d + 5] = c11 * inv;
+		data[d + 6] = c12 * inv;
+		data[d + 7] = 0.0f;
+		data[d + 8] = c20 * inv;
+		data[d + 9] = c21 * inv;
+		data[d + 10] = c22 * inv;
+		data[d + 11] = 0.0f;
+		data[d + 12] = 0.0f;
+		data[d + 13] = 0.0f;
+		data[d + 14] = 0.0f;
+		data[d + 15] = 1.0f;
+		return true;
+	}
+
+	private static float determinant3(float[] e, int o) {
+		return e[o + 0] * (e[o + 5] * e[o + 10] - e[o + 6] * e[o + 9])
+				- e[o + 1] * (e[o + 4] * e[o + 10] - e[o + 6] * e[o + 8])
+				+ e[o + 2] * (e[o + 4] * e[o + 9] - e[o + 5] * e[o + 8]);
+	}
+
+	private static float determinant(float[] e, int o) {
+		float a00 = e[o + 0], a01 = e[o + 1], a02 = e[o + 2], a03 = e[o + 3];
+		float a10 = e[o + 4], a11 = e[o + 5], a12 = e[o + 6], a13 = e[o + 7];
+		float a20 = e[o + 8], a21 = e[o + 9], a22 = e[o + 10], a23 = e[o + 11];
+		float a30 = e[o + 12], a31 = e[o + 13], a32 = e[o + 14], a33 = e[o + 15];
+		float b00 = a00 * a11 - a01 * a10;
+		float b01 = a00 * a12 - a02 * a10;
+		float b02 = a00 * a13 - a03 * a10;
+		float b03 = a01 * a12 - a02 * a11;
+		float b04 = a01 * a13 - a03 * a11;
+		float b05 = a02 * a13 - a03 * a12;
+		float b06 = a20 * a31 - a21 * a30;
+		float b07 = a20 * a32 - a22 * a30;
+		float b08 = a20 * a33 - a23 * a30;
+		float b09 = a21 * a32 - a22 * a31;
+		float b10 = a21 * a33 - a23 * a31;
+		float b11 = a22 * a33 - a23 * a32;
+		return b00 * b11 - b01 * b10 + b02 * b09 + b03 * b08 - b04 * b07 + b05 * b06;
+	}
+
+	/**
+	 * Same as the general kernel for two affine matrices, leaving out the
+	 * products with their constant elements 3, 7, 11 and 15: 36 instead of 64
+	 * multiplications
+	 */
+	private static void mulAffine(float[] l, float[] m, float[] data) {
+		// m is read completely before anything is written, so data may alias it
+		float b0 = m[0], b1 = m[1], b2 = m[2];
+		float b4 = m[4], b5 = m[5], b6 = m[6];
+		float b8 = m[8], b9 = m[9], b10 = m[10];
+		float b12 = m[12], b13 = m[13], b14 = m[14];
+		for (int row = 0; row < 12; row += 4) {
+			float a0 = l[row], a1 = l[row + 1], a2 = l[row + 2];
+			data[row + 0] = a0 * b0 + a1 * b4 + a2 * b8;
+			data[row + 1] = a0 * b1 + a1 * b5 + a2 * b9;
+			data[row + 2] = a0 * b2 + a1 * b6 + a2 * b10;
+			data[row + 3] = 0.0f;
+		}
+		float a0 = l[12], a1 = l[13], a2 = l[14];
+		data[12] = a0 * b0 + a1 * b4 + a2 * b8 + b12;
+		data[13] = a0 * b1 + a1 * b5 + a2 * b9 + b13;
+		data[14] = a0 * b2 + a1 * b6 + a2 * b10 + b14;
+		data[15] = 1.0f;
+	}
+
+	// Kind
+
+	/**
+	 * @return the structure of this matrix
+	 */
+	public Kind getKind() {
+		return kind;
+	}
+
+	/**
+	 * Sets the structure of this matrix, e.g. after changing its elements
+	 * directly. Setting a kind the elements do not have leads to wrong results,
+	 * GENERAL is always safe.
+	 * 
+	 * @param kind the structure of this matrix
+	 * @return this matrix for multiple operations "in one line"
+	 */
+	public Mat4 setKind(Kind kind) {
+		this.kind = kind;
+		return this;
+	}
+
+	/**
+	 * Determines the structure of this matrix from its elements
+	 * 
+	 * @return this matrix for multiple operations "in one line"
+	 */
+	public Mat4 updateKind() {
+		float[] e = elements;
+		if (e[3] != 0.0f || e[7] != 0.0f || e[11] != 0.0f || e[15] != 1.0f) {
+			kind = Kind.GENERAL;
+		} else if (e[1] != 0.0f || e[2] != 0.0f || e[4] != 0.0f || e[6] != 0.0f || e[8] != 0.0f || e[9] != 0.0f) {
+			kind = Kind.AFFINE;
+		} else {
+			boolean unitDiagonal = e[0] == 1.0f && e[5] == 1.0f && e[10] == 1.0f;
+			boolean noTranslation = e[12] == 0.0f && e[13] == 0.0f && e[14] == 0.0f;
+			if (unitDiagonal && noTranslation) {
+				kind = Kind.IDENTITY;
+			} else if (unitDiagonal) {
+				kind = Kind.TRANSLATION;
+			} else if (noTranslation) {
+				kind = Kind.SCALE;
+			} else {
+				kind = Kind.AFFINE;
+			}
+		}
+		return this;
+	}
+
+	/**
+	 * Copies the elements and the kind of another matrix into this matrix
+	 * 
+	 * @param other the matrix to copy
+	 * @return this matrix for multiple operations "in one line"
+	 */
+	public Mat4 set(Mat4 other) {
+		if (other != this) {
+			System.arraycopy(other.elements, 0, elements, 0, 16);
+			kind = other.kind;
 		}
-		return null;
+		return this;
 	}
 
 	// Static Methods
@@ -194,6 +973,23 @@ public class Mat4 {
 		return new Mat4(1.0f);
 	}
 
+	/**
+	 * Stores the identity in dest and marks it as IDENTITY, without allocating
+	 * anything
+	 * 
+	 * @param dest the matrix to store the identity in
+	 * @return dest
+	 */
+	public static Mat4 Identity(Mat4 dest) {
+		float[] e = dest.elements;
+		Arrays.fill(e, 0.0f);
+		e[0 + 0 * 4] = 1.0f;
+		e[1 + 1 * 4] = 1.0f;
+		e[2 + 2 * 4] = 1.0f;
+		e[3 + 3 * 4] = 1.0f;
+		return dest.setKind(Kind.IDENTITY);
+	}
+
 	/**
 	 * Returns an orthographic matrix
 	 * 
@@ -219,6 +1015,36 @@ public class Mat4 {
 		return result;
 	}
 
+	/**
+	 * Stores the same matrix as
+	 * {@link #Orthographic(float, float, float, float, float, float)} in dest and
+	 * marks it as AFFINE, without allocating anything
+	 * 
+	 * @param left   the left-side of the screen
+	 * @param right  the right-side of the screen
+	 * @param bottom the bottom-side of the screen
+	 * @param top    the top-side of the screen
+	 * @param near   the near-side of the screen
+	 * @param far    the far-side of the screen
+	 * @param dest   the matrix to store the projection in
+	 * @return dest
+	 */
+	public static Mat4 Orthographic(float left, float right, float bottom, float top, float near, float far,
+			Mat4 dest) {
+		Identity(dest);
+		float[] e = dest.elements;
+
+		e[0 + 0 * 4] = 2.0f / (right - left);
+		e[1 + 1 * 4] = 2.0f / (top - bottom);
+		e[2 + 2 * 4] = 2.0f / (near - far);
+
+		e[0 + 3 * 4] = (left + right) / (left - right);
+		e[1 + 3 * 4] = (bottom + top) / (bottom - top);
+		e[2 + 3 * 4] = (near + far) / (far - near);
+
+		return dest.setKind(Kind.AFFINE);
+	}
+
 	/**
 	 * Returns a perspective matrix
 	 * 
@@ -261,6 +1087,25 @@ public class Mat4 {
 		return result;
 	}
 
+	/**
+	 * Stores a translation matrix in dest and marks it as TRANSLATION, without
+	 * allocating anything
+	 * 
+	 * @param translation a Vec3 containing the translation on the x-, y- and z-axis
+	 * @param dest        the matrix to store the translation in
+	 * @return dest
+	 */
+	public static Mat4 Translation(Vec3 translation, Mat4 dest) {
+		Identity(dest);
+		float[] e = dest.elements;
+
+		e[0 + 3 * 4] = translation.x;
+		e[1 + 3 * 4] = translation.y;
+		e[2 + 3 * 4] = translation.z;
+
+		return dest.setKind(Kind.TRANSLATION);
+	}
+
 	/**
 	 * Returns a rotation matrix
 	 * 
@@ -304,6 +1149,52 @@ public class Mat4 {
 		return rotationZ.multiply(rotationY).multiply(rotationX);
 	}
 
+	/**
+	 * Stores the same rotation as {@link #Rotation(float, float, float)} in dest
+	 * and marks it as AFFINE, without allocating anything
+	 * 
+	 * @param angleX the angle in x-direction
+	 * @param angleY the angle in y-direction
+	 * @param angleZ the angle in z-direction
+	 * @param dest   the matrix to store the rotation in
+	 * @return dest
+	 */
+	public static Mat4 Rotation(float angleX, float angleY, float angleZ, Mat4 dest) {
+		float x = (float) toRadians(angleX);
+		float xc = (float) cos(x);
+		float xs = (float) sin(x);
+
+		float y = (float) toRadians(angleY);
+		float yc = (float) cos(y);
+		float ys = (float) sin(y);
+
+		float z = (float) toRadians(angleZ);
+		float zc = (float) cos(z);
+		float zs = (float) sin(z);
+
+		float[] e = dest.elements;
+		e[0 + 0 * 4] = yc * zc;
+		e[1 + 0 * 4] = xc * zs + xs * ys * zc;
+		e[2 + 0 * 4] = xc * ys * zc - xs * zs;
+		e[3 + 0 * 4] = 0.0f;
+
+		e[0 + 1 * 4] = -yc * zs;
+		e[1 + 1 * 4] = xc * zc - xs * ys * zs;
+		e[2 + 1 * 4] = -xs * zc - xc * ys * zs;
+		e[3 + 1 * 4] = 0.0f;
+
+		e[0 + 2 * 4] = -ys;
+		e[1 + 2 * 4] = xs * yc;
+		e[2 + 2 * 4] = xc * yc;
+		e[3 + 2 * 4] = 0.0f;
+
+		e[0 + 3 * 4] = 0.0f;
+		e[1 + 3 * 4] = 0.0f;
+		e[2 + 3 * 4] = 0.0f;
+		e[3 + 3 * 4] = 1.0f;
+		return dest.setKind(Kind.AFFINE);
+	}
+
 	/**
 	 * Returns a scale matrix
 	 * 
@@ -320,18 +1211,37 @@ public class Mat4 {
 		return result;
 	}
 
+	/**
+	 * Stores a scale matrix in dest and marks it as SCALE, without allocating
+	 * anything
+	 * 
+	 * @param scale the scaling value
+	 * @param dest  the matrix to store the scale in
+	 * @return dest
+	 */
+	public static Mat4 Scale(Vec3 scale, Mat4 dest) {
+		Identity(dest);
+		float[] e = dest.elements;
+
+		e[0 + 0 * 4] = scale.x;
+		e[1 + 1 * 4] = scale.y;
+		e[2 + 2 * 4] = scale.z;
+
+		return dest.setKind(Kind.SCALE);
+	}
+
 	// Object-inherited methods
 
 	@Override
 	public String toString() {
-		String text = "";
+		StringBuilder text = new StringBuilder(256);
 		for (int i = 0; i < 4; i++) {
-			text += elements[i + 0 * 4] + " ";
-			text += elements[i + 1 * 4] + " ";
-			text += elements[i + 2 * 4] + " ";
-			text += elements[i + 3 * 4] + "\n";
+			text.append(elements[i + 0 * 4]).append(' ');
+			text.append(elements[i + 1 * 4]).append(' ');
+			text.append(elements[i + 2 * 4]).append(' ');
+			text.append(elements[i + 3 * 4]).append('\n');
 		}
-		return text;
+		return text.toString();
 	}
 
 	@Override
@@ -346,8 +1256,19 @@ public class Mat4 {
 		return equal;
 	}
 
+	@Override
+	public int hashCode() {
+		int hash = 1;
+		for (int i = 0; i < 16; i++) {
+			// + 0.0f turns -0.0f into 0.0f, which are equal for ==
+			hash = 31 * hash + Float.hashCode(elements[i] + 0.0f);
+		}
+		return hash;
+	}
+
 	@Override
 	public Object clone() throws CloneNotSupportedException {
+		MathMetrics.count(MathCounter.MAT4_COPY);
 		Mat4 matrix = new Mat4();
 		for (int i = 0; i < 16; i++) {
 			matrix.elements[i] = elements[i];
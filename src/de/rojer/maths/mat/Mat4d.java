@@ -0,0 +1,360 @@
+package de.rojer.maths.mat;
+
+import static java.lang.Math.cos;
+import static java.lang.Math.sin;
+import static java.lang.Math.toRadians;
+
+import de.rojer.maths.vec.Vec3d;
+import de.rojer.maths.vec.Vec4d;
+
+/**
+ * 4 * 4 Matrix of double elements, column-major like {@link Mat4}
+ * 
+ * For transforms in large worlds, where the translation of a float matrix
+ * loses too much precision. Convert to a {@link Mat4} relative to the camera
+ * for rendering, see {@link de.rojer.maths.scene.CameraRelative}. Products and
+ * transforms are computed in full, without the {@link Mat4.Kind} shortcuts.
+ * 
+ * @author Rojer
+ * @version 18.10.2026
+ */
+public class Mat4d {
+
+	// Attributes
+
+	/**
+	 * The elements of the matrix
+	 */
+	public final double elements[] = new double[16];
+
+	// Constructors
+
+	/**
+	 * Creates a matrix with its values being 0
+	 */
+	public Mat4d() {
+	}
+
+	/**
+	 * Creates a matrix with the diagonal being the given value, the other values
+	 * are 0
+	 * 
+	 * @param diagonal the value of the diagonal
+	 */
+	public Mat4d(double diagonal) {
+		elements[0 + 0 * 4] = diagonal;
+		elements[1 + 1 * 4] = diagonal;
+		elements[2 + 2 * 4] = diagonal;
+		elements[3 + 3 * 4] = diagonal;
+	}
+
+	/**
+	 * Creates a matrix with the elements of a float matrix
+	 * 
+	 * @param matrix the matrix to copy
+	 */
+	public Mat4d(Mat4 matrix) {
+		for (int i = 0; i < 16; i++) {
+			elements[i] = matrix.elements[i];
+		}
+	}
+
+	// Arithmetic
+
+	/**
+	 * Multiplies this matrix with another one, like {@link Mat4#multiply(Mat4)}
+	 * 
+	 * @param other the matrix to multiply this matrix with
+	 * @return this matrix for multiple operations "in one line"
+	 */
+	public Mat4d multiply(Mat4d other) {
+		return mul(this, other, this);
+	}
+
+	/**
+	 * Creates a copy of this instance, then multiplies it with another matrix
+	 * 
+	 * @param other the matrix to multiply the copy with
+	 * @return the copy of this matrix
+	 */
+	public Mat4d cmultiply(Mat4d other) {
+		return mul(this, other, new Mat4d());
+	}
+
+	/**
+	 * Inverts this matrix
+	 * 
+	 * @return this matrix for multiple operations "in one line"
+	 * @throws ArithmeticException if the matrix is singular
+	 */
+	public Mat4d invert() {
+		return invert(this, this);
+	}
+
+	/**
+	 * Transforms a Vec3d as a point (w = 1) and stores the result in dest. in and
+	 * dest may be the same vector.
+	 * 
+	 * @param in   the vector to transform
+	 * @param dest the vector to store the result in
+	 * @return dest
+	 */
+	public Vec3d transform(Vec3d in, Vec3d dest) {
+		double[] e = elements;
+		double x = in.x, y = in.y, z = in.z;
+		dest.x = e[0] * x + e[4] * y + e[8] * z + e[12];
+		dest.y = e[1] * x + e[5] * y + e[9] * z + e[13];
+		dest.z = e[2] * x + e[6] * y + e[10] * z + e[14];
+		return dest;
+	}
+
+	/**
+	 * Transforms a Vec4d and stores the result in dest. in and dest may be the
+	 * same vector.
+	 * 
+	 * @param in   the vector to transform
+	 * @param dest the vector to store the result in
+	 * @return dest
+	 */
+	public Vec4d transform(Vec4d in, Vec4d dest) {
+		double[] e = elements;
+		double x = in.x, y = in.y, z = in.z, w = in.w;
+		dest.x = e[0] * x + e[4] * y + e[8] * z + e[12] * w;
+		dest.y = e[1] * x + e[5] * y + e[9] * z + e[13] * w;
+		dest.z = e[2] * x + e[6] * y + e[10] * z + e[14] * w;
+		dest.w = e[3] * x + e[7] * y + e[11] * z + e[15] * w;
+		return dest;
+	}
+
+	/**
+	 * Multiplies two matrices like {@link Mat4#mul(Mat4, Mat4, Mat4)} and stores
+	 * the result in dest. dest may be a or b.
+	 * 
+	 * @param a    the left matrix
+	 * @param b    the right matrix
+	 * @param dest the matrix to store the product in
+	 * @return dest
+	 */
+	public static Mat4d mul(Mat4d a, Mat4d b, Mat4d dest) {
+		double[] l = a.elements, m = b.elements;
+		double m0 = m[0], m1 = m[1], m2 = m[2], m3 = m[3], m4 = m[4], m5 = m[5], m6 = m[6], m7 = m[7];
+		double m8 = m[8], m9 = m[9], m10 = m[10], m11 = m[11], m12 = m[12], m13 = m[13], m14 = m[14], m15 = m[15];
+		double[] data = dest.elements;
+		for (int r = 0; r < 4; r++) {
+			double l0 = l[r * 4], l1 = l[r * 4 + 1], l2 = l[r * 4 + 2], l3 = l[r * 4 + 3];
+			data[r * 4 + 0] = l0 * m0 + l1 * m4 + l2 * m8 + l3 * m12;
+			data[r * 4 + 1] = l0 * m1 + l1 * m5 + l2 * m9 + l3 * m13;
+			data[r * 4 + 2] = l0 * m2 + l1 * m6 + l2 * m10 + l3 * m14;
+			data[r * 4 + 3] = l0 * m3 + l1 * m7 + l2 * m11 + l3 * m15;
+		}
+		return dest;
+	}
+
+	/**
+	 * Inverts a matrix and stores the result in dest. dest may be the matrix
+	 * itself.
+	 * 
+	 * @param matrix the matrix to invert
+	 * @param dest   the matrix to store the inverse in
+	 * @return dest
+	 * @throws ArithmeticException if the matrix is singular, dest is not changed
+	 *                             then
+	 */
+	public static Mat4d invert(Mat4d matrix, Mat4d dest) {
+		double[] e = matrix.elements;
+		double a00 = e[0], a01 = e[1], a02 = e[2], a03 = e[3];
+		double a10 = e[4], a11 = e[5], a12 = e[6], a13 = e[7];
+		double a20 = e[8], a21 = e[9], a22 = e[10], a23 = e[11];
+		double a30 = e[12], a31 = e[13], a32 = e[14], a33 = e[15];
+
+		double b00 = a00 * a11 - a01 * a10;
+		double b01 = a00 * a12 - a02 * a10;
+		double b02 = a00 * a13 - a03 * a10;
+		double b03 = a01 * a12 - a02 * a11;
+		double b04 = a01 * a13 - a03 * a11;
+		double b05 = a02 * a13 - a03 * a12;
+		double b06 = a20 * a31 - a21 * a30;
+		double b07 = a20 * a32 - a22 * a30;
+		double b08 = a20 * a33 - a23 * a30;
+		double b09 = a21 * a32 - a22 * a31;
+		double b10 = a21 * a33 - a23 * a31;
+		double b11 = a22 * a33 - a23 * a32;
+
+		double det = b00 * b11 - b01 * b10 + b02 * b09 + b03 * b08 - b04 * b07 + b05 * b06;
+		if (det == 0.0) {
+			throw new ArithmeticException("Matrix is singular");
+		}
+		det = 1.0 / det;
+
+		double[] data = dest.elements;
+		data[0] = (a11 * b11 - a12 * b10 + a13 * b09) * det;
+		data[1] = (a02 * b10 - a01 * b11 - a03 * b09) * det;
+		data[2] = (a31 * b05 - a32 * b04 + a33 * b03) * det;
+		data[3] = (a22 * b04 - a21 * b05 - a23 * b03) * det;
+		data[4] = (a12 * b08 - a10 * b11 - a13 * b07) * det;
+		data[5] = (a00 * b11 - a02 * b08 + a03 * b07) * det;
+		data[6] = (a32 * b02 - a30 * b05 - a33 * b01) * det;
+		data[7] = (a20 * b05 - a22 * b02 + a23 * b01) * det;
+		data[8] = (a10 * b10 - a11 * b08 + a13 * b06) * det;
+		data[9] = (a01 * b08 - a00 * b10 - a03 * b06) * det;
+		data[10] = (a30 * b04 - a31 * b02 + a33 * b00) * det;
+		data[11] = (a21 * b02 - a20 * b04 - a23 * b00) * det;
+		data[12] = (a11 * b07 - a10 * b09 - a12 * b06) * det;
+		data[13] = (a00 * b09 - a01 * b07 + a02 * b06) * det;
+		data[14] = (a31 * b01 - a30 * b03 - a32 * b00) * det;
+		data[15] = (a20 * b03 - a21 * b01 + a22 * b00) * det;
+		return dest;
+	}
+
+	// Conversion
+
+	/**
+	 * Copies the elements of another matrix into this one
+	 * 
+	 * @param other the matrix to copy
+	 * @return this matrix for multiple operations "in one line"
+	 */
+	public Mat4d set(Mat4d other) {
+		System.arraycopy(other.elements, 0, elements, 0, 16);
+		return this;
+	}
+
+	/**
+	 * Stores this matrix, rounded to floats, in dest. Only precise for a small
+	 * translation, see {@link de.rojer.maths.scene.CameraRelative} otherwise.
+	 * 
+	 * @param dest the matrix to store the elements in
+	 * @return dest
+	 */
+	public Mat4 get(Mat4 dest) {
+		float[] data = dest.elements;
+		for (int i = 0; i < 16; i++) {
+			data[i] = (float) elements[i];
+		}
+		return dest.updateKind();
+	}
+
+	// Static Methods
+
+	/**
+	 * @return the identity matrix
+	 */
+	public static Mat4d Identity() {
+		return new Mat4d(1.0);
+	}
+
+	/**
+	 * Returns a translation matrix
+	 * 
+	 * @param translation the translation on the x-, y- and z-axis
+	 * @return the matrix
+	 */
+	public static Mat4d Translation(Vec3d translation) {
+		Mat4d result = new Mat4d(1.0);
+
+		result.elements[0 + 3 * 4] = translation.x;
+		result.elements[1 + 3 * 4] = translation.y;
+		result.elements[2 + 3 * 4] = translation.z;
+
+		return result;
+	}
+
+	/**
+	 * Returns the same rotation as {@link Mat4#Rotation(float, float, float)}
+	 * 
+	 * @param angleX the angle in x-direction
+	 * @param angleY the angle in y-direction
+	 * @param angleZ the angle in z-direction
+	 * @return the matrix
+	 */
+	public static Mat4d Rotation(double angleX, double angleY, double angleZ) {
+		double x = toRadians(angleX);
+		double xc = cos(x);
+		double xs = sin(x);
+
+		double y = toRadians(angleY);
+		double yc = cos(y);
+		double ys = sin(y);
+
+		double z = toRadians(angleZ);
+		double zc = cos(z);
+		double zs = sin(z);
+
+		Mat4d result = new Mat4d();
+		double[] e = result.elements;
+		e[0 + 0 * 4] = yc * zc;
+		e[1 + 0 * 4] = xc * zs + xs * ys * zc;
+		e[2 + 0 * 4] = xc * ys * zc - xs * zs;
+
+		e[0 + 1 * 4] = -yc * zs;
+		e[1 + 1 * 4] = xc * zc - xs * ys * zs;
+		e[2 + 1 * 4] = -xs * zc - xc * ys * zs;
+
+		e[0 + 2 * 4] = -ys;
+		e[1 + 2 * 4] = xs * yc;
+		e[2 + 2 * 4] = xc * yc;
+
+		e[3 + 3 * 4] = 1.0;
+		return result;
+	}
+
+	/**
+	 * Returns a scale matrix
+	 * 
+	 * @param scale the scaling value
+	 * @return the matrix
+	 */
+	public static Mat4d Scale(Vec3d scale) {
+		Mat4d result = new Mat4d(1.0);
+
+		result.elements[0 + 0 * 4] = scale.x;
+		result.elements[1 + 1 * 4] = scale.y;
+		result.elements[2 + 2 * 4] = scale.z;
+
+		return result;
+	}
+
+	// Object-inherited methods
+
+	@Override
+	public String toString() {
+		StringBuilder text = new StringBuilder(256);
+		for (int i = 0; i < 4; i++) {
+			text.append(elements[i + 0 * 4]).append(' ');
+			text.append(elements[i + 1 * 4]).append(' ');
+			text.append(elements[i + 2 * 4]).append(' ');
+			text.append(elements[i + 3 * 4]).append('\n');
+		}
+		return text.toString();
+	}
+
+	@Override
+	public boolean equals(Object obj) {
+		if (!(obj instanceof Mat4d)) {
+			return false;
+		}
+		double[] other = ((Mat4d) obj).elements;
+		for (int i = 0; i < 16; i++) {
+			if (elements[i] != other[i]) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	@Override
+	public int hashCode() {
+		int hash = 1;
+		for (int i = 0; i < 16; i++) {
+			// + 0.0 turns -0.0 into 0.0, which are equal for ==
+			hash = 31 * hash + Double.hashCode(elements[i] + 0.0);
+		}
+		return hash;
+	}
+
+	@Override
+	public Object clone() throws CloneNotSupportedException {
+		return new Mat4d().set(this);
+	}
+
+}
@@ -0,0 +1,330 @@
+package de.rojer.maths.mat;
+
+import java.util.Arrays;
+
+import de.rojer.maths.metrics.BulkKernelEvent;
+import de.rojer.maths.metrics.MathMetrics;
+import de.rojer.maths.vec.VecN;
+
+/**
+ * Dense matrix of any size with double elements, row-major
+ *
+ * For least squares, covariances and other work beyond 4 * 4. Unlike
+ * {@link Mat4}, the elements are stored row by row, the element in row r and
+ * column c is elements[r * columns + c], so the inner loops of the product and
+ * of the decompositions run along contiguous rows, which the JIT vectorizes.
+ *
+ * {@link #mul(MatN, MatN, MatN)} works on blocks of {@value #BLOCK_INNER}
+ * rows of b and {@value #BLOCK_COLUMNS} columns, which stay in the cache
+ * while all rows of a pass over them, and every row of dest is updated with 4
+ * rows of b at once, so it is loaded and stored a quarter as often as in the
+ * triple loop. Use de.rojer.maths.parallel.BatchTransformer#mul for large
+ * matrices on several cores, and {@link LuDecomposition} or
+ * {@link CholeskyDecomposition} to solve linear systems.
+ *
+ * @author Rojer
+ * @version 18.10.2026
+ */
+public class MatN {
+
+	// Attributes
+
+	/**
+	 * The number of rows of b in a block of the product
+	 */
+	public static final int BLOCK_INNER = 256;
+
+	/**
+	 * The number of columns in a block of the product
+	 */
+	public static final int BLOCK_COLUMNS = 512;
+
+	/**
+	 * The elements of the matrix, row by row
+	 */
+	public final double[] elements;
+
+	private final int rows, columns;
+
+	// Constructors
+
+	/**
+	 * Creates a matrix with all elements being 0
+	 *
+	 * @param rows    the number of rows
+	 * @param columns the number of columns
+	 */
+	public MatN(int rows, int columns) {
+		this(rows, columns, new double[Math.multiplyExact(rows, columns)]);
+	}
+
+	/**
+	 * Creates a matrix on top of an array, without copying it
+	 *
+	 * @param rows     the number of rows
+	 * @param columns  the number of columns
+	 * @param elements the elements, row by row
+	 * @throws IllegalArgumentException if the array does not have rows *
+	 *                                  columns elements
+	 */
+	public MatN(int rows, int columns, double[] elements) {
+		if (rows < 0 || columns < 0 || elements.length != (long) rows * columns) {
+			throw new IllegalArgumentException(
+					"Expected " + rows + " * " + columns + " elements, but got " + elements.length);
+		}
+		this.rows = rows;
+		this.columns = columns;
+		this.elements = elements;
+	}
+
+	// Access
+
+	/**
+	 * @return the number of rows
+	 */
+	public int rows() {
+		return rows;
+	}
+
+	/**
+	 * @return the number of columns
+	 */
+	public int columns() {
+		return columns;
+	}
+
+	/**
+	 * @param row    the row of the element
+	 * @param column the column of the element
+	 * @return the element
+	 */
+	public double get(int row, int column) {
+		return elements[row * columns + column];
+	}
+
+	/**
+	 * @param row    the row of the element
+	 * @param column the column of the element
+	 * @param value  the new value of the element
+	 * @return this matrix for multiple operations "in one line"
+	 */
+	public MatN set(int row, int column, double value) {
+		elements[row * columns + column] = value;
+		return this;
+	}
+
+	/**
+	 * Copies the elements of another matrix of the same size into this matrix
+	 *
+	 * @param other the matrix to copy
+	 * @return this matrix for multiple operations "in one line"
+	 */
+	public MatN set(MatN other) {
+		checkShape(other, rows, columns, "other");
+		System.arraycopy(other.elements, 0, elements, 0, elements.length);
+		return this;
+	}
+
+	// Arithmetic
+
+	/**
+	 * Multiplies this matrix with another one, mathematically this * other
+	 *
+	 * @param other the matrix to multiply with, with as many rows as this matrix
+	 *              has columns
+	 * @return a new matrix with the product
+	 */
+	public MatN cmultiply(MatN other) {
+		return mul(this, other, new MatN(rows, other.columns));
+	}
+
+	/**
+	 * Multiplies this matrix with a vector, mathematically this * vector
+	 *
+	 * @param vector the vector, with as many elements as this matrix has columns
+	 * @param dest   the vector to store the result in, with as many elements as
+	 *               this matrix has rows, must not be vector
+	 * @return dest
+	 */
+	public VecN transform(VecN vector, VecN dest) {
+		if (vector.size() != columns || dest.size() != rows) {
+			throw new IllegalArgumentException("Cannot multiply a " + rows + " * " + columns
+					+ " matrix with a vector of size " + vector.size() + " into one of size " + dest.size());
+		}
+		if (vector == dest) {
+			throw new IllegalArgumentException("dest must not be vector");
+		}
+		double[] e = elements, v = vector.elements, d = dest.elements;
+		for (int r = 0, row = 0; r < rows; r++, row += columns) {
+			double sum = 0.0;
+			for (int c = 0; c < columns; c++) {
+				sum += e[row + c] * v[c];
+			}
+			d[r] = sum;
+		}
+		return dest;
+	}
+
+	// Static Methods
+
+	/**
+	 * Stores the identity matrix in a new matrix
+	 *
+	 * @param size the number of rows and columns
+	 * @return the matrix
+	 */
+	public static MatN Identity(int size) {
+		MatN result = new MatN(size, size);
+		for (int i = 0; i < size; i++) {
+			result.elements[i * size + i] = 1.0;
+		}
+		return result;
+	}
+
+	/**
+	 * Transposes a matrix
+	 *
+	 * @param matrix the matrix to transpose
+	 * @param dest   the matrix to store the transpose in, with the rows and
+	 *               columns of matrix swapped, must not be matrix
+	 * @return dest
+	 */
+	public static MatN transpose(MatN matrix, MatN dest) {
+		checkShape(dest, matrix.columns, matrix.rows, "dest");
+		if (matrix == dest) {
+			throw new IllegalArgumentException("dest must not be matrix");
+		}
+		double[] s = matrix.elements, d = dest.elements;
+		int rows = matrix.rows, columns = matrix.columns;
+		// In tiles of 32 * 32, so reading the columns does not evict the rows written
+		for (int r0 = 0; r0 < rows; r0 += 32) {
+			int r1 = Math.min(rows, r0 + 32);
+			for (int c0 = 0; c0 < columns; c0 += 32) {
+				int c1 = Math.min(columns, c0 + 32);
+				for (int c = c0; c < c1; c++) {
+					for (int r = r0; r < r1; r++) {
+						d[c * rows + r] = s[r * columns + c];
+					}
+				}
+			}
+		}
+		return dest;
+	}
+
+	/**
+	 * Multiplies two matrices, mathematically a * b, and stores the result in
+	 * dest
+	 *
+	 * @param a    the left matrix
+	 * @param b    the right matrix, with as many rows as a has columns
+	 * @param dest the matrix to store the product in, with the rows of a and
+	 *             the columns of b, must be neither a nor b
+	 * @return dest
+	 */
+	public static MatN mul(MatN a, MatN b, MatN dest) {
+		mul(a, b, dest, 0, a.rows);
+		return dest;
+	}
+
+	/**
+	 * Computes some rows of the product of two matrices like
+	 * {@link #mul(MatN, MatN, MatN)}, leaving the other rows of dest alone. The
+	 * rows are computed the same way as by the call for all rows.
+	 *
+	 * @param a      the left matrix
+	 * @param b      the right matrix, with as many rows as a has columns
+	 * @param dest   the matrix to store the product in, with the rows of a and
+	 *               the columns of b, must be neither a nor b
+	 * @param offset the first row of dest to compute
+	 * @param count  the number of rows to compute
+	 */
+	public static void mul(MatN a, MatN b, MatN dest, int offset, int count) {
+		if (a.columns != b.rows) {
+			throw new IllegalArgumentException("Cannot multiply a " + a.rows + " * " + a.columns + " matrix with a "
+					+ b.rows + " * " + b.columns + " matrix");
+		}
+		checkShape(dest, a.rows, b.columns, "dest");
+		if (dest == a || dest == b) {
+			throw new IllegalArgumentException("dest must be neither a nor b");
+		}
+		BulkKernelEvent event = MathMetrics.begin("MatN.mul", count);
+		double[] l = a.elements, m = b.elements, d = dest.elements;
+		int inner = a.columns, columns = b.columns;
+		int end = offset + count;
+		Arrays.fill(d, offset * columns, end * columns, 0.0);
+		for (int k0 = 0; k0 < inner; k0 += BLOCK_INNER) {
+			int k1 = Math.min(inner, k0 + BLOCK_INNER);
+			for (int j0 = 0; j0 < columns; j0 += BLOCK_COLUMNS) {
+				int j1 = Math.min(columns, j0 + BLOCK_COLUMNS);
+				for (int i = offset; i < end; i++) {
+					mulBlock(l, i * inner, m, d, i * columns, columns, k0, k1, j0, j1);
+				}
+			}
+		}
+		MathMetrics.end(event);
+	}
+
+	// Internals
+
+	/**
+	 * Adds the product of a row of a, restricted to [k0, k1), and the block of b
+	 * in rows [k0, k1) and columns [j0, j1) to a row of dest
+	 */
+	private static void mulBlock(double[] l, int row, double[] m, double[] d, int destRow, int columns, int k0,
+			int k1, int j0, int j1) {
+		int k = k0;
+		// 4 rows of b per pass, each element of dest is loaded and stored once for them
+		for (; k + 4 <= k1; k += 4) {
+			double x0 = l[row + k], x1 = l[row + k + 1], x2 = l[row + k + 2], x3 = l[row + k + 3];
+			int b0 = k * columns, b1 = b0 + columns, b2 = b1 + columns, b3 = b2 + columns;
+			for (int j = j0; j < j1; j++) {
+				d[destRow + j] += x0 * m[b0 + j] + x1 * m[b1 + j] + x2 * m[b2 + j] + x3 * m[b3 + j];
+			}
+		}
+		for (; k < k1; k++) {
+			double x = l[row + k];
+			int b0 = k * columns;
+			for (int j = j0; j < j1; j++) {
+				d[destRow + j] += x * m[b0 + j];
+			}
+		}
+	}
+
+	static void checkShape(MatN matrix, int rows, int columns, String name) {
+		if (matrix.rows != rows || matrix.columns != columns) {
+			throw new IllegalArgumentException("Expected " + name + " to be a " + rows + " * " + columns
+					+ " matrix, but it is " + matrix.rows + " * " + matrix.columns);
+		}
+	}
+
+	// Object-inherited methods
+
+	@Override
+	public String toString() {
+		StringBuilder text = new StringBuilder();
+		for (int r = 0; r < rows; r++) {
+			for (int c = 0; c < columns; c++) {
+				text.append(elements[r * columns + c]).append(c + 1 < columns ? ' ' : '\n');
+			}
+		}
+		return text.toString();
+	}
+
+	/**
+	 * Checks if a MatN has the same size and elements as this matrix
+	 */
+	@Override
+	public boolean equals(Object obj) {
+		if (!(obj instanceof MatN)) {
+			return false;
+		}
+		MatN other = (MatN) obj;
+		return rows == other.rows && columns == other.columns && Arrays.equals(elements, other.elements);
+	}
+
+	@Override
+	public int hashCode() {
+		return 31 * (31 * rows + columns) + Arrays.hashCode(elements);
+	}
+
+}
@@ -0,0 +1,321 @@
+package de.rojer.maths.mat;
+
+import java.util.Arrays;
+
+import de.rojer.maths.metrics.BulkKernelEvent;
+import de.rojer.maths.metrics.MathMetrics;
+import de.rojer.maths.vec.Vec3;
+import de.rojer.maths.vec.Vec3Buffer;
+import de.rojer.maths.vec.Vec4;
+import de.rojer.maths.vec.Vec4Buffer;
+
+/**
+ * A lazily evaluated chain of transformations for vectors
+ *
+ * The chain records matrices, translations and scales in the order they are
+ * applied to a vector, without computing anything. Applying the chain folds
+ * all steps into one matrix first, so a batch of vectors is swept once with a
+ * single matrix instead of once per step, and an optional perspective divide
+ * is done in the same loop. Recorded matrices are kept by reference and read
+ * when the chain is applied, so a chain built once, like model, view and
+ * projection, stays up to date when the matrices change.
+ *
+ * Every apply folds the chain again, which costs a matrix product per step.
+ * That is nothing next to a batch, but dominates when single vectors are
+ * transformed in a loop. For such loops, call {@link #fold()} once, which
+ * keeps the product until the chain changes or is folded again, like
+ *
+ * <pre>
+ * chain.fold();
+ * for (Vec3 vertex : vertices) {
+ * 	chain.apply(vertex, vertex);
+ * }
+ * </pre>
+ *
+ * A chain must not be used by several threads at once.
+ *
+ * @author Rojer
+ * @version 18.10.2026
+ */
+public class TransformChain {
+
+	// Attributes
+
+	/**
+	 * The result of an empty chain, never changed
+	 */
+	private static final Mat4 IDENTITY = Mat4.Identity(new Mat4());
+
+	/**
+	 * The steps in the order they are applied
+	 */
+	private Mat4[] steps = new Mat4[4];
+
+	private int size;
+
+	/**
+	 * True if the results are divided by w
+	 */
+	private boolean project;
+
+	/**
+	 * The folded steps
+	 */
+	private final Mat4 product = new Mat4();
+
+	/**
+	 * True if product is kept by {@link #fold()} and not folded again per apply
+	 */
+	private boolean folded;
+
+	// Recording
+
+	/**
+	 * Adds a matrix transforming the vectors after the steps so far. The matrix
+	 * is read when the chain is applied, not now.
+	 *
+	 * @param matrix the matrix
+	 * @return this chain for multiple operations "in one line"
+	 * @throws IllegalStateException if the chain already divides by w
+	 */
+	public TransformChain then(Mat4 matrix) {
+		if (project) {
+			throw new IllegalStateException("Nothing can follow the perspective divide");
+		}
+		if (size == steps.length) {
+			steps = Arrays.copyOf(steps, size * 2);
+		}
+		steps[size++] = matrix;
+		folded = false;
+		return this;
+	}
+
+	/**
+	 * Adds a translation after the steps so far
+	 *
+	 * @param x the translation along the x-axis
+	 * @param y the translation along the y-axis
+	 * @param z the translation along the z-axis
+	 * @return this chain for multiple operations "in one line"
+	 * @throws IllegalStateException if the chain already divides by w
+	 */
+	public TransformChain translate(float x, float y, float z) {
+		Mat4 matrix = new Mat4(1.0f);
+		matrix.elements[0 + 3 * 4] = x;
+		matrix.elements[1 + 3 * 4] = y;
+		matrix.elements[2 + 3 * 4] = z;
+		return then(matrix.setKind(Mat4.Kind.TRANSLATION));
+	}
+
+	/**
+	 * Adds a scale after the steps so far
+	 *
+	 * @param x the scale along the x-axis
+	 * @param y the scale along the y-axis
+	 * @param z the scale along the z-axis
+	 * @return this chain for multiple operations "in one line"
+	 * @throws IllegalStateException if the chain already divides by w
+	 */
+	public TransformChain scale(float x, float y, float z) {
+		Mat4 matrix = new Mat4(1.0f);
+		matrix.elements[0 + 0 * 4] = x;
+		matrix.elements[1 + 1 * 4] = y;
+		matrix.elements[2 + 2 * 4] = z;
+		return then(matrix.setKind(Mat4.Kind.SCALE));
+	}
+
+	/**
+	 * Divides the x, y and z of the results by their w as the last step, like
+	 * after a projection. Only applies to Vec3 results, Vec4 results stay
+	 * homogeneous.
+	 *
+	 * @return this chain for multiple operations "in one line"
+	 */
+	public TransformChain project() {
+		project = true;
+		folded = false;
+		return this;
+	}
+
+	/**
+	 * Removes all steps
+	 *
+	 * @return this chain for multiple operations "in one line"
+	 */
+	public TransformChain clear() {
+		Arrays.fill(steps, 0, size, null);
+		size = 0;
+		project = false;
+		folded = false;
+		return this;
+	}
+
+	// Evaluation
+
+	/**
+	 * Folds the steps now and keeps the product, so the apply methods reuse it
+	 * instead of folding on every call. Changes to the recorded matrices are
+	 * seen after the next fold, recording a step or clearing the chain goes
+	 * back to folding per apply.
+	 *
+	 * @return this chain for multiple operations "in one line"
+	 */
+	public TransformChain fold() {
+		foldSteps();
+		folded = true;
+		return this;
+	}
+
+	/**
+	 * Folds the steps into one matrix, an empty chain is the identity. dest may
+	 * be one of the recorded matrices. If the chain was folded with
+	 * {@link #fold()}, the kept product is folded again as well.
+	 *
+	 * @param dest the matrix to store the product in
+	 * @return dest
+	 */
+	public Mat4 fold(Mat4 dest) {
+		return dest.set(foldSteps());
+	}
+
+	/**
+	 * Transforms a point (w = 1) by the chain. Unless the chain was folded with
+	 * {@link #fold()}, this folds it on every call, so it is not meant for loops
+	 * over many vectors.
+	 *
+	 * @param in   the vector to transform
+	 * @param dest the vector to store the result in, may be in
+	 * @return dest
+	 */
+	public Vec3 apply(Vec3 in, Vec3 dest) {
+		Mat4 matrix = matrix();
+		if (!project) {
+			return matrix.transform(in, dest);
+		}
+		float[] m = matrix.elements;
+		float x = in.x, y = in.y, z = in.z;
+		float inverseW = 1.0f / (m[3 + 4 * 0] * x + m[3 + 4 * 1] * y + m[3 + 4 * 2] * z + m[3 + 4 * 3]);
+		dest.x = (m[0 + 4 * 0] * x + m[0 + 4 * 1] * y + m[0 + 4 * 2] * z + m[0 + 4 * 3]) * inverseW;
+		dest.y = (m[1 + 4 * 0] * x + m[1 + 4 * 1] * y + m[1 + 4 * 2] * z + m[1 + 4 * 3]) * inverseW;
+		dest.z = (m[2 + 4 * 0] * x + m[2 + 4 * 1] * y + m[2 + 4 * 2] * z + m[2 + 4 * 3]) * inverseW;
+		return dest;
+	}
+
+	/**
+	 * Transforms a vector by the chain. Unless the chain was folded with
+	 * {@link #fold()}, this folds it on every call, so it is not meant for loops
+	 * over many vectors.
+	 *
+	 * @param in   the vector to transform
+	 * @param dest the vector to store the result in, may be in
+	 * @return dest
+	 */
+	public Vec4 apply(Vec4 in, Vec4 dest) {
+		return matrix().transform(in, dest);
+	}
+
+	/**
+	 * Transforms points (w = 1) by the chain, with one product per point
+	 *
+	 * @param src    the points to transform
+	 * @param dest   the buffer to store the results in, may be src or share
+	 *               component arrays with it
+	 * @param offset the index of the first point
+	 * @param count  the number of points
+	 */
+	public void apply(Vec3Buffer src, Vec3Buffer dest, int offset, int count) {
+		Mat4 matrix = matrix();
+		if (!project) {
+			Vec3Buffer.transform(matrix, src, dest, offset, count);
+			return;
+		}
+		BulkKernelEvent event = MathMetrics.begin("TransformChain.apply", count);
+		float[] m = matrix.elements;
+		float m00 = m[0 + 4 * 0], m01 = m[0 + 4 * 1], m02 = m[0 + 4 * 2], m03 = m[0 + 4 * 3];
+		float m10 = m[1 + 4 * 0], m11 = m[1 + 4 * 1], m12 = m[1 + 4 * 2], m13 = m[1 + 4 * 3];
+		float m20 = m[2 + 4 * 0], m21 = m[2 + 4 * 1], m22 = m[2 + 4 * 2], m23 = m[2 + 4 * 3];
+		float m30 = m[3 + 4 * 0], m31 = m[3 + 4 * 1], m32 = m[3 + 4 * 2], m33 = m[3 + 4 * 3];
+		float[] sx = src.x, sy = src.y, sz = src.z;
+		float[] dx = dest.x, dy = dest.y, dz = dest.z;
+		int end = offset + count;
+		if (shares(dx, sx, sy, sz) || shares(dy, sx, sy, sz) || shares(dz, sx, sy, sz)) {
+			// In place: every component has to be read before any is written
+			for (int i = offset; i < end; i++) {
+				float x = sx[i], y = sy[i], z = sz[i];
+				float inverseW = 1.0f / (m30 * x + m31 * y + m32 * z + m33);
+				dx[i] = (m00 * x + m01 * y + m02 * z + m03) * inverseW;
+				dy[i] = (m10 * x + m11 * y + m12 * z + m13) * inverseW;
+				dz[i] = (m20 * x + m21 * y + m22 * z + m23) * inverseW;
+			}
+			MathMetrics.end(event);
+			return;
+		}
+		// 1 / w goes into dest.z first, so every loop has a single store and is vectorized
+		for (int i = offset; i < end; i++) {
+			dz[i] = 1.0f / (m30 * sx[i] + m31 * sy[i] + m32 * sz[i] + m33);
+		}
+		for (int i = offset; i < end; i++) {
+			dx[i] = (m00 * sx[i] + m01 * sy[i] + m02 * sz[i] + m03) * dz[i];
+		}
+		for (int i = offset; i < end; i++) {
+			dy[i] = (m10 * sx[i] + m11 * sy[i] + m12 * sz[i] + m13) * dz[i];
+		}
+		for (int i = offset; i < end; i++) {
+			dz[i] = (m20 * sx[i] + m21 * sy[i] + m22 * sz[i] + m23) * dz[i];
+		}
+		MathMetrics.end(event);
+	}
+
+	/**
+	 * Transforms vectors by the chain, with one product per vector
+	 *
+	 * @param src    the vectors to transform
+	 * @param dest   the buffer to store the results in, may be src
+	 * @param offset the index of the first vector
+	 * @param count  the number of vectors
+	 */
+	public void apply(Vec4Buffer src, Vec4Buffer dest, int offset, int count) {
+		Vec4Buffer.transform(matrix(), src, dest, offset, count);
+	}
+
+	/**
+	 * @return the number of steps, without the perspective divide
+	 */
+	public int size() {
+		return size;
+	}
+
+	// Internals
+
+	/**
+	 * @return the kept product if the chain is folded, else the steps folded now
+	 */
+	private Mat4 matrix() {
+		return folded ? product : foldSteps();
+	}
+
+	/**
+	 * Folds the steps into product, which is never a step itself, so no step is
+	 * overwritten before it is read
+	 *
+	 * @return product
+	 */
+	private Mat4 foldSteps() {
+		if (size == 0) {
+			return product.set(IDENTITY);
+		}
+		product.set(steps[0]);
+		for (int i = 1; i < size; i++) {
+			Mat4.mul(product, steps[i], product);
+		}
+		return product;
+	}
+
+	/**
+	 * @return true if a component array of the destination is one of the source
+	 */
+	private static boolean shares(float[] dest, float[] x, float[] y, float[] z) {
+		return dest == x || dest == y || dest == z;
+	}
+
+}
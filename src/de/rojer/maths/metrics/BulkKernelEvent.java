@@ -0,0 +1,31 @@
+package de.rojer.maths.metrics;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * A JFR event recorded for every call of a bulk kernel while
+ * {@link MathMetrics} is enabled, with the kernel and the number of elements
+ * it processed
+ *
+ * @author Rojer
+ * @version 18.10.2026
+ */
+@Name("de.rojer.maths.BulkKernel")
+@Label("Bulk Kernel")
+@Description("A call of a bulk kernel of the maths library")
+@Category("Maths")
+@StackTrace(false)
+public class BulkKernelEvent extends Event {
+
+	@Label("Kernel")
+	String kernel;
+
+	@Label("Elements")
+	long elements;
+
+}
@@ -0,0 +1,42 @@
+package de.rojer.maths.metrics;
+
+/**
+ * The operations counted by {@link MathMetrics}
+ *
+ * @author Rojer
+ * @version 18.10.2026
+ */
+public enum MathCounter {
+
+	/**
+	 * Products of two Mat4 objects, including multiply and cmultiply
+	 */
+	MAT4_MULTIPLY,
+	/**
+	 * Inverses of Mat4 objects, including invert and cinvert
+	 */
+	MAT4_INVERT,
+	/**
+	 * Vectors transformed by Mat4 objects one at a time
+	 */
+	MAT4_TRANSFORM,
+	/**
+	 * Matrices allocated by the copying methods of Mat4 (cmultiply, cinvert,
+	 * clone)
+	 */
+	MAT4_COPY,
+	/**
+	 * Vectors allocated by the copying methods of the vectors (cadd, ..., clone)
+	 * and by the multiply methods of Mat4 that return a new vector
+	 */
+	VECTOR_COPY,
+	/**
+	 * Calls of bulk kernels, over arrays or buffers
+	 */
+	BULK_CALL,
+	/**
+	 * Elements (matrices, vectors, vertices, ...) processed by bulk kernels
+	 */
+	BULK_ELEMENTS
+
+}
@@ -0,0 +1,204 @@
+package de.rojer.maths.metrics;
+
+import java.lang.management.ManagementFactory;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+
+/**
+ * Opt-in counters of the operations of the library and JFR events for its bulk
+ * kernels
+ *
+ * Counting is enabled by starting the JVM with the system property
+ * {@value #ENABLED_PROPERTY} set to true. The flag is a static final constant,
+ * so while it is off the JIT removes the counting from the compiled code and
+ * the instrumented methods cost the same as without it. While it is on, every
+ * {@link MathCounter} is a LongAdder, so threads counting at the same time do
+ * not contend, and every bulk kernel records a {@link BulkKernelEvent} when a
+ * JFR recording with the event is running.
+ *
+ * Read the counters with {@link #snapshot()} or over JMX after
+ * {@link #registerMBean()}.
+ *
+ * @author Rojer
+ * @version 18.10.2026
+ */
+public final class MathMetrics {
+
+	// Attributes
+
+	/**
+	 * The system property enabling the counters
+	 */
+	public static final String ENABLED_PROPERTY = "de.rojer.maths.metrics";
+
+	/**
+	 * True if the operations are counted
+	 */
+	public static final boolean ENABLED = Boolean.getBoolean(ENABLED_PROPERTY);
+
+	/**
+	 * The name the MBean is registered with
+	 */
+	public static final String OBJECT_NAME = "de.rojer.maths:type=MathMetrics";
+
+	private static final MathCounter[] COUNTERS = MathCounter.values();
+
+	private static final LongAdder[] ADDERS = new LongAdder[COUNTERS.length];
+
+	static {
+		for (int i = 0; i < ADDERS.length; i++) {
+			ADDERS[i] = new LongAdder();
+		}
+	}
+
+	private MathMetrics() {
+	}
+
+	// Counting
+
+	/**
+	 * Counts one operation, if enabled
+	 *
+	 * @param counter the counter of the operation
+	 */
+	public static void count(MathCounter counter) {
+		if (ENABLED) {
+			ADDERS[counter.ordinal()].increment();
+		}
+	}
+
+	/**
+	 * Counts several operations, if enabled
+	 *
+	 * @param counter the counter of the operations
+	 * @param count   the number of operations
+	 */
+	public static void count(MathCounter counter, long count) {
+		if (ENABLED) {
+			ADDERS[counter.ordinal()].add(count);
+		}
+	}
+
+	/**
+	 * Starts measuring a call of a bulk kernel, if enabled: counts the call and
+	 * its elements and begins its JFR event. Pass the result to
+	 * {@link #end(BulkKernelEvent)} when the kernel is done.
+	 *
+	 * @param kernel   the name of the kernel, like "Mat4.mul"
+	 * @param elements the number of elements the kernel processes
+	 * @return the event, or null if not enabled
+	 */
+	public static BulkKernelEvent begin(String kernel, long elements) {
+		if (!ENABLED) {
+			return null;
+		}
+		ADDERS[MathCounter.BULK_CALL.ordinal()].increment();
+		ADDERS[MathCounter.BULK_ELEMENTS.ordinal()].add(elements);
+		BulkKernelEvent event = new BulkKernelEvent();
+		if (event.isEnabled()) {
+			event.kernel = kernel;
+			event.elements = elements;
+			event.begin();
+		}
+		return event;
+	}
+
+	/**
+	 * Ends measuring a call of a bulk kernel and commits its JFR event
+	 *
+	 * @param event the event returned by {@link #begin(String, long)}, may be
+	 *              null
+	 */
+	public static void end(BulkKernelEvent event) {
+		if (ENABLED && event != null) {
+			event.commit();
+		}
+	}
+
+	// Reading
+
+	/**
+	 * @param counter the counter
+	 * @return the current value of the counter
+	 */
+	public static long get(MathCounter counter) {
+		return ADDERS[counter.ordinal()].sum();
+	}
+
+	/**
+	 * Returns the current values of all counters. Operations running at the same
+	 * time may or may not be included.
+	 *
+	 * @return the snapshot
+	 */
+	public static MetricsSnapshot snapshot() {
+		long[] values = new long[ADDERS.length];
+		for (int i = 0; i < values.length; i++) {
+			values[i] = ADDERS[i].sum();
+		}
+		return new MetricsSnapshot(values);
+	}
+
+	/**
+	 * Sets every counter to 0
+	 */
+	public static void reset() {
+		for (LongAdder adder : ADDERS) {
+			adder.reset();
+		}
+	}
+
+	// JMX
+
+	/**
+	 * Registers an MBean with the counters as {@value #OBJECT_NAME} at the
+	 * platform MBean server, unless one is registered already
+	 *
+	 * @return the name of the MBean
+	 * @throws IllegalStateException if the registration fails
+	 */
+	public static synchronized ObjectName registerMBean() {
+		try {
+			ObjectName name = new ObjectName(OBJECT_NAME);
+			MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+			if (!server.isRegistered(name)) {
+				server.registerMBean(new MBean(), name);
+			}
+			return name;
+		} catch (JMException e) {
+			throw new IllegalStateException("Cannot register " + OBJECT_NAME, e);
+		}
+	}
+
+	/**
+	 * Exposes the counters over JMX
+	 */
+	private static final class MBean implements MathMetricsMXBean {
+
+		@Override
+		public boolean isEnabled() {
+			return ENABLED;
+		}
+
+		@Override
+		public Map<String, Long> getCounters() {
+			Map<String, Long> counters = new LinkedHashMap<>();
+			for (MathCounter counter : COUNTERS) {
+				counters.put(counter.name(), get(counter));
+			}
+			return counters;
+		}
+
+		@Override
+		public void reset() {
+			MathMetrics.reset();
+		}
+
+	}
+
+}
@@ -0,0 +1,29 @@
+package de.rojer.maths.metrics;
+
+import java.util.Map;
+
+/**
+ * The JMX interface of {@link MathMetrics}, registered with
+ * {@link MathMetrics#registerMBean()}
+ *
+ * @author Rojer
+ * @version 18.10.2026
+ */
+public interface MathMetricsMXBean {
+
+	/**
+	 * @return true if the operations are counted
+	 */
+	boolean isEnabled();
+
+	/**
+	 * @return the value of every {@link MathCounter}, by its name
+	 */
+	Map<String, Long> getCounters();
+
+	/**
+	 * Sets every counter to 0
+	 */
+	void reset();
+
+}
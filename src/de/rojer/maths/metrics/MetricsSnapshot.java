@@ -0,0 +1,65 @@
+package de.rojer.maths.metrics;
+
+/**
+ * The values of the counters of {@link MathMetrics} at one point in time
+ *
+ * Take a snapshot per frame and subtract the one of the last frame with
+ * {@link #since(MetricsSnapshot)} to get the operations of the frame.
+ *
+ * @author Rojer
+ * @version 18.10.2026
+ */
+public final class MetricsSnapshot {
+
+	// Attributes
+
+	private final long[] values;
+
+	// Constructors
+
+	MetricsSnapshot(long[] values) {
+		this.values = values;
+	}
+
+	// Access
+
+	/**
+	 * @param counter the counter
+	 * @return the value of the counter
+	 */
+	public long get(MathCounter counter) {
+		return values[counter.ordinal()];
+	}
+
+	/**
+	 * Returns the operations counted between an earlier snapshot and this one
+	 *
+	 * @param earlier the earlier snapshot
+	 * @return a snapshot with the differences of the counters
+	 */
+	public MetricsSnapshot since(MetricsSnapshot earlier) {
+		long[] differences = new long[values.length];
+		for (int i = 0; i < values.length; i++) {
+			differences[i] = values[i] - earlier.values[i];
+		}
+		return new MetricsSnapshot(differences);
+	}
+
+	// Object-inherited methods
+
+	/**
+	 * Returns the counters as name=value pairs
+	 */
+	@Override
+	public String toString() {
+		StringBuilder builder = new StringBuilder("MetricsSnapshot: ");
+		for (MathCounter counter : MathCounter.values()) {
+			if (counter.ordinal() > 0) {
+				builder.append(", ");
+			}
+			builder.append(counter).append('=').append(values[counter.ordinal()]);
+		}
+		return builder.toString();
+	}
+
+}
@@ -0,0 +1,242 @@
+package de.rojer.maths.offheap;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.nio.FloatBuffer;
+
+import de.rojer.maths.mat.Mat4;
+
+/**
+ * A 4 * 4 matrix stored in an {@link OffHeapArena}, column-major like
+ * {@link Mat4}
+ * 
+ * The view only holds the offset of the matrix, so one view can be moved over
+ * many matrices with {@link #at(int)} instead of creating an object per
+ * matrix. Reads and writes use absolute indices of the buffer of the arena and
+ * change no state, so a view can be shared between threads as long as it is
+ * not moved. On JDK 13+ the elements are moved with one absolute bulk transfer,
+ * which is much cheaper than 16 single accesses of a direct buffer.
+ * 
+ * @author Rojer
+ * @version 18.10.2026
+ */
+public class Mat4View {
+
+	// Attributes
+
+	/**
+	 * The number of floats of a matrix
+	 */
+	public static final int FLOATS = 16;
+
+	/**
+	 * The absolute bulk transfers FloatBuffer.get(int, float[], int, int) and
+	 * put(int, float[], int, int) of JDK 13+, returning void, null on older JVMs
+	 */
+	private static final MethodHandle BULK_GET = bulk("get"), BULK_PUT = bulk("put");
+
+	/**
+	 * Room for the elements of two matrices per thread, used by the arithmetic
+	 */
+	private static final ThreadLocal<float[]> SCRATCH = ThreadLocal.withInitial(() -> new float[2 * FLOATS]);
+
+	private final FloatBuffer buffer;
+	private int offset;
+
+	// Constructors
+
+	/**
+	 * Creates a view of the matrix starting at the given float of an arena
+	 * 
+	 * @param arena  the arena containing the matrix
+	 * @param offset the offset of the first element
+	 */
+	public Mat4View(OffHeapArena arena, int offset) {
+		this.buffer = arena.floats();
+		this.offset = offset;
+	}
+
+	// Access
+
+	/**
+	 * Moves this view to another matrix of the same arena
+	 * 
+	 * @param offset the offset of the first element
+	 * @return this view for multiple operations "in one line"
+	 */
+	public Mat4View at(int offset) {
+		this.offset = offset;
+		return this;
+	}
+
+	/**
+	 * @return the offset of the first element in the arena
+	 */
+	public int offset() {
+		return offset;
+	}
+
+	/**
+	 * @param index the index of the element, like in {@link Mat4#elements}
+	 * @return the element
+	 */
+	public float get(int index) {
+		return buffer.get(offset + index);
+	}
+
+	/**
+	 * @param index the index of the element, like in {@link Mat4#elements}
+	 * @param value the new value of the element
+	 * @return this view for multiple operations "in one line"
+	 */
+	public Mat4View set(int index, float value) {
+		buffer.put(offset + index, value);
+		return this;
+	}
+
+	/**
+	 * Copies a heap matrix into this matrix
+	 * 
+	 * @param matrix the matrix to copy
+	 * @return this view for multiple operations "in one line"
+	 */
+	public Mat4View set(Mat4 matrix) {
+		store(matrix.elements, 0);
+		return this;
+	}
+
+	/**
+	 * Copies this matrix into a heap matrix
+	 * 
+	 * @param dest the matrix to copy to
+	 * @return dest
+	 */
+	public Mat4 get(Mat4 dest) {
+		load(dest.elements, 0);
+		return dest.updateKind();
+	}
+
+	// Arithmetic
+
+	/**
+	 * Multiplies this matrix with another one, like {@link Mat4#multiply(Mat4)}
+	 * 
+	 * @param other the matrix to multiply with this matrix
+	 * @return this view for multiple operations "in one line"
+	 */
+	public Mat4View multiply(Mat4View other) {
+		return mul(this, other, this);
+	}
+
+	/**
+	 * Transforms a Vec3 as a point (w = 1) and stores the result in dest, like
+	 * {@link Mat4#transform(de.rojer.maths.vec.Vec3, de.rojer.maths.vec.Vec3)}. in
+	 * and dest may be the same vector.
+	 * 
+	 * @param in   the vector to transform
+	 * @param dest the vector to store the result in
+	 * @return dest
+	 */
+	public Vec3View transform(Vec3View in, Vec3View dest) {
+		float[] m = load(SCRATCH.get(), 0);
+		float x = in.x(), y = in.y(), z = in.z();
+		return dest.set(m[0] * x + m[4] * y + m[8] * z + m[12], m[1] * x + m[5] * y + m[9] * z + m[13],
+				m[2] * x + m[6] * y + m[10] * z + m[14]);
+	}
+
+	/**
+	 * Transforms a Vec4 and stores the result in dest, like
+	 * {@link Mat4#transform(de.rojer.maths.vec.Vec4, de.rojer.maths.vec.Vec4)}. in
+	 * and dest may be the same vector.
+	 * 
+	 * @param in   the vector to transform
+	 * @param dest the vector to store the result in
+	 * @return dest
+	 */
+	public Vec4View transform(Vec4View in, Vec4View dest) {
+		float[] m = load(SCRATCH.get(), 0);
+		float x = in.x(), y = in.y(), z = in.z(), w = in.w();
+		return dest.set(m[0] * x + m[4] * y + m[8] * z + m[12] * w, m[1] * x + m[5] * y + m[9] * z + m[13] * w,
+				m[2] * x + m[6] * y + m[10] * z + m[14] * w, m[3] * x + m[7] * y + m[11] * z + m[15] * w);
+	}
+
+	/**
+	 * Multiplies two matrices like {@link Mat4#mul(Mat4, Mat4, Mat4)} and stores
+	 * the result in dest, without allocating anything. dest may be a or b.
+	 * 
+	 * @param a    the left matrix
+	 * @param b    the right matrix
+	 * @param dest the matrix to store the result in
+	 * @return dest
+	 */
+	public static Mat4View mul(Mat4View a, Mat4View b, Mat4View dest) {
+		float[] scratch = SCRATCH.get();
+		a.load(scratch, 0);
+		b.load(scratch, FLOATS);
+		Mat4.mul(scratch, 0, scratch, FLOATS, scratch, 0);
+		dest.store(scratch, 0);
+		return dest;
+	}
+
+	// Internals
+
+	/**
+	 * Copies the elements of this matrix into an array
+	 */
+	private float[] load(float[] dest, int destOffset) {
+		if (BULK_GET == null) {
+			for (int i = 0; i < FLOATS; i++) {
+				dest[destOffset + i] = buffer.get(offset + i);
+			}
+			return dest;
+		}
+		try {
+			BULK_GET.invokeExact(buffer, offset, dest, destOffset, FLOATS);
+		} catch (RuntimeException | Error e) {
+			throw e;
+		} catch (Throwable e) {
+			throw new IllegalStateException(e);
+		}
+		return dest;
+	}
+
+	/**
+	 * Copies the elements of this matrix from an array
+	 */
+	private void store(float[] src, int srcOffset) {
+		if (BULK_PUT == null) {
+			for (int i = 0; i < FLOATS; i++) {
+				buffer.put(offset + i, src[srcOffset + i]);
+			}
+			return;
+		}
+		try {
+			BULK_PUT.invokeExact(buffer, offset, src, srcOffset, FLOATS);
+		} catch (RuntimeException | Error e) {
+			throw e;
+		} catch (Throwable e) {
+			throw new IllegalStateException(e);
+		}
+	}
+
+	private static MethodHandle bulk(String name) {
+		MethodType type = MethodType.methodType(FloatBuffer.class, int.class, float[].class, int.class, int.class);
+		try {
+			MethodHandle handle = MethodHandles.publicLookup().findVirtual(FloatBuffer.class, name, type);
+			// The returned buffer is not needed
+			return handle.asType(handle.type().changeReturnType(void.class));
+		} catch (NoSuchMethodException | IllegalAccessException e) {
+			// Before JDK 13
+			return null;
+		}
+	}
+
+	// Object-inherited methods
+
+	@Override
+	public String toString() {
+		return get(new Mat4()).toString();
+	}
+
+}
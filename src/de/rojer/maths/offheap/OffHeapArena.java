@@ -0,0 +1,184 @@
+package de.rojer.maths.offheap;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.FloatBuffer;
+
+/**
+ * A contiguous block of native memory that holds matrices and vectors
+ * 
+ * Space is handed out by bumping an offset, so everything allocated from an
+ * arena lies back to back and can be passed to native code (e.g. OpenGL or
+ * Vulkan) as one direct buffer without copying. Matrices are aligned to 16
+ * floats (64 bytes). Memory is never freed separately, only the whole arena
+ * can be {@link #reset()}.
+ * 
+ * @author Rojer
+ * @version 18.10.2026
+ */
+public class OffHeapArena {
+
+	// Attributes
+
+	/**
+	 * The floats of the arena, in the native byte order
+	 */
+	private final FloatBuffer floats;
+
+	/**
+	 * The bytes of the arena, backing {@link #floats}
+	 */
+	private final ByteBuffer bytes;
+
+	/**
+	 * The number of floats handed out so far
+	 */
+	private int used;
+
+	// Constructors
+
+	/**
+	 * Creates an arena, with its values being 0
+	 * 
+	 * @param capacity the number of floats the arena can hold
+	 */
+	public OffHeapArena(int capacity) {
+		bytes = ByteBuffer.allocateDirect(capacity * Float.BYTES).order(ByteOrder.nativeOrder());
+		floats = bytes.asFloatBuffer();
+	}
+
+	/**
+	 * Creates an arena on top of existing memory, for example a mapped file,
+	 * without copying it. All of its floats count as handed out, in the byte
+	 * order of the buffer. If the buffer is read-only, so are the views of the
+	 * arena.
+	 * 
+	 * @param bytes the memory of the arena, from its position to its limit
+	 */
+	public OffHeapArena(ByteBuffer bytes) {
+		this.bytes = bytes.slice().order(bytes.order());
+		floats = this.bytes.asFloatBuffer();
+		used = floats.capacity();
+	}
+
+	// Allocation
+
+	/**
+	 * Reserves a number of floats
+	 * 
+	 * @param count     the number of floats
+	 * @param alignment the alignment of the first float, in floats
+	 * @return the offset of the first float
+	 * @throws IllegalStateException if the arena is full
+	 */
+	public int allocate(int count, int alignment) {
+		int offset = (used + alignment - 1) / alignment * alignment;
+		if (offset + count > floats.capacity()) {
+			throw new IllegalStateException(
+					"Arena is full: " + count + " floats requested, " + (floats.capacity() - used) + " left");
+		}
+		used = offset + count;
+		return offset;
+	}
+
+	/**
+	 * Reserves space for a number of matrices, lying back to back
+	 * 
+	 * @param count the number of matrices
+	 * @return the offset of the first matrix, the i-th one starts at offset + i *
+	 *         16
+	 */
+	public int allocateMat4s(int count) {
+		return allocate(count * Mat4View.FLOATS, Mat4View.FLOATS);
+	}
+
+	/**
+	 * Reserves space for a matrix, initialized to 0
+	 * 
+	 * @return a view of the matrix
+	 */
+	public Mat4View mat4() {
+		return new Mat4View(this, allocateMat4s(1));
+	}
+
+	/**
+	 * Reserves space for a Vec2, initialized to 0
+	 * 
+	 * @return a view of the vector
+	 */
+	public Vec2View vec2() {
+		return new Vec2View(this, allocate(Vec2View.FLOATS, 1));
+	}
+
+	/**
+	 * Reserves space for a Vec3, initialized to 0
+	 * 
+	 * @return a view of the vector
+	 */
+	public Vec3View vec3() {
+		return new Vec3View(this, allocate(Vec3View.FLOATS, 1));
+	}
+
+	/**
+	 * Reserves space for a Vec4, initialized to 0
+	 * 
+	 * @return a view of the vector
+	 */
+	public Vec4View vec4() {
+		return new Vec4View(this, allocate(Vec4View.FLOATS, 4));
+	}
+
+	/**
+	 * Hands out the whole arena again and sets every float to 0. Existing views
+	 * stay usable, but now share their memory with new allocations.
+	 */
+	public void reset() {
+		for (int i = 0; i < used; i++) {
+			floats.put(i, 0.0f);
+		}
+		used = 0;
+	}
+
+	// Export
+
+	/**
+	 * @return the number of floats handed out so far
+	 */
+	public int used() {
+		return used;
+	}
+
+	/**
+	 * @return the number of floats the arena can hold
+	 */
+	public int capacity() {
+		return floats.capacity();
+	}
+
+	/**
+	 * Returns the used part of the arena, without copying it
+	 * 
+	 * @return a direct buffer sharing the memory of the arena, from float 0 to
+	 *         {@link #used()}
+	 */
+	public FloatBuffer export() {
+		return floats.duplicate().position(0).limit(used);
+	}
+
+	/**
+	 * Returns the used part of the arena as bytes, without copying it
+	 * 
+	 * @return a direct buffer sharing the memory of the arena, in the byte order
+	 *         of the arena (the native one unless created on top of a buffer)
+	 */
+	public ByteBuffer exportBytes() {
+		return bytes.duplicate().position(0).limit(used * Float.BYTES).order(bytes.order());
+	}
+
+	// Access for the views
+
+	FloatBuffer floats() {
+		return floats;
+	}
+
+}
@@ -0,0 +1,118 @@
+package de.rojer.maths.offheap;
+
+import java.nio.FloatBuffer;
+
+import de.rojer.maths.vec.Vec2;
+
+/**
+ * A 2-dimensional vector stored in an {@link OffHeapArena}
+ * 
+ * The view only holds the offset of the vector, so one view can be moved over
+ * many vectors with {@link #at(int)} instead of creating an object per
+ * vector.
+ * 
+ * @author Rojer
+ * @version 18.10.2026
+ */
+public class Vec2View {
+
+	// Attributes
+
+	/**
+	 * The number of floats of a vector
+	 */
+	public static final int FLOATS = 2;
+
+	private final FloatBuffer buffer;
+	private int offset;
+
+	// Constructors
+
+	/**
+	 * Creates a view of the vector starting at the given float of an arena
+	 * 
+	 * @param arena  the arena containing the vector
+	 * @param offset the offset of the x-component
+	 */
+	public Vec2View(OffHeapArena arena, int offset) {
+		this.buffer = arena.floats();
+		this.offset = offset;
+	}
+
+	// Access
+
+	/**
+	 * Moves this view to another vector of the same arena
+	 * 
+	 * @param offset the offset of the x-component
+	 * @return this view for multiple operations "in one line"
+	 */
+	public Vec2View at(int offset) {
+		this.offset = offset;
+		return this;
+	}
+
+	/**
+	 * @return the offset of the x-component in the arena
+	 */
+	public int offset() {
+		return offset;
+	}
+
+	/**
+	 * @return the value of the x-component
+	 */
+	public float x() {
+		return buffer.get(offset);
+	}
+
+	/**
+	 * @return the value of the y-component
+	 */
+	public float y() {
+		return buffer.get(offset + 1);
+	}
+
+	/**
+	 * Sets the components of this vector
+	 * 
+	 * @param x the value of the x-component
+	 * @param y the value of the y-component
+	 * @return this view for multiple operations "in one line"
+	 */
+	public Vec2View set(float x, float y) {
+		buffer.put(offset, x);
+		buffer.put(offset + 1, y);
+		return this;
+	}
+
+	/**
+	 * Copies a heap vector into this vector
+	 * 
+	 * @param vector the vector to copy
+	 * @return this view for multiple operations "in one line"
+	 */
+	public Vec2View set(Vec2 vector) {
+		return set(vector.x, vector.y);
+	}
+
+	/**
+	 * Copies this vector into a heap vector
+	 * 
+	 * @param dest the vector to copy to
+	 * @return dest
+	 */
+	public Vec2 get(Vec2 dest) {
+		dest.x = buffer.get(offset);
+		dest.y = buffer.get(offset + 1);
+		return dest;
+	}
+
+	// Object-inherited methods
+
+	@Override
+	public String toString() {
+		return get(new Vec2()).toString();
+	}
+
+}
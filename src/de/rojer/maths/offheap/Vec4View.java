@@ -0,0 +1,138 @@
+package de.rojer.maths.offheap;
+
+import java.nio.FloatBuffer;
+
+import de.rojer.maths.vec.Vec4;
+
+/**
+ * A 4-dimensional vector stored in an {@link OffHeapArena}
+ * 
+ * The view only holds the offset of the vector, so one view can be moved over
+ * many vectors with {@link #at(int)} instead of creating an object per
+ * vector.
+ * 
+ * @author Rojer
+ * @version 18.10.2026
+ */
+public class Vec4View {
+
+	// Attributes
+
+	/**
+	 * The number of floats of a vector
+	 */
+	public static final int FLOATS = 4;
+
+	private final FloatBuffer buffer;
+	private int offset;
+
+	// Constructors
+
+	/**
+	 * Creates a view of the vector starting at the given float of an arena
+	 * 
+	 * @param arena  the arena containing the vector
+	 * @param offset the offset of the x-component
+	 */
+	public Vec4View(OffHeapArena arena, int offset) {
+		this.buffer = arena.floats();
+		this.offset = offset;
+	}
+
+	// Access
+
+	/**
+	 * Moves this view to another vector of the same arena
+	 * 
+	 * @param offset the offset of the x-component
+	 * @return this view for multiple operations "in one line"
+	 */
+	public Vec4View at(int offset) {
+		this.offset = offset;
+		return this;
+	}
+
+	/**
+	 * @return the offset of the x-component in the arena
+	 */
+	public int offset() {
+		return offset;
+	}
+
+	/**
+	 * @return the value of the x-component
+	 */
+	public float x() {
+		return buffer.get(offset);
+	}
+
+	/**
+	 * @return the value of the y-component
+	 */
+	public float y() {
+		return buffer.get(offset + 1);
+	}
+
+	/**
+	 * @return the value of the z-component
+	 */
+	public float z() {
+		return buffer.get(offset + 2);
+	}
+
+	/**
+	 * @return the value of the w-component
+	 */
+	public float w() {
+		return buffer.get(offset + 3);
+	}
+
+	/**
+	 * Sets the components of this vector
+	 * 
+	 * @param x the value of the x-component
+	 * @param y the value of the y-component
+	 * @param z the value of the z-component
+	 * @param w the value of the w-component
+	 * @return this view for multiple operations "in one line"
+	 */
+	public Vec4View set(float x, float y, float z, float w) {
+		buffer.put(offset, x);
+		buffer.put(offset + 1, y);
+		buffer.put(offset + 2, z);
+		buffer.put(offset + 3, w);
+		return this;
+	}
+
+	/**
+	 * Copies a heap vector into this vector
+	 * 
+	 * @param vector the vector to copy
+	 * @return this view for multiple operations "in one line"
+	 */
+	public Vec4View set(Vec4 vector) {
+		return set(vector.x, vector.y, vector.z, vector.w);
+	}
+
+	/**
+	 * Copies this vector into a heap vector
+	 * 
+	 * @param dest the vector to copy to
+	 * @return dest
+	 */
+	public Vec4 get(Vec4 dest) {
+		dest.x = buffer.get(offset);
+		dest.y = buffer.get(offset + 1);
+		dest.z = buffer.get(offset + 2);
+		dest.w = buffer.get(offset + 3);
+		return dest;
+	}
+
+	// Object-inherited methods
+
+	@Override
+	public String toString() {
+		return get(new Vec4()).toString();
+	}
+
+}
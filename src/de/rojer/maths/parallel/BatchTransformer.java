@@ -0,0 +1,327 @@
+package de.rojer.maths.parallel;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import de.rojer.maths.anim.Skinning;
+import de.rojer.maths.backend.MathBackend;
+import de.rojer.maths.backend.MathBackends;
+import de.rojer.maths.mat.Mat4;
+import de.rojer.maths.mat.MatN;
+import de.rojer.maths.vec.InterleavedVec3Buffer;
+import de.rojer.maths.vec.InterleavedVec4Buffer;
+import de.rojer.maths.vec.Vec3Buffer;
+import de.rojer.maths.vec.Vec4;
+import de.rojer.maths.vec.Vec4Buffer;
+
+/**
+ * Runs batch transforms and matrix products on a {@link ForkJoinPool}
+ * 
+ * A range is split in halves until it is not larger than the threshold, then
+ * every part is processed with the sequential kernel of the active
+ * {@link MathBackend}. Every vector or matrix is computed by exactly the same
+ * code as in the sequential call, so the results are bit-identical.
+ * 
+ * @author Rojer
+ * @version 18.10.2026
+ */
+public class BatchTransformer {
+
+	// Attributes
+
+	/**
+	 * The default number of elements below which a range is not split any more
+	 */
+	public static final int DEFAULT_THRESHOLD = 1 << 14;
+
+	private final ForkJoinPool pool;
+	private final int threshold;
+	private final MathBackend backend;
+
+	// Constructors
+
+	/**
+	 * Creates a transformer using the common pool and the default threshold
+	 */
+	public BatchTransformer() {
+		this(ForkJoinPool.commonPool(), DEFAULT_THRESHOLD);
+	}
+
+	/**
+	 * Creates a transformer
+	 * 
+	 * @param pool      the pool to run the work on
+	 * @param threshold the number of elements below which a range is processed
+	 *                  sequentially, at least 1
+	 */
+	public BatchTransformer(ForkJoinPool pool, int threshold) {
+		if (threshold < 1) {
+			throw new IllegalArgumentException("threshold has to be at least 1, but is " + threshold);
+		}
+		this.pool = pool;
+		this.threshold = threshold;
+		this.backend = MathBackends.get();
+	}
+
+	// Transforms
+
+	/**
+	 * Parallel version of
+	 * {@link Vec3Buffer#transform(Mat4, Vec3Buffer, Vec3Buffer, int, int)}
+	 * 
+	 * @param matrix the matrix to transform the vectors with
+	 * @param src    the vectors to transform
+	 * @param dest   the buffer to store the results in, may be src
+	 * @param offset the index of the first vector
+	 * @param count  the number of vectors
+	 */
+	public void transform(Mat4 matrix, Vec3Buffer src, Vec3Buffer dest, int offset, int count) {
+		run(offset, count, (o, c) -> Vec3Buffer.transform(matrix, src, dest, o, c));
+	}
+
+	/**
+	 * Parallel version of
+	 * {@link Vec4Buffer#transform(Mat4, Vec4Buffer, Vec4Buffer, int, int)}
+	 * 
+	 * @param matrix the matrix to transform the vectors with
+	 * @param src    the vectors to transform
+	 * @param dest   the buffer to store the results in, may be src
+	 * @param offset the index of the first vector
+	 * @param count  the number of vectors
+	 */
+	public void transform(Mat4 matrix, Vec4Buffer src, Vec4Buffer dest, int offset, int count) {
+		run(offset, count, (o, c) -> Vec4Buffer.transform(matrix, src, dest, o, c));
+	}
+
+	/**
+	 * Parallel version of
+	 * {@link InterleavedVec3Buffer#transform(Mat4, InterleavedVec3Buffer, InterleavedVec3Buffer, int, int)}
+	 * 
+	 * @param matrix the matrix to transform the vectors with
+	 * @param src    the vectors to transform
+	 * @param dest   the buffer to store the results in, may be src
+	 * @param offset the index of the first vector
+	 * @param count  the number of vectors
+	 */
+	public void transform(Mat4 matrix, InterleavedVec3Buffer src, InterleavedVec3Buffer dest, int offset,
+			int count) {
+		run(offset, count, (o, c) -> InterleavedVec3Buffer.transform(matrix, src, dest, o, c));
+	}
+
+	/**
+	 * Parallel version of
+	 * {@link InterleavedVec4Buffer#transform(Mat4, InterleavedVec4Buffer, InterleavedVec4Buffer, int, int)}
+	 * 
+	 * @param matrix the matrix to transform the vectors with
+	 * @param src    the vectors to transform
+	 * @param dest   the buffer to store the results in, may be src
+	 * @param offset the index of the first vector
+	 * @param count  the number of vectors
+	 */
+	public void transform(Mat4 matrix, InterleavedVec4Buffer src, InterleavedVec4Buffer dest, int offset,
+			int count) {
+		run(offset, count, (o, c) -> InterleavedVec4Buffer.transform(matrix, src, dest, o, c));
+	}
+
+	// Matrix products
+
+	/**
+	 * Parallel version of {@link Mat4#mul(float[], float[], float[], int, int)}
+	 * 
+	 * @param a      the left matrices
+	 * @param b      the right matrices
+	 * @param dest   the array to store the results in, may be a or b
+	 * @param offset the index of the first matrix
+	 * @param count  the number of matrices
+	 */
+	public void mul(float[] a, float[] b, float[] dest, int offset, int count) {
+		run(offset, count, (o, c) -> Mat4.mul(a, b, dest, o, c));
+	}
+
+	/**
+	 * Multiplies matrices pairwise like {@link Mat4#mul(Mat4, Mat4, Mat4)}, i.e.
+	 * dest[i] = a[i] * b[i]
+	 * 
+	 * @param a      the left matrices
+	 * @param b      the right matrices
+	 * @param dest   the matrices to store the results in, may be a or b
+	 * @param offset the index of the first matrix
+	 * @param count  the number of matrices
+	 */
+	public void mul(Mat4[] a, Mat4[] b, Mat4[] dest, int offset, int count) {
+		run(offset, count, (o, c) -> {
+			for (int i = o; i < o + c; i++) {
+				backend.mul(a[i], b[i], dest[i]);
+			}
+		});
+	}
+
+	/**
+	 * Multiplies one matrix with many, i.e. dest[i] = a * b[i], e.g. a
+	 * view-projection matrix with the model matrices of a scene
+	 * 
+	 * @param a      the left matrix
+	 * @param b      the right matrices
+	 * @param dest   the matrices to store the results in, may be b
+	 * @param offset the index of the first matrix
+	 * @param count  the number of matrices
+	 */
+	public void mul(Mat4 a, Mat4[] b, Mat4[] dest, int offset, int count) {
+		run(offset, count, (o, c) -> {
+			for (int i = o; i < o + c; i++) {
+				backend.mul(a, b[i], dest[i]);
+			}
+		});
+	}
+
+	/**
+	 * Parallel version of {@link MatN#mul(MatN, MatN, MatN)}, splitting the rows
+	 * of dest. A range of rows is split until it holds about as many
+	 * multiply-adds as transforming threshold vectors.
+	 * 
+	 * @param a    the left matrix
+	 * @param b    the right matrix, with as many rows as a has columns
+	 * @param dest the matrix to store the product in, with the rows of a and
+	 *             the columns of b, must be neither a nor b
+	 * @return dest
+	 */
+	public MatN mul(MatN a, MatN b, MatN dest) {
+		long work = Math.max(1L, (long) a.columns() * b.columns());
+		int rows = (int) Math.max(1L, Math.min(a.rows(), threshold * 16L / work));
+		run(0, a.rows(), rows, (o, c) -> MatN.mul(a, b, dest, o, c));
+		return dest;
+	}
+
+	// Linear systems
+
+	/**
+	 * Parallel version of
+	 * {@link Mat4#solve(float[], float[], float[], int, int, boolean[])}
+	 * 
+	 * @param matrices the matrices of the systems, 16 floats each
+	 * @param vectors  the right-hand sides of the systems, 4 floats each
+	 * @param dest     the array to store the solutions in, may be vectors
+	 * @param offset   the index of the first system
+	 * @param count    the number of systems
+	 * @param singular the array to flag the systems with a singular matrix in,
+	 *                 at the index of the system, or null
+	 * @return the number of singular systems, their solutions are set to NaN
+	 */
+	public int solve(float[] matrices, float[] vectors, float[] dest, int offset, int count, boolean[] singular) {
+		AtomicInteger singulars = new AtomicInteger();
+		run(offset, count, (o, c) -> singulars.addAndGet(Mat4.solve(matrices, vectors, dest, o, c, singular)));
+		return singulars.get();
+	}
+
+	/**
+	 * Parallel version of
+	 * {@link Mat4#solve(Mat4[], Vec4[], Vec4[], int, int, boolean[])}
+	 * 
+	 * @param matrices the matrices of the systems
+	 * @param vectors  the right-hand sides of the systems
+	 * @param dest     the vectors to store the solutions in, may be vectors
+	 * @param offset   the index of the first system
+	 * @param count    the number of systems
+	 * @param singular the array to flag the systems with a singular matrix in,
+	 *                 at the index of the system, or null
+	 * @return the number of singular systems, their solutions are set to NaN
+	 */
+	public int solve(Mat4[] matrices, Vec4[] vectors, Vec4[] dest, int offset, int count, boolean[] singular) {
+		AtomicInteger singulars = new AtomicInteger();
+		run(offset, count, (o, c) -> singulars.addAndGet(Mat4.solve(matrices, vectors, dest, o, c, singular)));
+		return singulars.get();
+	}
+
+	// Skinning
+
+	/**
+	 * Parallel version of
+	 * {@link Skinning#skin(float[], int[], float[], int, Vec3Buffer, Vec3Buffer, Vec3Buffer, Vec3Buffer, int, int)}
+	 * 
+	 * @param palette       the bone matrices, 16 elements each
+	 * @param bones         the bone indices of the influences
+	 * @param weights       the weights of the influences
+	 * @param influences    the number of influences per vertex
+	 * @param positions     the positions in bind pose
+	 * @param normals       the unit normals in bind pose, or null to skin only
+	 *                      the positions
+	 * @param destPositions the buffer to store the skinned positions in, may be
+	 *                      positions
+	 * @param destNormals   the buffer to store the skinned normals in, may be
+	 *                      normals
+	 * @param offset        the index of the first vertex
+	 * @param count         the number of vertices
+	 */
+	public void skin(float[] palette, int[] bones, float[] weights, int influences, Vec3Buffer positions,
+			Vec3Buffer normals, Vec3Buffer destPositions, Vec3Buffer destNormals, int offset, int count) {
+		run(offset, count, (o, c) -> Skinning.skin(palette, bones, weights, influences, positions, normals,
+				destPositions, destNormals, o, c));
+	}
+
+	// Scheduling
+
+	/**
+	 * @return the number of elements below which a range is processed
+	 *         sequentially
+	 */
+	public int getThreshold() {
+		return threshold;
+	}
+
+	private void run(int offset, int count, RangeKernel kernel) {
+		run(offset, count, threshold, kernel);
+	}
+
+	private void run(int offset, int count, int threshold, RangeKernel kernel) {
+		if (count <= threshold) {
+			// Not worth a task, run it on the calling thread
+			kernel.run(offset, count);
+		} else {
+			pool.invoke(new RangeTask(kernel, offset, count, threshold));
+		}
+	}
+
+	/**
+	 * A sequential kernel over a range of elements
+	 */
+	@FunctionalInterface
+	interface RangeKernel {
+
+		void run(int offset, int count);
+
+	}
+
+	/**
+	 * Splits a range in halves until it is small enough for the kernel
+	 */
+	private static final class RangeTask extends RecursiveAction {
+
+		private static final long serialVersionUID = 1L;
+
+		private final RangeKernel kernel;
+		private final int offset;
+		private final int count;
+		private final int threshold;
+
+		RangeTask(RangeKernel kernel, int offset, int count, int threshold) {
+			this.kernel = kernel;
+			this.offset = offset;
+			this.count = count;
+			this.threshold = threshold;
+		}
+
+		@Override
+		protected void compute() {
+			if (count <= threshold) {
+				kernel.run(offset, count);
+			} else {
+				int half = count >>> 1;
+				invokeAll(new RangeTask(kernel, offset, half, threshold),
+						new RangeTask(kernel, offset + half, count - half, threshold));
+			}
+		}
+
+	}
+
+}
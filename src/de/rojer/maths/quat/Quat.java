@@ -0,0 +1,329 @@
+package de.rojer.maths.quat;
+
+import static java.lang.Math.acos;
+import static java.lang.Math.cos;
+import static java.lang.Math.sin;
+import static java.lang.Math.sqrt;
+import static java.lang.Math.toRadians;
+
+import de.rojer.maths.mat.Mat4;
+import de.rojer.maths.vec.Vec3;
+
+/**
+ * Quaternion representing a rotation, components are floats
+ * 
+ * {@link #mul(Quat, Quat, Quat)} takes its arguments in the order of
+ * {@link Mat4#mul(Mat4, Mat4, Mat4)}: mul(a, b, dest) applies a first and then
+ * b, so its matrix is the product Mat4.mul(ma, mb, m) of the matrices of a and
+ * b, and compositions carry over from matrices argument for argument.
+ * Mathematically, that is the Hamilton product b * a. The matrices returned by
+ * {@link #toMat4(Mat4)} transform vectors exactly like
+ * {@link #rotate(Vec3, Vec3)}.
+ * 
+ * @author Rojer
+ * @version 18.10.2026
+ */
+public class Quat {
+
+	// Attributes
+
+	/**
+	 * The components of the quaternion, w being the real part
+	 */
+	public float x, y, z, w;
+
+	// Constructors
+
+	/**
+	 * Creates the identity rotation
+	 */
+	public Quat() {
+		x = 0.0f;
+		y = 0.0f;
+		z = 0.0f;
+		w = 1.0f;
+	}
+
+	/**
+	 * Creates a quaternion with the specified values
+	 * 
+	 * @param x the value of the x-component
+	 * @param y the value of the y-component
+	 * @param z the value of the z-component
+	 * @param w the value of the w-component (the real part)
+	 */
+	public Quat(float x, float y, float z, float w) {
+		this.x = x;
+		this.y = y;
+		this.z = z;
+		this.w = w;
+	}
+
+	// Arithmetic
+
+	/**
+	 * Multiplies this quaternion with another one like
+	 * {@link Mat4#multiply(Mat4)}, the result applies this rotation first and
+	 * then other
+	 * 
+	 * @param other the quaternion to multiply with this quaternion
+	 * @return this quaternion for multiple operations "in one line"
+	 */
+	public Quat multiply(Quat other) {
+		return mul(this, other, this);
+	}
+
+	/**
+	 * Multiplies two quaternions in the order of
+	 * {@link Mat4#mul(Mat4, Mat4, Mat4)} and stores the result in dest, without
+	 * allocating anything. The result applies a first and then b, it is the
+	 * Hamilton product b * a. dest may be a or b.
+	 * 
+	 * @param a    the quaternion applied first
+	 * @param b    the quaternion applied second
+	 * @param dest the quaternion to store the result in
+	 * @return dest
+	 */
+	public static Quat mul(Quat a, Quat b, Quat dest) {
+		// The Hamilton product l * r with l = b and r = a
+		float lx = b.x, ly = b.y, lz = b.z, lw = b.w;
+		float rx = a.x, ry = a.y, rz = a.z, rw = a.w;
+		dest.x = lw * rx + lx * rw + ly * rz - lz * ry;
+		dest.y = lw * ry - lx * rz + ly * rw + lz * rx;
+		dest.z = lw * rz + lx * ry - ly * rx + lz * rw;
+		dest.w = lw * rw - lx * rx - ly * ry - lz * rz;
+		return dest;
+	}
+
+	/**
+	 * Scales this quaternion to length 1
+	 * 
+	 * @return this quaternion for multiple operations "in one line"
+	 */
+	public Quat normalize() {
+		float length = (float) sqrt(x * x + y * y + z * z + w * w);
+		if (length > 0.0f) {
+			float inverse = 1.0f / length;
+			x *= inverse;
+			y *= inverse;
+			z *= inverse;
+			w *= inverse;
+		}
+		return this;
+	}
+
+	/**
+	 * Conjugates this quaternion, which inverts the rotation of a unit quaternion
+	 * 
+	 * @return this quaternion for multiple operations "in one line"
+	 */
+	public Quat conjugate() {
+		x = -x;
+		y = -y;
+		z = -z;
+		return this;
+	}
+
+	/**
+	 * @param other the other quaternion
+	 * @return the dot product of this and the other quaternion
+	 */
+	public float dot(Quat other) {
+		return x * other.x + y * other.y + z * other.z + w * other.w;
+	}
+
+	/**
+	 * Rotates a vector by this unit quaternion, without building a matrix. in and
+	 * dest may be the same vector.
+	 * 
+	 * @param in   the vector to rotate
+	 * @param dest the vector to store the result in
+	 * @return dest
+	 */
+	public Vec3 rotate(Vec3 in, Vec3 dest) {
+		float vx = in.x, vy = in.y, vz = in.z;
+		// t = 2 * (q.xyz x v), v' = v + w * t + q.xyz x t
+		float tx = 2.0f * (y * vz - z * vy);
+		float ty = 2.0f * (z * vx - x * vz);
+		float tz = 2.0f * (x * vy - y * vx);
+		dest.x = vx + w * tx + (y * tz - z * ty);
+		dest.y = vy + w * ty + (z * tx - x * tz);
+		dest.z = vz + w * tz + (x * ty - y * tx);
+		return dest;
+	}
+
+	/**
+	 * Stores the rotation matrix of this unit quaternion in dest
+	 * 
+	 * @param dest the matrix to store the rotation in
+	 * @return dest
+	 */
+	public Mat4 toMat4(Mat4 dest) {
+		float xx = x * x, yy = y * y, zz = z * z;
+		float xy = x * y, xz = x * z, yz = y * z;
+		float wx = w * x, wy = w * y, wz = w * z;
+
+		float[] e = dest.elements;
+		e[0 + 0 * 4] = 1.0f - 2.0f * (yy + zz);
+		e[1 + 0 * 4] = 2.0f * (xy + wz);
+		e[2 + 0 * 4] = 2.0f * (xz - wy);
+		e[3 + 0 * 4] = 0.0f;
+
+		e[0 + 1 * 4] = 2.0f * (xy - wz);
+		e[1 + 1 * 4] = 1.0f - 2.0f * (xx + zz);
+		e[2 + 1 * 4] = 2.0f * (yz + wx);
+		e[3 + 1 * 4] = 0.0f;
+
+		e[0 + 2 * 4] = 2.0f * (xz + wy);
+		e[1 + 2 * 4] = 2.0f * (yz - wx);
+		e[2 + 2 * 4] = 1.0f - 2.0f * (xx + yy);
+		e[3 + 2 * 4] = 0.0f;
+
+		e[0 + 3 * 4] = 0.0f;
+		e[1 + 3 * 4] = 0.0f;
+		e[2 + 3 * 4] = 0.0f;
+		e[3 + 3 * 4] = 1.0f;
+		return dest.setKind(Mat4.Kind.AFFINE);
+	}
+
+	// Interpolation
+
+	/**
+	 * Interpolates linearly between two unit quaternions and normalizes the
+	 * result. Cheaper than {@link #slerp(Quat, Quat, float, Quat)}, but does not
+	 * rotate with constant speed. dest may be a or b.
+	 * 
+	 * @param a    the rotation at t = 0
+	 * @param b    the rotation at t = 1
+	 * @param t    the interpolation factor
+	 * @param dest the quaternion to store the result in
+	 * @return dest
+	 */
+	public static Quat nlerp(Quat a, Quat b, float t, Quat dest) {
+		// Takes the shorter way, q and -q being the same rotation
+		float s = a.dot(b) < 0.0f ? -t : t;
+		float r = 1.0f - t;
+		dest.x = r * a.x + s * b.x;
+		dest.y = r * a.y + s * b.y;
+		dest.z = r * a.z + s * b.z;
+		dest.w = r * a.w + s * b.w;
+		return dest.normalize();
+	}
+
+	/**
+	 * Interpolates spherically between two unit quaternions, rotating with
+	 * constant speed along the shorter way. dest may be a or b.
+	 * 
+	 * @param a    the rotation at t = 0
+	 * @param b    the rotation at t = 1
+	 * @param t    the interpolation factor
+	 * @param dest the quaternion to store the result in
+	 * @return dest
+	 */
+	public static Quat slerp(Quat a, Quat b, float t, Quat dest) {
+		float cosine = a.dot(b);
+		float sign = 1.0f;
+		if (cosine < 0.0f) {
+			cosine = -cosine;
+			sign = -1.0f;
+		}
+		if (cosine > 0.9995f) {
+			// Nearly the same rotation, sin(angle) would be too close to 0
+			return nlerp(a, b, t, dest);
+		}
+		double angle = acos(cosine);
+		double inverseSine = 1.0 / sin(angle);
+		float r = (float) (sin((1.0 - t) * angle) * inverseSine);
+		float s = (float) (sin(t * angle) * inverseSine) * sign;
+		dest.x = r * a.x + s * b.x;
+		dest.y = r * a.y + s * b.y;
+		dest.z = r * a.z + s * b.z;
+		dest.w = r * a.w + s * b.w;
+		return dest;
+	}
+
+	// Static Methods
+
+	/**
+	 * Returns the rotation around an axis
+	 * 
+	 * @param axis  the axis to rotate around, has to have length 1
+	 * @param angle the angle in degrees
+	 * @param dest  the quaternion to store the rotation in
+	 * @return dest
+	 */
+	public static Quat AxisAngle(Vec3 axis, float angle, Quat dest) {
+		double half = 0.5 * toRadians(angle);
+		float s = (float) sin(half);
+		dest.x = axis.x * s;
+		dest.y = axis.y * s;
+		dest.z = axis.z * s;
+		dest.w = (float) cos(half);
+		return dest;
+	}
+
+	/**
+	 * Returns the same rotation as {@link Mat4#Rotation(float, float, float)}
+	 * 
+	 * @param angleX the angle in x-direction
+	 * @param angleY the angle in y-direction
+	 * @param angleZ the angle in z-direction
+	 * @param dest   the quaternion to store the rotation in
+	 * @return dest
+	 */
+	public static Quat Rotation(float angleX, float angleY, float angleZ, Quat dest) {
+		// Mat4.Rotation turns x and y the other way round than z
+		double x = -0.5 * toRadians(angleX);
+		double y = -0.5 * toRadians(angleY);
+		double z = 0.5 * toRadians(angleZ);
+		float xc = (float) cos(x), xs = (float) sin(x);
+		float yc = (float) cos(y), ys = (float) sin(y);
+		float zc = (float) cos(z), zs = (float) sin(z);
+		// The Hamilton product (x-rotation) * (y-rotation) * (z-rotation), expanded
+		dest.x = xs * yc * zc + xc * ys * zs;
+		dest.y = xc * ys * zc - xs * yc * zs;
+		dest.z = xc * yc * zs + xs * ys * zc;
+		dest.w = xc * yc * zc - xs * ys * zs;
+		return dest;
+	}
+
+	// Object-inherited methods
+
+	/**
+	 * Returns the Sting-representation of this quaternion
+	 */
+	@Override
+	public String toString() {
+		return "Quat: " + x + ", " + y + ", " + z + ", " + w;
+	}
+
+	/**
+	 * Checks if a Quat is equal to this quaternion
+	 */
+	@Override
+	public boolean equals(Object obj) {
+		boolean result = false;
+		if (obj instanceof Quat) {
+			Quat other = (Quat) obj;
+			if (x == other.x && y == other.y && z == other.z && w == other.w) {
+				result = true;
+			}
+		}
+		return result;
+	}
+
+	@Override
+	public int hashCode() {
+		// + 0.0f turns -0.0f into 0.0f, which are equal for ==
+		int hash = Float.hashCode(x + 0.0f);
+		hash = 31 * hash + Float.hashCode(y + 0.0f);
+		hash = 31 * hash + Float.hashCode(z + 0.0f);
+		return 31 * hash + Float.hashCode(w + 0.0f);
+	}
+
+	@Override
+	public Object clone() throws CloneNotSupportedException {
+		return new Quat(x, y, z, w);
+	}
+
+}
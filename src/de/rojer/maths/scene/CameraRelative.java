@@ -0,0 +1,143 @@
+package de.rojer.maths.scene;
+
+import de.rojer.maths.mat.Mat4;
+import de.rojer.maths.mat.Mat4d;
+import de.rojer.maths.vec.Vec3;
+import de.rojer.maths.vec.Vec3Buffer;
+import de.rojer.maths.vec.Vec3d;
+
+/**
+ * Converts double-precision positions and matrices to float ones relative to
+ * a camera origin, for rendering large worlds
+ *
+ * A float has a precision of about 1 mm at 10 km, so world positions are kept
+ * in doubles and the camera position is subtracted before rounding to floats.
+ * Everything near the camera then ends up with small, precise values. Every
+ * method does the subtraction and the rounding in one pass, writing into a
+ * destination, and allocates nothing.
+ *
+ * @author Rojer
+ * @version 18.10.2026
+ */
+public final class CameraRelative {
+
+	private CameraRelative() {
+	}
+
+	/**
+	 * Converts a position
+	 *
+	 * @param position the position in world space
+	 * @param origin   the camera origin in world space
+	 * @param dest     the vector to store the position relative to origin in
+	 * @return dest
+	 */
+	public static Vec3 position(Vec3d position, Vec3d origin, Vec3 dest) {
+		dest.x = (float) (position.x - origin.x);
+		dest.y = (float) (position.y - origin.y);
+		dest.z = (float) (position.z - origin.z);
+		return dest;
+	}
+
+	/**
+	 * Converts positions given as separate component arrays, like the ones of a
+	 * {@link Vec3Buffer}
+	 *
+	 * @param x      the x-components in world space
+	 * @param y      the y-components in world space
+	 * @param z      the z-components in world space
+	 * @param origin the camera origin in world space
+	 * @param dest   the buffer to store the positions relative to origin in
+	 * @param offset the index of the first position, in the arrays and dest
+	 * @param count  the number of positions
+	 */
+	public static void positions(double[] x, double[] y, double[] z, Vec3d origin, Vec3Buffer dest, int offset,
+			int count) {
+		int end = offset + count;
+		// One loop per component, so each one is vectorized
+		double ox = origin.x, oy = origin.y, oz = origin.z;
+		float[] dx = dest.x, dy = dest.y, dz = dest.z;
+		for (int i = offset; i < end; i++) {
+			dx[i] = (float) (x[i] - ox);
+		}
+		for (int i = offset; i < end; i++) {
+			dy[i] = (float) (y[i] - oy);
+		}
+		for (int i = offset; i < end; i++) {
+			dz[i] = (float) (z[i] - oz);
+		}
+	}
+
+	/**
+	 * Converts a model matrix, which maps to world space, to one that maps to
+	 * the space around origin: the translation has origin subtracted.
+	 *
+	 * @param model  the model matrix in world space
+	 * @param origin the camera origin in world space
+	 * @param dest   the matrix to store the camera-relative model matrix in
+	 * @return dest
+	 */
+	public static Mat4 model(Mat4d model, Vec3d origin, Mat4 dest) {
+		model(model.elements, 0, origin.x, origin.y, origin.z, dest.elements, 0);
+		float[] e = dest.elements;
+		return dest.setKind(e[3] == 0.0f && e[7] == 0.0f && e[11] == 0.0f && e[15] == 1.0f ? Mat4.Kind.AFFINE
+				: Mat4.Kind.GENERAL);
+	}
+
+	/**
+	 * Converts model matrices packed into arrays with 16 elements each, like
+	 * {@link #model(Mat4d, Vec3d, Mat4)}. The result can be used with the batch
+	 * methods of {@link Mat4}.
+	 *
+	 * @param src    the model matrices in world space
+	 * @param origin the camera origin in world space
+	 * @param dest   the array to store the camera-relative model matrices in
+	 * @param offset the index of the first matrix
+	 * @param count  the number of matrices
+	 */
+	public static void models(double[] src, Vec3d origin, float[] dest, int offset, int count) {
+		double ox = origin.x, oy = origin.y, oz = origin.z;
+		int end = (offset + count) * 16;
+		for (int i = offset * 16; i < end; i += 16) {
+			model(src, i, ox, oy, oz, dest, i);
+		}
+	}
+
+	/**
+	 * Converts a view matrix, which maps from world space, to one that maps from
+	 * the space around origin, so it can be used with the matrices and
+	 * positions converted by the other methods
+	 *
+	 * @param view   the view matrix in world space
+	 * @param origin the camera origin in world space
+	 * @param dest   the matrix to store the camera-relative view matrix in
+	 * @return dest
+	 */
+	public static Mat4 view(Mat4d view, Vec3d origin, Mat4 dest) {
+		double[] e = view.elements;
+		float[] data = dest.elements;
+		double ox = origin.x, oy = origin.y, oz = origin.z;
+		for (int i = 0; i < 12; i++) {
+			data[i] = (float) e[i];
+		}
+		// Translate by origin first: the translation column becomes view * (origin, 1)
+		for (int r = 0; r < 4; r++) {
+			data[12 + r] = (float) (e[r] * ox + e[4 + r] * oy + e[8 + r] * oz + e[12 + r]);
+		}
+		return dest.setKind(data[3] == 0.0f && data[7] == 0.0f && data[11] == 0.0f && data[15] == 1.0f
+				? Mat4.Kind.AFFINE
+				: Mat4.Kind.GENERAL);
+	}
+
+	private static void model(double[] e, int o, double ox, double oy, double oz, float[] data, int d) {
+		// Translate by -origin last: every column loses origin times its w-element
+		for (int c = 0; c < 4; c++) {
+			double w = e[o + c * 4 + 3];
+			data[d + c * 4 + 0] = (float) (e[o + c * 4 + 0] - ox * w);
+			data[d + c * 4 + 1] = (float) (e[o + c * 4 + 1] - oy * w);
+			data[d + c * 4 + 2] = (float) (e[o + c * 4 + 2] - oz * w);
+			data[d + c * 4 + 3] = (float) w;
+		}
+	}
+
+}
@@ -0,0 +1,393 @@
+package de.rojer.maths.scene;
+
+import java.util.Arrays;
+
+import de.rojer.maths.mat.Mat4;
+import de.rojer.maths.metrics.BulkKernelEvent;
+import de.rojer.maths.metrics.MathMetrics;
+
+/**
+ * The six planes of a view frustum, for culling spheres and axis-aligned
+ * boxes
+ *
+ * The planes are extracted from a view-projection matrix built with
+ * {@link Mat4#Perspective(float, float, float, float)} or
+ * {@link Mat4#Orthographic(float, float, float, float, float, float)}, e.g.
+ * {@code view.cmultiply(projection)}, so objects are tested in world space.
+ * The batch tests take the objects as separate component arrays (structure of
+ * arrays). They copy a block of objects into scratch arrays of the frustum,
+ * test it against one plane after another in loops that the JIT vectorizes,
+ * then pack the results into a bitset or an index list. They compute every
+ * distance with the same expression as the single tests, so both give the same
+ * results, and allocate nothing after the first call.
+ *
+ * The single tests do not change the frustum and can be used by several
+ * threads at once. The batch tests share the scratch arrays, so to cull ranges
+ * of objects on several threads, give every thread its own frustum.
+ *
+ * @author Rojer
+ * @version 18.10.2026
+ */
+public class Frustum {
+
+	/**
+	 * The number of objects whose distances are computed before they are packed,
+	 * a multiple of 64
+	 */
+	private static final int BLOCK = 512;
+
+	// Attributes
+
+	/**
+	 * The normalized planes in the order left, right, bottom, top, near, far: the
+	 * normal points inside, so a point p is inside a plane if n * p + d >= 0
+	 */
+	private final float[] nx = new float[6], ny = new float[6], nz = new float[6], d = new float[6];
+
+	/**
+	 * The scratch arrays of the batch tests, created by the first one
+	 */
+	private Block block;
+
+	// Constructors
+
+	/**
+	 * Creates a frustum from a view-projection matrix
+	 *
+	 * @param viewProjection the matrix mapping world space to clip space
+	 */
+	public Frustum(Mat4 viewProjection) {
+		set(viewProjection);
+	}
+
+	// Planes
+
+	/**
+	 * Extracts the planes of a view-projection matrix, replacing the current ones
+	 *
+	 * @param viewProjection the matrix mapping world space to clip space
+	 * @return this frustum for multiple operations "in one line"
+	 */
+	public Frustum set(Mat4 viewProjection) {
+		float[] e = viewProjection.elements;
+		// Row i of the column-major matrix is e[i], e[4 + i], e[8 + i], e[12 + i]:
+		// a point is inside if -w <= x, y, z <= w, i.e. row3 +- row0, 1, 2 >= 0
+		for (int p = 0; p < 6; p++) {
+			int row = p / 2;
+			float sign = p % 2 == 0 ? 1.0f : -1.0f;
+			float a = e[3] + sign * e[row];
+			float b = e[7] + sign * e[4 + row];
+			float c = e[11] + sign * e[8 + row];
+			float w = e[15] + sign * e[12 + row];
+			float inverseLength = 1.0f / (float) Math.sqrt(a * a + b * b + c * c);
+			nx[p] = a * inverseLength;
+			ny[p] = b * inverseLength;
+			nz[p] = c * inverseLength;
+			d[p] = w * inverseLength;
+		}
+		return this;
+	}
+
+	/**
+	 * Stores a plane in dest as its normal (x, y, z), pointing inside, and its
+	 * distance (w)
+	 *
+	 * @param plane the plane, 0 to 5 for left, right, bottom, top, near, far
+	 * @param dest  the array to store the plane in, at least 4 floats
+	 * @return dest
+	 */
+	public float[] getPlane(int plane, float[] dest) {
+		dest[0] = nx[plane];
+		dest[1] = ny[plane];
+		dest[2] = nz[plane];
+		dest[3] = d[plane];
+		return dest;
+	}
+
+	// Single tests
+
+	/**
+	 * @param x the x-component of the point
+	 * @param y the y-component of the point
+	 * @param z the z-component of the point
+	 * @return whether the point is inside the frustum
+	 */
+	public boolean containsPoint(float x, float y, float z) {
+		return intersectsSphere(x, y, z, 0.0f);
+	}
+
+	/**
+	 * @param x      the x-component of the center
+	 * @param y      the y-component of the center
+	 * @param z      the z-component of the center
+	 * @param radius the radius
+	 * @return whether the sphere is at least partly inside the frustum
+	 */
+	public boolean intersectsSphere(float x, float y, float z, float radius) {
+		for (int p = 0; p < 6; p++) {
+			if (nx[p] * x + ny[p] * y + nz[p] * z + d[p] < -radius) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * Tests an axis-aligned box conservatively: a box outside the frustum near
+	 * one of its edges can be reported as intersecting
+	 *
+	 * @param minX the minimum x-component of the box
+	 * @param minY the minimum y-component of the box
+	 * @param minZ the minimum z-component of the box
+	 * @param maxX the maximum x-component of the box
+	 * @param maxY the maximum y-component of the box
+	 * @param maxZ the maximum z-component of the box
+	 * @return whether the box is at least partly inside the frustum
+	 */
+	public boolean intersectsAabb(float minX, float minY, float minZ, float maxX, float maxY, float maxZ) {
+		for (int p = 0; p < 6; p++) {
+			// The corner farthest along the normal
+			float x = nx[p] >= 0.0f ? maxX : minX;
+			float y = ny[p] >= 0.0f ? maxY : minY;
+			float z = nz[p] >= 0.0f ? maxZ : minZ;
+			if (nx[p] * x + ny[p] * y + nz[p] * z + d[p] < 0.0f) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	// Batch tests
+
+	/**
+	 * Tests spheres and sets a bit for every visible one: bit j (bit j % 64 of
+	 * visible[j / 64]) stands for sphere offset + j. Other bits are cleared.
+	 *
+	 * @param x       the x-components of the centers
+	 * @param y       the y-components of the centers
+	 * @param z       the z-components of the centers
+	 * @param radius  the radii
+	 * @param offset  the index of the first sphere
+	 * @param count   the number of spheres
+	 * @param visible the bitset, at least (count + 63) / 64 longs
+	 * @return the number of visible spheres
+	 */
+	public int cullSpheres(float[] x, float[] y, float[] z, float[] radius, int offset, int count, long[] visible) {
+		BulkKernelEvent event = MathMetrics.begin("Frustum.cullSpheres", count);
+		Block block = block();
+		int total = 0;
+		for (int start = 0; start < count; start += BLOCK) {
+			int n = block.load(start + offset, Math.min(BLOCK, count - start), x, y, z, radius);
+			sphereMargins(block, n);
+			total += pack(block.margins, n, visible, start >>> 6);
+		}
+		MathMetrics.end(event);
+		return total;
+	}
+
+	/**
+	 * Tests spheres and writes the indices of the visible ones, in increasing
+	 * order
+	 *
+	 * @param x       the x-components of the centers
+	 * @param y       the y-components of the centers
+	 * @param z       the z-components of the centers
+	 * @param radius  the radii
+	 * @param offset  the index of the first sphere
+	 * @param count   the number of spheres
+	 * @param indices the array to store the indices in, large enough for count
+	 *                indices
+	 * @return the number of visible spheres
+	 */
+	public int cullSpheres(float[] x, float[] y, float[] z, float[] radius, int offset, int count, int[] indices) {
+		BulkKernelEvent event = MathMetrics.begin("Frustum.cullSpheres", count);
+		Block block = block();
+		int total = 0;
+		for (int start = 0; start < count; start += BLOCK) {
+			int n = block.load(start + offset, Math.min(BLOCK, count - start), x, y, z, radius);
+			sphereMargins(block, n);
+			total = compact(block.margins, n, offset + start, indices, total);
+		}
+		MathMetrics.end(event);
+		return total;
+	}
+
+	/**
+	 * Tests axis-aligned boxes like {@link #intersectsAabb} and sets a bit for
+	 * every visible one: bit j (bit j % 64 of visible[j / 64]) stands for box
+	 * offset + j. Other bits are cleared.
+	 *
+	 * @param minX    the minimum x-components of the boxes
+	 * @param minY    the minimum y-components of the boxes
+	 * @param minZ    the minimum z-components of the boxes
+	 * @param maxX    the maximum x-components of the boxes
+	 * @param maxY    the maximum y-components of the boxes
+	 * @param maxZ    the maximum z-components of the boxes
+	 * @param offset  the index of the first box
+	 * @param count   the number of boxes
+	 * @param visible the bitset, at least (count + 63) / 64 longs
+	 * @return the number of visible boxes
+	 */
+	public int cullAabbs(float[] minX, float[] minY, float[] minZ, float[] maxX, float[] maxY, float[] maxZ,
+			int offset, int count, long[] visible) {
+		BulkKernelEvent event = MathMetrics.begin("Frustum.cullAabbs", count);
+		Block block = block();
+		int total = 0;
+		for (int start = 0; start < count; start += BLOCK) {
+			int n = block.load(start + offset, Math.min(BLOCK, count - start), minX, minY, minZ, maxX, maxY, maxZ);
+			aabbMargins(block, n);
+			total += pack(block.margins, n, visible, start >>> 6);
+		}
+		MathMetrics.end(event);
+		return total;
+	}
+
+	/**
+	 * Tests axis-aligned boxes like {@link #intersectsAabb} and writes the
+	 * indices of the visible ones, in increasing order
+	 *
+	 * @param minX    the minimum x-components of the boxes
+	 * @param minY    the minimum y-components of the boxes
+	 * @param minZ    the minimum z-components of the boxes
+	 * @param maxX    the maximum x-components of the boxes
+	 * @param maxY    the maximum y-components of the boxes
+	 * @param maxZ    the maximum z-components of the boxes
+	 * @param offset  the index of the first box
+	 * @param count   the number of boxes
+	 * @param indices the array to store the indices in, large enough for count
+	 *                indices
+	 * @return the number of visible boxes
+	 */
+	public int cullAabbs(float[] minX, float[] minY, float[] minZ, float[] maxX, float[] maxY, float[] maxZ,
+			int offset, int count, int[] indices) {
+		BulkKernelEvent event = MathMetrics.begin("Frustum.cullAabbs", count);
+		Block block = block();
+		int total = 0;
+		for (int start = 0; start < count; start += BLOCK) {
+			int n = block.load(start + offset, Math.min(BLOCK, count - start), minX, minY, minZ, maxX, maxY, maxZ);
+			aabbMargins(block, n);
+			total = compact(block.margins, n, offset + start, indices, total);
+		}
+		MathMetrics.end(event);
+		return total;
+	}
+
+	// Kernels
+
+	/**
+	 * Computes for every sphere of the block the smallest distance of its center
+	 * to a plane plus its radius, which is negative if the sphere is outside. One
+	 * plane after another, so every loop is vectorized.
+	 */
+	private void sphereMargins(Block block, int n) {
+		float[] x = block.columns[0], y = block.columns[1], z = block.columns[2], radius = block.columns[3];
+		float[] margins = block.margins;
+		float a = nx[0], b = ny[0], c = nz[0], w = d[0];
+		for (int j = 0; j < n; j++) {
+			margins[j] = a * x[j] + b * y[j] + c * z[j] + w;
+		}
+		for (int p = 1; p < 6; p++) {
+			a = nx[p];
+			b = ny[p];
+			c = nz[p];
+			w = d[p];
+			for (int j = 0; j < n; j++) {
+				margins[j] = Math.min(margins[j], a * x[j] + b * y[j] + c * z[j] + w);
+			}
+		}
+		for (int j = 0; j < n; j++) {
+			margins[j] += radius[j];
+		}
+	}
+
+	/**
+	 * Computes for every box of the block the smallest distance of its corner
+	 * farthest along the normal of a plane to that plane, which is negative if
+	 * the box is outside. The corner and the distance are the ones of
+	 * {@link #intersectsAabb}, so the results are the same.
+	 */
+	private void aabbMargins(Block block, int n) {
+		float[] minX = block.columns[0], minY = block.columns[1], minZ = block.columns[2];
+		float[] maxX = block.columns[3], maxY = block.columns[4], maxZ = block.columns[5];
+		float[] margins = block.margins;
+		Arrays.fill(margins, 0, n, Float.POSITIVE_INFINITY);
+		for (int p = 0; p < 6; p++) {
+			float a = nx[p], b = ny[p], c = nz[p], w = d[p];
+			// The side of the corner is the same for all boxes of a plane
+			float[] x = a >= 0.0f ? maxX : minX;
+			float[] y = b >= 0.0f ? maxY : minY;
+			float[] z = c >= 0.0f ? maxZ : minZ;
+			for (int j = 0; j < n; j++) {
+				margins[j] = Math.min(margins[j], a * x[j] + b * y[j] + c * z[j] + w);
+			}
+		}
+	}
+
+	private Block block() {
+		if (block == null) {
+			block = new Block();
+		}
+		return block;
+	}
+
+	/**
+	 * Packs the signs of the margins into words of a bitset, starting at word
+	 */
+	private static int pack(float[] margins, int n, long[] visible, int word) {
+		int total = 0;
+		for (int j0 = 0; j0 < n; j0 += 64) {
+			int end = Math.min(64, n - j0);
+			long bits = 0L;
+			for (int j = 0; j < end; j++) {
+				bits |= (margins[j0 + j] >= 0.0f ? 1L : 0L) << j;
+			}
+			visible[word++] = bits;
+			total += Long.bitCount(bits);
+		}
+		return total;
+	}
+
+	/**
+	 * Appends the indices of the non-negative margins without branching: every
+	 * index is written, but the position only advances for visible ones
+	 */
+	private static int compact(float[] margins, int n, int first, int[] indices, int total) {
+		for (int j = 0; j < n; j++) {
+			indices[total] = first + j;
+			total += margins[j] >= 0.0f ? 1 : 0;
+		}
+		return total;
+	}
+
+	/**
+	 * A block of objects copied out of the caller's arrays
+	 *
+	 * The kernels only vectorize if they read and write their arrays at the same
+	 * index; with the caller's offset the JIT cannot rule out that the margins
+	 * overlap the input, so the inputs are copied first, which is cheap.
+	 */
+	private static final class Block {
+
+		/**
+		 * Enough columns for the boxes, the spheres use the first 4
+		 */
+		final float[][] columns = new float[6][BLOCK];
+		final float[] margins = new float[BLOCK];
+
+		int load(int from, int n, float[] a, float[] b, float[] c, float[] d) {
+			System.arraycopy(a, from, columns[0], 0, n);
+			System.arraycopy(b, from, columns[1], 0, n);
+			System.arraycopy(c, from, columns[2], 0, n);
+			System.arraycopy(d, from, columns[3], 0, n);
+			return n;
+		}
+
+		int load(int from, int n, float[] a, float[] b, float[] c, float[] d, float[] e, float[] f) {
+			System.arraycopy(e, from, columns[4], 0, n);
+			System.arraycopy(f, from, columns[5], 0, n);
+			return load(from, n, a, b, c, d);
+		}
+
+	}
+
+}
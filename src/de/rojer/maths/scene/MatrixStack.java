@@ -0,0 +1,327 @@
+package de.rojer.maths.scene;
+
+import static java.lang.Math.cos;
+import static java.lang.Math.sin;
+import static java.lang.Math.toRadians;
+
+import java.util.Arrays;
+
+import de.rojer.maths.mat.Mat4;
+import de.rojer.maths.quat.Quat;
+import de.rojer.maths.vec.Vec3;
+
+/**
+ * A stack of matrices for drawing hierarchies in immediate style, like the
+ * matrix stack of old OpenGL
+ *
+ * The frames are stored back to back in one float array, 16 elements each
+ * and column-major like {@link Mat4#elements}, and the top frame is the
+ * current matrix. {@link #push()} copies the current matrix into a new frame,
+ * {@link #pop()} goes back to the one below; neither allocates unless the
+ * array has to grow. Translations, rotations and scales are multiplied into
+ * the current matrix in place, so they apply to vectors before the matrix
+ * does, in the local space of the current matrix.
+ *
+ * @author Rojer
+ * @version 18.10.2026
+ */
+public class MatrixStack {
+
+	// Attributes
+
+	/**
+	 * The frames, the current matrix starts at {@link #offset()}
+	 */
+	private float[] frames;
+
+	/**
+	 * The index of the first element of the current matrix
+	 */
+	private int top;
+
+	// Constructors
+
+	/**
+	 * Creates a stack with the identity as its only frame and room for 16
+	 * frames, it grows when needed
+	 */
+	public MatrixStack() {
+		this(16);
+	}
+
+	/**
+	 * Creates a stack with the identity as its only frame, it grows when needed
+	 *
+	 * @param capacity the number of frames to make room for
+	 */
+	public MatrixStack(int capacity) {
+		frames = new float[Math.max(1, capacity) * 16];
+		identity();
+	}
+
+	// Stack
+
+	/**
+	 * Pushes a copy of the current matrix, which becomes the current matrix
+	 *
+	 * @return this stack for multiple operations "in one line"
+	 */
+	public MatrixStack push() {
+		int next = top + 16;
+		if (next == frames.length) {
+			frames = Arrays.copyOf(frames, frames.length * 2);
+		}
+		System.arraycopy(frames, top, frames, next, 16);
+		top = next;
+		return this;
+	}
+
+	/**
+	 * Removes the current matrix, the one below becomes the current matrix
+	 *
+	 * @return this stack for multiple operations "in one line"
+	 * @throws IllegalStateException if the current matrix is the last one
+	 */
+	public MatrixStack pop() {
+		if (top == 0) {
+			throw new IllegalStateException("Cannot pop the last matrix of the stack");
+		}
+		top -= 16;
+		return this;
+	}
+
+	/**
+	 * @return the number of frames, 1 if nothing is pushed
+	 */
+	public int depth() {
+		return top / 16 + 1;
+	}
+
+	/**
+	 * Removes all frames but the bottom one and sets it to the identity
+	 *
+	 * @return this stack for multiple operations "in one line"
+	 */
+	public MatrixStack clear() {
+		top = 0;
+		return identity();
+	}
+
+	// Access
+
+	/**
+	 * Returns the array holding the frames, for uploading the current matrix
+	 * without a copy. The array is replaced when the stack grows.
+	 *
+	 * @return the frames, the current matrix starts at {@link #offset()}
+	 */
+	public float[] elements() {
+		return frames;
+	}
+
+	/**
+	 * @return the index of the first element of the current matrix in
+	 *         {@link #elements()}
+	 */
+	public int offset() {
+		return top;
+	}
+
+	/**
+	 * Copies the current matrix into dest and determines its kind
+	 *
+	 * @param dest the matrix to store the current matrix in
+	 * @return dest
+	 */
+	public Mat4 get(Mat4 dest) {
+		System.arraycopy(frames, top, dest.elements, 0, 16);
+		return dest.updateKind();
+	}
+
+	/**
+	 * Replaces the current matrix
+	 *
+	 * @param matrix the new current matrix
+	 * @return this stack for multiple operations "in one line"
+	 */
+	public MatrixStack set(Mat4 matrix) {
+		System.arraycopy(matrix.elements, 0, frames, top, 16);
+		return this;
+	}
+
+	/**
+	 * Sets the current matrix to the identity
+	 *
+	 * @return this stack for multiple operations "in one line"
+	 */
+	public MatrixStack identity() {
+		float[] e = frames;
+		Arrays.fill(e, top, top + 16, 0.0f);
+		e[top + 0 + 0 * 4] = 1.0f;
+		e[top + 1 + 1 * 4] = 1.0f;
+		e[top + 2 + 2 * 4] = 1.0f;
+		e[top + 3 + 3 * 4] = 1.0f;
+		return this;
+	}
+
+	// Arithmetic
+
+	/**
+	 * Applies a matrix before the current matrix, like
+	 * {@link Mat4#mul(Mat4, Mat4, Mat4)} with the matrix on the left
+	 *
+	 * @param matrix the matrix
+	 * @return this stack for multiple operations "in one line"
+	 */
+	public MatrixStack multiply(Mat4 matrix) {
+		float[] e = frames, m = matrix.elements;
+		int o = top;
+		for (int row = 0; row < 4; row++) {
+			float c0 = e[o + row], c1 = e[o + row + 4], c2 = e[o + row + 8], c3 = e[o + row + 12];
+			for (int col = 0; col < 16; col += 4) {
+				e[o + row + col] = c0 * m[col] + c1 * m[col + 1] + c2 * m[col + 2] + c3 * m[col + 3];
+			}
+		}
+		return this;
+	}
+
+	/**
+	 * Applies a translation before the current matrix
+	 *
+	 * @param x the translation on the x-axis
+	 * @param y the translation on the y-axis
+	 * @param z the translation on the z-axis
+	 * @return this stack for multiple operations "in one line"
+	 */
+	public MatrixStack translate(float x, float y, float z) {
+		float[] e = frames;
+		int o = top;
+		for (int row = o; row < o + 4; row++) {
+			e[row + 12] += e[row] * x + e[row + 4] * y + e[row + 8] * z;
+		}
+		return this;
+	}
+
+	/**
+	 * Applies a translation before the current matrix
+	 *
+	 * @param translation the translation
+	 * @return this stack for multiple operations "in one line"
+	 */
+	public MatrixStack translate(Vec3 translation) {
+		return translate(translation.x, translation.y, translation.z);
+	}
+
+	/**
+	 * Applies a rotation before the current matrix, with the same angles as
+	 * {@link Mat4#Rotation(float, float, float)}
+	 *
+	 * @param angleX the angle in x-direction
+	 * @param angleY the angle in y-direction
+	 * @param angleZ the angle in z-direction
+	 * @return this stack for multiple operations "in one line"
+	 */
+	public MatrixStack rotate(float angleX, float angleY, float angleZ) {
+		float x = (float) toRadians(angleX);
+		float xc = (float) cos(x);
+		float xs = (float) sin(x);
+
+		float y = (float) toRadians(angleY);
+		float yc = (float) cos(y);
+		float ys = (float) sin(y);
+
+		float z = (float) toRadians(angleZ);
+		float zc = (float) cos(z);
+		float zs = (float) sin(z);
+
+		// The columns of Mat4.Rotation(angleX, angleY, angleZ, dest)
+		return rotate(yc * zc, xc * zs + xs * ys * zc, xc * ys * zc - xs * zs,
+				-yc * zs, xc * zc - xs * ys * zs, -xs * zc - xc * ys * zs,
+				-ys, xs * yc, xc * yc);
+	}
+
+	/**
+	 * Applies the rotation of a unit quaternion before the current matrix
+	 *
+	 * @param rotation the rotation
+	 * @return this stack for multiple operations "in one line"
+	 */
+	public MatrixStack rotate(Quat rotation) {
+		float x = rotation.x, y = rotation.y, z = rotation.z, w = rotation.w;
+		float xx = x * x, yy = y * y, zz = z * z;
+		float xy = x * y, xz = x * z, yz = y * z;
+		float wx = w * x, wy = w * y, wz = w * z;
+
+		// The columns of rotation.toMat4(dest)
+		return rotate(1.0f - 2.0f * (yy + zz), 2.0f * (xy + wz), 2.0f * (xz - wy),
+				2.0f * (xy - wz), 1.0f - 2.0f * (xx + zz), 2.0f * (yz + wx),
+				2.0f * (xz + wy), 2.0f * (yz - wx), 1.0f - 2.0f * (xx + yy));
+	}
+
+	/**
+	 * Applies a scale before the current matrix
+	 *
+	 * @param x the scale on the x-axis
+	 * @param y the scale on the y-axis
+	 * @param z the scale on the z-axis
+	 * @return this stack for multiple operations "in one line"
+	 */
+	public MatrixStack scale(float x, float y, float z) {
+		float[] e = frames;
+		int o = top;
+		for (int row = o; row < o + 4; row++) {
+			e[row] *= x;
+			e[row + 4] *= y;
+			e[row + 8] *= z;
+		}
+		return this;
+	}
+
+	/**
+	 * Applies a scale before the current matrix
+	 *
+	 * @param scale the scale
+	 * @return this stack for multiple operations "in one line"
+	 */
+	public MatrixStack scale(Vec3 scale) {
+		return scale(scale.x, scale.y, scale.z);
+	}
+
+	/**
+	 * Transforms a Vec3 as a point (w = 1) by the current matrix, ignoring its
+	 * last row like {@link Mat4#transform(Vec3, Vec3)}
+	 *
+	 * @param in   the vector to transform
+	 * @param dest the vector to store the result in, may be in
+	 * @return dest
+	 */
+	public Vec3 transform(Vec3 in, Vec3 dest) {
+		float[] e = frames;
+		int o = top;
+		float x = in.x, y = in.y, z = in.z;
+		dest.x = e[o + 0] * x + e[o + 4] * y + e[o + 8] * z + e[o + 12];
+		dest.y = e[o + 1] * x + e[o + 5] * y + e[o + 9] * z + e[o + 13];
+		dest.z = e[o + 2] * x + e[o + 6] * y + e[o + 10] * z + e[o + 14];
+		return dest;
+	}
+
+	// Internals
+
+	/**
+	 * Multiplies the upper 3 * 3 part of the current matrix with a rotation,
+	 * given by its columns
+	 */
+	private MatrixStack rotate(float r00, float r10, float r20, float r01, float r11, float r21, float r02,
+			float r12, float r22) {
+		float[] e = frames;
+		int o = top;
+		for (int row = o; row < o + 4; row++) {
+			float c0 = e[row], c1 = e[row + 4], c2 = e[row + 8];
+			e[row] = c0 * r00 + c1 * r10 + c2 * r20;
+			e[row + 4] = c0 * r01 + c1 * r11 + c2 * r21;
+			e[row + 8] = c0 * r02 + c1 * r12 + c2 * r22;
+		}
+		return this;
+	}
+
+}
@@ -0,0 +1,187 @@
+package de.rojer.maths.scene;
+
+import de.rojer.maths.mat.Mat4;
+import de.rojer.maths.vec.Vec3;
+
+/**
+ * A node of a {@link TransformHierarchy}, holding a local translation,
+ * rotation and scale and caching its local and world matrix
+ * 
+ * The local matrix scales first, then rotates (like
+ * {@link Mat4#Rotation(float, float, float)}) and then translates. The world
+ * matrix applies the local matrix first and then the world matrix of the
+ * parent. Changing the local values only marks the node dirty; the matrices
+ * are recomputed by {@link TransformHierarchy#update()}.
+ * 
+ * @author Rojer
+ * @version 18.10.2026
+ */
+public class Transform {
+
+	// Attributes
+
+	private final TransformHierarchy hierarchy;
+	private final int index;
+
+	private float translationX, translationY, translationZ;
+	private float angleX, angleY, angleZ;
+	private float scaleX = 1.0f, scaleY = 1.0f, scaleZ = 1.0f;
+
+	private final Mat4 local = Mat4.Identity(new Mat4());
+	private final Mat4 world = Mat4.Identity(new Mat4());
+
+	// Constructors
+
+	Transform(TransformHierarchy hierarchy, int index) {
+		this.hierarchy = hierarchy;
+		this.index = index;
+	}
+
+	// Local values
+
+	/**
+	 * Sets the translation relative to the parent
+	 * 
+	 * @param x the translation on the x-axis
+	 * @param y the translation on the y-axis
+	 * @param z the translation on the z-axis
+	 * @return this node for multiple operations "in one line"
+	 */
+	public Transform setTranslation(float x, float y, float z) {
+		translationX = x;
+		translationY = y;
+		translationZ = z;
+		hierarchy.markDirty(index);
+		return this;
+	}
+
+	/**
+	 * Sets the rotation relative to the parent, with the same angles as
+	 * {@link Mat4#Rotation(float, float, float)}
+	 * 
+	 * @param angleX the angle in x-direction
+	 * @param angleY the angle in y-direction
+	 * @param angleZ the angle in z-direction
+	 * @return this node for multiple operations "in one line"
+	 */
+	public Transform setRotation(float angleX, float angleY, float angleZ) {
+		this.angleX = angleX;
+		this.angleY = angleY;
+		this.angleZ = angleZ;
+		hierarchy.markDirty(index);
+		return this;
+	}
+
+	/**
+	 * Sets the scale relative to the parent
+	 * 
+	 * @param x the scale on the x-axis
+	 * @param y the scale on the y-axis
+	 * @param z the scale on the z-axis
+	 * @return this node for multiple operations "in one line"
+	 */
+	public Transform setScale(float x, float y, float z) {
+		scaleX = x;
+		scaleY = y;
+		scaleZ = z;
+		hierarchy.markDirty(index);
+		return this;
+	}
+
+	/**
+	 * @param dest the vector to store the translation in
+	 * @return dest
+	 */
+	public Vec3 getTranslation(Vec3 dest) {
+		dest.x = translationX;
+		dest.y = translationY;
+		dest.z = translationZ;
+		return dest;
+	}
+
+	/**
+	 * @param dest the vector to store the angles in
+	 * @return dest
+	 */
+	public Vec3 getRotation(Vec3 dest) {
+		dest.x = angleX;
+		dest.y = angleY;
+		dest.z = angleZ;
+		return dest;
+	}
+
+	/**
+	 * @param dest the vector to store the scale in
+	 * @return dest
+	 */
+	public Vec3 getScale(Vec3 dest) {
+		dest.x = scaleX;
+		dest.y = scaleY;
+		dest.z = scaleZ;
+		return dest;
+	}
+
+	// Hierarchy
+
+	/**
+	 * @return the index of this node in its hierarchy
+	 */
+	public int getIndex() {
+		return index;
+	}
+
+	/**
+	 * @return the parent of this node, null for a root
+	 */
+	public Transform getParent() {
+		return hierarchy.getParent(index);
+	}
+
+	// Matrices
+
+	/**
+	 * @return the cached local matrix, valid after the last
+	 *         {@link TransformHierarchy#update()}; must not be changed
+	 */
+	public Mat4 getLocal() {
+		return local;
+	}
+
+	/**
+	 * @return the cached world matrix, valid after the last
+	 *         {@link TransformHierarchy#update()}; must not be changed
+	 */
+	public Mat4 getWorld() {
+		return world;
+	}
+
+	/**
+	 * Recomputes the local matrix from translation, rotation and scale
+	 */
+	void updateLocal() {
+		float[] e = Mat4.Rotation(angleX, angleY, angleZ, local).elements;
+		for (int row = 0; row < 3; row++) {
+			e[row + 0 * 4] *= scaleX;
+			e[row + 1 * 4] *= scaleY;
+			e[row + 2 * 4] *= scaleZ;
+		}
+		e[0 + 3 * 4] = translationX;
+		e[1 + 3 * 4] = translationY;
+		e[2 + 3 * 4] = translationZ;
+	}
+
+	/**
+	 * Recomputes the world matrix from the local one and the world matrix of the
+	 * parent
+	 * 
+	 * @param parent the parent, null for a root
+	 */
+	void updateWorld(Transform parent) {
+		if (parent == null) {
+			world.set(local);
+		} else {
+			Mat4.mul(local, parent.world, world);
+		}
+	}
+
+}
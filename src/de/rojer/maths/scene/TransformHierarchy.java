@@ -0,0 +1,155 @@
+package de.rojer.maths.scene;
+
+import java.util.Arrays;
+
+/**
+ * A hierarchy of {@link Transform} nodes, stored in a flat array in which
+ * every parent comes before its children
+ * 
+ * {@link #update()} walks the array once: a node recomputes its local matrix
+ * only if its own values changed, and its world matrix only if its local
+ * matrix or the world matrix of its parent changed. Nodes that did not move
+ * cost a single flag check.
+ * 
+ * @author Rojer
+ * @version 18.10.2026
+ */
+public class TransformHierarchy {
+
+	// Attributes
+
+	/**
+	 * The index used for the parent of a root
+	 */
+	public static final int NO_PARENT = -1;
+
+	private Transform[] nodes;
+	private int[] parents;
+
+	/**
+	 * Nodes whose local values changed since the last update
+	 */
+	private boolean[] dirty;
+
+	/**
+	 * Nodes whose world matrix changed in the current update
+	 */
+	private boolean[] changed;
+
+	private int size;
+
+	// Constructors
+
+	/**
+	 * Creates an empty hierarchy
+	 */
+	public TransformHierarchy() {
+		this(16);
+	}
+
+	/**
+	 * Creates an empty hierarchy
+	 * 
+	 * @param capacity the number of nodes space is reserved for
+	 */
+	public TransformHierarchy(int capacity) {
+		capacity = Math.max(capacity, 1);
+		nodes = new Transform[capacity];
+		parents = new int[capacity];
+		dirty = new boolean[capacity];
+		changed = new boolean[capacity];
+	}
+
+	// Nodes
+
+	/**
+	 * Adds a root node with identity translation, rotation and scale
+	 * 
+	 * @return the new node
+	 */
+	public Transform add() {
+		return add(null);
+	}
+
+	/**
+	 * Adds a node with identity translation, rotation and scale
+	 * 
+	 * @param parent the parent of the new node, null for a root
+	 * @return the new node
+	 */
+	public Transform add(Transform parent) {
+		if (parent != null && (parent.getIndex() >= size || nodes[parent.getIndex()] != parent)) {
+			throw new IllegalArgumentException("The parent belongs to another hierarchy");
+		}
+		if (size == nodes.length) {
+			int capacity = size * 2;
+			nodes = Arrays.copyOf(nodes, capacity);
+			parents = Arrays.copyOf(parents, capacity);
+			dirty = Arrays.copyOf(dirty, capacity);
+			changed = Arrays.copyOf(changed, capacity);
+		}
+		Transform node = new Transform(this, size);
+		nodes[size] = node;
+		parents[size] = parent == null ? NO_PARENT : parent.getIndex();
+		dirty[size] = true;
+		size++;
+		return node;
+	}
+
+	/**
+	 * @param index the index of the node
+	 * @return the node
+	 */
+	public Transform get(int index) {
+		if (index >= size) {
+			throw new IndexOutOfBoundsException("Index " + index + " out of bounds for size " + size);
+		}
+		return nodes[index];
+	}
+
+	/**
+	 * @return the number of nodes
+	 */
+	public int size() {
+		return size;
+	}
+
+	// Update
+
+	/**
+	 * Recomputes the local and world matrices of all nodes that changed, and the
+	 * world matrices of all their descendants, in one pass over the nodes
+	 * 
+	 * @return the number of world matrices that were recomputed
+	 */
+	public int update() {
+		int updated = 0;
+		for (int i = 0; i < size; i++) {
+			int parent = parents[i];
+			boolean parentChanged = parent != NO_PARENT && changed[parent];
+			if (dirty[i]) {
+				nodes[i].updateLocal();
+				dirty[i] = false;
+			} else if (!parentChanged) {
+				changed[i] = false;
+				continue;
+			}
+			nodes[i].updateWorld(parent == NO_PARENT ? null : nodes[parent]);
+			changed[i] = true;
+			updated++;
+		}
+		return updated;
+	}
+
+	// Access for the nodes
+
+	void markDirty(int index) {
+		dirty[index] = true;
+	}
+
+	Transform getParent(int index) {
+		int parent = parents[index];
+		return parent == NO_PARENT ? null : nodes[parent];
+	}
+
+}
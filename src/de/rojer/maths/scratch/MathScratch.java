@@ -0,0 +1,310 @@
+package de.rojer.maths.scratch;
+
+import java.util.Arrays;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+import de.rojer.maths.mat.Mat4;
+import de.rojer.maths.vec.Vec2;
+import de.rojer.maths.vec.Vec3;
+import de.rojer.maths.vec.Vec4;
+
+/**
+ * A scope that hands out temporary vectors and matrices from a pool of the
+ * current thread
+ *
+ * <pre>
+ * try (MathScratch s = MathScratch.open()) {
+ * 	Vec3 t = s.vec3();
+ * 	...
+ * }
+ * </pre>
+ *
+ * The pool works like a stack: everything handed out by a scope is reclaimed
+ * at once when the scope is closed, so after the pool has grown to the size
+ * the code needs, nothing is allocated anymore. Temporaries are zeroed when
+ * they are handed out and must not be used after their scope is closed.
+ * Scopes can be nested, but have to be closed in reverse order and only on
+ * the thread that opened them.
+ *
+ * With the system property {@value #DEBUG_PROPERTY} set to true, reclaimed
+ * temporaries are filled with NaN and checked when they are handed out again,
+ * so a temporary that escaped its scope and was written to is detected. Scopes
+ * are also checked to be used on their own thread.
+ *
+ * @author Rojer
+ * @version 18.10.2026
+ */
+public final class MathScratch implements AutoCloseable {
+
+	/**
+	 * The system property to enable the checks for escaped temporaries
+	 */
+	public static final String DEBUG_PROPERTY = "de.rojer.maths.scratch.debug";
+
+	private static final boolean DEBUG = Boolean.getBoolean(DEBUG_PROPERTY);
+
+	/**
+	 * The NaN reclaimed temporaries are filled with in debug mode, with a payload
+	 * that arithmetic is unlikely to produce
+	 */
+	private static final float POISON = Float.intBitsToFloat(0x7fc0dead);
+
+	private static final int INITIAL_CAPACITY = 16;
+
+	private static final ThreadLocal<Pool> POOLS = ThreadLocal.withInitial(Pool::new);
+
+	// Attributes
+
+	/**
+	 * The pool of the thread this scope belongs to
+	 */
+	private final Pool pool;
+
+	/**
+	 * The nesting depth of this scope, 0 for the outermost one
+	 */
+	private final int level;
+
+	/**
+	 * The number of temporaries of each type handed out before this scope was
+	 * opened
+	 */
+	private int vec2Base, vec3Base, vec4Base, mat4Base;
+
+	/**
+	 * Whether this scope is open
+	 */
+	private boolean open;
+
+	// Constructors
+
+	private MathScratch(Pool pool, int level) {
+		this.pool = pool;
+		this.level = level;
+	}
+
+	// Scopes
+
+	/**
+	 * Opens a scope on the pool of the current thread. Scope objects are reused
+	 * as well, so opening one does not allocate either.
+	 *
+	 * @return the new scope, to be closed with try-with-resources
+	 */
+	public static MathScratch open() {
+		Pool pool = POOLS.get();
+		if (pool.depth == pool.scopes.length) {
+			pool.scopes = Arrays.copyOf(pool.scopes, pool.scopes.length * 2);
+		}
+		MathScratch scope = pool.scopes[pool.depth];
+		if (scope == null) {
+			scope = new MathScratch(pool, pool.depth);
+			pool.scopes[pool.depth] = scope;
+		}
+		scope.vec2Base = pool.vec2Top;
+		scope.vec3Base = pool.vec3Top;
+		scope.vec4Base = pool.vec4Top;
+		scope.mat4Base = pool.mat4Top;
+		scope.open = true;
+		pool.depth++;
+		return scope;
+	}
+
+	/**
+	 * Reclaims every temporary handed out by this scope
+	 *
+	 * @throws IllegalStateException if this scope is already closed or an inner
+	 *                               scope is still open
+	 */
+	@Override
+	public void close() {
+		check();
+		if (DEBUG) {
+			for (int i = vec2Base; i < pool.vec2Top; i++) {
+				poison(pool.vec2s[i]);
+			}
+			for (int i = vec3Base; i < pool.vec3Top; i++) {
+				poison(pool.vec3s[i]);
+			}
+			for (int i = vec4Base; i < pool.vec4Top; i++) {
+				poison(pool.vec4s[i]);
+			}
+			for (int i = mat4Base; i < pool.mat4Top; i++) {
+				poison(pool.mat4s[i]);
+			}
+		}
+		pool.vec2Top = vec2Base;
+		pool.vec3Top = vec3Base;
+		pool.vec4Top = vec4Base;
+		pool.mat4Top = mat4Base;
+		pool.depth--;
+		open = false;
+	}
+
+	// Temporaries
+
+	/**
+	 * @return a temporary vector with all components 0, valid until this scope
+	 *         is closed
+	 */
+	public Vec2 vec2() {
+		check();
+		Pool p = pool;
+		if (p.vec2Top == p.vec2s.length) {
+			p.vec2s = grow(p.vec2s, Vec2::new, MathScratch::poison);
+		}
+		Vec2 vector = p.vec2s[p.vec2Top++];
+		if (DEBUG && !(isPoison(vector.x) && isPoison(vector.y))) {
+			throw escaped(vector);
+		}
+		vector.x = 0.0f;
+		vector.y = 0.0f;
+		return vector;
+	}
+
+	/**
+	 * @return a temporary vector with all components 0, valid until this scope
+	 *         is closed
+	 */
+	public Vec3 vec3() {
+		check();
+		Pool p = pool;
+		if (p.vec3Top == p.vec3s.length) {
+			p.vec3s = grow(p.vec3s, Vec3::new, MathScratch::poison);
+		}
+		Vec3 vector = p.vec3s[p.vec3Top++];
+		if (DEBUG && !(isPoison(vector.x) && isPoison(vector.y) && isPoison(vector.z))) {
+			throw escaped(vector);
+		}
+		vector.x = 0.0f;
+		vector.y = 0.0f;
+		vector.z = 0.0f;
+		return vector;
+	}
+
+	/**
+	 * @return a temporary vector with all components 0, valid until this scope
+	 *         is closed
+	 */
+	public Vec4 vec4() {
+		check();
+		Pool p = pool;
+		if (p.vec4Top == p.vec4s.length) {
+			p.vec4s = grow(p.vec4s, Vec4::new, MathScratch::poison);
+		}
+		Vec4 vector = p.vec4s[p.vec4Top++];
+		if (DEBUG && !(isPoison(vector.x) && isPoison(vector.y) && isPoison(vector.z) && isPoison(vector.w))) {
+			throw escaped(vector);
+		}
+		vector.x = 0.0f;
+		vector.y = 0.0f;
+		vector.z = 0.0f;
+		vector.w = 0.0f;
+		return vector;
+	}
+
+	/**
+	 * @return a temporary matrix with all elements 0, like {@link Mat4#Mat4()},
+	 *         valid until this scope is closed
+	 */
+	public Mat4 mat4() {
+		check();
+		Pool p = pool;
+		if (p.mat4Top == p.mat4s.length) {
+			p.mat4s = grow(p.mat4s, Mat4::new, MathScratch::poison);
+		}
+		Mat4 matrix = p.mat4s[p.mat4Top++];
+		if (DEBUG) {
+			for (float element : matrix.elements) {
+				if (!isPoison(element)) {
+					throw escaped(matrix);
+				}
+			}
+		}
+		Arrays.fill(matrix.elements, 0.0f);
+		return matrix.setKind(Mat4.Kind.GENERAL);
+	}
+
+	/**
+	 * @return a temporary identity matrix, valid until this scope is closed
+	 */
+	public Mat4 identity() {
+		Mat4 matrix = mat4();
+		float[] e = matrix.elements;
+		e[0] = e[5] = e[10] = e[15] = 1.0f;
+		// GENERAL like Mat4.Identity(), so its elements can be changed directly
+		return matrix;
+	}
+
+	// Checks
+
+	private void check() {
+		if (!open) {
+			throw new IllegalStateException("The scope is already closed");
+		}
+		if (pool.depth != level + 1) {
+			throw new IllegalStateException("An inner scope is still open");
+		}
+		if (DEBUG && Thread.currentThread() != pool.owner) {
+			throw new IllegalStateException("The scope belongs to " + pool.owner.getName());
+		}
+	}
+
+	private static boolean isPoison(float value) {
+		return Float.floatToRawIntBits(value) == Float.floatToRawIntBits(POISON);
+	}
+
+	private static IllegalStateException escaped(Object temporary) {
+		return new IllegalStateException("A temporary was used after its scope was closed: " + temporary);
+	}
+
+	private static void poison(Vec2 vector) {
+		vector.x = vector.y = POISON;
+	}
+
+	private static void poison(Vec3 vector) {
+		vector.x = vector.y = vector.z = POISON;
+	}
+
+	private static void poison(Vec4 vector) {
+		vector.x = vector.y = vector.z = vector.w = POISON;
+	}
+
+	private static void poison(Mat4 matrix) {
+		Arrays.fill(matrix.elements, POISON);
+	}
+
+	private static <T> T[] grow(T[] items, Supplier<T> factory, Consumer<T> poison) {
+		return fill(Arrays.copyOf(items, items.length * 2), items.length, factory, poison);
+	}
+
+	private static <T> T[] fill(T[] items, int from, Supplier<T> factory, Consumer<T> poison) {
+		for (int i = from; i < items.length; i++) {
+			items[i] = factory.get();
+			if (DEBUG) {
+				poison.accept(items[i]);
+			}
+		}
+		return items;
+	}
+
+	/**
+	 * The temporaries and scopes of one thread
+	 */
+	private static final class Pool {
+
+		final Thread owner = Thread.currentThread();
+
+		MathScratch[] scopes = new MathScratch[8];
+		int depth;
+
+		Vec2[] vec2s = fill(new Vec2[INITIAL_CAPACITY], 0, Vec2::new, MathScratch::poison);
+		Vec3[] vec3s = fill(new Vec3[INITIAL_CAPACITY], 0, Vec3::new, MathScratch::poison);
+		Vec4[] vec4s = fill(new Vec4[INITIAL_CAPACITY], 0, Vec4::new, MathScratch::poison);
+		Mat4[] mat4s = fill(new Mat4[INITIAL_CAPACITY], 0, Mat4::new, MathScratch::poison);
+		int vec2Top, vec3Top, vec4Top, mat4Top;
+
+	}
+
+}
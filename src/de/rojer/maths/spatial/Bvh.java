@@ -0,0 +1,627 @@
+package de.rojer.maths.spatial;
+
+import de.rojer.maths.vec.Vec3Buffer;
+
+/**
+ * A bounding volume hierarchy over points or axis-aligned boxes, for nearest
+ * neighbour, radius and ray queries
+ *
+ * The hierarchy is built top-down, splitting the primitives of a node at the
+ * median of their centers along the longest axis, which is fast and keeps the
+ * tree balanced. Nodes and primitives are stored in flat arrays, with the
+ * nodes in depth-first order, so a node's left child directly follows it.
+ *
+ * When primitives move, {@link #setPoint} and {@link #setBox} mark the path to
+ * the root and {@link #refit()} recomputes the bounds of the marked nodes only,
+ * keeping the structure. After large movements, {@link #rebuild()} restores
+ * the quality of the tree.
+ *
+ * Queries store their results in a {@link BvhQuery}, which is reused.
+ *
+ * @author Rojer
+ * @version 18.10.2026
+ */
+public class Bvh {
+
+	/**
+	 * The maximum number of primitives in a leaf
+	 */
+	private static final int LEAF_SIZE = 4;
+
+	// Attributes
+
+	/**
+	 * The bounds of the primitives, equal minimum and maximum for points
+	 */
+	private final float[] minX, minY, minZ, maxX, maxY, maxZ;
+
+	/**
+	 * The number of primitives
+	 */
+	private final int size;
+
+	/**
+	 * The primitives in the order of the leaves
+	 */
+	private final int[] order;
+
+	/**
+	 * The centers of the primitives in {@link #order} along the split axis, while
+	 * building
+	 */
+	private final float[] keys;
+
+	/**
+	 * The leaf node of every primitive
+	 */
+	private final int[] leafOf;
+
+	/**
+	 * The bounds of the nodes
+	 */
+	private final float[] nodeMinX, nodeMinY, nodeMinZ, nodeMaxX, nodeMaxY, nodeMaxZ;
+
+	/**
+	 * The right child of an inner node, -1 for a leaf (the left child is the next
+	 * node)
+	 */
+	private final int[] right;
+
+	/**
+	 * The parent of a node, -1 for the root
+	 */
+	private final int[] parent;
+
+	/**
+	 * The first primitive (in {@link #order}) and the number of primitives of a
+	 * leaf
+	 */
+	private final int[] first, count;
+
+	/**
+	 * Whether the bounds of a node have to be recomputed by {@link #refit()}
+	 */
+	private final boolean[] dirty;
+
+	/**
+	 * The number of nodes
+	 */
+	private int nodes;
+
+	// Constructors
+
+	private Bvh(float[] minX, float[] minY, float[] minZ, float[] maxX, float[] maxY, float[] maxZ) {
+		this.minX = minX;
+		this.minY = minY;
+		this.minZ = minZ;
+		this.maxX = maxX;
+		this.maxY = maxY;
+		this.maxZ = maxZ;
+		size = minX.length;
+		order = new int[size];
+		keys = new float[size];
+		leafOf = new int[size];
+		// Median splits can leave leaves with 2 primitives, so allow the most nodes
+		// a binary tree over the primitives can have
+		int capacity = Math.max(1, 2 * size - 1);
+		nodeMinX = new float[capacity];
+		nodeMinY = new float[capacity];
+		nodeMinZ = new float[capacity];
+		nodeMaxX = new float[capacity];
+		nodeMaxY = new float[capacity];
+		nodeMaxZ = new float[capacity];
+		right = new int[capacity];
+		parent = new int[capacity];
+		first = new int[capacity];
+		count = new int[capacity];
+		dirty = new boolean[capacity];
+		rebuild();
+	}
+
+	// Static Methods
+
+	/**
+	 * Builds a hierarchy over points, copying their coordinates
+	 *
+	 * @param x      the x-components of the points
+	 * @param y      the y-components of the points
+	 * @param z      the z-components of the points
+	 * @param offset the index of the first point
+	 * @param count  the number of points
+	 * @return the hierarchy, primitive i is point offset + i
+	 */
+	public static Bvh Points(float[] x, float[] y, float[] z, int offset, int count) {
+		float[] px = new float[count], py = new float[count], pz = new float[count];
+		System.arraycopy(x, offset, px, 0, count);
+		System.arraycopy(y, offset, py, 0, count);
+		System.arraycopy(z, offset, pz, 0, count);
+		return new Bvh(px, py, pz, px.clone(), py.clone(), pz.clone());
+	}
+
+	/**
+	 * Builds a hierarchy over all points of a buffer, copying their coordinates
+	 *
+	 * @param points the points
+	 * @return the hierarchy, primitive i is point i
+	 */
+	public static Bvh Points(Vec3Buffer points) {
+		return Points(points.x, points.y, points.z, 0, points.size());
+	}
+
+	/**
+	 * Builds a hierarchy over axis-aligned boxes, copying their bounds
+	 *
+	 * @param minX   the minimum x-components of the boxes
+	 * @param minY   the minimum y-components of the boxes
+	 * @param minZ   the minimum z-components of the boxes
+	 * @param maxX   the maximum x-components of the boxes
+	 * @param maxY   the maximum y-components of the boxes
+	 * @param maxZ   the maximum z-components of the boxes
+	 * @param offset the index of the first box
+	 * @param count  the number of boxes
+	 * @return the hierarchy, primitive i is box offset + i
+	 */
+	public static Bvh Boxes(float[] minX, float[] minY, float[] minZ, float[] maxX, float[] maxY, float[] maxZ,
+			int offset, int count) {
+		float[][] bounds = new float[6][count];
+		float[][] sources = { minX, minY, minZ, maxX, maxY, maxZ };
+		for (int c = 0; c < 6; c++) {
+			System.arraycopy(sources[c], offset, bounds[c], 0, count);
+		}
+		return new Bvh(bounds[0], bounds[1], bounds[2], bounds[3], bounds[4], bounds[5]);
+	}
+
+	// Building
+
+	/**
+	 * Rebuilds the hierarchy from the current primitives
+	 *
+	 * @return this hierarchy for multiple operations "in one line"
+	 */
+	public Bvh rebuild() {
+		for (int i = 0; i < size; i++) {
+			order[i] = i;
+		}
+		nodes = 0;
+		if (size == 0) {
+			nodes = 1;
+			right[0] = -1;
+			parent[0] = -1;
+			first[0] = 0;
+			count[0] = 0;
+			setEmpty(0);
+			return this;
+		}
+		build(-1, 0, size);
+		return this;
+	}
+
+	private int build(int parentNode, int from, int to) {
+		int node = nodes++;
+		parent[node] = parentNode;
+		dirty[node] = false;
+		if (to - from <= LEAF_SIZE) {
+			right[node] = -1;
+			first[node] = from;
+			count[node] = to - from;
+			for (int i = from; i < to; i++) {
+				leafOf[order[i]] = node;
+			}
+			fitLeaf(node);
+			return node;
+		}
+		count[node] = 0;
+		// Split at the median of the centers along the longest axis of the centers
+		float loX = Float.POSITIVE_INFINITY, loY = loX, loZ = loX;
+		float hiX = Float.NEGATIVE_INFINITY, hiY = hiX, hiZ = hiX;
+		for (int i = from; i < to; i++) {
+			int p = order[i];
+			float cx = minX[p] + maxX[p], cy = minY[p] + maxY[p], cz = minZ[p] + maxZ[p];
+			loX = Math.min(loX, cx);
+			loY = Math.min(loY, cy);
+			loZ = Math.min(loZ, cz);
+			hiX = Math.max(hiX, cx);
+			hiY = Math.max(hiY, cy);
+			hiZ = Math.max(hiZ, cz);
+		}
+		float extentX = hiX - loX, extentY = hiY - loY, extentZ = hiZ - loZ;
+		int axis = extentX >= extentY && extentX >= extentZ ? 0 : extentY >= extentZ ? 1 : 2;
+		for (int i = from; i < to; i++) {
+			keys[i] = center(axis, order[i]);
+		}
+		int middle = (from + to) >>> 1;
+		select(from, to - 1, middle);
+		build(node, from, middle);
+		right[node] = build(node, middle, to);
+		fitInner(node);
+		return node;
+	}
+
+	/**
+	 * Reorders the primitives from lo to hi (inclusive) with their keys so the
+	 * one at k has the median key, with smaller ones before it and larger ones
+	 * after it (quickselect)
+	 */
+	private void select(int lo, int hi, int k) {
+		float[] keys = this.keys;
+		int[] order = this.order;
+		while (hi > lo) {
+			float pivot = keys[(lo + hi) >>> 1];
+			int i = lo, j = hi;
+			while (i <= j) {
+				while (keys[i] < pivot) {
+					i++;
+				}
+				while (keys[j] > pivot) {
+					j--;
+				}
+				if (i <= j) {
+					float key = keys[i];
+					keys[i] = keys[j];
+					keys[j] = key;
+					int swap = order[i];
+					order[i] = order[j];
+					order[j] = swap;
+					i++;
+					j--;
+				}
+			}
+			if (k <= j) {
+				hi = j;
+			} else if (k >= i) {
+				lo = i;
+			} else {
+				return;
+			}
+		}
+	}
+
+	private float center(int axis, int p) {
+		switch (axis) {
+		case 0:
+			return minX[p] + maxX[p];
+		case 1:
+			return minY[p] + maxY[p];
+		default:
+			return minZ[p] + maxZ[p];
+		}
+	}
+
+	// Refitting
+
+	/**
+	 * Moves a point, the hierarchy is updated by the next {@link #refit()}
+	 *
+	 * @param index the index of the point
+	 * @param x     the new x-component
+	 * @param y     the new y-component
+	 * @param z     the new z-component
+	 * @return this hierarchy for multiple operations "in one line"
+	 */
+	public Bvh setPoint(int index, float x, float y, float z) {
+		return setBox(index, x, y, z, x, y, z);
+	}
+
+	/**
+	 * Moves a box, the hierarchy is updated by the next {@link #refit()}
+	 *
+	 * @param index the index of the box
+	 * @param minX  the new minimum x-component
+	 * @param minY  the new minimum y-component
+	 * @param minZ  the new minimum z-component
+	 * @param maxX  the new maximum x-component
+	 * @param maxY  the new maximum y-component
+	 * @param maxZ  the new maximum z-component
+	 * @return this hierarchy for multiple operations "in one line"
+	 */
+	public Bvh setBox(int index, float minX, float minY, float minZ, float maxX, float maxY, float maxZ) {
+		this.minX[index] = minX;
+		this.minY[index] = minY;
+		this.minZ[index] = minZ;
+		this.maxX[index] = maxX;
+		this.maxY[index] = maxY;
+		this.maxZ[index] = maxZ;
+		// Mark the path to the root, stopping at a node that is marked already
+		for (int node = leafOf[index]; node >= 0 && !dirty[node]; node = parent[node]) {
+			dirty[node] = true;
+		}
+		return this;
+	}
+
+	/**
+	 * Recomputes the bounds of the nodes whose primitives moved since the last
+	 * refit or build, keeping the structure of the hierarchy
+	 *
+	 * @return the number of nodes recomputed
+	 */
+	public int refit() {
+		int refitted = 0;
+		// Children come after their parents, so going backwards visits them first
+		for (int node = nodes - 1; node >= 0; node--) {
+			if (dirty[node]) {
+				if (right[node] < 0) {
+					fitLeaf(node);
+				} else {
+					fitInner(node);
+				}
+				dirty[node] = false;
+				refitted++;
+			}
+		}
+		return refitted;
+	}
+
+	private void fitLeaf(int node) {
+		if (count[node] == 0) {
+			setEmpty(node);
+			return;
+		}
+		float loX = Float.POSITIVE_INFINITY, loY = loX, loZ = loX;
+		float hiX = Float.NEGATIVE_INFINITY, hiY = hiX, hiZ = hiX;
+		for (int i = first[node], end = first[node] + count[node]; i < end; i++) {
+			int p = order[i];
+			loX = Math.min(loX, minX[p]);
+			loY = Math.min(loY, minY[p]);
+			loZ = Math.min(loZ, minZ[p]);
+			hiX = Math.max(hiX, maxX[p]);
+			hiY = Math.max(hiY, maxY[p]);
+			hiZ = Math.max(hiZ, maxZ[p]);
+		}
+		nodeMinX[node] = loX;
+		nodeMinY[node] = loY;
+		nodeMinZ[node] = loZ;
+		nodeMaxX[node] = hiX;
+		nodeMaxY[node] = hiY;
+		nodeMaxZ[node] = hiZ;
+	}
+
+	private void fitInner(int node) {
+		int l = node + 1, r = right[node];
+		nodeMinX[node] = Math.min(nodeMinX[l], nodeMinX[r]);
+		nodeMinY[node] = Math.min(nodeMinY[l], nodeMinY[r]);
+		nodeMinZ[node] = Math.min(nodeMinZ[l], nodeMinZ[r]);
+		nodeMaxX[node] = Math.max(nodeMaxX[l], nodeMaxX[r]);
+		nodeMaxY[node] = Math.max(nodeMaxY[l], nodeMaxY[r]);
+		nodeMaxZ[node] = Math.max(nodeMaxZ[l], nodeMaxZ[r]);
+	}
+
+	private void setEmpty(int node) {
+		nodeMinX[node] = nodeMinY[node] = nodeMinZ[node] = Float.POSITIVE_INFINITY;
+		nodeMaxX[node] = nodeMaxY[node] = nodeMaxZ[node] = Float.NEGATIVE_INFINITY;
+	}
+
+	// Queries
+
+	/**
+	 * Finds the k primitives nearest to a point, measured to their bounds
+	 *
+	 * @param x     the x-component of the point
+	 * @param y     the y-component of the point
+	 * @param z     the z-component of the point
+	 * @param k     the number of primitives to find
+	 * @param query the query to store the primitives in, sorted by distance
+	 * @return the number of primitives found, k unless there are fewer
+	 */
+	public int nearest(float x, float y, float z, int k, BvhQuery query) {
+		query.clear();
+		if (k <= 0) {
+			return 0;
+		}
+		query.ensureCapacity(k);
+		float[] distances = query.distances;
+		int[] stack = query.stack;
+		float[] stackDistances = query.stackDistances;
+		int top = 0;
+		stack[0] = 0;
+		stackDistances[0] = nodeDistance(0, x, y, z);
+		top++;
+		while (top > 0) {
+			top--;
+			int node = stack[top];
+			// Distances are squared until the end
+			if (query.size == k && stackDistances[top] >= distances[k - 1]) {
+				continue;
+			}
+			if (right[node] < 0) {
+				for (int i = first[node], end = first[node] + count[node]; i < end; i++) {
+					int p = order[i];
+					float distance = boxDistance(minX[p], minY[p], minZ[p], maxX[p], maxY[p], maxZ[p], x, y, z);
+					if (query.size < k || distance < distances[k - 1]) {
+						query.insert(p, distance, k);
+					}
+				}
+			} else {
+				int l = node + 1, r = right[node];
+				float dl = nodeDistance(l, x, y, z), dr = nodeDistance(r, x, y, z);
+				query.ensureStack(top + 2);
+				stack = query.stack;
+				stackDistances = query.stackDistances;
+				// Push the farther child first, so the nearer one is visited first
+				if (dl <= dr) {
+					stack[top] = r;
+					stackDistances[top++] = dr;
+					stack[top] = l;
+					stackDistances[top++] = dl;
+				} else {
+					stack[top] = l;
+					stackDistances[top++] = dl;
+					stack[top] = r;
+					stackDistances[top++] = dr;
+				}
+			}
+		}
+		for (int i = 0; i < query.size; i++) {
+			distances[i] = (float) Math.sqrt(distances[i]);
+		}
+		return query.size;
+	}
+
+	/**
+	 * Finds all primitives within a distance of a point, measured to their
+	 * bounds
+	 *
+	 * @param x      the x-component of the point
+	 * @param y      the y-component of the point
+	 * @param z      the z-component of the point
+	 * @param radius the maximum distance
+	 * @param query  the query to store the primitives in, in no particular order
+	 * @return the number of primitives found
+	 */
+	public int radius(float x, float y, float z, float radius, BvhQuery query) {
+		query.clear();
+		float limit = radius * radius;
+		int[] stack = query.stack;
+		int top = 0;
+		stack[top++] = 0;
+		while (top > 0) {
+			int node = stack[--top];
+			if (nodeDistance(node, x, y, z) > limit) {
+				continue;
+			}
+			if (right[node] < 0) {
+				for (int i = first[node], end = first[node] + count[node]; i < end; i++) {
+					int p = order[i];
+					float distance = boxDistance(minX[p], minY[p], minZ[p], maxX[p], maxY[p], maxZ[p], x, y, z);
+					if (distance <= limit) {
+						query.add(p, (float) Math.sqrt(distance));
+					}
+				}
+			} else {
+				query.ensureStack(top + 2);
+				stack = query.stack;
+				stack[top++] = right[node];
+				stack[top++] = node + 1;
+			}
+		}
+		return query.size;
+	}
+
+	/**
+	 * Finds the first primitive whose bounds a ray hits. Points have no extent,
+	 * so use boxes to cast rays against points with a size.
+	 *
+	 * @param originX    the x-component of the origin of the ray
+	 * @param originY    the y-component of the origin of the ray
+	 * @param originZ    the z-component of the origin of the ray
+	 * @param directionX the x-component of the direction of the ray
+	 * @param directionY the y-component of the direction of the ray
+	 * @param directionZ the z-component of the direction of the ray
+	 * @param maxDistance the maximum distance along the ray, in lengths of the
+	 *                   direction
+	 * @param query      the query to store the primitive and the distance along
+	 *                   the ray in
+	 * @return the index of the primitive hit, -1 if none
+	 */
+	public int raycast(float originX, float originY, float originZ, float directionX, float directionY,
+			float directionZ, float maxDistance, BvhQuery query) {
+		query.clear();
+		float inverseX = 1.0f / directionX, inverseY = 1.0f / directionY, inverseZ = 1.0f / directionZ;
+		float closest = maxDistance;
+		int hit = -1;
+		int[] stack = query.stack;
+		int top = 0;
+		stack[top++] = 0;
+		while (top > 0) {
+			int node = stack[--top];
+			float t = slab(nodeMinX[node], nodeMinY[node], nodeMinZ[node], nodeMaxX[node], nodeMaxY[node],
+					nodeMaxZ[node], originX, originY, originZ, inverseX, inverseY, inverseZ, closest);
+			if (t < 0.0f) {
+				continue;
+			}
+			if (right[node] < 0) {
+				for (int i = first[node], end = first[node] + count[node]; i < end; i++) {
+					int p = order[i];
+					float tp = slab(minX[p], minY[p], minZ[p], maxX[p], maxY[p], maxZ[p], originX, originY, originZ,
+							inverseX, inverseY, inverseZ, closest);
+					if (tp >= 0.0f && (hit < 0 || tp < closest)) {
+						closest = tp;
+						hit = p;
+					}
+				}
+			} else {
+				query.ensureStack(top + 2);
+				stack = query.stack;
+				stack[top++] = right[node];
+				stack[top++] = node + 1;
+			}
+		}
+		if (hit >= 0) {
+			query.add(hit, closest);
+		}
+		return hit;
+	}
+
+	// Accessors
+
+	/**
+	 * @return the number of primitives
+	 */
+	public int size() {
+		return size;
+	}
+
+	/**
+	 * @return the number of nodes
+	 */
+	public int nodeCount() {
+		return nodes;
+	}
+
+	// Geometry
+
+	private float nodeDistance(int node, float x, float y, float z) {
+		return boxDistance(nodeMinX[node], nodeMinY[node], nodeMinZ[node], nodeMaxX[node], nodeMaxY[node],
+				nodeMaxZ[node], x, y, z);
+	}
+
+	/**
+	 * @return the squared distance of a point to a box, 0 inside
+	 */
+	private static float boxDistance(float minX, float minY, float minZ, float maxX, float maxY, float maxZ, float x,
+			float y, float z) {
+		float dx = Math.max(Math.max(minX - x, x - maxX), 0.0f);
+		float dy = Math.max(Math.max(minY - y, y - maxY), 0.0f);
+		float dz = Math.max(Math.max(minZ - z, z - maxZ), 0.0f);
+		return dx * dx + dy * dy + dz * dz;
+	}
+
+	/**
+	 * @return the distance along a ray at which it enters a box (0 if it starts
+	 *         inside), -1 if it misses the box or enters it beyond limit
+	 */
+	private static float slab(float minX, float minY, float minZ, float maxX, float maxY, float maxZ, float x,
+			float y, float z, float inverseX, float inverseY, float inverseZ, float limit) {
+		float near = 0.0f, far = Float.POSITIVE_INFINITY;
+		// A ray parallel to a slab is inside it everywhere or nowhere. Its infinite
+		// inverse would turn an origin on a face into 0 * infinity = NaN.
+		if (Float.isInfinite(inverseX)) {
+			if (x < minX || x > maxX) {
+				return -1.0f;
+			}
+		} else {
+			float t0 = (minX - x) * inverseX, t1 = (maxX - x) * inverseX;
+			near = Math.max(near, Math.min(t0, t1));
+			far = Math.min(far, Math.max(t0, t1));
+		}
+		if (Float.isInfinite(inverseY)) {
+			if (y < minY || y > maxY) {
+				return -1.0f;
+			}
+		} else {
+			float t0 = (minY - y) * inverseY, t1 = (maxY - y) * inverseY;
+			near = Math.max(near, Math.min(t0, t1));
+			far = Math.min(far, Math.max(t0, t1));
+		}
+		if (Float.isInfinite(inverseZ)) {
+			if (z < minZ || z > maxZ) {
+				return -1.0f;
+			}
+		} else {
+			float t0 = (minZ - z) * inverseZ, t1 = (maxZ - z) * inverseZ;
+			near = Math.max(near, Math.min(t0, t1));
+			far = Math.min(far, Math.max(t0, t1));
+		}
+		return near <= far && near <= limit ? near : -1.0f;
+	}
+
+}
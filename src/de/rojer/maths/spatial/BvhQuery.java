@@ -0,0 +1,126 @@
+package de.rojer.maths.spatial;
+
+import java.util.Arrays;
+
+/**
+ * The reusable state and results of queries on a {@link Bvh}
+ *
+ * A query holds the traversal stack and the result arrays, so queries do not
+ * allocate once the arrays are large enough. Every query overwrites the
+ * results of the previous one. A query must not be used by several threads at
+ * once, but several threads can query the same Bvh with a query each.
+ *
+ * @author Rojer
+ * @version 18.10.2026
+ */
+public class BvhQuery {
+
+	// Attributes
+
+	int[] stack = new int[64];
+	float[] stackDistances = new float[64];
+
+	int[] indices;
+	float[] distances;
+	int size;
+
+	// Constructors
+
+	/**
+	 * Creates a query with room for 16 results, it grows when needed
+	 */
+	public BvhQuery() {
+		this(16);
+	}
+
+	/**
+	 * Creates a query with room for a number of results, it grows when needed
+	 *
+	 * @param capacity the number of results to make room for
+	 */
+	public BvhQuery(int capacity) {
+		indices = new int[Math.max(1, capacity)];
+		distances = new float[indices.length];
+	}
+
+	// Results
+
+	/**
+	 * @return the number of results of the last query
+	 */
+	public int size() {
+		return size;
+	}
+
+	/**
+	 * @param i the number of the result, below {@link #size()}
+	 * @return the index of the primitive found
+	 */
+	public int index(int i) {
+		return indices[i];
+	}
+
+	/**
+	 * @param i the number of the result, below {@link #size()}
+	 * @return the distance to the primitive found: from the query point for
+	 *         nearest and radius queries, along the ray for ray queries
+	 */
+	public float distance(int i) {
+		return distances[i];
+	}
+
+	/**
+	 * Copies the indices of the results into an array
+	 *
+	 * @param dest the array to copy the indices into, at least {@link #size()}
+	 *             ints
+	 * @return dest
+	 */
+	public int[] getIndices(int[] dest) {
+		System.arraycopy(indices, 0, dest, 0, size);
+		return dest;
+	}
+
+	// Internals
+
+	void clear() {
+		size = 0;
+	}
+
+	void ensureCapacity(int capacity) {
+		if (capacity > indices.length) {
+			int length = Math.max(capacity, indices.length * 2);
+			indices = Arrays.copyOf(indices, length);
+			distances = Arrays.copyOf(distances, length);
+		}
+	}
+
+	void ensureStack(int depth) {
+		if (depth >= stack.length) {
+			stack = Arrays.copyOf(stack, stack.length * 2);
+			stackDistances = Arrays.copyOf(stackDistances, stack.length);
+		}
+	}
+
+	void add(int index, float distance) {
+		ensureCapacity(size + 1);
+		indices[size] = index;
+		distances[size] = distance;
+		size++;
+	}
+
+	/**
+	 * Inserts a result into the results sorted by distance, keeping at most k
+	 */
+	void insert(int index, float distance, int k) {
+		int i = size < k ? size++ : k - 1;
+		while (i > 0 && distances[i - 1] > distance) {
+			indices[i] = indices[i - 1];
+			distances[i] = distances[i - 1];
+			i--;
+		}
+		indices[i] = index;
+		distances[i] = distance;
+	}
+
+}
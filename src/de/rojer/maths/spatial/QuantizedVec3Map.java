@@ -0,0 +1,384 @@
+package de.rojer.maths.spatial;
+
+import de.rojer.maths.vec.Vec3;
+import de.rojer.maths.vec.Vec3Buffer;
+
+/**
+ * A hash map from 3-dimensional vectors to ints that treats vectors as equal
+ * when they snap to the same point of a grid, for welding the vertices of a
+ * mesh
+ *
+ * Every component is rounded to the nearest multiple of the tolerance, so
+ * vectors closer than half the tolerance usually share a key, but two vectors
+ * on different sides of a cell border do not, however close they are. A
+ * tolerance of 0 compares the floats exactly (with -0.0 and 0.0 being equal).
+ * Components are rounded to longs, and components too large for that, whose
+ * floats lie further apart than the tolerance anyway, are compared exactly, so
+ * distinct cells never share a key. NaN and infinite components are rejected.
+ *
+ * The map uses open addressing with linear probing. Keys and values are stored
+ * together in one int array, 4 ints per slot, so nothing is boxed and a lookup
+ * usually reads a single cache line. The table doubles when it is three
+ * quarters full. Keys with a component further than 2^31 cells from 0 go into
+ * a second table of longs, which is only created when needed.
+ *
+ * @author Rojer
+ * @version 18.10.2026
+ */
+public class QuantizedVec3Map {
+
+	// Attributes
+
+	/**
+	 * The value returned for keys that are not in the map
+	 */
+	public static final int NO_VALUE = -1;
+
+	private static final int STRIDE = 4;
+
+	/**
+	 * The magnitude from which quantized components are not rounded to longs
+	 */
+	private static final double LIMIT = 0x1p62;
+
+	private final float tolerance;
+
+	/**
+	 * 1 / tolerance, or 0 for exact keys
+	 */
+	private final float scale;
+
+	/**
+	 * The slots, the quantized x, y and z and the value, which is
+	 * {@link #NO_VALUE} for empty slots
+	 */
+	private int[] table;
+
+	private int mask;
+	private int size;
+
+	/**
+	 * The keys that do not fit into ints, or null if there are none
+	 */
+	private FarKeys far;
+
+	// Constructors
+
+	/**
+	 * Creates an empty map with room for 16 keys, it grows when needed
+	 *
+	 * @param tolerance the size of the grid cells, 0 to compare exactly
+	 */
+	public QuantizedVec3Map(float tolerance) {
+		this(tolerance, 16);
+	}
+
+	/**
+	 * Creates an empty map, it grows when needed
+	 *
+	 * @param tolerance    the size of the grid cells, 0 to compare exactly
+	 * @param expectedSize the number of keys to make room for
+	 * @throws IllegalArgumentException if the tolerance is negative or not
+	 *                                  finite
+	 */
+	public QuantizedVec3Map(float tolerance, int expectedSize) {
+		if (!(tolerance >= 0.0f) || tolerance == Float.POSITIVE_INFINITY) {
+			throw new IllegalArgumentException("The tolerance has to be finite and at least 0, but is " + tolerance);
+		}
+		this.tolerance = tolerance;
+		scale = tolerance == 0.0f ? 0.0f : 1.0f / tolerance;
+		int capacity = Integer.highestOneBit(Math.max(4, expectedSize + expectedSize / 3) - 1) << 1;
+		allocate(capacity);
+	}
+
+	// Access
+
+	/**
+	 * @return the size of the grid cells
+	 */
+	public float tolerance() {
+		return tolerance;
+	}
+
+	/**
+	 * @return the number of keys in the map
+	 */
+	public int size() {
+		return size;
+	}
+
+	/**
+	 * Removes all keys, keeping the capacity
+	 */
+	public void clear() {
+		int[] table = this.table;
+		for (int i = STRIDE - 1; i < table.length; i += STRIDE) {
+			table[i] = NO_VALUE;
+		}
+		size = 0;
+		if (far != null) {
+			far.clear();
+		}
+	}
+
+	/**
+	 * @param x the x-component of the key
+	 * @param y the y-component of the key
+	 * @param z the z-component of the key
+	 * @return the value of the key, or {@link #NO_VALUE}
+	 * @throws IllegalArgumentException if a component is NaN or infinite
+	 */
+	public int get(float x, float y, float z) {
+		long lx = quantize(x), ly = quantize(y), lz = quantize(z);
+		int qx = (int) lx, qy = (int) ly, qz = (int) lz;
+		if (qx != lx || qy != ly || qz != lz) {
+			return far == null ? NO_VALUE : far.get(lx, ly, lz);
+		}
+		int[] table = this.table;
+		for (int i = slot(qx, qy, qz, mask);; i = (i + STRIDE) & mask) {
+			int value = table[i + 3];
+			if (value == NO_VALUE || table[i] == qx && table[i + 1] == qy && table[i + 2] == qz) {
+				return value;
+			}
+		}
+	}
+
+	/**
+	 * @param key the key
+	 * @return the value of the key, or {@link #NO_VALUE}
+	 * @throws IllegalArgumentException if a component is NaN or infinite
+	 */
+	public int get(Vec3 key) {
+		return get(key.x, key.y, key.z);
+	}
+
+	/**
+	 * Adds a key with a value if the map does not contain the key yet
+	 *
+	 * @param x     the x-component of the key
+	 * @param y     the y-component of the key
+	 * @param z     the z-component of the key
+	 * @param value the value, at least 0
+	 * @return the value the key already had, or {@link #NO_VALUE} if it was added
+	 * @throws IllegalArgumentException if value is negative or a component is
+	 *                                  NaN or infinite
+	 */
+	public int putIfAbsent(float x, float y, float z, int value) {
+		if (value < 0) {
+			throw new IllegalArgumentException("The value has to be at least 0, but is " + value);
+		}
+		return insert(quantize(x), quantize(y), quantize(z), value);
+	}
+
+	// Welding
+
+	/**
+	 * Returns the index of a vertex, numbering the keys in the order they are
+	 * added: a key not in the map yet is added with {@link #size()} as its
+	 * value. Do not mix this with {@link #putIfAbsent} on the same map.
+	 *
+	 * @param x the x-component of the vertex
+	 * @param y the y-component of the vertex
+	 * @param z the z-component of the vertex
+	 * @return the index of the first vertex added with the same key
+	 * @throws IllegalArgumentException if a component is NaN or infinite
+	 */
+	public int weld(float x, float y, float z) {
+		int value = insert(quantize(x), quantize(y), quantize(z), size);
+		return value == NO_VALUE ? size - 1 : value;
+	}
+
+	/**
+	 * Welds vertices like {@link #weld(float, float, float)} and builds an index
+	 * buffer. The vertices can be welded in several batches, the indices then
+	 * keep counting from the ones of the earlier batches.
+	 *
+	 * @param src     the vertices
+	 * @param offset  the index of the first vertex
+	 * @param count   the number of vertices
+	 * @param indices the array to store the index of every vertex in, at the
+	 *                same position as the vertex in src
+	 * @param dest    the buffer to store every distinct vertex in, at its index,
+	 *                or null
+	 * @return the number of distinct vertices so far, {@link #size()}
+	 * @throws IllegalArgumentException if a component is NaN or infinite, the
+	 *                                  vertices before it stay welded
+	 */
+	public int weld(Vec3Buffer src, int offset, int count, int[] indices, Vec3Buffer dest) {
+		float[] x = src.x, y = src.y, z = src.z;
+		int end = offset + count;
+		for (int i = offset; i < end; i++) {
+			int before = size;
+			int index = weld(x[i], y[i], z[i]);
+			indices[i] = index;
+			if (dest != null && size != before) {
+				dest.set(index, x[i], y[i], z[i]);
+			}
+		}
+		return size;
+	}
+
+	// Internals
+
+	private long quantize(float value) {
+		// The common case, in float like the grid; NaN fails the comparison
+		float scaled = value * scale;
+		if (scale != 0.0f && Math.abs(scaled) < 0x1p31f) {
+			return Math.round(scaled);
+		}
+		if (Float.isNaN(value) || Float.isInfinite(value)) {
+			throw new IllegalArgumentException("Cannot quantize " + value);
+		}
+		if (scale == 0.0f) {
+			// + 0.0f turns -0.0f into 0.0f
+			return Float.floatToIntBits(value + 0.0f);
+		}
+		double far = (double) value * scale;
+		if (Math.abs(far) < LIMIT) {
+			return Math.round(far);
+		}
+		// Neighbouring floats lie over 2^38 cells apart here, so every float gets
+		// a key of its own, beyond the rounded ones
+		long key = (long) LIMIT + (Float.floatToIntBits(value) & 0x7FFFFFFF);
+		return value < 0.0f ? -key : key;
+	}
+
+	private static int slot(int qx, int qy, int qz, int mask) {
+		int hash = qx * 0x9E3779B1 + qy * 0x85EBCA77 + qz * 0xC2B2AE3D;
+		return ((hash ^ hash >>> 15) * STRIDE) & mask;
+	}
+
+	private int insert(long lx, long ly, long lz, int value) {
+		int qx = (int) lx, qy = (int) ly, qz = (int) lz;
+		if (qx != lx || qy != ly || qz != lz) {
+			if (far == null) {
+				far = new FarKeys();
+			}
+			int existing = far.insert(lx, ly, lz, value);
+			if (existing == NO_VALUE) {
+				size++;
+			}
+			return existing;
+		}
+		int[] table = this.table;
+		int i = slot(qx, qy, qz, mask);
+		for (;; i = (i + STRIDE) & mask) {
+			int existing = table[i + 3];
+			if (existing == NO_VALUE) {
+				break;
+			}
+			if (table[i] == qx && table[i + 1] == qy && table[i + 2] == qz) {
+				return existing;
+			}
+		}
+		table[i] = qx;
+		table[i + 1] = qy;
+		table[i + 2] = qz;
+		table[i + 3] = value;
+		if ((++size - (far == null ? 0 : far.size)) * 4 > (mask + STRIDE) / STRIDE * 3) {
+			grow();
+		}
+		return NO_VALUE;
+	}
+
+	private void allocate(int capacity) {
+		table = new int[capacity * STRIDE];
+		mask = table.length - 1;
+		for (int i = STRIDE - 1; i < table.length; i += STRIDE) {
+			table[i] = NO_VALUE;
+		}
+	}
+
+	private void grow() {
+		int[] old = table;
+		allocate(old.length / STRIDE * 2);
+		int[] table = this.table;
+		for (int j = 0; j < old.length; j += STRIDE) {
+			if (old[j + 3] != NO_VALUE) {
+				int i = slot(old[j], old[j + 1], old[j + 2], mask);
+				while (table[i + 3] != NO_VALUE) {
+					i = (i + STRIDE) & mask;
+				}
+				System.arraycopy(old, j, table, i, STRIDE);
+			}
+		}
+	}
+
+	/**
+	 * The keys with a component outside of the int range, in the layout of the
+	 * int table with 4 longs per slot
+	 */
+	private static final class FarKeys {
+
+		private long[] table = new long[16 * STRIDE];
+		private int mask = table.length - 1;
+		private int size;
+
+		FarKeys() {
+			clear();
+		}
+
+		void clear() {
+			for (int i = STRIDE - 1; i < table.length; i += STRIDE) {
+				table[i] = NO_VALUE;
+			}
+			size = 0;
+		}
+
+		int get(long qx, long qy, long qz) {
+			for (int i = slot(qx, qy, qz, mask);; i = (i + STRIDE) & mask) {
+				int value = (int) table[i + 3];
+				if (value == NO_VALUE || table[i] == qx && table[i + 1] == qy && table[i + 2] == qz) {
+					return value;
+				}
+			}
+		}
+
+		int insert(long qx, long qy, long qz, int value) {
+			int i = slot(qx, qy, qz, mask);
+			for (;; i = (i + STRIDE) & mask) {
+				int existing = (int) table[i + 3];
+				if (existing == NO_VALUE) {
+					break;
+				}
+				if (table[i] == qx && table[i + 1] == qy && table[i + 2] == qz) {
+					return existing;
+				}
+			}
+			table[i] = qx;
+			table[i + 1] = qy;
+			table[i + 2] = qz;
+			table[i + 3] = value;
+			if (++size * 4 > (mask + STRIDE) / STRIDE * 3) {
+				grow();
+			}
+			return NO_VALUE;
+		}
+
+		private void grow() {
+			long[] old = table;
+			table = new long[old.length * 2];
+			mask = table.length - 1;
+			for (int i = STRIDE - 1; i < table.length; i += STRIDE) {
+				table[i] = NO_VALUE;
+			}
+			for (int j = 0; j < old.length; j += STRIDE) {
+				if (old[j + 3] != NO_VALUE) {
+					int i = slot(old[j], old[j + 1], old[j + 2], mask);
+					while (table[i + 3] != NO_VALUE) {
+						i = (i + STRIDE) & mask;
+					}
+					System.arraycopy(old, j, table, i, STRIDE);
+				}
+			}
+		}
+
+		private static int slot(long qx, long qy, long qz, int mask) {
+			long hash = qx * 0x9E3779B97F4A7C15L + qy * 0xC2B2AE3D27D4EB4FL + qz * 0x165667B19E3779F9L;
+			int folded = (int) (hash ^ hash >>> 32);
+			return ((folded ^ folded >>> 15) * STRIDE) & mask;
+		}
+
+	}
+
+}
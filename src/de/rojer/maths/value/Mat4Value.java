@@ -0,0 +1,270 @@
+package de.rojer.maths.value;
+
+import de.rojer.maths.mat.Mat4;
+
+/**
+ * Immutable 4 * 4 matrix, elements are floats
+ * 
+ * The elements are final fields instead of an array, so escape analysis can
+ * replace a matrix that does not leave an inlined expression by its 16
+ * floats. The field m<i>rc</i> holds row r and column c, which is
+ * {@code elements[r + 4 * c]} of a {@link Mat4}. Operations behave like the
+ * ones of {@link Mat4}, but return a new matrix.
+ * 
+ * @author Rojer
+ * @version 18.10.2026
+ */
+public final class Mat4Value {
+
+	/**
+	 * The identity matrix
+	 */
+	public static final Mat4Value IDENTITY = new Mat4Value(1.0f, 0.0f, 0.0f, 0.0f, 0.0f, 1.0f, 0.0f, 0.0f, 0.0f, 0.0f,
+			1.0f, 0.0f, 0.0f, 0.0f, 0.0f, 1.0f);
+
+	// Attributes
+
+	/**
+	 * The elements of the matrix, m<i>rc</i> is row r and column c
+	 */
+	public final float m00, m10, m20, m30;
+	public final float m01, m11, m21, m31;
+	public final float m02, m12, m22, m32;
+	public final float m03, m13, m23, m33;
+
+	// Constructors
+
+	/**
+	 * Creates a matrix with the specified elements, in the order of
+	 * {@link Mat4#elements}: column by column
+	 */
+	public Mat4Value(float m00, float m10, float m20, float m30, float m01, float m11,
+			float m21, float m31, float m02, float m12, float m22, float m32,
+			float m03, float m13, float m23, float m33) {
+		this.m00 = m00;
+		this.m10 = m10;
+		this.m20 = m20;
+		this.m30 = m30;
+		this.m01 = m01;
+		this.m11 = m11;
+		this.m21 = m21;
+		this.m31 = m31;
+		this.m02 = m02;
+		this.m12 = m12;
+		this.m22 = m22;
+		this.m32 = m32;
+		this.m03 = m03;
+		this.m13 = m13;
+		this.m23 = m23;
+		this.m33 = m33;
+	}
+
+	/**
+	 * Creates a matrix from its columns
+	 * 
+	 * @param column0 the first column
+	 * @param column1 the second column
+	 * @param column2 the third column
+	 * @param column3 the fourth column, the translation
+	 */
+	public Mat4Value(Vec4Value column0, Vec4Value column1, Vec4Value column2, Vec4Value column3) {
+		this(column0.x, column0.y, column0.z, column0.w, column1.x, column1.y, column1.z, column1.w, column2.x,
+				column2.y, column2.z, column2.w, column3.x, column3.y, column3.z, column3.w);
+	}
+
+	/**
+	 * Creates a matrix with the elements of a mutable one
+	 * 
+	 * @param matrix the matrix to copy
+	 */
+	public Mat4Value(Mat4 matrix) {
+		this(matrix.elements);
+	}
+
+	private Mat4Value(float[] e) {
+		this(e[0], e[1], e[2], e[3], e[4], e[5], e[6], e[7],
+				e[8], e[9], e[10], e[11], e[12], e[13], e[14], e[15]);
+	}
+
+	// Arithmetic
+
+	/**
+	 * Multiplies this matrix with another one, like {@link Mat4#multiply(Mat4)}
+	 * 
+	 * @param other the matrix to multiply with
+	 * @return the product
+	 */
+	public Mat4Value multiply(Mat4Value other) {
+		// Column by column, so every method stays small enough to be inlined and the
+		// whole product can be scalar replaced
+		return new Mat4Value(column(m00, m10, m20, m30, other), column(m01, m11, m21, m31, other),
+				column(m02, m12, m22, m32, other), column(m03, m13, m23, m33, other));
+	}
+
+	private static Vec4Value column(float a0, float a1, float a2, float a3, Mat4Value b) {
+		return new Vec4Value(a0 * b.m00 + a1 * b.m01 + a2 * b.m02 + a3 * b.m03,
+				a0 * b.m10 + a1 * b.m11 + a2 * b.m12 + a3 * b.m13, a0 * b.m20 + a1 * b.m21 + a2 * b.m22 + a3 * b.m23,
+				a0 * b.m30 + a1 * b.m31 + a2 * b.m32 + a3 * b.m33);
+	}
+
+	/**
+	 * Transforms a vector as a point (w = 1), like
+	 * {@link Mat4#transform(de.rojer.maths.vec.Vec3, de.rojer.maths.vec.Vec3)}
+	 * 
+	 * @param vector the vector to transform
+	 * @return the transformed vector
+	 */
+	public Vec3Value transform(Vec3Value vector) {
+		float x = vector.x, y = vector.y, z = vector.z;
+		return new Vec3Value(m00 * x + m01 * y + m02 * z + m03, m10 * x + m11 * y + m12 * z + m13,
+				m20 * x + m21 * y + m22 * z + m23);
+	}
+
+	/**
+	 * Transforms a vector as a direction (w = 0), ignoring the translation
+	 * 
+	 * @param vector the vector to transform
+	 * @return the transformed vector
+	 */
+	public Vec3Value transformDirection(Vec3Value vector) {
+		float x = vector.x, y = vector.y, z = vector.z;
+		return new Vec3Value(m00 * x + m01 * y + m02 * z, m10 * x + m11 * y + m12 * z, m20 * x + m21 * y + m22 * z);
+	}
+
+	/**
+	 * @param vector the vector to transform
+	 * @return the transformed vector
+	 */
+	public Vec4Value transform(Vec4Value vector) {
+		float x = vector.x, y = vector.y, z = vector.z, w = vector.w;
+		return new Vec4Value(m00 * x + m01 * y + m02 * z + m03 * w, m10 * x + m11 * y + m12 * z + m13 * w,
+				m20 * x + m21 * y + m22 * z + m23 * w, m30 * x + m31 * y + m32 * z + m33 * w);
+	}
+
+	/**
+	 * @return the transposed matrix
+	 */
+	public Mat4Value transpose() {
+		return new Mat4Value(m00, m01, m02, m03, m10, m11, m12, m13,
+				m20, m21, m22, m23, m30, m31, m32, m33);
+	}
+
+	// Conversion
+
+	/**
+	 * @return a new mutable matrix with the elements of this matrix
+	 */
+	public Mat4 toMat4() {
+		return get(new Mat4());
+	}
+
+	/**
+	 * Stores the elements of this matrix in a mutable one
+	 * 
+	 * @param dest the matrix to store the elements in
+	 * @return dest
+	 */
+	public Mat4 get(Mat4 dest) {
+		float[] e = dest.elements;
+		e[0] = m00;
+		e[1] = m10;
+		e[2] = m20;
+		e[3] = m30;
+		e[4] = m01;
+		e[5] = m11;
+		e[6] = m21;
+		e[7] = m31;
+		e[8] = m02;
+		e[9] = m12;
+		e[10] = m22;
+		e[11] = m32;
+		e[12] = m03;
+		e[13] = m13;
+		e[14] = m23;
+		e[15] = m33;
+		return dest.updateKind();
+	}
+
+	// Static Methods
+
+	/**
+	 * @param translation the translation
+	 * @return a translation matrix
+	 */
+	public static Mat4Value Translation(Vec3Value translation) {
+		return new Mat4Value(1.0f, 0.0f, 0.0f, 0.0f, 0.0f, 1.0f, 0.0f, 0.0f, 0.0f, 0.0f, 1.0f, 0.0f, translation.x,
+				translation.y, translation.z, 1.0f);
+	}
+
+	/**
+	 * @param scale the scale factors
+	 * @return a scale matrix
+	 */
+	public static Mat4Value Scale(Vec3Value scale) {
+		return new Mat4Value(scale.x, 0.0f, 0.0f, 0.0f, 0.0f, scale.y, 0.0f, 0.0f, 0.0f, 0.0f, scale.z, 0.0f, 0.0f,
+				0.0f, 0.0f, 1.0f);
+	}
+
+	// Object-inherited methods
+
+	/**
+	 * Returns the String-representation of this matrix, row by row
+	 */
+	@Override
+	public String toString() {
+		return m00 + " " + m01 + " " + m02 + " " + m03 + "\n"
+				+ m10 + " " + m11 + " " + m12 + " " + m13 + "\n"
+				+ m20 + " " + m21 + " " + m22 + " " + m23 + "\n"
+				+ m30 + " " + m31 + " " + m32 + " " + m33 + "\n";
+	}
+
+	/**
+	 * Checks if a Mat4Value has the same elements as this matrix, like
+	 * {@link Float#equals(Object)} compares them
+	 */
+	@Override
+	public boolean equals(Object obj) {
+		if (!(obj instanceof Mat4Value)) {
+			return false;
+		}
+		Mat4Value other = (Mat4Value) obj;
+		return Float.floatToIntBits(m00) == Float.floatToIntBits(other.m00)
+				&& Float.floatToIntBits(m10) == Float.floatToIntBits(other.m10)
+				&& Float.floatToIntBits(m20) == Float.floatToIntBits(other.m20)
+				&& Float.floatToIntBits(m30) == Float.floatToIntBits(other.m30)
+				&& Float.floatToIntBits(m01) == Float.floatToIntBits(other.m01)
+				&& Float.floatToIntBits(m11) == Float.floatToIntBits(other.m11)
+				&& Float.floatToIntBits(m21) == Float.floatToIntBits(other.m21)
+				&& Float.floatToIntBits(m31) == Float.floatToIntBits(other.m31)
+				&& Float.floatToIntBits(m02) == Float.floatToIntBits(other.m02)
+				&& Float.floatToIntBits(m12) == Float.floatToIntBits(other.m12)
+				&& Float.floatToIntBits(m22) == Float.floatToIntBits(other.m22)
+				&& Float.floatToIntBits(m32) == Float.floatToIntBits(other.m32)
+				&& Float.floatToIntBits(m03) == Float.floatToIntBits(other.m03)
+				&& Float.floatToIntBits(m13) == Float.floatToIntBits(other.m13)
+				&& Float.floatToIntBits(m23) == Float.floatToIntBits(other.m23)
+				&& Float.floatToIntBits(m33) == Float.floatToIntBits(other.m33);
+	}
+
+	@Override
+	public int hashCode() {
+		int hash = Float.hashCode(m00);
+		hash = 31 * hash + Float.hashCode(m10);
+		hash = 31 * hash + Float.hashCode(m20);
+		hash = 31 * hash + Float.hashCode(m30);
+		hash = 31 * hash + Float.hashCode(m01);
+		hash = 31 * hash + Float.hashCode(m11);
+		hash = 31 * hash + Float.hashCode(m21);
+		hash = 31 * hash + Float.hashCode(m31);
+		hash = 31 * hash + Float.hashCode(m02);
+		hash = 31 * hash + Float.hashCode(m12);
+		hash = 31 * hash + Float.hashCode(m22);
+		hash = 31 * hash + Float.hashCode(m32);
+		hash = 31 * hash + Float.hashCode(m03);
+		hash = 31 * hash + Float.hashCode(m13);
+		hash = 31 * hash + Float.hashCode(m23);
+		hash = 31 * hash + Float.hashCode(m33);
+		return hash;
+	}
+
+}
@@ -0,0 +1,188 @@
+package de.rojer.maths.value;
+
+import de.rojer.maths.vec.Vec2;
+
+/**
+ * Immutable 2-dimensional vector, components are floats
+ * 
+ * Every operation returns a new vector. The class is final, has only final
+ * fields and small methods without exceptions or clone(), so when an
+ * expression like {@code a.add(b).multiply(2.0f).dot(c)} is inlined, escape
+ * analysis can replace the intermediate vectors by their components and
+ * nothing is allocated. Like a future value class, it has no identity worth
+ * relying on: compare with {@link #equals(Object)}, never with ==.
+ * 
+ * @author Rojer
+ * @version 18.10.2026
+ */
+public final class Vec2Value {
+
+	/**
+	 * The vector with all components 0
+	 */
+	public static final Vec2Value ZERO = new Vec2Value(0.0f, 0.0f);
+
+	// Attributes
+
+	/**
+	 * The components of the vector
+	 */
+	public final float x, y;
+
+	// Constructors
+
+	/**
+	 * Creates a vector with the specified values
+	 * 
+	 * @param x the value of the x-component
+	 * @param y the value of the y-component
+	 */
+	public Vec2Value(float x, float y) {
+		this.x = x;
+		this.y = y;
+	}
+
+	/**
+	 * Creates a vector with the values of a mutable one
+	 * 
+	 * @param vector the vector to copy
+	 */
+	public Vec2Value(Vec2 vector) {
+		this(vector.x, vector.y);
+	}
+
+	// Arithmetic
+
+	/**
+	 * @param other the vector to add
+	 * @return the sum of this vector and other
+	 */
+	public Vec2Value add(Vec2Value other) {
+		return new Vec2Value(x + other.x, y + other.y);
+	}
+
+	/**
+	 * @param other the vector to subtract
+	 * @return the difference of this vector and other
+	 */
+	public Vec2Value subtract(Vec2Value other) {
+		return new Vec2Value(x - other.x, y - other.y);
+	}
+
+	/**
+	 * @param other the vector to multiply with, component by component
+	 * @return the product of this vector and other
+	 */
+	public Vec2Value multiply(Vec2Value other) {
+		return new Vec2Value(x * other.x, y * other.y);
+	}
+
+	/**
+	 * @param factor the factor to multiply every component with
+	 * @return this vector scaled by factor
+	 */
+	public Vec2Value multiply(float factor) {
+		return new Vec2Value(x * factor, y * factor);
+	}
+
+	/**
+	 * @param other the vector to divide by, component by component
+	 * @return the quotient of this vector and other
+	 */
+	public Vec2Value divide(Vec2Value other) {
+		return new Vec2Value(x / other.x, y / other.y);
+	}
+
+	/**
+	 * @return this vector with all components negated
+	 */
+	public Vec2Value negate() {
+		return new Vec2Value(-x, -y);
+	}
+
+	/**
+	 * @param other the other vector
+	 * @return the dot product of this vector and other
+	 */
+	public float dot(Vec2Value other) {
+		return x * other.x + y * other.y;
+	}
+
+	/**
+	 * @return the length of this vector
+	 */
+	public float length() {
+		return (float) Math.sqrt(dot(this));
+	}
+
+	/**
+	 * @return this vector scaled to length 1, NaN for the zero vector
+	 */
+	public Vec2Value normalize() {
+		return multiply(1.0f / length());
+	}
+
+	/**
+	 * Linearly interpolates between this vector and another one
+	 * 
+	 * @param other the vector at t = 1
+	 * @param t     the interpolation parameter
+	 * @return the interpolated vector
+	 */
+	public Vec2Value lerp(Vec2Value other, float t) {
+		return new Vec2Value(x + (other.x - x) * t, y + (other.y - y) * t);
+	}
+
+	// Conversion
+
+	/**
+	 * @return a new mutable vector with the values of this vector
+	 */
+	public Vec2 toVec2() {
+		return new Vec2(x, y);
+	}
+
+	/**
+	 * Stores the values of this vector in a mutable one
+	 * 
+	 * @param dest the vector to store the values in
+	 * @return dest
+	 */
+	public Vec2 get(Vec2 dest) {
+		dest.x = x;
+		dest.y = y;
+		return dest;
+	}
+
+	// Object-inherited methods
+
+	/**
+	 * Returns the String-representation of this vector
+	 */
+	@Override
+	public String toString() {
+		return "Vec2Value: " + x + ", " + y;
+	}
+
+	/**
+	 * Checks if a Vec2Value has the same components as this vector, like
+	 * {@link Float#equals(Object)} compares them
+	 */
+	@Override
+	public boolean equals(Object obj) {
+		if (!(obj instanceof Vec2Value)) {
+			return false;
+		}
+		Vec2Value other = (Vec2Value) obj;
+		return Float.floatToIntBits(x) == Float.floatToIntBits(other.x)
+				&& Float.floatToIntBits(y) == Float.floatToIntBits(other.y);
+	}
+
+	@Override
+	public int hashCode() {
+		int hash = Float.hashCode(x);
+		hash = 31 * hash + Float.hashCode(y);
+		return hash;
+	}
+
+}
@@ -0,0 +1,201 @@
+package de.rojer.maths.value;
+
+import de.rojer.maths.vec.Vec3;
+
+/**
+ * Immutable 3-dimensional vector, components are floats
+ * 
+ * Every operation returns a new vector. The class is final, has only final
+ * fields and small methods without exceptions or clone(), so when an
+ * expression like {@code a.add(b).multiply(2.0f).dot(c)} is inlined, escape
+ * analysis can replace the intermediate vectors by their components and
+ * nothing is allocated. Like a future value class, it has no identity worth
+ * relying on: compare with {@link #equals(Object)}, never with ==.
+ * 
+ * @author Rojer
+ * @version 18.10.2026
+ */
+public final class Vec3Value {
+
+	/**
+	 * The vector with all components 0
+	 */
+	public static final Vec3Value ZERO = new Vec3Value(0.0f, 0.0f, 0.0f);
+
+	// Attributes
+
+	/**
+	 * The components of the vector
+	 */
+	public final float x, y, z;
+
+	// Constructors
+
+	/**
+	 * Creates a vector with the specified values
+	 * 
+	 * @param x the value of the x-component
+	 * @param y the value of the y-component
+	 * @param z the value of the z-component
+	 */
+	public Vec3Value(float x, float y, float z) {
+		this.x = x;
+		this.y = y;
+		this.z = z;
+	}
+
+	/**
+	 * Creates a vector with the values of a mutable one
+	 * 
+	 * @param vector the vector to copy
+	 */
+	public Vec3Value(Vec3 vector) {
+		this(vector.x, vector.y, vector.z);
+	}
+
+	// Arithmetic
+
+	/**
+	 * @param other the vector to add
+	 * @return the sum of this vector and other
+	 */
+	public Vec3Value add(Vec3Value other) {
+		return new Vec3Value(x + other.x, y + other.y, z + other.z);
+	}
+
+	/**
+	 * @param other the vector to subtract
+	 * @return the difference of this vector and other
+	 */
+	public Vec3Value subtract(Vec3Value other) {
+		return new Vec3Value(x - other.x, y - other.y, z - other.z);
+	}
+
+	/**
+	 * @param other the vector to multiply with, component by component
+	 * @return the product of this vector and other
+	 */
+	public Vec3Value multiply(Vec3Value other) {
+		return new Vec3Value(x * other.x, y * other.y, z * other.z);
+	}
+
+	/**
+	 * @param factor the factor to multiply every component with
+	 * @return this vector scaled by factor
+	 */
+	public Vec3Value multiply(float factor) {
+		return new Vec3Value(x * factor, y * factor, z * factor);
+	}
+
+	/**
+	 * @param other the vector to divide by, component by component
+	 * @return the quotient of this vector and other
+	 */
+	public Vec3Value divide(Vec3Value other) {
+		return new Vec3Value(x / other.x, y / other.y, z / other.z);
+	}
+
+	/**
+	 * @return this vector with all components negated
+	 */
+	public Vec3Value negate() {
+		return new Vec3Value(-x, -y, -z);
+	}
+
+	/**
+	 * @param other the other vector
+	 * @return the dot product of this vector and other
+	 */
+	public float dot(Vec3Value other) {
+		return x * other.x + y * other.y + z * other.z;
+	}
+
+	/**
+	 * @param other the other vector
+	 * @return the cross product of this vector and other
+	 */
+	public Vec3Value cross(Vec3Value other) {
+		return new Vec3Value(y * other.z - z * other.y, z * other.x - x * other.z, x * other.y - y * other.x);
+	}
+
+	/**
+	 * @return the length of this vector
+	 */
+	public float length() {
+		return (float) Math.sqrt(dot(this));
+	}
+
+	/**
+	 * @return this vector scaled to length 1, NaN for the zero vector
+	 */
+	public Vec3Value normalize() {
+		return multiply(1.0f / length());
+	}
+
+	/**
+	 * Linearly interpolates between this vector and another one
+	 * 
+	 * @param other the vector at t = 1
+	 * @param t     the interpolation parameter
+	 * @return the interpolated vector
+	 */
+	public Vec3Value lerp(Vec3Value other, float t) {
+		return new Vec3Value(x + (other.x - x) * t, y + (other.y - y) * t, z + (other.z - z) * t);
+	}
+
+	// Conversion
+
+	/**
+	 * @return a new mutable vector with the values of this vector
+	 */
+	public Vec3 toVec3() {
+		return new Vec3(x, y, z);
+	}
+
+	/**
+	 * Stores the values of this vector in a mutable one
+	 * 
+	 * @param dest the vector to store the values in
+	 * @return dest
+	 */
+	public Vec3 get(Vec3 dest) {
+		dest.x = x;
+		dest.y = y;
+		dest.z = z;
+		return dest;
+	}
+
+	// Object-inherited methods
+
+	/**
+	 * Returns the String-representation of this vector
+	 */
+	@Override
+	public String toString() {
+		return "Vec3Value: " + x + ", " + y + ", " + z;
+	}
+
+	/**
+	 * Checks if a Vec3Value has the same components as this vector, like
+	 * {@link Float#equals(Object)} compares them
+	 */
+	@Override
+	public boolean equals(Object obj) {
+		if (!(obj instanceof Vec3Value)) {
+			return false;
+		}
+		Vec3Value other = (Vec3Value) obj;
+		return Float.floatToIntBits(x) == Float.floatToIntBits(other.x)
+				&& Float.floatToIntBits(y) == Float.floatToIntBits(other.y)
+				&& Float.floatToIntBits(z) == Float.floatToIntBits(other.z);
+	}
+
+	@Override
+	public int hashCode() {
+		int hash = Float.hashCode(x);
+		hash = 31 * hash + Float.hashCode(y);
+		hash = 31 * hash + Float.hashCode(z);
+		return hash;
+	}
+
+}
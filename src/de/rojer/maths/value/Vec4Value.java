@@ -0,0 +1,199 @@
+package de.rojer.maths.value;
+
+import de.rojer.maths.vec.Vec4;
+
+/**
+ * Immutable 4-dimensional vector, components are floats
+ * 
+ * Every operation returns a new vector. The class is final, has only final
+ * fields and small methods without exceptions or clone(), so when an
+ * expression like {@code a.add(b).multiply(2.0f).dot(c)} is inlined, escape
+ * analysis can replace the intermediate vectors by their components and
+ * nothing is allocated. Like a future value class, it has no identity worth
+ * relying on: compare with {@link #equals(Object)}, never with ==.
+ * 
+ * @author Rojer
+ * @version 18.10.2026
+ */
+public final class Vec4Value {
+
+	/**
+	 * The vector with all components 0
+	 */
+	public static final Vec4Value ZERO = new Vec4Value(0.0f, 0.0f, 0.0f, 0.0f);
+
+	// Attributes
+
+	/**
+	 * The components of the vector
+	 */
+	public final float x, y, z, w;
+
+	// Constructors
+
+	/**
+	 * Creates a vector with the specified values
+	 * 
+	 * @param x the value of the x-component
+	 * @param y the value of the y-component
+	 * @param z the value of the z-component
+	 * @param w the value of the w-component
+	 */
+	public Vec4Value(float x, float y, float z, float w) {
+		this.x = x;
+		this.y = y;
+		this.z = z;
+		this.w = w;
+	}
+
+	/**
+	 * Creates a vector with the values of a mutable one
+	 * 
+	 * @param vector the vector to copy
+	 */
+	public Vec4Value(Vec4 vector) {
+		this(vector.x, vector.y, vector.z, vector.w);
+	}
+
+	// Arithmetic
+
+	/**
+	 * @param other the vector to add
+	 * @return the sum of this vector and other
+	 */
+	public Vec4Value add(Vec4Value other) {
+		return new Vec4Value(x + other.x, y + other.y, z + other.z, w + other.w);
+	}
+
+	/**
+	 * @param other the vector to subtract
+	 * @return the difference of this vector and other
+	 */
+	public Vec4Value subtract(Vec4Value other) {
+		return new Vec4Value(x - other.x, y - other.y, z - other.z, w - other.w);
+	}
+
+	/**
+	 * @param other the vector to multiply with, component by component
+	 * @return the product of this vector and other
+	 */
+	public Vec4Value multiply(Vec4Value other) {
+		return new Vec4Value(x * other.x, y * other.y, z * other.z, w * other.w);
+	}
+
+	/**
+	 * @param factor the factor to multiply every component with
+	 * @return this vector scaled by factor
+	 */
+	public Vec4Value multiply(float factor) {
+		return new Vec4Value(x * factor, y * factor, z * factor, w * factor);
+	}
+
+	/**
+	 * @param other the vector to divide by, component by component
+	 * @return the quotient of this vector and other
+	 */
+	public Vec4Value divide(Vec4Value other) {
+		return new Vec4Value(x / other.x, y / other.y, z / other.z, w / other.w);
+	}
+
+	/**
+	 * @return this vector with all components negated
+	 */
+	public Vec4Value negate() {
+		return new Vec4Value(-x, -y, -z, -w);
+	}
+
+	/**
+	 * @param other the other vector
+	 * @return the dot product of this vector and other
+	 */
+	public float dot(Vec4Value other) {
+		return x * other.x + y * other.y + z * other.z + w * other.w;
+	}
+
+	/**
+	 * @return the length of this vector
+	 */
+	public float length() {
+		return (float) Math.sqrt(dot(this));
+	}
+
+	/**
+	 * @return this vector scaled to length 1, NaN for the zero vector
+	 */
+	public Vec4Value normalize() {
+		return multiply(1.0f / length());
+	}
+
+	/**
+	 * Linearly interpolates between this vector and another one
+	 * 
+	 * @param other the vector at t = 1
+	 * @param t     the interpolation parameter
+	 * @return the interpolated vector
+	 */
+	public Vec4Value lerp(Vec4Value other, float t) {
+		return new Vec4Value(x + (other.x - x) * t, y + (other.y - y) * t, z + (other.z - z) * t,
+				w + (other.w - w) * t);
+	}
+
+	// Conversion
+
+	/**
+	 * @return a new mutable vector with the values of this vector
+	 */
+	public Vec4 toVec4() {
+		return new Vec4(x, y, z, w);
+	}
+
+	/**
+	 * Stores the values of this vector in a mutable one
+	 * 
+	 * @param dest the vector to store the values in
+	 * @return dest
+	 */
+	public Vec4 get(Vec4 dest) {
+		dest.x = x;
+		dest.y = y;
+		dest.z = z;
+		dest.w = w;
+		return dest;
+	}
+
+	// Object-inherited methods
+
+	/**
+	 * Returns the String-representation of this vector
+	 */
+	@Override
+	public String toString() {
+		return "Vec4Value: " + x + ", " + y + ", " + z + ", " + w;
+	}
+
+	/**
+	 * Checks if a Vec4Value has the same components as this vector, like
+	 * {@link Float#equals(Object)} compares them
+	 */
+	@Override
+	public boolean equals(Object obj) {
+		if (!(obj instanceof Vec4Value)) {
+			return false;
+		}
+		Vec4Value other = (Vec4Value) obj;
+		return Float.floatToIntBits(x) == Float.floatToIntBits(other.x)
+				&& Float.floatToIntBits(y) == Float.floatToIntBits(other.y)
+				&& Float.floatToIntBits(z) == Float.floatToIntBits(other.z)
+				&& Float.floatToIntBits(w) == Float.floatToIntBits(other.w);
+	}
+
+	@Override
+	public int hashCode() {
+		int hash = Float.hashCode(x);
+		hash = 31 * hash + Float.hashCode(y);
+		hash = 31 * hash + Float.hashCode(z);
+		hash = 31 * hash + Float.hashCode(w);
+		return hash;
+	}
+
+}
@@ -0,0 +1,45 @@
+package de.rojer.maths.vec;
+
+/**
+ * Component-wise loops shared by the vector buffers
+ * 
+ * Every kernel is a plain counted loop without calls or branches inside, so
+ * the JIT can unroll and vectorize it.
+ * 
+ * @author Rojer
+ * @version 18.10.2026
+ */
+final class BufferKernels {
+
+	private BufferKernels() {
+	}
+
+	static void add(float[] a, float[] b, float[] dest, int offset, int count) {
+		int end = offset + count;
+		for (int i = offset; i < end; i++) {
+			dest[i] = a[i] + b[i];
+		}
+	}
+
+	static void subtract(float[] a, float[] b, float[] dest, int offset, int count) {
+		int end = offset + count;
+		for (int i = offset; i < end; i++) {
+			dest[i] = a[i] - b[i];
+		}
+	}
+
+	static void multiply(float[] a, float[] b, float[] dest, int offset, int count) {
+		int end = offset + count;
+		for (int i = offset; i < end; i++) {
+			dest[i] = a[i] * b[i];
+		}
+	}
+
+	static void divide(float[] a, float[] b, float[] dest, int offset, int count) {
+		int end = offset + count;
+		for (int i = offset; i < end; i++) {
+			dest[i] = a[i] / b[i];
+		}
+	}
+
+}
@@ -0,0 +1,293 @@
+package de.rojer.maths.vec;
+
+import de.rojer.maths.mat.Mat4;
+import de.rojer.maths.metrics.BulkKernelEvent;
+import de.rojer.maths.metrics.MathMetrics;
+
+/**
+ * Buffer of 4-dimensional vectors, stored interleaved in one float array
+ * (x, y, z, w, x, y, z, w, ...)
+ * 
+ * This is the layout vertex data is usually handed over in. The component-wise
+ * operations run over the packed array and vectorize just as well as the ones
+ * of {@link Vec4Buffer}, the matrix transform has to gather the components of
+ * every vector though, so prefer {@link Vec4Buffer} for transform-heavy work.
+ * 
+ * @author Rojer
+ * @version 18.10.2026
+ */
+public class InterleavedVec4Buffer {
+
+	// Attributes
+
+	/**
+	 * The number of floats per vector
+	 */
+	public static final int STRIDE = 4;
+
+	/**
+	 * The components of the vectors, the i-th vector starts at data[i * STRIDE]
+	 */
+	public final float[] data;
+
+	// Constructors
+
+	/**
+	 * Creates a buffer with all components being 0
+	 * 
+	 * @param size the number of vectors in the buffer
+	 */
+	public InterleavedVec4Buffer(int size) {
+		data = new float[size * STRIDE];
+	}
+
+	/**
+	 * Creates a buffer on top of an existing array, without copying it
+	 * 
+	 * @param data the interleaved components, its length has to be a multiple of
+	 *             STRIDE
+	 */
+	public InterleavedVec4Buffer(float[] data) {
+		if (data.length % STRIDE != 0) {
+			throw new IllegalArgumentException("The length of data has to be a multiple of " + STRIDE);
+		}
+		this.data = data;
+	}
+
+	// Access
+
+	/**
+	 * @return the number of vectors in the buffer
+	 */
+	public int size() {
+		return data.length / STRIDE;
+	}
+
+	/**
+	 * Copies a vector of this buffer into dest
+	 * 
+	 * @param index the index of the vector
+	 * @param dest  the vector to store the components in
+	 * @return dest
+	 */
+	public Vec4 get(int index, Vec4 dest) {
+		int i = index * STRIDE;
+		dest.x = data[i];
+		dest.y = data[i + 1];
+		dest.z = data[i + 2];
+		dest.w = data[i + 3];
+		return dest;
+	}
+
+	/**
+	 * Copies a vector into this buffer
+	 * 
+	 * @param index  the index of the vector
+	 * @param vector the vector to copy
+	 * @return this buffer for multiple operations "in one line"
+	 */
+	public InterleavedVec4Buffer set(int index, Vec4 vector) {
+		return set(index, vector.x, vector.y, vector.z, vector.w);
+	}
+
+	/**
+	 * Sets the components of a vector of this buffer
+	 * 
+	 * @param index the index of the vector
+	 * @param x     the value of the x-component
+	 * @param y     the value of the y-component
+	 * @param z     the value of the z-component
+	 * @param w     the value of the w-component
+	 * @return this buffer for multiple operations "in one line"
+	 */
+	public InterleavedVec4Buffer set(int index, float x, float y, float z, float w) {
+		int i = index * STRIDE;
+		data[i] = x;
+		data[i + 1] = y;
+		data[i + 2] = z;
+		data[i + 3] = w;
+		return this;
+	}
+
+	/**
+	 * Copies vectors of a structure-of-arrays buffer into this buffer
+	 * 
+	 * @param src    the buffer to copy from
+	 * @param offset the index of the first vector, in both buffers
+	 * @param count  the number of vectors
+	 * @return this buffer for multiple operations "in one line"
+	 */
+	public InterleavedVec4Buffer copyFrom(Vec4Buffer src, int offset, int count) {
+		float[] sx = src.x, sy = src.y, sz = src.z, sw = src.w;
+		int end = offset + count;
+		for (int i = offset, j = offset * STRIDE; i < end; i++, j += STRIDE) {
+			data[j] = sx[i];
+			data[j + 1] = sy[i];
+			data[j + 2] = sz[i];
+			data[j + 3] = sw[i];
+		}
+		return this;
+	}
+
+	/**
+	 * Copies vectors of this buffer into a structure-of-arrays buffer
+	 * 
+	 * @param dest   the buffer to copy to
+	 * @param offset the index of the first vector, in both buffers
+	 * @param count  the number of vectors
+	 * @return dest
+	 */
+	public Vec4Buffer copyTo(Vec4Buffer dest, int offset, int count) {
+		float[] dx = dest.x, dy = dest.y, dz = dest.z, dw = dest.w;
+		int end = offset + count;
+		for (int i = offset, j = offset * STRIDE; i < end; i++, j += STRIDE) {
+			dx[i] = data[j];
+			dy[i] = data[j + 1];
+			dz[i] = data[j + 2];
+			dw[i] = data[j + 3];
+		}
+		return dest;
+	}
+
+	// Arithmetic
+
+	/**
+	 * Adds the vectors of another buffer to the vectors of this buffer,
+	 * component-wise like {@link Vec4#add}
+	 * 
+	 * @param other the buffer to add to this buffer
+	 * @return this buffer for multiple operations "in one line"
+	 */
+	public InterleavedVec4Buffer add(InterleavedVec4Buffer other) {
+		add(this, other, this, 0, size());
+		return this;
+	}
+
+	/**
+	 * Subtracts the vectors of another buffer from the vectors of this buffer,
+	 * component-wise like {@link Vec4#subtract}
+	 * 
+	 * @param other the buffer to subtract from this buffer
+	 * @return this buffer for multiple operations "in one line"
+	 */
+	public InterleavedVec4Buffer subtract(InterleavedVec4Buffer other) {
+		subtract(this, other, this, 0, size());
+		return this;
+	}
+
+	/**
+	 * Multiplies the vectors of this buffer with the vectors of another buffer,
+	 * component-wise like {@link Vec4#multiply}
+	 * 
+	 * @param other the buffer to multiply this buffer with
+	 * @return this buffer for multiple operations "in one line"
+	 */
+	public InterleavedVec4Buffer multiply(InterleavedVec4Buffer other) {
+		multiply(this, other, this, 0, size());
+		return this;
+	}
+
+	/**
+	 * Divides the vectors of this buffer by the vectors of another buffer,
+	 * component-wise like {@link Vec4#divide}
+	 * 
+	 * @param other the buffer to divide this buffer by
+	 * @return this buffer for multiple operations "in one line"
+	 */
+	public InterleavedVec4Buffer divide(InterleavedVec4Buffer other) {
+		divide(this, other, this, 0, size());
+		return this;
+	}
+
+	/**
+	 * Computes dest[i] = a[i] + b[i] for every i in [offset, offset + count).
+	 * dest may be a or b.
+	 * 
+	 * @param a      the left operands
+	 * @param b      the right operands
+	 * @param dest   the buffer to store the results in
+	 * @param offset the index of the first vector
+	 * @param count  the number of vectors
+	 */
+	public static void add(InterleavedVec4Buffer a, InterleavedVec4Buffer b, InterleavedVec4Buffer dest, int offset,
+			int count) {
+		BufferKernels.add(a.data, b.data, dest.data, offset * STRIDE, count * STRIDE);
+	}
+
+	/**
+	 * Computes dest[i] = a[i] - b[i] for every i in [offset, offset + count).
+	 * dest may be a or b.
+	 * 
+	 * @param a      the left operands
+	 * @param b      the right operands
+	 * @param dest   the buffer to store the results in
+	 * @param offset the index of the first vector
+	 * @param count  the number of vectors
+	 */
+	public static void subtract(InterleavedVec4Buffer a, InterleavedVec4Buffer b, InterleavedVec4Buffer dest,
+			int offset, int count) {
+		BufferKernels.subtract(a.data, b.data, dest.data, offset * STRIDE, count * STRIDE);
+	}
+
+	/**
+	 * Computes dest[i] = a[i] * b[i] for every i in [offset, offset + count).
+	 * dest may be a or b.
+	 * 
+	 * @param a      the left operands
+	 * @param b      the right operands
+	 * @param dest   the buffer to store the results in
+	 * @param offset the index of the first vector
+	 * @param count  the number of vectors
+	 */
+	public static void multiply(InterleavedVec4Buffer a, InterleavedVec4Buffer b, InterleavedVec4Buffer dest,
+			int offset, int count) {
+		BufferKernels.multiply(a.data, b.data, dest.data, offset * STRIDE, count * STRIDE);
+	}
+
+	/**
+	 * Computes dest[i] = a[i] / b[i] for every i in [offset, offset + count).
+	 * dest may be a or b.
+	 * 
+	 * @param a      the left operands
+	 * @param b      the right operands
+	 * @param dest   the buffer to store the results in
+	 * @param offset the index of the first vector
+	 * @param count  the number of vectors
+	 */
+	public static void divide(InterleavedVec4Buffer a, InterleavedVec4Buffer b, InterleavedVec4Buffer dest, int offset,
+			int count) {
+		BufferKernels.divide(a.data, b.data, dest.data, offset * STRIDE, count * STRIDE);
+	}
+
+	/**
+	 * Transforms the vectors of src and stores them in dest, like
+	 * {@link Mat4#transform(Vec4, Vec4)} does for a single vector. src and dest
+	 * may be the same buffer.
+	 * 
+	 * @param matrix the matrix to transform the vectors with
+	 * @param src    the vectors to transform
+	 * @param dest   the buffer to store the results in
+	 * @param offset the index of the first vector
+	 * @param count  the number of vectors
+	 */
+	public static void transform(Mat4 matrix, InterleavedVec4Buffer src, InterleavedVec4Buffer dest, int offset,
+			int count) {
+		BulkKernelEvent event = MathMetrics.begin("InterleavedVec4Buffer.transform", count);
+		float[] m = matrix.elements;
+		float m00 = m[0 + 4 * 0], m01 = m[0 + 4 * 1], m02 = m[0 + 4 * 2], m03 = m[0 + 4 * 3];
+		float m10 = m[1 + 4 * 0], m11 = m[1 + 4 * 1], m12 = m[1 + 4 * 2], m13 = m[1 + 4 * 3];
+		float m20 = m[2 + 4 * 0], m21 = m[2 + 4 * 1], m22 = m[2 + 4 * 2], m23 = m[2 + 4 * 3];
+		float m30 = m[3 + 4 * 0], m31 = m[3 + 4 * 1], m32 = m[3 + 4 * 2], m33 = m[3 + 4 * 3];
+		float[] s = src.data, d = dest.data;
+		int end = (offset + count) * STRIDE;
+		for (int i = offset * STRIDE; i < end; i += STRIDE) {
+			float x = s[i], y = s[i + 1], z = s[i + 2], w = s[i + 3];
+			d[i] = m00 * x + m01 * y + m02 * z + m03 * w;
+			d[i + 1] = m10 * x + m11 * y + m12 * z + m13 * w;
+			d[i + 2] = m20 * x + m21 * y + m22 * z + m23 * w;
+			d[i + 3] = m30 * x + m31 * y + m32 * z + m33 * w;
+		}
+		MathMetrics.end(event);
+	}
+
+}
@@ -1,5 +1,8 @@
 package de.rojer.maths.vec;
 
+import de.rojer.maths.metrics.MathCounter;
+import de.rojer.maths.metrics.MathMetrics;
+
 /**
  * 2-dimensional Vector, components are floats
  * 
@@ -42,7 +45,10 @@ public class Vec2 {
 	 * Destroys this object
 	 * 
 	 * @param vector this object
+	 * @deprecated frees nothing and does not make the object reusable, use
+	 *             {@link de.rojer.maths.scratch.MathScratch} for temporaries
 	 */
+	@Deprecated
 	public void destroy(Vec2 vector) {
 		this.x = 0.0f;
 		this.y = 0.0f;
@@ -198,8 +204,20 @@ public class Vec2 {
 		return result;
 	}
 
+	/**
+	 * Returns a hash code that is equal for equal vectors. It only depends on x
+	 * and y, since vectors of different dimensions are equal if their common
+	 * components are.
+	 */
+	@Override
+	public int hashCode() {
+		// + 0.0f turns -0.0f into 0.0f, which are equal for ==
+		return 31 * Float.hashCode(x + 0.0f) + Float.hashCode(y + 0.0f);
+	}
+
 	@Override
 	public Object clone() throws CloneNotSupportedException {
+		MathMetrics.count(MathCounter.VECTOR_COPY);
 		return new Vec2(x, y);
 	}
 
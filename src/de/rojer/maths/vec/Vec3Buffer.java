@@ -0,0 +1,227 @@
+package de.rojer.maths.vec;
+
+import de.rojer.maths.backend.MathBackends;
+import de.rojer.maths.mat.Mat4;
+import de.rojer.maths.metrics.BulkKernelEvent;
+import de.rojer.maths.metrics.MathMetrics;
+
+/**
+ * Buffer of 3-dimensional vectors, stored as parallel float arrays (one
+ * array per component, "structure of arrays")
+ * 
+ * The bulk operations work on a range [offset, offset + count) of vectors and
+ * are simple counted loops over the component arrays, which the JIT can
+ * vectorize. Use InterleavedVec3Buffer if the data has to be handed over as
+ * one packed array instead.
+ * 
+ * @author Rojer
+ * @version 18.10.2026
+ */
+public class Vec3Buffer {
+
+	// Attributes
+
+	/**
+	 * The components of the vectors, the i-th vector is (x[i], y[i], z[i])
+	 */
+	public final float[] x, y, z;
+
+	// Constructors
+
+	/**
+	 * Creates a buffer with all components being 0
+	 * 
+	 * @param size the number of vectors in the buffer
+	 */
+	public Vec3Buffer(int size) {
+		x = new float[size];
+		y = new float[size];
+		z = new float[size];
+	}
+
+	// Access
+
+	/**
+	 * @return the number of vectors in the buffer
+	 */
+	public int size() {
+		return x.length;
+	}
+
+	/**
+	 * Copies a vector of this buffer into dest
+	 * 
+	 * @param index the index of the vector
+	 * @param dest  the vector to store the components in
+	 * @return dest
+	 */
+	public Vec3 get(int index, Vec3 dest) {
+		dest.x = x[index];
+		dest.y = y[index];
+		dest.z = z[index];
+		return dest;
+	}
+
+	/**
+	 * Copies a vector into this buffer
+	 * 
+	 * @param index  the index of the vector
+	 * @param vector the vector to copy
+	 * @return this buffer for multiple operations "in one line"
+	 */
+	public Vec3Buffer set(int index, Vec3 vector) {
+		x[index] = vector.x;
+		y[index] = vector.y;
+		z[index] = vector.z;
+		return this;
+	}
+
+	/**
+	 * Sets the components of a vector of this buffer
+	 * 
+	 * @param index the index of the vector
+	 * @param x     the value of the x-component
+	 * @param y     the value of the y-component
+	 * @param z     the value of the z-component
+	 * @return this buffer for multiple operations "in one line"
+	 */
+	public Vec3Buffer set(int index, float x, float y, float z) {
+		this.x[index] = x;
+		this.y[index] = y;
+		this.z[index] = z;
+		return this;
+	}
+
+	// Arithmetic
+
+	/**
+	 * Adds the vectors of another buffer to the vectors of this buffer,
+	 * component-wise like {@link Vec3#add}
+	 * 
+	 * @param other the buffer to add to this buffer
+	 * @return this buffer for multiple operations "in one line"
+	 */
+	public Vec3Buffer add(Vec3Buffer other) {
+		add(this, other, this, 0, size());
+		return this;
+	}
+
+	/**
+	 * Subtracts the vectors of another buffer from the vectors of this buffer,
+	 * component-wise like {@link Vec3#subtract}
+	 * 
+	 * @param other the buffer to subtract from this buffer
+	 * @return this buffer for multiple operations "in one line"
+	 */
+	public Vec3Buffer subtract(Vec3Buffer other) {
+		subtract(this, other, this, 0, size());
+		return this;
+	}
+
+	/**
+	 * Multiplies the vectors of this buffer with the vectors of another buffer,
+	 * component-wise like {@link Vec3#multiply}
+	 * 
+	 * @param other the buffer to multiply this buffer with
+	 * @return this buffer for multiple operations "in one line"
+	 */
+	public Vec3Buffer multiply(Vec3Buffer other) {
+		multiply(this, other, this, 0, size());
+		return this;
+	}
+
+	/**
+	 * Divides the vectors of this buffer by the vectors of another buffer,
+	 * component-wise like {@link Vec3#divide}
+	 * 
+	 * @param other the buffer to divide this buffer by
+	 * @return this buffer for multiple operations "in one line"
+	 */
+	public Vec3Buffer divide(Vec3Buffer other) {
+		divide(this, other, this, 0, size());
+		return this;
+	}
+
+	/**
+	 * Computes dest[i] = a[i] + b[i] for every i in [offset, offset + count).
+	 * dest may be a or b.
+	 * 
+	 * @param a      the left operands
+	 * @param b      the right operands
+	 * @param dest   the buffer to store the results in
+	 * @param offset the index of the first vector
+	 * @param count  the number of vectors
+	 */
+	public static void add(Vec3Buffer a, Vec3Buffer b, Vec3Buffer dest, int offset, int count) {
+		BufferKernels.add(a.x, b.x, dest.x, offset, count);
+		BufferKernels.add(a.y, b.y, dest.y, offset, count);
+		BufferKernels.add(a.z, b.z, dest.z, offset, count);
+	}
+
+	/**
+	 * Computes dest[i] = a[i] - b[i] for every i in [offset, offset + count).
+	 * dest may be a or b.
+	 * 
+	 * @param a      the left operands
+	 * @param b      the right operands
+	 * @param dest   the buffer to store the results in
+	 * @param offset the index of the first vector
+	 * @param count  the number of vectors
+	 */
+	public static void subtract(Vec3Buffer a, Vec3Buffer b, Vec3Buffer dest, int offset, int count) {
+		BufferKernels.subtract(a.x, b.x, dest.x, offset, count);
+		BufferKernels.subtract(a.y, b.y, dest.y, offset, count);
+		BufferKernels.subtract(a.z, b.z, dest.z, offset, count);
+	}
+
+	/**
+	 * Computes dest[i] = a[i] * b[i] for every i in [offset, offset + count).
+	 * dest may be a or b.
+	 * 
+	 * @param a      the left operands
+	 * @param b      the right operands
+	 * @param dest   the buffer to store the results in
+	 * @param offset the index of the first vector
+	 * @param count  the number of vectors
+	 */
+	public static void multiply(Vec3Buffer a, Vec3Buffer b, Vec3Buffer dest, int offset, int count) {
+		BufferKernels.multiply(a.x, b.x, dest.x, offset, count);
+		BufferKernels.multiply(a.y, b.y, dest.y, offset, count);
+		BufferKernels.multiply(a.z, b.z, dest.z, offset, count);
+	}
+
+	/**
+	 * Computes dest[i] = a[i] / b[i] for every i in [offset, offset + count).
+	 * dest may be a or b.
+	 * 
+	 * @param a      the left operands
+	 * @param b      the right operands
+	 * @param dest   the buffer to store the results in
+	 * @param offset the index of the first vector
+	 * @param count  the number of vectors
+	 */
+	public static void divide(Vec3Buffer a, Vec3Buffer b, Vec3Buffer dest, int offset, int count) {
+		BufferKernels.divide(a.x, b.x, dest.x, offset, count);
+		BufferKernels.divide(a.y, b.y, dest.y, offset, count);
+		BufferKernels.divide(a.z, b.z, dest.z, offset, count);
+	}
+
+	/**
+	 * Transforms the vectors of src as points (w = 1) and stores them in dest, like
+	 * {@link Mat4#transform(Vec3, Vec3)} does for a single vector. src and dest
+	 * may be the same buffer. The work is done by the backend selected by
+	 * {@link MathBackends}.
+	 * 
+	 * @param matrix the matrix to transform the vectors with
+	 * @param src    the vectors to transform
+	 * @param dest   the buffer to store the results in
+	 * @param offset the index of the first vector
+	 * @param count  the number of vectors
+	 */
+	public static void transform(Mat4 matrix, Vec3Buffer src, Vec3Buffer dest, int offset, int count) {
+		BulkKernelEvent event = MathMetrics.begin("Vec3Buffer.transform", count);
+		MathBackends.get().transform(matrix, src, dest, offset, count);
+		MathMetrics.end(event);
+	}
+
+}
@@ -0,0 +1,227 @@
+package de.rojer.maths.vec;
+
+/**
+ * 3-dimensional Vector, components are doubles
+ * 
+ * For positions that need more precision than a {@link Vec3} has, e.g. in
+ * large worlds. Convert to a Vec3 relative to a nearby origin for rendering,
+ * see {@link de.rojer.maths.scene.CameraRelative}.
+ * 
+ * @author Rojer
+ * @version 18.10.2026
+ */
+public class Vec3d {
+
+	// Attributes
+
+	/**
+	 * The components of the vector
+	 */
+	public double x, y, z;
+
+	// Constructors
+
+	/**
+	 * Default vector, components are 0
+	 */
+	public Vec3d() {
+	}
+
+	/**
+	 * Creates a vector with the specified values
+	 * 
+	 * @param x the value of the x-component
+	 * @param y the value of the y-component
+	 * @param z the value of the z-component
+	 */
+	public Vec3d(double x, double y, double z) {
+		this.x = x;
+		this.y = y;
+		this.z = z;
+	}
+
+	/**
+	 * Creates a vector with the values of a float vector
+	 * 
+	 * @param vector the vector to copy
+	 */
+	public Vec3d(Vec3 vector) {
+		this(vector.x, vector.y, vector.z);
+	}
+
+	// Arithmetic
+
+	/**
+	 * Adds a vector to this vector
+	 * 
+	 * @param other the vector to add to this vector
+	 * @return this vector for multiple operations "in one line"
+	 */
+	public Vec3d add(Vec3d other) {
+		x += other.x;
+		y += other.y;
+		z += other.z;
+		return this;
+	}
+
+	/**
+	 * Creates a copy of this instance, then adds a vector to the copy
+	 * 
+	 * @param other the vector to add to the copy
+	 * @return the copy of this vector
+	 */
+	public Vec3d cadd(Vec3d other) {
+		return new Vec3d(x, y, z).add(other);
+	}
+
+	/**
+	 * Subtracts a vector from this vector
+	 * 
+	 * @param other the vector to subtract from this vector
+	 * @return this vector for multiple operations "in one line"
+	 */
+	public Vec3d subtract(Vec3d other) {
+		x -= other.x;
+		y -= other.y;
+		z -= other.z;
+		return this;
+	}
+
+	/**
+	 * Creates a copy of this instance, then subtracts a vector from the copy
+	 * 
+	 * @param other the vector to subtract from the copy
+	 * @return the copy of this vector
+	 */
+	public Vec3d csubtract(Vec3d other) {
+		return new Vec3d(x, y, z).subtract(other);
+	}
+
+	/**
+	 * Multiplies this vector with another one, component by component
+	 * 
+	 * @param other the vector to multiply this vector with
+	 * @return this vector for multiple operations "in one line"
+	 */
+	public Vec3d multiply(Vec3d other) {
+		x *= other.x;
+		y *= other.y;
+		z *= other.z;
+		return this;
+	}
+
+	/**
+	 * Creates a copy of this instance, then multiplies the copy with a vector
+	 * 
+	 * @param other the vector to multiply the copy with
+	 * @return the copy of this vector
+	 */
+	public Vec3d cmultiply(Vec3d other) {
+		return new Vec3d(x, y, z).multiply(other);
+	}
+
+	/**
+	 * Divides this vector by another one, component by component
+	 * 
+	 * @param other the vector to divide this vector by
+	 * @return this vector for multiple operations "in one line"
+	 */
+	public Vec3d divide(Vec3d other) {
+		x /= other.x;
+		y /= other.y;
+		z /= other.z;
+		return this;
+	}
+
+	/**
+	 * Creates a copy of this instance, then divides the copy by a vector
+	 * 
+	 * @param other the vector to divide the copy by
+	 * @return the copy of this vector
+	 */
+	public Vec3d cdivide(Vec3d other) {
+		return new Vec3d(x, y, z).divide(other);
+	}
+
+	/**
+	 * @param other the other vector
+	 * @return the dot product of this vector and other
+	 */
+	public double dot(Vec3d other) {
+		return x * other.x + y * other.y + z * other.z;
+	}
+
+	/**
+	 * @return the length of this vector
+	 */
+	public double length() {
+		return Math.sqrt(dot(this));
+	}
+
+	// Conversion
+
+	/**
+	 * Sets the components of this vector
+	 * 
+	 * @param x the value of the x-component
+	 * @param y the value of the y-component
+	 * @param z the value of the z-component
+	 * @return this vector for multiple operations "in one line"
+	 */
+	public Vec3d set(double x, double y, double z) {
+		this.x = x;
+		this.y = y;
+		this.z = z;
+		return this;
+	}
+
+	/**
+	 * Stores this vector, rounded to floats, in dest. Only precise for small
+	 * components, subtract an origin first otherwise.
+	 * 
+	 * @param dest the vector to store the components in
+	 * @return dest
+	 */
+	public Vec3 get(Vec3 dest) {
+		dest.x = (float) x;
+		dest.y = (float) y;
+		dest.z = (float) z;
+		return dest;
+	}
+
+	// Object-inherited methods
+
+	/**
+	 * Returns the String-representation of this vector
+	 */
+	@Override
+	public String toString() {
+		return "Vec3d: " + x + ", " + y + ", " + z;
+	}
+
+	/**
+	 * Checks if a Vec3d is equal to this vector
+	 */
+	@Override
+	public boolean equals(Object obj) {
+		if (!(obj instanceof Vec3d)) {
+			return false;
+		}
+		Vec3d other = (Vec3d) obj;
+		return x == other.x && y == other.y && z == other.z;
+	}
+
+	@Override
+	public int hashCode() {
+		// + 0.0 turns -0.0 into 0.0, which are equal for ==
+		int hash = Double.hashCode(x + 0.0);
+		hash = 31 * hash + Double.hashCode(y + 0.0);
+		return 31 * hash + Double.hashCode(z + 0.0);
+	}
+
+	@Override
+	public Object clone() throws CloneNotSupportedException {
+		return new Vec3d(x, y, z);
+	}
+
+}
@@ -0,0 +1,237 @@
+package de.rojer.maths.vec;
+
+/**
+ * 4-dimensional Vector, components are doubles
+ * 
+ * For positions that need more precision than a {@link Vec4} has, e.g. in
+ * large worlds. Convert to a Vec4 relative to a nearby origin for rendering,
+ * see {@link de.rojer.maths.scene.CameraRelative}.
+ * 
+ * @author Rojer
+ * @version 18.10.2026
+ */
+public class Vec4d {
+
+	// Attributes
+
+	/**
+	 * The components of the vector
+	 */
+	public double x, y, z, w;
+
+	// Constructors
+
+	/**
+	 * Default vector, components are 0
+	 */
+	public Vec4d() {
+	}
+
+	/**
+	 * Creates a vector with the specified values
+	 * 
+	 * @param x the value of the x-component
+	 * @param y the value of the y-component
+	 * @param z the value of the z-component
+	 * @param w the value of the w-component
+	 */
+	public Vec4d(double x, double y, double z, double w) {
+		this.x = x;
+		this.y = y;
+		this.z = z;
+		this.w = w;
+	}
+
+	/**
+	 * Creates a vector with the values of a float vector
+	 * 
+	 * @param vector the vector to copy
+	 */
+	public Vec4d(Vec4 vector) {
+		this(vector.x, vector.y, vector.z, vector.w);
+	}
+
+	// Arithmetic
+
+	/**
+	 * Adds a vector to this vector
+	 * 
+	 * @param other the vector to add to this vector
+	 * @return this vector for multiple operations "in one line"
+	 */
+	public Vec4d add(Vec4d other) {
+		x += other.x;
+		y += other.y;
+		z += other.z;
+		w += other.w;
+		return this;
+	}
+
+	/**
+	 * Creates a copy of this instance, then adds a vector to the copy
+	 * 
+	 * @param other the vector to add to the copy
+	 * @return the copy of this vector
+	 */
+	public Vec4d cadd(Vec4d other) {
+		return new Vec4d(x, y, z, w).add(other);
+	}
+
+	/**
+	 * Subtracts a vector from this vector
+	 * 
+	 * @param other the vector to subtract from this vector
+	 * @return this vector for multiple operations "in one line"
+	 */
+	public Vec4d subtract(Vec4d other) {
+		x -= other.x;
+		y -= other.y;
+		z -= other.z;
+		w -= other.w;
+		return this;
+	}
+
+	/**
+	 * Creates a copy of this instance, then subtracts a vector from the copy
+	 * 
+	 * @param other the vector to subtract from the copy
+	 * @return the copy of this vector
+	 */
+	public Vec4d csubtract(Vec4d other) {
+		return new Vec4d(x, y, z, w).subtract(other);
+	}
+
+	/**
+	 * Multiplies this vector with another one, component by component
+	 * 
+	 * @param other the vector to multiply this vector with
+	 * @return this vector for multiple operations "in one line"
+	 */
+	public Vec4d multiply(Vec4d other) {
+		x *= other.x;
+		y *= other.y;
+		z *= other.z;
+		w *= other.w;
+		return this;
+	}
+
+	/**
+	 * Creates a copy of this instance, then multiplies the copy with a vector
+	 * 
+	 * @param other the vector to multiply the copy with
+	 * @return the copy of this vector
+	 */
+	public Vec4d cmultiply(Vec4d other) {
+		return new Vec4d(x, y, z, w).multiply(other);
+	}
+
+	/**
+	 * Divides this vector by another one, component by component
+	 * 
+	 * @param other the vector to divide this vector by
+	 * @return this vector for multiple operations "in one line"
+	 */
+	public Vec4d divide(Vec4d other) {
+		x /= other.x;
+		y /= other.y;
+		z /= other.z;
+		w /= other.w;
+		return this;
+	}
+
+	/**
+	 * Creates a copy of this instance, then divides the copy by a vector
+	 * 
+	 * @param other the vector to divide the copy by
+	 * @return the copy of this vector
+	 */
+	public Vec4d cdivide(Vec4d other) {
+		return new Vec4d(x, y, z, w).divide(other);
+	}
+
+	/**
+	 * @param other the other vector
+	 * @return the dot product of this vector and other
+	 */
+	public double dot(Vec4d other) {
+		return x * other.x + y * other.y + z * other.z + w * other.w;
+	}
+
+	/**
+	 * @return the length of this vector
+	 */
+	public double length() {
+		return Math.sqrt(dot(this));
+	}
+
+	// Conversion
+
+	/**
+	 * Sets the components of this vector
+	 * 
+	 * @param x the value of the x-component
+	 * @param y the value of the y-component
+	 * @param z the value of the z-component
+	 * @param w the value of the w-component
+	 * @return this vector for multiple operations "in one line"
+	 */
+	public Vec4d set(double x, double y, double z, double w) {
+		this.x = x;
+		this.y = y;
+		this.z = z;
+		this.w = w;
+		return this;
+	}
+
+	/**
+	 * Stores this vector, rounded to floats, in dest. Only precise for small
+	 * components, subtract an origin first otherwise.
+	 * 
+	 * @param dest the vector to store the components in
+	 * @return dest
+	 */
+	public Vec4 get(Vec4 dest) {
+		dest.x = (float) x;
+		dest.y = (float) y;
+		dest.z = (float) z;
+		dest.w = (float) w;
+		return dest;
+	}
+
+	// Object-inherited methods
+
+	/**
+	 * Returns the String-representation of this vector
+	 */
+	@Override
+	public String toString() {
+		return "Vec4d: " + x + ", " + y + ", " + z + ", " + w;
+	}
+
+	/**
+	 * Checks if a Vec4d is equal to this vector
+	 */
+	@Override
+	public boolean equals(Object obj) {
+		if (!(obj instanceof Vec4d)) {
+			return false;
+		}
+		Vec4d other = (Vec4d) obj;
+		return x == other.x && y == other.y && z == other.z && w == other.w;
+	}
+
+	@Override
+	public int hashCode() {
+		// + 0.0 turns -0.0 into 0.0, which are equal for ==
+		int hash = Double.hashCode(x + 0.0);
+		hash = 31 * hash + Double.hashCode(y + 0.0);
+		hash = 31 * hash + Double.hashCode(z + 0.0);
+		return 31 * hash + Double.hashCode(w + 0.0);
+	}
+
+	@Override
+	public Object clone() throws CloneNotSupportedException {
+		return new Vec4d(x, y, z, w);
+	}
+
+}
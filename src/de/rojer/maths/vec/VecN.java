@@ -0,0 +1,176 @@
+package de.rojer.maths.vec;
+
+import java.util.Arrays;
+
+/**
+ * Vector of any dimension with double elements, for the dense matrices of
+ * de.rojer.maths.mat.MatN
+ *
+ * @author Rojer
+ * @version 18.10.2026
+ */
+public class VecN {
+
+	// Attributes
+
+	/**
+	 * The elements of the vector
+	 */
+	public final double[] elements;
+
+	// Constructors
+
+	/**
+	 * Creates a vector with all elements being 0
+	 *
+	 * @param size the number of elements
+	 */
+	public VecN(int size) {
+		elements = new double[size];
+	}
+
+	/**
+	 * Creates a vector on top of an array, without copying it
+	 *
+	 * @param elements the elements of the vector
+	 */
+	public VecN(double[] elements) {
+		this.elements = elements;
+	}
+
+	// Access
+
+	/**
+	 * @return the number of elements
+	 */
+	public int size() {
+		return elements.length;
+	}
+
+	/**
+	 * @param index the index of the element
+	 * @return the element
+	 */
+	public double get(int index) {
+		return elements[index];
+	}
+
+	/**
+	 * @param index the index of the element
+	 * @param value the new value of the element
+	 * @return this vector for multiple operations "in one line"
+	 */
+	public VecN set(int index, double value) {
+		elements[index] = value;
+		return this;
+	}
+
+	/**
+	 * Copies the elements of another vector of the same size into this vector
+	 *
+	 * @param other the vector to copy
+	 * @return this vector for multiple operations "in one line"
+	 */
+	public VecN set(VecN other) {
+		checkSize(other);
+		System.arraycopy(other.elements, 0, elements, 0, elements.length);
+		return this;
+	}
+
+	// Arithmetic
+
+	/**
+	 * Adds another vector of the same size to this vector
+	 *
+	 * @param other the vector to add
+	 * @return this vector for multiple operations "in one line"
+	 */
+	public VecN add(VecN other) {
+		checkSize(other);
+		double[] e = elements, o = other.elements;
+		for (int i = 0; i < e.length; i++) {
+			e[i] += o[i];
+		}
+		return this;
+	}
+
+	/**
+	 * Subtracts another vector of the same size from this vector
+	 *
+	 * @param other the vector to subtract
+	 * @return this vector for multiple operations "in one line"
+	 */
+	public VecN subtract(VecN other) {
+		checkSize(other);
+		double[] e = elements, o = other.elements;
+		for (int i = 0; i < e.length; i++) {
+			e[i] -= o[i];
+		}
+		return this;
+	}
+
+	/**
+	 * Multiplies every element with a factor
+	 *
+	 * @param factor the factor
+	 * @return this vector for multiple operations "in one line"
+	 */
+	public VecN scale(double factor) {
+		double[] e = elements;
+		for (int i = 0; i < e.length; i++) {
+			e[i] *= factor;
+		}
+		return this;
+	}
+
+	/**
+	 * @param other a vector of the same size
+	 * @return the dot product of both vectors
+	 */
+	public double dot(VecN other) {
+		checkSize(other);
+		double[] e = elements, o = other.elements;
+		double sum = 0.0;
+		for (int i = 0; i < e.length; i++) {
+			sum += e[i] * o[i];
+		}
+		return sum;
+	}
+
+	/**
+	 * @return the length of the vector
+	 */
+	public double length() {
+		return Math.sqrt(dot(this));
+	}
+
+	// Internals
+
+	private void checkSize(VecN other) {
+		if (other.elements.length != elements.length) {
+			throw new IllegalArgumentException(
+					"Expected a vector of size " + elements.length + ", but got " + other.elements.length);
+		}
+	}
+
+	// Object-inherited methods
+
+	@Override
+	public String toString() {
+		return "VecN: " + Arrays.toString(elements);
+	}
+
+	/**
+	 * Checks if a VecN has the same elements as this vector
+	 */
+	@Override
+	public boolean equals(Object obj) {
+		return obj instanceof VecN && Arrays.equals(elements, ((VecN) obj).elements);
+	}
+
+	@Override
+	public int hashCode() {
+		return Arrays.hashCode(elements);
+	}
+
+}
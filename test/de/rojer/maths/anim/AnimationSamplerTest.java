@@ -0,0 +1,138 @@
+package de.rojer.maths.anim;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+import de.rojer.maths.mat.Mat4;
+import de.rojer.maths.quat.Quat;
+import de.rojer.maths.vec.Vec3;
+
+/**
+ * Tests that {@link AnimationSampler} writes the matrices of the chain
+ * Scale(s).multiply(rotation).multiply(Translation(t)), when sampling and when
+ * blending
+ *
+ * @author Rojer
+ * @version 18.10.2026
+ */
+class AnimationSamplerTest {
+
+	private static final int BONES = 20;
+	private static final int KEYS = 5;
+	private static final float DURATION = 2.0f;
+
+	private final Random random = new Random(17);
+	private final float[] times = new float[KEYS];
+	private final float[][] translations = new float[BONES][KEYS * 3];
+	private final float[][] angles = new float[BONES][KEYS * 3];
+	private final float[][] scales = new float[BONES][KEYS * 3];
+	private final AnimationClip clip = new AnimationClip(BONES, DURATION);
+	private final AnimationSampler sampler = new AnimationSampler();
+	private final float[] palette = new float[BONES * 16];
+
+	AnimationSamplerTest() {
+		for (int k = 0; k < KEYS; k++) {
+			times[k] = k * DURATION / (KEYS - 1);
+		}
+		Quat rotation = new Quat();
+		for (int b = 0; b < BONES; b++) {
+			float[] rotations = new float[KEYS * 4];
+			for (int k = 0; k < KEYS; k++) {
+				for (int j = 0; j < 3; j++) {
+					translations[b][k * 3 + j] = random.nextFloat() * 10.0f - 5.0f;
+					angles[b][k * 3 + j] = random.nextFloat() * 360.0f;
+					scales[b][k * 3 + j] = 0.5f + random.nextFloat();
+				}
+				Quat.Rotation(angles[b][k * 3], angles[b][k * 3 + 1], angles[b][k * 3 + 2], rotation);
+				rotations[k * 4] = rotation.x;
+				rotations[k * 4 + 1] = rotation.y;
+				rotations[k * 4 + 2] = rotation.z;
+				rotations[k * 4 + 3] = rotation.w;
+			}
+			clip.setKeys(b, AnimationClip.TRANSLATION, times, translations[b])
+					.setKeys(b, AnimationClip.ROTATION, times, rotations)
+					.setKeys(b, AnimationClip.SCALE, times, scales[b]);
+		}
+	}
+
+	@Test
+	void sampleMatchesScaleRotationTranslationChain() {
+		AnimationCursor cursor = new AnimationCursor(clip);
+		Mat4 bone = new Mat4();
+		for (int k = 0; k < KEYS; k++) {
+			sampler.sample(cursor, times[k], palette, 0);
+			for (int b = 0; b < BONES; b++) {
+				assertClose(chain(b, k), AnimationSampler.get(palette, b, bone));
+			}
+		}
+	}
+
+	@Test
+	void chainTranslatingFirstIsAnotherMatrix() {
+		sampler.sample(new AnimationCursor(clip), 0.0f, palette, 0);
+		Mat4 translatingFirst = Mat4.Translation(vector(translations[0], 0))
+				.multiply(Mat4.Rotation(angles[0][0], angles[0][1], angles[0][2]))
+				.multiply(Mat4.Scale(vector(scales[0], 0)));
+		float difference = 0.0f;
+		for (int e = 0; e < 16; e++) {
+			difference = Math.max(difference, Math.abs(translatingFirst.elements[e] - palette[e]));
+		}
+		assertTrue(difference > 0.1f);
+	}
+
+	@Test
+	void sampleInterpolatesTranslationAndScale() {
+		AnimationCursor cursor = new AnimationCursor(clip);
+		float time = times[1] + 0.25f * (times[2] - times[1]);
+		sampler.sample(cursor, time, palette, 0);
+		Mat4 bone = new Mat4();
+		for (int b = 0; b < BONES; b++) {
+			AnimationSampler.get(palette, b, bone);
+			for (int j = 0; j < 3; j++) {
+				float translation = translations[b][3 + j] + 0.25f * (translations[b][6 + j] - translations[b][3 + j]);
+				float scale = scales[b][3 + j] + 0.25f * (scales[b][6 + j] - scales[b][3 + j]);
+				assertEquals(translation, bone.elements[12 + j], 1e-5f);
+				// The columns of the rotation are unit vectors, so the scale is their length
+				float x = bone.elements[j * 4], y = bone.elements[j * 4 + 1], z = bone.elements[j * 4 + 2];
+				assertEquals(scale, (float) Math.sqrt(x * x + y * y + z * z), 1e-5f);
+			}
+		}
+	}
+
+	@Test
+	void blendOfOneClipMatchesSample() {
+		float[] blended = new float[BONES * 16];
+		AnimationCursor[] cursors = { new AnimationCursor(clip), new AnimationCursor(clip) };
+		for (int i = 0; i < 10; i++) {
+			float time = random.nextFloat() * DURATION;
+			sampler.sample(new AnimationCursor(clip), time, palette, 0);
+			sampler.blend(cursors, new float[] { time, time }, new float[] { 0.25f, 0.75f }, 2, blended, 0);
+			for (int e = 0; e < palette.length; e++) {
+				assertEquals(palette[e], blended[e], 1e-5f);
+			}
+		}
+	}
+
+	// Internals
+
+	private Mat4 chain(int bone, int key) {
+		return Mat4.Scale(vector(scales[bone], key))
+				.multiply(Mat4.Rotation(angles[bone][key * 3], angles[bone][key * 3 + 1], angles[bone][key * 3 + 2]))
+				.multiply(Mat4.Translation(vector(translations[bone], key)));
+	}
+
+	private static Vec3 vector(float[] values, int key) {
+		return new Vec3(values[key * 3], values[key * 3 + 1], values[key * 3 + 2]);
+	}
+
+	private static void assertClose(Mat4 expected, Mat4 actual) {
+		for (int e = 0; e < 16; e++) {
+			assertEquals(expected.elements[e], actual.elements[e], 1e-4f, "element " + e);
+		}
+	}
+
+}
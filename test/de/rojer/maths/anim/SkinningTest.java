@@ -0,0 +1,119 @@
+package de.rojer.maths.anim;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+import de.rojer.maths.mat.Mat4;
+import de.rojer.maths.vec.Vec3;
+import de.rojer.maths.vec.Vec3Buffer;
+
+/**
+ * Tests {@link Skinning} against blending the vertices transformed by every
+ * bone matrix of their influences
+ *
+ * @author Rojer
+ * @version 18.10.2026
+ */
+class SkinningTest {
+
+	private static final int VERTICES = 1000;
+	private static final int BONES = 12;
+	private static final int INFLUENCES = 3;
+
+	private final Random random = new Random(18);
+	private final Mat4[] matrices = new Mat4[BONES];
+	private final float[] palette = new float[BONES * 16];
+	private final int[] bones = new int[VERTICES * INFLUENCES];
+	private final float[] weights = new float[VERTICES * INFLUENCES];
+	private final Vec3Buffer positions = new Vec3Buffer(VERTICES);
+	private final Vec3Buffer normals = new Vec3Buffer(VERTICES);
+
+	SkinningTest() {
+		for (int b = 0; b < BONES; b++) {
+			matrices[b] = Mat4.Rotation(angle(), angle(), angle())
+					.multiply(Mat4.Translation(new Vec3(value(), value(), value())));
+			System.arraycopy(matrices[b].elements, 0, palette, b * 16, 16);
+		}
+		for (int v = 0; v < VERTICES; v++) {
+			float sum = 0.0f;
+			for (int j = 0; j < INFLUENCES; j++) {
+				bones[v * INFLUENCES + j] = random.nextInt(BONES);
+				weights[v * INFLUENCES + j] = random.nextFloat();
+				sum += weights[v * INFLUENCES + j];
+			}
+			for (int j = 0; j < INFLUENCES; j++) {
+				weights[v * INFLUENCES + j] /= sum;
+			}
+			positions.set(v, value(), value(), value());
+			float x = value(), y = value(), z = value();
+			float length = (float) Math.sqrt(x * x + y * y + z * z);
+			normals.set(v, x / length, y / length, z / length);
+		}
+	}
+
+	@Test
+	void positionsMatchBlendedTransforms() {
+		Vec3Buffer dest = new Vec3Buffer(VERTICES);
+		Skinning.skin(palette, bones, weights, INFLUENCES, positions, dest, 0, VERTICES);
+		Vec3 position = new Vec3(), transformed = new Vec3(), skinned = new Vec3();
+		for (int v = 0; v < VERTICES; v++) {
+			Vec3 expected = new Vec3();
+			positions.get(v, position);
+			for (int j = 0; j < INFLUENCES; j++) {
+				float w = weights[v * INFLUENCES + j];
+				matrices[bones[v * INFLUENCES + j]].transform(position, transformed);
+				expected.x += w * transformed.x;
+				expected.y += w * transformed.y;
+				expected.z += w * transformed.z;
+			}
+			dest.get(v, skinned);
+			assertEquals(expected.x, skinned.x, 1e-4f);
+			assertEquals(expected.y, skinned.y, 1e-4f);
+			assertEquals(expected.z, skinned.z, 1e-4f);
+		}
+	}
+
+	@Test
+	void normalsOfOneBoneAreRotated() {
+		float[] single = new float[VERTICES * INFLUENCES];
+		for (int v = 0; v < VERTICES; v++) {
+			single[v * INFLUENCES] = 1.0f;
+		}
+		Vec3Buffer destPositions = new Vec3Buffer(VERTICES), destNormals = new Vec3Buffer(VERTICES);
+		Skinning.skin(palette, bones, single, INFLUENCES, positions, normals, destPositions, destNormals, 0, VERTICES);
+		Vec3 normal = new Vec3(), skinned = new Vec3();
+		for (int v = 0; v < VERTICES; v++) {
+			float[] e = matrices[bones[v * INFLUENCES]].elements;
+			normals.get(v, normal);
+			destNormals.get(v, skinned);
+			assertEquals(e[0] * normal.x + e[4] * normal.y + e[8] * normal.z, skinned.x, 1e-5f);
+			assertEquals(e[1] * normal.x + e[5] * normal.y + e[9] * normal.z, skinned.y, 1e-5f);
+			assertEquals(e[2] * normal.x + e[6] * normal.y + e[10] * normal.z, skinned.z, 1e-5f);
+		}
+	}
+
+	@Test
+	void skinsInPlace() {
+		Vec3Buffer dest = new Vec3Buffer(VERTICES);
+		Skinning.skin(palette, bones, weights, INFLUENCES, positions, dest, 0, VERTICES);
+		Skinning.skin(palette, bones, weights, INFLUENCES, positions, positions, 0, VERTICES);
+		assertArrayEquals(dest.x, positions.x);
+		assertArrayEquals(dest.y, positions.y);
+		assertArrayEquals(dest.z, positions.z);
+	}
+
+	// Internals
+
+	private float value() {
+		return random.nextFloat() * 2.0f - 1.0f;
+	}
+
+	private float angle() {
+		return random.nextFloat() * 360.0f;
+	}
+
+}
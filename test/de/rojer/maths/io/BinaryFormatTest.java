@@ -0,0 +1,162 @@
+package de.rojer.maths.io;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import de.rojer.maths.mat.Mat4;
+import de.rojer.maths.offheap.Mat4View;
+import de.rojer.maths.offheap.OffHeapArena;
+import de.rojer.maths.vec.Vec2;
+import de.rojer.maths.vec.Vec3Buffer;
+import de.rojer.maths.vec.Vec4Buffer;
+
+/**
+ * Tests that {@link BinaryReader} reads back what {@link BinaryWriter} wrote,
+ * in the documented layout, and rejects broken files
+ *
+ * @author Rojer
+ * @version 18.10.2026
+ */
+class BinaryFormatTest {
+
+	// More than fits into the 64 KiB buffer of the writer
+	private static final int VECTORS = 10001;
+	private static final int MATRICES = 37;
+
+	@TempDir
+	Path directory;
+
+	private final Random random = new Random(16);
+
+	@Test
+	void readsBackAllArrays() throws IOException {
+		Path path = directory.resolve("arrays.bin");
+		Vec3Buffer positions = new Vec3Buffer(VECTORS);
+		Vec4Buffer colors = new Vec4Buffer(VECTORS);
+		for (int i = 0; i < VECTORS; i++) {
+			positions.set(i, value(), value(), value());
+			colors.set(i, value(), value(), value(), value());
+		}
+		Mat4[] bones = new Mat4[MATRICES];
+		try (BinaryWriter writer = new BinaryWriter(path)) {
+			writer.begin(ElementType.VEC3).write(positions, 0, VECTORS);
+			writer.begin(ElementType.MAT4);
+			for (int i = 0; i < MATRICES; i++) {
+				bones[i] = new Mat4();
+				for (int e = 0; e < 16; e++) {
+					bones[i].elements[e] = value();
+				}
+				writer.write(bones[i]);
+			}
+			writer.begin(ElementType.VEC2).write(new Vec2(1.5f, -2.5f));
+			writer.begin(ElementType.VEC4).write(colors, 0, VECTORS);
+		}
+
+		try (BinaryReader reader = new BinaryReader(path)) {
+			assertEquals(BinaryWriter.VERSION, reader.version());
+			assertEquals(4, reader.arrays());
+			assertEquals(ElementType.VEC3, reader.type(0));
+			assertEquals(ElementType.MAT4, reader.type(1));
+			assertEquals(ElementType.VEC2, reader.type(2));
+			assertEquals(ElementType.VEC4, reader.type(3));
+			assertEquals(VECTORS, reader.count(0));
+			assertEquals(MATRICES, reader.count(1));
+			assertEquals(1, reader.count(2));
+			assertEquals(VECTORS, reader.count(3));
+
+			Vec3Buffer readPositions = reader.read(0, 0, new Vec3Buffer(VECTORS), 0, VECTORS);
+			assertArrayEquals(positions.x, readPositions.x, 0.0f);
+			assertArrayEquals(positions.y, readPositions.y, 0.0f);
+			assertArrayEquals(positions.z, readPositions.z, 0.0f);
+
+			Vec4Buffer readColors = reader.read(3, 5, new Vec4Buffer(VECTORS), 2, VECTORS - 5);
+			assertArrayEquals(Arrays.copyOfRange(colors.w, 5, VECTORS),
+					Arrays.copyOfRange(readColors.w, 2, VECTORS - 3), 0.0f);
+
+			assertArrayEquals(new float[] { 1.5f, -2.5f }, reader.read(2, 0, new float[2], 0, 1), 0.0f);
+
+			OffHeapArena mapped = reader.map(1);
+			Mat4View view = new Mat4View(mapped, 0);
+			Mat4 matrix = new Mat4();
+			for (int i = 0; i < MATRICES; i++) {
+				assertArrayEquals(bones[i].elements, view.at(i * Mat4View.FLOATS).get(matrix).elements, 0.0f);
+			}
+			OffHeapArena part = reader.map(1, 30, 7);
+			assertArrayEquals(bones[33].elements, new Mat4View(part, 3 * Mat4View.FLOATS).get(matrix).elements,
+					0.0f);
+		}
+	}
+
+	@Test
+	void writesLittleEndianAlignedLayout() throws IOException {
+		Path path = directory.resolve("layout.bin");
+		try (BinaryWriter writer = new BinaryWriter(path)) {
+			writer.begin(ElementType.VEC2).write(new Vec2(1.0f, 2.0f)).write(new Vec2(3.0f, 4.0f));
+			writer.begin(ElementType.VEC2).write(new Vec2(5.0f, 6.0f));
+		}
+		ByteBuffer bytes = ByteBuffer.wrap(Files.readAllBytes(path)).order(ByteOrder.LITTLE_ENDIAN);
+		assertEquals(5 * BinaryWriter.ALIGNMENT, bytes.limit());
+		assertEquals('R', bytes.get(0));
+		assertEquals('F', bytes.get(3));
+		assertEquals(BinaryWriter.VERSION, bytes.getInt(4));
+		assertEquals(2, bytes.getInt(8));
+		int header = BinaryWriter.ALIGNMENT;
+		assertEquals(ElementType.VEC2.code, bytes.getInt(header));
+		assertEquals(2, bytes.getLong(header + 8));
+		assertEquals(4.0f, bytes.getFloat(header + BinaryWriter.ALIGNMENT + 12), 0.0f);
+		header += 2 * BinaryWriter.ALIGNMENT;
+		assertEquals(1, bytes.getLong(header + 8));
+		assertEquals(5.0f, bytes.getFloat(header + BinaryWriter.ALIGNMENT), 0.0f);
+	}
+
+	@Test
+	void rejectsBrokenFiles() throws IOException {
+		Path path = directory.resolve("broken.bin");
+		Files.write(path, new byte[BinaryWriter.ALIGNMENT]);
+		assertThrows(IOException.class, () -> new BinaryReader(path).close());
+
+		try (BinaryWriter writer = new BinaryWriter(path)) {
+			writer.begin(ElementType.VEC3).write(new Vec3Buffer(100), 0, 100);
+		}
+		byte[] bytes = Files.readAllBytes(path);
+		Files.write(path, Arrays.copyOf(bytes, bytes.length - BinaryWriter.ALIGNMENT * 2));
+		assertThrows(IOException.class, () -> new BinaryReader(path).close());
+
+		ByteBuffer.wrap(bytes).order(ByteOrder.LITTLE_ENDIAN).putInt(4, BinaryWriter.VERSION + 1);
+		Files.write(path, bytes);
+		assertThrows(IOException.class, () -> new BinaryReader(path).close());
+	}
+
+	@Test
+	void rejectsElementsOfAnotherType() throws IOException {
+		Path path = directory.resolve("types.bin");
+		try (BinaryWriter writer = new BinaryWriter(path)) {
+			assertThrows(IllegalStateException.class, () -> writer.write(new Vec2()));
+			writer.begin(ElementType.VEC3);
+			assertThrows(IllegalStateException.class, () -> writer.write(new Vec2()));
+		}
+		try (BinaryReader reader = new BinaryReader(path)) {
+			assertEquals(0, reader.count(0));
+			assertThrows(IllegalArgumentException.class, () -> reader.read(0, 0, new Vec4Buffer(1), 0, 0));
+		}
+	}
+
+	// Internals
+
+	private float value() {
+		return random.nextFloat() * 200.0f - 100.0f;
+	}
+
+}
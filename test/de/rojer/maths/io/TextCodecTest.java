@@ -0,0 +1,222 @@
+package de.rojer.maths.io;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+import de.rojer.maths.mat.Mat4;
+import de.rojer.maths.vec.Vec3Buffer;
+import de.rojer.maths.vec.Vec4Buffer;
+
+/**
+ * Tests that the text readers parse floats exactly like Float.parseFloat and
+ * read back what the text writers wrote
+ *
+ * @author Rojer
+ * @version 18.10.2026
+ */
+class TextCodecTest {
+
+	private static final int TOKENS = 200_000;
+
+	private final Random random = new Random(23);
+
+	@Test
+	void parsesLikeFloatParseFloat() throws IOException {
+		String[] tokens = new String[TOKENS];
+		StringBuilder text = new StringBuilder();
+		for (int i = 0; i < TOKENS; i++) {
+			tokens[i] = token(i % 8);
+			text.append(tokens[i]).append('\n');
+		}
+		float[] values = new float[TOKENS];
+		try (CsvReader reader = new CsvReader(new StringReader(text.toString()))) {
+			assertEquals(TOKENS, reader.read(values, 1, 0, TOKENS));
+		}
+		for (int i = 0; i < TOKENS; i++) {
+			assertEquals(Float.floatToIntBits(Float.parseFloat(tokens[i])), Float.floatToIntBits(values[i]), tokens[i]);
+		}
+	}
+
+	@Test
+	void readsBackCsvRows() throws IOException {
+		int count = 20_000;
+		Vec3Buffer vectors = new Vec3Buffer(count);
+		Vec4Buffer colors = new Vec4Buffer(count);
+		for (int i = 0; i < count; i++) {
+			vectors.set(i, value(), value(), value());
+			colors.set(i, value(), value(), value(), value());
+		}
+		vectors.set(0, Float.NaN, Float.NEGATIVE_INFINITY, 3e20f);
+		Mat4 matrix = Mat4.Rotation(10.0f, 20.0f, 30.0f);
+		StringWriter out = new StringWriter();
+		try (CsvWriter writer = new CsvWriter(out, ';', 6)) {
+			writer.header("x", "y", "z").rows(vectors, 0, count);
+			writer.rows(colors, 0, count).row(matrix);
+		}
+		try (CsvReader reader = new CsvReader(new StringReader(out.toString()), ';')) {
+			assertEquals(1, reader.skip(1));
+			Vec3Buffer readVectors = new Vec3Buffer(count);
+			Vec4Buffer readColors = new Vec4Buffer(count);
+			float[] elements = new float[16];
+			assertEquals(count, reader.read(readVectors, 0, count));
+			assertEquals(count, reader.read(readColors, 0, count));
+			assertEquals(1, reader.read(elements, 16, 0, 1));
+			assertEquals(0, reader.read(elements, 16, 0, 1));
+			assertRounded(vectors.x, readVectors.x, 6);
+			assertRounded(vectors.y, readVectors.y, 6);
+			assertRounded(vectors.z, readVectors.z, 6);
+			assertRounded(colors.w, readColors.w, 6);
+			assertRounded(matrix.elements, elements, 6);
+		}
+	}
+
+	@Test
+	void readsBackObjInBatches() throws IOException {
+		int count = 10_000;
+		Vec3Buffer positions = new Vec3Buffer(count), normals = new Vec3Buffer(count);
+		for (int i = 0; i < count; i++) {
+			positions.set(i, value(), value(), value());
+			normals.set(i, value(), value(), value());
+		}
+		StringWriter out = new StringWriter();
+		try (ObjWriter writer = new ObjWriter(out, 9)) {
+			writer.comment("test").vertices(positions, 0, count).normals(normals, 0, count);
+		}
+		out.append("vt 0.5 0.5\nf 1 2 3\n");
+		Vec3Buffer readPositions = new Vec3Buffer(count), readNormals = new Vec3Buffer(count);
+		Vec3Buffer batch = new Vec3Buffer(3000);
+		try (ObjReader reader = new ObjReader(new StringReader(out.toString()))) {
+			int read = 0;
+			boolean more;
+			do {
+				more = reader.read(batch, null);
+				System.arraycopy(batch.x, 0, readPositions.x, read, reader.positions());
+				read += reader.positions();
+			} while (more);
+			assertEquals(count, read);
+		}
+		try (ObjReader reader = new ObjReader(new StringReader(out.toString()))) {
+			assertTrue(reader.read(new Vec3Buffer(count), readNormals));
+			assertEquals(count, reader.positions());
+			assertEquals(0, reader.normals());
+			// Stops when the normals are full, the next read finds the end
+			assertTrue(reader.read(new Vec3Buffer(count), readNormals));
+			assertEquals(count, reader.normals());
+			assertFalse(reader.read(new Vec3Buffer(count), new Vec3Buffer(count)));
+			assertEquals(0, reader.normals());
+		}
+		assertRounded(positions.x, readPositions.x, 9);
+		assertRounded(normals.z, readNormals.z, 9);
+	}
+
+	@Test
+	void reportsLineOfMalformedRow() throws IOException {
+		try (CsvReader reader = new CsvReader(new StringReader("1,2,3\n\n4,5\n"))) {
+			Vec3Buffer dest = new Vec3Buffer(2);
+			IOException e = assertThrows(IOException.class, () -> reader.read(dest, 0, 2));
+			assertTrue(e.getMessage().endsWith("line 3"), e.getMessage());
+		}
+		try (CsvReader reader = new CsvReader(new StringReader("1,2,x3\n"))) {
+			assertThrows(IOException.class, () -> reader.read(new Vec3Buffer(1), 0, 1));
+		}
+	}
+
+	@Test
+	void writesWithoutTrailingZeros() throws IOException {
+		StringWriter out = new StringWriter();
+		try (CsvWriter writer = new CsvWriter(out)) {
+			writer.rows(new float[] { 1.5f, -0.125f, 0.0f, -0.0000001f, 2.0f, 1e9f }, 3, 0, 2);
+		}
+		assertArrayEquals(new String[] { "1.5,-0.125,0", "0,2,1.0E9" }, out.toString().split("\n"));
+	}
+
+	// Internals
+
+	private float value() {
+		return (random.nextFloat() * 2.0f - 1.0f) * (float) Math.pow(10.0, random.nextInt(8) - 3);
+	}
+
+	/**
+	 * @return a token of one of 8 kinds, most of them taking the fast path
+	 */
+	private String token(int kind) {
+		switch (kind) {
+		case 0:
+			// Any float, also subnormal, in the format of Float.toString
+			float any;
+			do {
+				any = Float.intBitsToFloat(random.nextInt());
+			} while (Float.isNaN(any) || Float.isInfinite(any));
+			return Float.toString(any);
+		case 1:
+			// Like the writers, with up to 9 fraction digits
+			return BigDecimal.valueOf(value()).setScale(random.nextInt(10), RoundingMode.HALF_EVEN)
+					.toPlainString();
+		case 2: {
+			// Exactly halfway between two floats, in full
+			float f = value();
+			return new BigDecimal(f).add(new BigDecimal(Math.nextUp(f))).divide(BigDecimal.valueOf(2)).toString();
+		}
+		case 3: {
+			// Halfway between two floats, rounded to 17 digits
+			float f = value();
+			double middle = ((double) f + Math.nextUp(f)) / 2.0;
+			return String.format("%.16e", middle);
+		}
+		case 4: {
+			// Random digits, up to 25 of them, with a random point and exponent
+			StringBuilder digits = new StringBuilder(random.nextBoolean() ? "-" : random.nextBoolean() ? "+" : "");
+			int length = 1 + random.nextInt(25), point = random.nextInt(length + 1);
+			for (int i = 0; i < length; i++) {
+				if (i == point) {
+					digits.append('.');
+				}
+				digits.append((char) ('0' + random.nextInt(10)));
+			}
+			if (random.nextBoolean()) {
+				digits.append(random.nextBoolean() ? 'e' : 'E').append(random.nextInt(81) - 40);
+			}
+			return digits.toString();
+		}
+		case 5:
+			// Around the smallest and largest floats
+			return (random.nextBoolean() ? "1.4e-" + (40 + random.nextInt(8)) : "3.4028" + random.nextInt(10) + "e38");
+		case 6: {
+			String[] special = { "0", "-0", "0.0", "-0.000", "NaN", "Infinity", "-Infinity", "+Infinity", "1e0",
+					"00012.500", ".5", "5.", "1E22", "1e-22", "123456789012345678", "9007199254740993" };
+			return special[random.nextInt(special.length)];
+		}
+		default:
+			// Short decimals
+			return Integer.toString(random.nextInt(2000000) - 1000000) + "." + random.nextInt(1000);
+		}
+	}
+
+	/**
+	 * Asserts that values read back are the written ones rounded to a number
+	 * of fraction digits
+	 */
+	private static void assertRounded(float[] expected, float[] actual, int decimals) {
+		float tolerance = 0.5f * (float) Math.pow(10.0, -decimals);
+		for (int i = 0; i < expected.length; i++) {
+			if (Float.isNaN(expected[i]) || Float.isInfinite(expected[i]) || Math.abs(expected[i]) >= 1e9f) {
+				assertEquals(expected[i], actual[i], 0.0f);
+			} else {
+				assertEquals(expected[i], actual[i], tolerance + Math.ulp(expected[i]));
+			}
+		}
+	}
+
+}
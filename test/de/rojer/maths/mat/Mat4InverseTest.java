@@ -0,0 +1,300 @@
+package de.rojer.maths.mat;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+import de.rojer.maths.mat.Mat4.Kind;
+import de.rojer.maths.vec.Vec3;
+
+/**
+ * Tests the rigid inverse, the normal matrix and the determinant of
+ * {@link Mat4} against reference values computed in double precision, and the
+ * batch forms against the forms for a single matrix
+ *
+ * @author Rojer
+ * @version 18.10.2026
+ */
+class Mat4InverseTest {
+
+	private static final int COUNT = 50;
+
+	private final Random random = new Random(13);
+
+	@Test
+	void invertRigidUndoesRotationAndTranslation() {
+		for (int n = 0; n < 200; n++) {
+			Mat4 rigid = rigid(n % 2 == 0);
+			Mat4 inverse = Mat4.invertRigid(rigid, new Mat4());
+			assertIdentity(Mat4.mul(inverse, rigid, new Mat4()));
+			assertIdentity(Mat4.mul(rigid, inverse, new Mat4()));
+			assertClose(Mat4.invert(rigid, new Mat4()), inverse);
+			// In place gives the same
+			assertArrayEquals(inverse.elements, new Mat4().set(rigid).invertRigid().elements, 0.0f);
+		}
+	}
+
+	@Test
+	void batchInvertRigidMatchesSingleMatrices() {
+		float[] src = new float[COUNT * 16], dest = new float[COUNT * 16];
+		for (int i = 0; i < COUNT; i++) {
+			System.arraycopy(rigid(false).elements, 0, src, i * 16, 16);
+		}
+		Mat4.invertRigid(src, dest, 1, COUNT - 2);
+		for (int i = 0; i < COUNT; i++) {
+			Mat4 matrix = matrix(src, i);
+			float[] expected = i == 0 || i == COUNT - 1 ? new float[16]
+					: Mat4.invertRigid(matrix, new Mat4()).elements;
+			assertArrayEquals(expected, matrix(dest, i).elements, 0.0f, "matrix " + i);
+		}
+		// dest may be src
+		float[] copy = src.clone();
+		Mat4.invertRigid(copy, copy, 0, COUNT);
+		assertArrayEquals(Mat4.invertRigid(matrix(src, 7), new Mat4()).elements, matrix(copy, 7).elements, 0.0f);
+	}
+
+	@Test
+	void normalIsTransposedInverseOfUpper3x3() {
+		for (int n = 0; n < 200; n++) {
+			for (Kind kind : Kind.values()) {
+				Mat4 matrix = matrix(kind);
+				Mat4 normal = Mat4.normal(matrix, new Mat4());
+				double[][] inverse = inverse3(matrix);
+				for (int row = 0; row < 4; row++) {
+					for (int column = 0; column < 4; column++) {
+						double expected = row < 3 && column < 3 ? inverse[column][row] : row == column ? 1.0 : 0.0;
+						assertEquals(expected, normal.elements[column * 4 + row],
+								1e-3 * Math.max(1.0, Math.abs(expected)), kind + " " + row + "," + column);
+					}
+				}
+			}
+		}
+	}
+
+	@Test
+	void normalRejectsSingularMatrices() {
+		Mat4 flat = Mat4.Scale(new Vec3(1.0f, 0.0f, 1.0f), new Mat4());
+		assertThrows(ArithmeticException.class, () -> Mat4.normal(flat, new Mat4()));
+		assertThrows(ArithmeticException.class, () -> Mat4.normal(general(flat), new Mat4()));
+	}
+
+	@Test
+	void batchNormalMatchesSingleMatrices() {
+		float[] src = new float[COUNT * 16], dest = new float[COUNT * 16];
+		for (int i = 0; i < COUNT; i++) {
+			Mat4 matrix = i % 10 == 3 ? singular() : matrix(Kind.GENERAL);
+			System.arraycopy(matrix.elements, 0, src, i * 16, 16);
+		}
+		assertEquals(5, Mat4.normal(src, dest, 0, COUNT));
+		for (int i = 0; i < COUNT; i++) {
+			Mat4 matrix = matrix(src, i);
+			if (i % 10 == 3) {
+				assertThrows(ArithmeticException.class, () -> Mat4.normal(matrix, new Mat4()));
+				assertNaN(matrix(dest, i));
+			} else {
+				assertArrayEquals(Mat4.normal(matrix, new Mat4()).elements, matrix(dest, i).elements, 0.0f);
+			}
+		}
+	}
+
+	@Test
+	void determinantMatchesLaplaceExpansionForAllKinds() {
+		for (int n = 0; n < 200; n++) {
+			for (Kind kind : Kind.values()) {
+				Mat4 matrix = matrix(kind);
+				double expected = laplace(toDouble(matrix), 4);
+				assertEquals(expected, matrix.determinant(), 1e-4 * Math.max(1.0, Math.abs(expected)), kind.name());
+				assertEquals(general(matrix).determinant(), matrix.determinant(),
+						1e-5f * Math.max(1.0f, Math.abs((float) expected)), kind.name());
+			}
+		}
+		assertEquals(0.0f, singular().determinant(), 0.0f);
+	}
+
+	@Test
+	void batchDeterminantMatchesSingleMatrices() {
+		float[] src = new float[COUNT * 16], dest = new float[COUNT];
+		for (int i = 0; i < COUNT; i++) {
+			System.arraycopy(matrix(Kind.GENERAL).elements, 0, src, i * 16, 16);
+		}
+		Mat4.determinant(src, dest, 2, COUNT - 2);
+		assertEquals(0.0f, dest[0], 0.0f);
+		assertEquals(0.0f, dest[1], 0.0f);
+		for (int i = 2; i < COUNT; i++) {
+			assertEquals(matrix(src, i).determinant(), dest[i], 0.0f, "matrix " + i);
+		}
+	}
+
+	@Test
+	void batchInvertMatchesSingleMatricesAndCountsSingularOnes() {
+		float[] src = new float[COUNT * 16], dest = new float[COUNT * 16];
+		for (int i = 0; i < COUNT; i++) {
+			Mat4 matrix = i % 7 == 0 ? singular() : matrix(Kind.GENERAL);
+			System.arraycopy(matrix.elements, 0, src, i * 16, 16);
+		}
+		assertEquals(8, Mat4.invert(src, dest, 0, COUNT));
+		for (int i = 0; i < COUNT; i++) {
+			Mat4 matrix = matrix(src, i);
+			if (i % 7 == 0) {
+				assertThrows(ArithmeticException.class, () -> Mat4.invert(matrix, new Mat4()));
+				assertNaN(matrix(dest, i));
+			} else {
+				assertArrayEquals(Mat4.invert(matrix, new Mat4()).elements, matrix(dest, i).elements, 0.0f);
+			}
+		}
+		// dest may be src, and only the range is touched
+		float[] copy = src.clone();
+		assertEquals(1, Mat4.invert(copy, copy, 6, 3));
+		assertArrayEquals(matrix(src, 5).elements, matrix(copy, 5).elements, 0.0f);
+		assertNaN(matrix(copy, 7));
+		assertArrayEquals(Mat4.invert(matrix(src, 8), new Mat4()).elements, matrix(copy, 8).elements, 0.0f);
+		assertArrayEquals(matrix(src, 9).elements, matrix(copy, 9).elements, 0.0f);
+	}
+
+	// Internals
+
+	private float next() {
+		return random.nextFloat() * 4.0f - 2.0f;
+	}
+
+	/**
+	 * @return a random rotation followed by a translation, AFFINE or GENERAL
+	 */
+	private Mat4 rigid(boolean general) {
+		Mat4 rigid = general ? Mat4.Rotation(180.0f * next(), 180.0f * next(), 180.0f * next())
+				: Mat4.Rotation(180.0f * next(), 180.0f * next(), 180.0f * next(), new Mat4());
+		for (int i = 12; i < 15; i++) {
+			rigid.elements[i] = 5.0f * next();
+		}
+		return rigid;
+	}
+
+	/**
+	 * @return a random matrix of a kind, with that kind set
+	 */
+	private Mat4 matrix(Kind kind) {
+		switch (kind) {
+		case IDENTITY:
+			return Mat4.Identity(new Mat4());
+		case TRANSLATION:
+			return Mat4.Translation(new Vec3(next(), next(), next()), new Mat4());
+		case SCALE:
+			return Mat4.Scale(new Vec3(next(), next(), next()), new Mat4());
+		case AFFINE:
+			Mat4 affine = Mat4.Rotation(360.0f * next(), 360.0f * next(), 360.0f * next(), new Mat4());
+			for (int i = 0; i < 3; i++) {
+				affine.elements[i] *= 1.5f;
+				affine.elements[12 + i] = next();
+			}
+			return affine;
+		default:
+			Mat4 general = new Mat4();
+			for (int i = 0; i < 16; i++) {
+				general.elements[i] = next();
+			}
+			return general;
+		}
+	}
+
+	/**
+	 * @return a random GENERAL matrix with a zero third column, so that its
+	 *         determinant is exactly 0
+	 */
+	private Mat4 singular() {
+		Mat4 matrix = matrix(Kind.GENERAL);
+		Arrays.fill(matrix.elements, 8, 12, 0.0f);
+		return matrix;
+	}
+
+	/**
+	 * @return a copy of a matrix marked as GENERAL
+	 */
+	private static Mat4 general(Mat4 matrix) {
+		return matrix(matrix.elements, 0);
+	}
+
+	/**
+	 * @return a GENERAL matrix with the 16 floats of a packed matrix
+	 */
+	private static Mat4 matrix(float[] packed, int index) {
+		Mat4 matrix = new Mat4();
+		System.arraycopy(packed, index * 16, matrix.elements, 0, 16);
+		return matrix;
+	}
+
+	/**
+	 * @return the matrix as rows of doubles
+	 */
+	private static double[][] toDouble(Mat4 matrix) {
+		double[][] rows = new double[4][4];
+		for (int row = 0; row < 4; row++) {
+			for (int column = 0; column < 4; column++) {
+				rows[row][column] = matrix.elements[column * 4 + row];
+			}
+		}
+		return rows;
+	}
+
+	/**
+	 * @return the determinant of the upper n * n part by cofactor expansion
+	 *         along the first row
+	 */
+	private static double laplace(double[][] m, int n) {
+		if (n == 1) {
+			return m[0][0];
+		}
+		double determinant = 0.0;
+		for (int column = 0; column < n; column++) {
+			double[][] minor = new double[n - 1][n - 1];
+			for (int row = 1; row < n; row++) {
+				for (int c = 0, k = 0; c < n; c++) {
+					if (c != column) {
+						minor[row - 1][k++] = m[row][c];
+					}
+				}
+			}
+			determinant += (column % 2 == 0 ? 1.0 : -1.0) * m[0][column] * laplace(minor, n - 1);
+		}
+		return determinant;
+	}
+
+	/**
+	 * @return the inverse of the upper 3 * 3 part as rows, from its adjugate
+	 */
+	private static double[][] inverse3(Mat4 matrix) {
+		double[][] m = toDouble(matrix), inverse = new double[3][3];
+		double determinant = laplace(m, 3);
+		for (int row = 0; row < 3; row++) {
+			for (int column = 0; column < 3; column++) {
+				int r0 = (column + 1) % 3, r1 = (column + 2) % 3, c0 = (row + 1) % 3, c1 = (row + 2) % 3;
+				inverse[row][column] = (m[r0][c0] * m[r1][c1] - m[r0][c1] * m[r1][c0]) / determinant;
+			}
+		}
+		return inverse;
+	}
+
+	private static void assertIdentity(Mat4 matrix) {
+		for (int i = 0; i < 16; i++) {
+			assertEquals(i % 5 == 0 ? 1.0f : 0.0f, matrix.elements[i], 1e-5f, "element " + i);
+		}
+	}
+
+	private static void assertClose(Mat4 expected, Mat4 actual) {
+		for (int i = 0; i < 16; i++) {
+			float tolerance = 1e-5f * Math.max(1.0f, Math.abs(expected.elements[i]));
+			assertEquals(expected.elements[i], actual.elements[i], tolerance, "element " + i);
+		}
+	}
+
+	private static void assertNaN(Mat4 matrix) {
+		for (float element : matrix.elements) {
+			assertEquals(Float.NaN, element);
+		}
+	}
+
+}
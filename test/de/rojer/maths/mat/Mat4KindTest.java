@@ -0,0 +1,181 @@
+package de.rojer.maths.mat;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+import de.rojer.maths.mat.Mat4.Kind;
+import de.rojer.maths.vec.Vec3;
+import de.rojer.maths.vec.Vec4;
+
+/**
+ * Tests that the kind-specific kernels of {@link Mat4} give the same results
+ * as the general ones, and that the kind is only set where documented
+ *
+ * @author Rojer
+ * @version 18.10.2026
+ */
+class Mat4KindTest {
+
+	private final Random random = new Random(9);
+
+	@Test
+	void factoriesReturnGeneralMatrices() throws CloneNotSupportedException {
+		Vec3 vector = new Vec3(1.0f, 2.0f, 3.0f);
+		assertEquals(Kind.GENERAL, Mat4.Identity().getKind());
+		assertEquals(Kind.GENERAL, Mat4.Translation(vector).getKind());
+		assertEquals(Kind.GENERAL, Mat4.Scale(vector).getKind());
+		assertEquals(Kind.GENERAL, Mat4.Rotation(10.0f, 20.0f, 30.0f).getKind());
+		assertEquals(Kind.GENERAL, Mat4.Orthographic(-1.0f, 1.0f, -1.0f, 1.0f, 0.1f, 100.0f).getKind());
+		assertEquals(Kind.GENERAL, ((Mat4) Mat4.Identity(new Mat4()).clone()).getKind());
+	}
+
+	@Test
+	void elementsOfFactoryResultsCanBeChanged() {
+		Mat4 identity = Mat4.Identity();
+		identity.elements[12] = 5.0f;
+		assertEquals(6.0f, identity.multiply(new Vec3(1.0f, 1.0f, 1.0f)).x);
+
+		Mat4 translation = Mat4.Translation(new Vec3(1.0f, 2.0f, 3.0f));
+		translation.elements[0] = 2.0f;
+		assertEquals(3.0f, translation.multiply(new Vec3(1.0f, 1.0f, 1.0f)).x);
+
+		Mat4 scale = Mat4.Scale(new Vec3(2.0f, 2.0f, 2.0f));
+		scale.elements[12] = 1.0f;
+		assertEquals(3.0f, scale.multiply(new Vec3(1.0f, 1.0f, 1.0f)).x);
+
+		Mat4 product = Mat4.Identity().cmultiply(Mat4.Identity());
+		product.elements[12] = 5.0f;
+		assertEquals(6.0f, product.multiply(new Vec3(1.0f, 1.0f, 1.0f)).x);
+	}
+
+	@Test
+	void destFactoriesSetTheKind() {
+		Vec3 vector = new Vec3(1.0f, 2.0f, 3.0f);
+		assertEquals(Kind.IDENTITY, Mat4.Identity(new Mat4()).getKind());
+		assertEquals(Kind.TRANSLATION, Mat4.Translation(vector, new Mat4()).getKind());
+		assertEquals(Kind.SCALE, Mat4.Scale(vector, new Mat4()).getKind());
+		assertEquals(Kind.AFFINE, Mat4.Rotation(10.0f, 20.0f, 30.0f, new Mat4()).getKind());
+		assertEquals(Kind.AFFINE, Mat4.Orthographic(-1.0f, 1.0f, -1.0f, 1.0f, 0.1f, 100.0f, new Mat4()).getKind());
+		assertArrayEquals(Mat4.Translation(vector).elements, Mat4.Translation(vector, new Mat4()).elements);
+		assertArrayEquals(Mat4.Scale(vector).elements, Mat4.Scale(vector, new Mat4()).elements);
+		assertArrayEquals(Mat4.Orthographic(-1.0f, 2.0f, -3.0f, 4.0f, 0.1f, 100.0f).elements,
+				Mat4.Orthographic(-1.0f, 2.0f, -3.0f, 4.0f, 0.1f, 100.0f, new Mat4()).elements);
+	}
+
+	@Test
+	void productsOfAllKindsMatchTheGeneralProduct() {
+		for (int n = 0; n < 200; n++) {
+			for (Kind kindA : Kind.values()) {
+				for (Kind kindB : Kind.values()) {
+					Mat4 a = matrix(kindA), b = matrix(kindB);
+					Mat4 expected = Mat4.mul(general(a), general(b), new Mat4());
+					Mat4 actual = Mat4.mul(a, b, new Mat4());
+					assertArrayEquals(expected.elements, actual.elements, 0.0f, kindA + " * " + kindB);
+					assertStructure(actual);
+				}
+			}
+		}
+	}
+
+	@Test
+	void transformsOfAllKindsMatchTheGeneralTransform() {
+		for (int n = 0; n < 200; n++) {
+			for (Kind kind : Kind.values()) {
+				Mat4 matrix = matrix(kind), general = general(matrix);
+				Vec3 point = new Vec3(next(), next(), next());
+				Vec3 expected3 = general.transform(point, new Vec3()), actual3 = matrix.transform(point, new Vec3());
+				assertEquals(expected3.x, actual3.x, 0.0f, kind.name());
+				assertEquals(expected3.y, actual3.y, 0.0f, kind.name());
+				assertEquals(expected3.z, actual3.z, 0.0f, kind.name());
+				Vec4 vector = new Vec4(next(), next(), next(), next());
+				Vec4 expected4 = general.transform(vector, new Vec4()), actual4 = matrix.transform(vector, new Vec4());
+				assertEquals(expected4.x, actual4.x, 0.0f, kind.name());
+				assertEquals(expected4.y, actual4.y, 0.0f, kind.name());
+				assertEquals(expected4.z, actual4.z, 0.0f, kind.name());
+				assertEquals(expected4.w, actual4.w, 0.0f, kind.name());
+			}
+		}
+	}
+
+	@Test
+	void inversesOfAllKindsMatchTheGeneralInverse() {
+		for (int n = 0; n < 200; n++) {
+			for (Kind kind : Kind.values()) {
+				Mat4 matrix = matrix(kind);
+				Mat4 expected = Mat4.invert(general(matrix), new Mat4());
+				Mat4 actual = Mat4.invert(matrix, new Mat4());
+				for (int i = 0; i < 16; i++) {
+					float tolerance = 1e-4f * Math.max(1.0f, Math.abs(expected.elements[i]));
+					assertEquals(expected.elements[i], actual.elements[i], tolerance, kind.name());
+				}
+				assertStructure(actual);
+			}
+		}
+	}
+
+	@Test
+	void updateKindFindsTheStructure() {
+		for (Kind kind : Kind.values()) {
+			assertEquals(kind, general(matrix(kind)).updateKind().getKind());
+		}
+	}
+
+	/**
+	 * @return a random matrix of a kind, with that kind set
+	 */
+	private Mat4 matrix(Kind kind) {
+		switch (kind) {
+		case IDENTITY:
+			return Mat4.Identity(new Mat4());
+		case TRANSLATION:
+			return Mat4.Translation(new Vec3(next(), next(), next()), new Mat4());
+		case SCALE:
+			return Mat4.Scale(new Vec3(next(), next(), next()), new Mat4());
+		case AFFINE:
+			Mat4 affine = Mat4.Rotation(360.0f * next(), 360.0f * next(), 360.0f * next(), new Mat4());
+			for (int i = 0; i < 3; i++) {
+				affine.elements[i] *= 1.5f;
+				affine.elements[12 + i] = next();
+			}
+			return affine;
+		default:
+			Mat4 general = new Mat4();
+			for (int i = 0; i < 16; i++) {
+				general.elements[i] = next();
+			}
+			return general;
+		}
+	}
+
+	/**
+	 * @return a copy of a matrix marked as GENERAL
+	 */
+	private static Mat4 general(Mat4 matrix) {
+		Mat4 copy = new Mat4();
+		System.arraycopy(matrix.elements, 0, copy.elements, 0, 16);
+		return copy;
+	}
+
+	/**
+	 * Checks that the elements of a matrix have the structure of its kind
+	 */
+	private static void assertStructure(Mat4 matrix) {
+		Kind kind = matrix.getKind();
+		if (kind != Kind.GENERAL) {
+			Kind actual = general(matrix).updateKind().getKind();
+			boolean valid = actual.ordinal() <= kind.ordinal()
+					&& (actual != Kind.TRANSLATION || kind != Kind.SCALE)
+					&& (actual != Kind.SCALE || kind != Kind.TRANSLATION);
+			assertEquals(true, valid, "Marked " + kind + ", but is " + actual);
+		}
+	}
+
+	private float next() {
+		return random.nextFloat() * 4.0f - 2.0f;
+	}
+
+}
@@ -0,0 +1,123 @@
+package de.rojer.maths.mat;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+import de.rojer.maths.vec.Vec4;
+
+/**
+ * Tests the batched solver of {@link Mat4} against inverting the matrices, and
+ * that singular systems are flagged
+ *
+ * @author Rojer
+ * @version 18.10.2026
+ */
+class Mat4SolveTest {
+
+	private static final int SYSTEMS = 5000;
+
+	private final Random random = new Random(25);
+
+	@Test
+	void solveMatchesInvertAndTransform() {
+		float[] matrices = new float[SYSTEMS * 16], vectors = new float[SYSTEMS * 4];
+		fill(matrices, vectors);
+		float[] solutions = new float[SYSTEMS * 4];
+		boolean[] singular = new boolean[SYSTEMS];
+		assertEquals(0, Mat4.solve(matrices, vectors, solutions, 0, SYSTEMS, singular));
+		Mat4 matrix = new Mat4();
+		Vec4 expected = new Vec4();
+		for (int i = 0; i < SYSTEMS; i++) {
+			assertFalse(singular[i]);
+			System.arraycopy(matrices, i * 16, matrix.elements, 0, 16);
+			matrix.updateKind();
+			Vec4 vector = new Vec4(vectors[i * 4], vectors[i * 4 + 1], vectors[i * 4 + 2], vectors[i * 4 + 3]);
+			matrix.cinvert().transform(vector, expected);
+			assertEquals(expected.x, solutions[i * 4], 1e-4f);
+			assertEquals(expected.y, solutions[i * 4 + 1], 1e-4f);
+			assertEquals(expected.z, solutions[i * 4 + 2], 1e-4f);
+			assertEquals(expected.w, solutions[i * 4 + 3], 1e-4f);
+
+			// The residual of the solution
+			Vec4 product = matrix.transform(new Vec4(solutions[i * 4], solutions[i * 4 + 1], solutions[i * 4 + 2],
+					solutions[i * 4 + 3]), new Vec4());
+			assertEquals(vector.x, product.x, 1e-4f);
+			assertEquals(vector.w, product.w, 1e-4f);
+		}
+	}
+
+	@Test
+	void solveFlagsSingularSystems() {
+		float[] matrices = new float[SYSTEMS * 16], vectors = new float[SYSTEMS * 4];
+		fill(matrices, vectors);
+		for (int i = 0; i < SYSTEMS; i += 100) {
+			// A zero column
+			Arrays.fill(matrices, i * 16, i * 16 + 4, 0.0f);
+		}
+		float[] solutions = new float[SYSTEMS * 4];
+		boolean[] singular = new boolean[SYSTEMS];
+		assertEquals(SYSTEMS / 100, Mat4.solve(matrices, vectors, solutions, 0, SYSTEMS, singular));
+		for (int i = 0; i < SYSTEMS; i++) {
+			assertEquals(i % 100 == 0, singular[i]);
+			assertEquals(i % 100 == 0, Float.isNaN(solutions[i * 4]));
+			assertEquals(i % 100 == 0, Float.isNaN(solutions[i * 4 + 3]));
+		}
+		// Without a mask, in place
+		assertEquals(SYSTEMS / 100, Mat4.solve(matrices, vectors, vectors, 0, SYSTEMS, null));
+		assertArrayEquals(solutions, vectors);
+	}
+
+	@Test
+	void objectsMatchPackedArrays() {
+		float[] matrices = new float[SYSTEMS * 16], vectors = new float[SYSTEMS * 4];
+		fill(matrices, vectors);
+		Arrays.fill(matrices, 16 * 7, 16 * 8, 0.0f);
+		float[] solutions = new float[SYSTEMS * 4];
+		boolean[] singular = new boolean[SYSTEMS];
+		Mat4.solve(matrices, vectors, solutions, 0, SYSTEMS, singular);
+
+		Mat4[] objects = new Mat4[SYSTEMS];
+		Vec4[] rightHandSides = new Vec4[SYSTEMS];
+		for (int i = 0; i < SYSTEMS; i++) {
+			objects[i] = new Mat4();
+			System.arraycopy(matrices, i * 16, objects[i].elements, 0, 16);
+			objects[i].updateKind();
+			rightHandSides[i] = new Vec4(vectors[i * 4], vectors[i * 4 + 1], vectors[i * 4 + 2], vectors[i * 4 + 3]);
+		}
+		boolean[] objectSingular = new boolean[SYSTEMS];
+		assertEquals(1, Mat4.solve(objects, rightHandSides, rightHandSides, 0, SYSTEMS, objectSingular));
+		assertArrayEquals(singular, objectSingular);
+		assertTrue(objectSingular[7]);
+		float[] objectSolutions = new float[SYSTEMS * 4];
+		for (int i = 0; i < SYSTEMS; i++) {
+			objectSolutions[i * 4] = rightHandSides[i].x;
+			objectSolutions[i * 4 + 1] = rightHandSides[i].y;
+			objectSolutions[i * 4 + 2] = rightHandSides[i].z;
+			objectSolutions[i * 4 + 3] = rightHandSides[i].w;
+		}
+		assertArrayEquals(solutions, objectSolutions);
+	}
+
+	// Internals
+
+	/**
+	 * Fills well-conditioned matrices, random with a dominant diagonal, and
+	 * random vectors
+	 */
+	private void fill(float[] matrices, float[] vectors) {
+		for (int i = 0; i < matrices.length; i++) {
+			matrices[i] = random.nextFloat() * 2.0f - 1.0f + (i % 16 % 5 == 0 ? 4.0f : 0.0f);
+		}
+		for (int i = 0; i < vectors.length; i++) {
+			vectors[i] = random.nextFloat() * 2.0f - 1.0f;
+		}
+	}
+
+}
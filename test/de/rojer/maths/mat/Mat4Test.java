@@ -0,0 +1,113 @@
+package de.rojer.maths.mat;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+import de.rojer.maths.vec.Vec3;
+import de.rojer.maths.vec.Vec4;
+
+/**
+ * Tests for the products and transforms of {@link Mat4}
+ *
+ * @author Rojer
+ * @version 18.10.2026
+ */
+class Mat4Test {
+
+	@Test
+	void multiplyMatchesTripleLoop() {
+		Random random = new Random(1);
+		for (int n = 0; n < 1000; n++) {
+			Mat4 a = random(random), b = random(random);
+			float[] expected = new float[16];
+			for (int row = 0; row < 4; row++) {
+				for (int column = 0; column < 4; column++) {
+					float sum = 0.0f;
+					for (int e = 0; e < 4; e++) {
+						sum += a.elements[e + row * 4] * b.elements[column + e * 4];
+					}
+					expected[column + row * 4] = sum;
+				}
+			}
+			assertArrayEquals(expected, a.cmultiply(b).elements);
+			assertArrayEquals(expected, a.multiply(b).elements);
+		}
+	}
+
+	@Test
+	void transformVec3AsPoint() {
+		Random random = new Random(2);
+		Mat4 m = random(random);
+		float[] e = m.elements;
+		Vec3 v = new Vec3(1.5f, -2.0f, 0.25f);
+		Vec3 result = m.multiply(v);
+		assertEquals(e[0] * v.x + e[4] * v.y + e[8] * v.z + e[12], result.x);
+		assertEquals(e[1] * v.x + e[5] * v.y + e[9] * v.z + e[13], result.y);
+		assertEquals(e[2] * v.x + e[6] * v.y + e[10] * v.z + e[14], result.z);
+	}
+
+	@Test
+	void transformVec4() {
+		Random random = new Random(3);
+		Mat4 m = random(random);
+		float[] e = m.elements;
+		Vec4 v = new Vec4(1.5f, -2.0f, 0.25f, 3.0f);
+		Vec4 result = m.multiply(v);
+		assertEquals(e[0] * v.x + e[4] * v.y + e[8] * v.z + e[12] * v.w, result.x);
+		assertEquals(e[1] * v.x + e[5] * v.y + e[9] * v.z + e[13] * v.w, result.y);
+		assertEquals(e[2] * v.x + e[6] * v.y + e[10] * v.z + e[14] * v.w, result.z);
+		assertEquals(e[3] * v.x + e[7] * v.y + e[11] * v.z + e[15] * v.w, result.w);
+	}
+
+	@Test
+	void translationMovesPoints() {
+		Vec3 result = Mat4.Translation(new Vec3(1.0f, 2.0f, 3.0f)).multiply(new Vec3(1.0f, 1.0f, 1.0f));
+		assertEquals(new Vec3(2.0f, 3.0f, 4.0f), result);
+	}
+
+	@Test
+	void mulMayWriteIntoItsInputs() {
+		Random random = new Random(4);
+		for (int n = 0; n < 100; n++) {
+			Mat4 a = random(random), b = random(random);
+			float[] expected = Mat4.mul(a, b, new Mat4()).elements.clone();
+			Mat4 left = copy(a);
+			assertArrayEquals(expected, Mat4.mul(left, b, left).elements);
+			Mat4 right = copy(b);
+			assertArrayEquals(expected, Mat4.mul(a, right, right).elements);
+		}
+	}
+
+	@Test
+	void transformMayWriteIntoItsInput() {
+		Random random = new Random(5);
+		Mat4 m = random(random);
+		Vec3 point = new Vec3(1.5f, -2.0f, 0.25f);
+		Vec3 expected3 = m.transform(point, new Vec3());
+		assertEquals(expected3, m.transform(point, point));
+		Vec4 vector = new Vec4(1.5f, -2.0f, 0.25f, 3.0f);
+		Vec4 expected4 = m.transform(vector, new Vec4());
+		m.transform(vector, vector);
+		assertEquals(expected4.w, vector.w);
+		assertEquals(expected4, vector);
+	}
+
+	static Mat4 copy(Mat4 matrix) {
+		Mat4 copy = new Mat4();
+		System.arraycopy(matrix.elements, 0, copy.elements, 0, 16);
+		return copy;
+	}
+
+	static Mat4 random(Random random) {
+		Mat4 m = new Mat4();
+		for (int i = 0; i < 16; i++) {
+			m.elements[i] = random.nextFloat() * 2.0f - 1.0f;
+		}
+		return m;
+	}
+
+}
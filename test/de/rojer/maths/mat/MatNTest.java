@@ -0,0 +1,174 @@
+package de.rojer.maths.mat;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+import de.rojer.maths.vec.VecN;
+
+/**
+ * Tests the blocked product of {@link MatN} against the triple loop, and the
+ * LU and Cholesky decompositions by their residuals
+ *
+ * @author Rojer
+ * @version 18.10.2026
+ */
+class MatNTest {
+
+	private final Random random = new Random(24);
+
+	@Test
+	void mulMatchesTripleLoop() {
+		// The second shape crosses the inner and the column blocks
+		int[][] shapes = { { 3, 5, 7 }, { 70, MatN.BLOCK_INNER + 44, MatN.BLOCK_COLUMNS + 18 }, { 1, 1, 1 } };
+		for (int[] shape : shapes) {
+			MatN a = random(shape[0], shape[1]), b = random(shape[1], shape[2]);
+			MatN product = MatN.mul(a, b, new MatN(shape[0], shape[2]));
+			MatN expected = naive(a, b);
+			for (int e = 0; e < expected.elements.length; e++) {
+				assertEquals(expected.elements[e], product.elements[e], 1e-12 * shape[1]);
+			}
+		}
+	}
+
+	@Test
+	void mulOfRowsMatchesFullCall() {
+		MatN a = random(40, 300), b = random(300, 20);
+		MatN full = MatN.mul(a, b, new MatN(40, 20)), parts = new MatN(40, 20);
+		for (int row = 0; row < 40; row += 7) {
+			MatN.mul(a, b, parts, row, Math.min(7, 40 - row));
+		}
+		assertArrayEquals(full.elements, parts.elements);
+	}
+
+	@Test
+	void mulRejectsWrongShapesAndAliases() {
+		MatN a = random(4, 4), b = random(3, 4);
+		assertThrows(IllegalArgumentException.class, () -> MatN.mul(a, b, new MatN(4, 4)));
+		assertThrows(IllegalArgumentException.class, () -> MatN.mul(a, a, new MatN(4, 3)));
+		assertThrows(IllegalArgumentException.class, () -> MatN.mul(a, a, a));
+	}
+
+	@Test
+	void transposeSwapsRowsAndColumns() {
+		MatN matrix = random(37, 70), transposed = MatN.transpose(matrix, new MatN(70, 37));
+		for (int r = 0; r < 37; r++) {
+			for (int c = 0; c < 70; c++) {
+				assertEquals(matrix.get(r, c), transposed.get(c, r), 0.0);
+			}
+		}
+	}
+
+	@Test
+	void luSolvesAndInverts() {
+		int n = 60;
+		MatN matrix = random(n, n);
+		LuDecomposition lu = new LuDecomposition(matrix);
+		VecN b = new VecN(n);
+		for (int i = 0; i < n; i++) {
+			b.set(i, random.nextDouble());
+		}
+		assertResidual(matrix, lu.solve(b, new VecN(n)), b);
+
+		MatN rhs = random(n, 3), x = lu.solve(rhs, new MatN(n, 3));
+		assertClose(rhs, naive(matrix, x), 1e-9);
+		assertClose(MatN.Identity(n), naive(matrix, lu.inverse(new MatN(n, n))), 1e-9);
+	}
+
+	@Test
+	void luDeterminantHasPivotSign() {
+		// Swapping the rows of diag(2, 3, 4) flips the sign once
+		MatN matrix = new MatN(3, 3, new double[] { 0, 3, 0, 2, 0, 0, 0, 0, 4 });
+		assertEquals(-24.0, new LuDecomposition(matrix).determinant(), 1e-12);
+		MatN a = random(5, 5), b = random(5, 5);
+		double product = new LuDecomposition(a).determinant() * new LuDecomposition(b).determinant();
+		assertEquals(product, new LuDecomposition(naive(a, b)).determinant(), 1e-9 * Math.abs(product));
+	}
+
+	@Test
+	void luReportsSingularMatrices() {
+		MatN matrix = random(4, 4);
+		for (int c = 0; c < 4; c++) {
+			matrix.set(3, c, matrix.get(0, c) + matrix.get(1, c));
+		}
+		LuDecomposition lu = new LuDecomposition(matrix);
+		assertTrue(lu.isSingular());
+		assertThrows(ArithmeticException.class, () -> lu.solve(new VecN(4), new VecN(4)));
+	}
+
+	@Test
+	void choleskySolvesPositiveDefiniteSystems() {
+		int n = 50;
+		MatN a = random(n, n);
+		MatN spd = naive(MatN.transpose(a, new MatN(n, n)), a);
+		for (int i = 0; i < n; i++) {
+			spd.set(i, i, spd.get(i, i) + n);
+		}
+		CholeskyDecomposition cholesky = new CholeskyDecomposition(spd);
+		MatN l = cholesky.getL(new MatN(n, n));
+		assertClose(spd, naive(l, MatN.transpose(l, new MatN(n, n))), 1e-9);
+
+		VecN b = new VecN(n);
+		for (int i = 0; i < n; i++) {
+			b.set(i, random.nextDouble());
+		}
+		assertResidual(spd, cholesky.solve(b, new VecN(n)), b);
+		MatN rhs = random(n, 4);
+		assertClose(rhs, naive(spd, cholesky.solve(rhs, new MatN(n, 4))), 1e-9);
+
+		double determinant = new LuDecomposition(spd).determinant();
+		assertEquals(determinant, cholesky.determinant(), 1e-9 * Math.abs(determinant));
+	}
+
+	@Test
+	void choleskyRejectsIndefiniteMatrices() {
+		MatN matrix = new MatN(2, 2, new double[] { 1, 2, 2, 1 });
+		assertThrows(ArithmeticException.class, () -> new CholeskyDecomposition(matrix));
+	}
+
+	// Internals
+
+	private MatN random(int rows, int columns) {
+		MatN matrix = new MatN(rows, columns);
+		for (int e = 0; e < matrix.elements.length; e++) {
+			matrix.elements[e] = random.nextDouble() * 2.0 - 1.0;
+		}
+		return matrix;
+	}
+
+	/**
+	 * @return a * b by the triple loop
+	 */
+	private static MatN naive(MatN a, MatN b) {
+		MatN dest = new MatN(a.rows(), b.columns());
+		for (int i = 0; i < a.rows(); i++) {
+			for (int j = 0; j < b.columns(); j++) {
+				double sum = 0.0;
+				for (int k = 0; k < a.columns(); k++) {
+					sum += a.get(i, k) * b.get(k, j);
+				}
+				dest.set(i, j, sum);
+			}
+		}
+		return dest;
+	}
+
+	private static void assertResidual(MatN matrix, VecN x, VecN b) {
+		VecN product = matrix.transform(x, new VecN(b.size()));
+		for (int i = 0; i < b.size(); i++) {
+			assertEquals(b.get(i), product.get(i), 1e-9);
+		}
+	}
+
+	private static void assertClose(MatN expected, MatN actual, double tolerance) {
+		for (int e = 0; e < expected.elements.length; e++) {
+			assertEquals(expected.elements[e], actual.elements[e], tolerance);
+		}
+	}
+
+}
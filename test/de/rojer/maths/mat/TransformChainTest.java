@@ -0,0 +1,156 @@
+package de.rojer.maths.mat;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+import de.rojer.maths.vec.Vec3;
+import de.rojer.maths.vec.Vec3Buffer;
+import de.rojer.maths.vec.Vec4;
+
+/**
+ * Tests that {@link TransformChain} applies its steps in order, and when a
+ * folded chain sees changes of its matrices
+ *
+ * @author Rojer
+ * @version 18.10.2026
+ */
+class TransformChainTest {
+
+	private final Random random = new Random(21);
+	private final Mat4 model = Mat4.Rotation(10.0f, 20.0f, 30.0f)
+			.multiply(Mat4.Translation(new Vec3(1.0f, 2.0f, 3.0f)));
+	private final Mat4 view = Mat4.Translation(new Vec3(0.0f, 0.0f, -10.0f))
+			.multiply(Mat4.Rotation(5.0f, -40.0f, 0.0f));
+	private final Mat4 projection = Mat4.Perspective(60.0f, 1.5f, 0.1f, 100.0f);
+
+	@Test
+	void appliesStepsInOrder() {
+		TransformChain chain = new TransformChain().then(model).translate(1.0f, -2.0f, 0.5f).scale(2.0f, 3.0f, 4.0f)
+				.then(view);
+		for (int i = 0; i < 100; i++) {
+			Vec4 in = new Vec4(value(), value(), value(), 1.0f);
+			Vec4 expected = view.transform(scale(translate(model.transform(in, new Vec4()))), new Vec4());
+			Vec4 actual = chain.apply(in, new Vec4());
+			assertEquals(expected.x, actual.x, 1e-4f);
+			assertEquals(expected.y, actual.y, 1e-4f);
+			assertEquals(expected.z, actual.z, 1e-4f);
+			assertEquals(expected.w, actual.w, 1e-4f);
+		}
+	}
+
+	@Test
+	void projectDividesByW() {
+		TransformChain chain = new TransformChain().then(model).then(view).then(projection).project();
+		Vec3Buffer points = new Vec3Buffer(100), projected = new Vec3Buffer(100);
+		for (int i = 0; i < 100; i++) {
+			points.set(i, value(), value(), value());
+		}
+		chain.apply(points, projected, 0, 100);
+		Vec3 point = new Vec3(), single = new Vec3();
+		for (int i = 0; i < 100; i++) {
+			points.get(i, point);
+			Vec4 clip = projection.transform(
+					view.transform(model.transform(new Vec4(point.x, point.y, point.z, 1.0f), new Vec4()), new Vec4()),
+					new Vec4());
+			chain.apply(point, single);
+			assertEquals(clip.x / clip.w, single.x, 1e-4f);
+			assertEquals(clip.y / clip.w, single.y, 1e-4f);
+			assertEquals(clip.z / clip.w, single.z, 1e-4f);
+			assertEquals(single.x, projected.x[i], 1e-6f);
+			assertEquals(single.y, projected.y[i], 1e-6f);
+			assertEquals(single.z, projected.z[i], 1e-6f);
+		}
+	}
+
+	@Test
+	void projectsInPlace() {
+		TransformChain chain = new TransformChain().then(model).then(view).then(projection).project();
+		Vec3Buffer points = new Vec3Buffer(100), projected = new Vec3Buffer(100);
+		for (int i = 0; i < 100; i++) {
+			points.set(i, value(), value(), value());
+		}
+		chain.apply(points, projected, 0, 100);
+		chain.apply(points, points, 10, 80);
+		for (int i = 0; i < 100; i++) {
+			boolean inRange = i >= 10 && i < 90;
+			assertEquals(inRange, points.x[i] == projected.x[i], "x of " + i);
+			assertEquals(inRange, points.y[i] == projected.y[i], "y of " + i);
+			assertEquals(inRange, points.z[i] == projected.z[i], "z of " + i);
+		}
+	}
+
+	@Test
+	void foldMayWriteIntoRecordedMatrices() {
+		Mat4 first = model.cmultiply(Mat4.Identity()), second = view.cmultiply(Mat4.Identity());
+		Mat4 third = projection.cmultiply(Mat4.Identity());
+		TransformChain chain = new TransformChain().then(first).then(second).then(third);
+		Mat4 expected = Mat4.mul(Mat4.mul(model, view, new Mat4()), projection, new Mat4());
+		assertArrayEquals(expected.elements, chain.fold(new Mat4()).elements, 0.0f);
+		// The last step is read after dest was written first
+		assertArrayEquals(expected.elements, chain.fold(third).elements, 0.0f);
+		// The first step is read before, the later ones after dest was written
+		chain = new TransformChain().then(first).then(second).then(projection);
+		assertArrayEquals(expected.elements, chain.fold(first).elements, 0.0f);
+		assertArrayEquals(Mat4.Identity().elements, new TransformChain().fold(new Mat4()).elements, 0.0f);
+	}
+
+	@Test
+	void foldedChainKeepsProductUntilItChanges() {
+		Mat4 moving = Mat4.Translation(new Vec3(1.0f, 0.0f, 0.0f));
+		TransformChain chain = new TransformChain().then(moving);
+		Vec3 origin = new Vec3(), result = new Vec3();
+		assertEquals(1.0f, chain.apply(origin, result).x, 0.0f);
+
+		// Unfolded, the chain reads the matrix at every apply
+		moving.elements[12] = 2.0f;
+		assertEquals(2.0f, chain.apply(origin, result).x, 0.0f);
+
+		// Folded, it keeps the product until it is folded again
+		chain.fold();
+		moving.elements[12] = 3.0f;
+		assertEquals(2.0f, chain.apply(origin, result).x, 0.0f);
+		assertEquals(2.0f, chain.apply(new Vec4(0.0f, 0.0f, 0.0f, 1.0f), new Vec4()).x, 0.0f);
+		chain.fold();
+		assertEquals(3.0f, chain.apply(origin, result).x, 0.0f);
+
+		// Recording a step folds per apply again
+		chain.translate(0.0f, 1.0f, 0.0f);
+		moving.elements[12] = 4.0f;
+		assertEquals(4.0f, chain.apply(origin, result).x, 0.0f);
+		assertEquals(1.0f, result.y, 0.0f);
+		chain.fold().clear();
+		assertEquals(0.0f, chain.apply(origin, result).x, 0.0f);
+	}
+
+	@Test
+	void foldedChainMatchesUnfolded() {
+		TransformChain chain = new TransformChain().then(model).then(view).then(projection).project();
+		TransformChain folded = new TransformChain().then(model).then(view).then(projection).project().fold();
+		for (int i = 0; i < 100; i++) {
+			Vec3 point = new Vec3(value(), value(), value());
+			Vec3 expected = chain.apply(point, new Vec3()), actual = folded.apply(point, new Vec3());
+			assertArrayEquals(new float[] { expected.x, expected.y, expected.z },
+					new float[] { actual.x, actual.y, actual.z }, 0.0f);
+		}
+	}
+
+	// Internals
+
+	private float value() {
+		return random.nextFloat() * 2.0f - 1.0f;
+	}
+
+	private static Vec4 translate(Vec4 vector) {
+		return new Vec4(vector.x + 1.0f * vector.w, vector.y - 2.0f * vector.w, vector.z + 0.5f * vector.w,
+				vector.w);
+	}
+
+	private static Vec4 scale(Vec4 vector) {
+		return new Vec4(vector.x * 2.0f, vector.y * 3.0f, vector.z * 4.0f, vector.w);
+	}
+
+}
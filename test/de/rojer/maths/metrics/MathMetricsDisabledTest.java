@@ -0,0 +1,53 @@
+package de.rojer.maths.metrics;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import java.lang.management.ManagementFactory;
+
+import javax.management.ObjectName;
+
+import org.junit.jupiter.api.Test;
+
+import de.rojer.maths.mat.Mat4;
+
+/**
+ * Tests that {@link MathMetrics} counts nothing in a JVM started without
+ * {@value MathMetrics#ENABLED_PROPERTY}, as the regular test task is
+ *
+ * @author Rojer
+ * @version 18.10.2026
+ */
+class MathMetricsDisabledTest {
+
+	@Test
+	void disabledWithoutTheSystemProperty() {
+		assertFalse(MathMetrics.ENABLED);
+	}
+
+	@Test
+	void beginReturnsNullAndNothingIsCounted() throws Exception {
+		MetricsSnapshot before = MathMetrics.snapshot();
+		assertNull(MathMetrics.begin("Test.kernel", 42));
+		MathMetrics.end(null);
+		MathMetrics.count(MathCounter.MAT4_INVERT);
+		MathMetrics.count(MathCounter.BULK_ELEMENTS, 10);
+		Mat4 matrix = Mat4.Rotation(10.0f, 20.0f, 30.0f);
+		matrix.cmultiply(matrix).clone();
+		Mat4.mul(new float[16], new float[16], new float[16], 0, 1);
+
+		MetricsSnapshot after = MathMetrics.snapshot();
+		for (MathCounter counter : MathCounter.values()) {
+			assertEquals(0, after.since(before).get(counter), counter.name());
+			assertEquals(0, MathMetrics.get(counter), counter.name());
+		}
+	}
+
+	@Test
+	void mBeanReportsDisabled() throws Exception {
+		ObjectName name = MathMetrics.registerMBean();
+		assertEquals(Boolean.FALSE, ManagementFactory.getPlatformMBeanServer().getAttribute(name, "Enabled"));
+	}
+
+}
@@ -0,0 +1,153 @@
+package de.rojer.maths.metrics;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.lang.management.ManagementFactory;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import javax.management.JMX;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import javax.management.openmbean.TabularData;
+
+import org.junit.jupiter.api.Test;
+
+import de.rojer.maths.mat.Mat4;
+import de.rojer.maths.vec.Vec3;
+
+/**
+ * Tests the counters of {@link MathMetrics} while they are enabled. Gradle
+ * runs this class in the metricsTest task, in a JVM of its own started with
+ * the system property {@value MathMetrics#ENABLED_PROPERTY} set to true.
+ *
+ * @author Rojer
+ * @version 18.10.2026
+ */
+class MathMetricsTest {
+
+	@Test
+	void enabledByTheSystemProperty() {
+		assertTrue(MathMetrics.ENABLED, "Run with -D" + MathMetrics.ENABLED_PROPERTY + "=true");
+	}
+
+	@Test
+	void countsMultiplyCmultiplyAndClone() throws CloneNotSupportedException {
+		Mat4 a = Mat4.Rotation(10.0f, 20.0f, 30.0f), b = Mat4.Translation(new Vec3(1.0f, 2.0f, 3.0f));
+		MetricsSnapshot before = MathMetrics.snapshot();
+		Mat4.mul(a, b, new Mat4());
+		a.cmultiply(b);
+		a.cmultiply(b);
+		a.multiply(b);
+		a.clone();
+		new Vec3(1.0f, 2.0f, 3.0f).clone();
+		MetricsSnapshot frame = MathMetrics.snapshot().since(before);
+
+		assertEquals(4, frame.get(MathCounter.MAT4_MULTIPLY));
+		assertEquals(3, frame.get(MathCounter.MAT4_COPY));
+		assertEquals(1, frame.get(MathCounter.VECTOR_COPY));
+		assertEquals(0, frame.get(MathCounter.MAT4_INVERT));
+		assertEquals(0, frame.get(MathCounter.BULK_CALL));
+		assertEquals(before.get(MathCounter.MAT4_MULTIPLY) + 4, MathMetrics.get(MathCounter.MAT4_MULTIPLY));
+	}
+
+	@Test
+	void sinceGivesTheOperationsBetweenSnapshots() {
+		Mat4 matrix = Mat4.Rotation(10.0f, 20.0f, 30.0f);
+		MetricsSnapshot first = MathMetrics.snapshot();
+		matrix.transform(new Vec3(), new Vec3());
+		MetricsSnapshot second = MathMetrics.snapshot();
+		matrix.cinvert();
+		Mat4.mul(new float[3 * 16], new float[3 * 16], new float[3 * 16], 0, 3);
+		MetricsSnapshot third = MathMetrics.snapshot();
+
+		MetricsSnapshot firstFrame = second.since(first), secondFrame = third.since(second);
+		assertEquals(1, firstFrame.get(MathCounter.MAT4_TRANSFORM));
+		assertEquals(0, firstFrame.get(MathCounter.MAT4_INVERT));
+		assertEquals(0, secondFrame.get(MathCounter.MAT4_TRANSFORM));
+		assertEquals(1, secondFrame.get(MathCounter.MAT4_INVERT));
+		assertEquals(1, secondFrame.get(MathCounter.MAT4_COPY));
+		assertEquals(1, secondFrame.get(MathCounter.BULK_CALL));
+		assertEquals(3, secondFrame.get(MathCounter.BULK_ELEMENTS));
+		// Both frames together are the difference of the outer snapshots
+		for (MathCounter counter : MathCounter.values()) {
+			assertEquals(third.since(first).get(counter), firstFrame.get(counter) + secondFrame.get(counter));
+			assertEquals(-firstFrame.get(counter), first.since(second).get(counter));
+		}
+		assertTrue(secondFrame.toString().contains("BULK_ELEMENTS=3"), secondFrame.toString());
+	}
+
+	@Test
+	void countsFromManyThreads() throws Exception {
+		int threads = 4, operations = 10000;
+		Mat4 a = Mat4.Rotation(10.0f, 20.0f, 30.0f);
+		MetricsSnapshot before = MathMetrics.snapshot();
+		ExecutorService executor = Executors.newFixedThreadPool(threads);
+		try {
+			Future<?>[] futures = new Future<?>[threads];
+			for (int t = 0; t < threads; t++) {
+				futures[t] = executor.submit(() -> {
+					Mat4 dest = new Mat4();
+					for (int i = 0; i < operations; i++) {
+						Mat4.mul(a, a, dest);
+					}
+				});
+			}
+			for (Future<?> future : futures) {
+				future.get();
+			}
+		} finally {
+			executor.shutdown();
+			executor.awaitTermination(10, TimeUnit.SECONDS);
+		}
+		assertEquals(threads * operations, MathMetrics.snapshot().since(before).get(MathCounter.MAT4_MULTIPLY));
+	}
+
+	@Test
+	void beginCountsTheBulkCall() {
+		MetricsSnapshot before = MathMetrics.snapshot();
+		BulkKernelEvent event = MathMetrics.begin("Test.kernel", 42);
+		assertNotNull(event);
+		MathMetrics.end(event);
+		MathMetrics.end(null);
+		MetricsSnapshot call = MathMetrics.snapshot().since(before);
+		assertEquals(1, call.get(MathCounter.BULK_CALL));
+		assertEquals(42, call.get(MathCounter.BULK_ELEMENTS));
+	}
+
+	@Test
+	void registerMBeanIsIdempotentAndReadable() throws Exception {
+		ObjectName name = MathMetrics.registerMBean();
+		assertEquals(name, MathMetrics.registerMBean());
+		assertEquals(new ObjectName(MathMetrics.OBJECT_NAME), name);
+		MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+		assertTrue(server.isRegistered(name));
+		assertEquals(1, server.queryNames(name, null).size());
+
+		assertEquals(Boolean.TRUE, server.getAttribute(name, "Enabled"));
+		TabularData table = (TabularData) server.getAttribute(name, "Counters");
+		assertEquals(MathCounter.values().length, table.size());
+
+		MathMetricsMXBean proxy = JMX.newMXBeanProxy(server, name, MathMetricsMXBean.class);
+		Mat4.mul(Mat4.Identity(), Mat4.Identity(), new Mat4());
+		Map<String, Long> counters = proxy.getCounters();
+		assertEquals(MathCounter.values().length, counters.size());
+		assertEquals(MathMetrics.get(MathCounter.MAT4_MULTIPLY), counters.get("MAT4_MULTIPLY").longValue());
+	}
+
+	@Test
+	void resetSetsEveryCounterToZero() {
+		Mat4.mul(Mat4.Identity(), Mat4.Identity(), new Mat4());
+		assertTrue(MathMetrics.get(MathCounter.MAT4_MULTIPLY) > 0);
+		MathMetrics.reset();
+		for (MathCounter counter : MathCounter.values()) {
+			assertEquals(0, MathMetrics.get(counter), counter.name());
+		}
+	}
+
+}
@@ -0,0 +1,227 @@
+package de.rojer.maths.offheap;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.FloatBuffer;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+
+import de.rojer.maths.mat.Mat4;
+import de.rojer.maths.vec.Vec2;
+import de.rojer.maths.vec.Vec3;
+import de.rojer.maths.vec.Vec4;
+
+/**
+ * Tests the allocation of {@link OffHeapArena}, that its views give the same
+ * results as the heap Mat4 and vectors, and that the exported buffers share
+ * the memory of the arena
+ *
+ * @author Rojer
+ * @version 18.10.2026
+ */
+class OffHeapArenaTest {
+
+	private final Random random = new Random(5);
+
+	@Test
+	void allocatesAlignedAndBackToBack() {
+		OffHeapArena arena = new OffHeapArena(100);
+		assertEquals(100, arena.capacity());
+		assertEquals(0, arena.vec3().offset());
+		// Matrices are aligned to 16 floats, Vec4 to 4, Vec2 and Vec3 not at all
+		assertEquals(16, arena.mat4().offset());
+		assertEquals(32, arena.vec2().offset());
+		assertEquals(36, arena.vec4().offset());
+		assertEquals(40, arena.vec3().offset());
+		assertEquals(48, arena.allocateMat4s(3));
+		assertEquals(96, arena.used());
+		assertThrows(IllegalStateException.class, () -> arena.allocate(5, 1));
+		assertEquals(96, arena.allocate(4, 1));
+		assertEquals(100, arena.used());
+		assertThrows(IllegalStateException.class, () -> arena.vec2());
+
+		arena.reset();
+		assertEquals(0, arena.used());
+		assertEquals(0, arena.mat4().offset());
+	}
+
+	@Test
+	void resetClearsTheValues() {
+		OffHeapArena arena = new OffHeapArena(32);
+		Vec3View vector = arena.vec3().set(1.0f, 2.0f, 3.0f);
+		arena.reset();
+		assertExact(new Vec3(), vector.get(new Vec3()));
+	}
+
+	@Test
+	void vectorViewsRoundTrip() {
+		OffHeapArena arena = new OffHeapArena(64);
+		Vec2 vec2 = new Vec2(value(), value());
+		Vec3 vec3 = new Vec3(value(), value(), value());
+		Vec4 vec4 = new Vec4(value(), value(), value(), value());
+		Vec2View view2 = arena.vec2().set(vec2);
+		Vec3View view3 = arena.vec3().set(vec3);
+		Vec4View view4 = arena.vec4().set(vec4);
+		Vec2 back2 = view2.get(new Vec2());
+		assertArrayEquals(new float[] { vec2.x, vec2.y }, new float[] { back2.x, back2.y }, 0.0f);
+		assertEquals(vec2.y, view2.y(), 0.0f);
+		assertExact(vec3, view3.get(new Vec3()));
+		assertEquals(vec3.z, view3.z(), 0.0f);
+		assertExact(vec4, view4.get(new Vec4()));
+		assertEquals(vec4.w, view4.w(), 0.0f);
+	}
+
+	@Test
+	void matrixViewsMatchHeapMatrices() {
+		OffHeapArena arena = new OffHeapArena(256);
+		Mat4 a = randomMatrix(), b = randomMatrix();
+		Mat4View viewA = arena.mat4().set(a), viewB = arena.mat4().set(b), product = arena.mat4();
+		assertArrayEquals(a.elements, viewA.get(new Mat4()).elements, 0.0f);
+		assertEquals(a.elements[7], viewA.get(7), 0.0f);
+
+		Mat4 expected = Mat4.mul(a, b, new Mat4());
+		assertArrayEquals(expected.elements, Mat4View.mul(viewA, viewB, product).get(new Mat4()).elements, 0.0f);
+		// dest may be either operand
+		assertArrayEquals(expected.elements, Mat4View.mul(viewA, viewB, arena.mat4().set(b)).get(new Mat4()).elements,
+				0.0f);
+		assertArrayEquals(expected.elements, viewA.multiply(viewB).get(new Mat4()).elements, 0.0f);
+		Mat4 squared = Mat4.mul(b, b, new Mat4());
+		assertArrayEquals(squared.elements, viewB.multiply(viewB).get(new Mat4()).elements, 0.0f);
+
+		Mat4View rigid = arena.mat4().set(Mat4.Rotation(10.0f, 20.0f, 30.0f));
+		Mat4 heap = rigid.get(new Mat4());
+		Vec3 point = new Vec3(value(), value(), value());
+		Vec4 vector = new Vec4(value(), value(), value(), value());
+		Vec3View point3 = arena.vec3().set(point);
+		Vec4View vector4 = arena.vec4().set(vector);
+		assertExact(heap.transform(point, new Vec3()), rigid.transform(point3, arena.vec3()).get(new Vec3()));
+		assertExact(squared.transform(vector, new Vec4()), viewB.transform(vector4, vector4).get(new Vec4()));
+	}
+
+	@Test
+	void atMovesOverMatrices() {
+		OffHeapArena arena = new OffHeapArena(16 * 10);
+		int offset = arena.allocateMat4s(10);
+		Mat4View cursor = new Mat4View(arena, offset);
+		for (int i = 0; i < 10; i++) {
+			cursor.at(offset + i * Mat4View.FLOATS).set(Mat4.Translation(new Vec3(i, 0.0f, 0.0f)));
+		}
+		for (int i = 9; i >= 0; i--) {
+			assertEquals(offset + i * 16, cursor.at(offset + i * 16).offset());
+			assertEquals(i, cursor.get(12), 0.0f);
+		}
+	}
+
+	@Test
+	void sharedViewAcrossThreads() throws Exception {
+		OffHeapArena arena = new OffHeapArena(16 + 4 * 1000 * Vec3View.FLOATS);
+		Mat4 heap = randomMatrix();
+		Mat4View shared = arena.mat4().set(heap);
+		int threads = 4, points = 1000;
+		int first = arena.allocate(threads * points * Vec3View.FLOATS, 1);
+		ExecutorService executor = Executors.newFixedThreadPool(threads);
+		try {
+			Future<?>[] futures = new Future<?>[threads];
+			for (int t = 0; t < threads; t++) {
+				int start = first + t * points * Vec3View.FLOATS;
+				futures[t] = executor.submit(() -> {
+					Vec3View vector = new Vec3View(arena, start);
+					for (int i = 0; i < points; i++) {
+						vector.at(start + i * Vec3View.FLOATS).set(i, -i, 2.0f * i);
+						shared.transform(vector, vector);
+					}
+				});
+			}
+			for (Future<?> future : futures) {
+				future.get();
+			}
+		} finally {
+			executor.shutdown();
+			executor.awaitTermination(10, TimeUnit.SECONDS);
+		}
+		Vec3View vector = new Vec3View(arena, first);
+		for (int t = 0; t < threads; t++) {
+			for (int i = 0; i < points; i++) {
+				vector.at(first + (t * points + i) * Vec3View.FLOATS);
+				assertExact(heap.transform(new Vec3(i, -i, 2.0f * i), new Vec3()), vector.get(new Vec3()));
+			}
+		}
+	}
+
+	@Test
+	void exportsShareMemory() {
+		OffHeapArena arena = new OffHeapArena(64);
+		Vec4View vector = arena.vec4().set(1.0f, 2.0f, 3.0f, 4.0f);
+		Mat4View matrix = arena.mat4();
+		FloatBuffer floats = arena.export();
+		assertEquals(0, floats.position());
+		assertEquals(arena.used(), floats.limit());
+		assertEquals(3.0f, floats.get(2), 0.0f);
+		floats.put(16 + 5, 7.0f);
+		assertEquals(7.0f, matrix.get(5), 0.0f);
+
+		ByteBuffer bytes = arena.exportBytes();
+		assertEquals(ByteOrder.nativeOrder(), bytes.order());
+		assertEquals(arena.used() * Float.BYTES, bytes.limit());
+		assertEquals(4.0f, bytes.getFloat(3 * Float.BYTES), 0.0f);
+		bytes.putFloat(Float.BYTES, -2.0f);
+		assertEquals(-2.0f, vector.y(), 0.0f);
+	}
+
+	@Test
+	void keepsByteOrderOfWrappedBuffer() {
+		ByteBuffer memory = ByteBuffer.allocateDirect(8 + 4 * Float.BYTES).order(ByteOrder.BIG_ENDIAN);
+		memory.putFloat(8, 1.5f).putFloat(12, -3.0f);
+		memory.position(8);
+		OffHeapArena arena = new OffHeapArena(memory);
+		assertEquals(4, arena.capacity());
+		assertEquals(4, arena.used());
+		Vec2View vector = new Vec2View(arena, 0);
+		assertEquals(1.5f, vector.x(), 0.0f);
+		assertEquals(-3.0f, vector.y(), 0.0f);
+
+		vector.set(2.5f, 0.0f);
+		assertEquals(2.5f, memory.getFloat(8), 0.0f);
+		ByteBuffer bytes = arena.exportBytes();
+		assertEquals(ByteOrder.BIG_ENDIAN, bytes.order());
+		assertEquals(Float.floatToIntBits(2.5f), bytes.getInt(0));
+		assertEquals(2.5f, arena.export().get(0), 0.0f);
+	}
+
+	// Internals
+
+	private float value() {
+		return random.nextFloat() * 2.0f - 1.0f;
+	}
+
+	/**
+	 * @return a matrix with all 16 elements random, so it is of kind GENERAL
+	 */
+	private Mat4 randomMatrix() {
+		Mat4 matrix = new Mat4();
+		for (int e = 0; e < 16; e++) {
+			matrix.elements[e] = value();
+		}
+		return matrix.updateKind();
+	}
+
+	private static void assertExact(Vec3 expected, Vec3 actual) {
+		assertArrayEquals(new float[] { expected.x, expected.y, expected.z },
+				new float[] { actual.x, actual.y, actual.z }, 0.0f);
+	}
+
+	private static void assertExact(Vec4 expected, Vec4 actual) {
+		assertArrayEquals(new float[] { expected.x, expected.y, expected.z, expected.w },
+				new float[] { actual.x, actual.y, actual.z, actual.w }, 0.0f);
+	}
+
+}
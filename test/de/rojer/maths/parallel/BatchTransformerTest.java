@@ -0,0 +1,194 @@
+package de.rojer.maths.parallel;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.Arrays;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import de.rojer.maths.anim.Skinning;
+import de.rojer.maths.backend.MathBackends;
+import de.rojer.maths.mat.Mat4;
+import de.rojer.maths.mat.MatN;
+import de.rojer.maths.vec.InterleavedVec3Buffer;
+import de.rojer.maths.vec.Vec3Buffer;
+import de.rojer.maths.vec.Vec4;
+import de.rojer.maths.vec.Vec4Buffer;
+
+/**
+ * Tests that {@link BatchTransformer} gives the same bits as the sequential
+ * kernels, with a threshold small enough to split into many tasks
+ *
+ * @author Rojer
+ * @version 18.10.2026
+ */
+class BatchTransformerTest {
+
+	private static final int COUNT = 10_000;
+
+	private final ForkJoinPool pool = new ForkJoinPool(4);
+	private final BatchTransformer transformer = new BatchTransformer(pool, 100);
+	private final Random random = new Random(6);
+
+	@AfterEach
+	void shutdown() {
+		pool.shutdown();
+	}
+
+	@Test
+	void transformVec3BufferMatchesSequential() {
+		Mat4 matrix = matrix();
+		Vec3Buffer src = new Vec3Buffer(COUNT);
+		fill(src.x);
+		fill(src.y);
+		fill(src.z);
+		Vec3Buffer expected = new Vec3Buffer(COUNT), actual = new Vec3Buffer(COUNT);
+		MathBackends.get().transform(matrix, src, expected, 3, COUNT - 3);
+		transformer.transform(matrix, src, actual, 3, COUNT - 3);
+		assertArrayEquals(expected.x, actual.x);
+		assertArrayEquals(expected.y, actual.y);
+		assertArrayEquals(expected.z, actual.z);
+	}
+
+	@Test
+	void transformVec4BufferMatchesSequential() {
+		Mat4 matrix = matrix();
+		Vec4Buffer src = new Vec4Buffer(COUNT);
+		fill(src.x);
+		fill(src.y);
+		fill(src.z);
+		fill(src.w);
+		Vec4Buffer expected = new Vec4Buffer(COUNT), actual = new Vec4Buffer(COUNT);
+		MathBackends.get().transform(matrix, src, expected, 0, COUNT);
+		transformer.transform(matrix, src, actual, 0, COUNT);
+		assertArrayEquals(expected.x, actual.x);
+		assertArrayEquals(expected.y, actual.y);
+		assertArrayEquals(expected.z, actual.z);
+		assertArrayEquals(expected.w, actual.w);
+	}
+
+	@Test
+	void transformInterleavedMatchesSequential() {
+		Mat4 matrix = matrix();
+		InterleavedVec3Buffer src = new InterleavedVec3Buffer(COUNT);
+		fill(src.data);
+		InterleavedVec3Buffer expected = new InterleavedVec3Buffer(COUNT);
+		InterleavedVec3Buffer actual = new InterleavedVec3Buffer(COUNT);
+		InterleavedVec3Buffer.transform(matrix, src, expected, 0, COUNT);
+		transformer.transform(matrix, src, actual, 0, COUNT);
+		assertArrayEquals(expected.data, actual.data);
+	}
+
+	@Test
+	void mulMatchesSequential() {
+		float[] a = new float[COUNT * 16], b = new float[COUNT * 16];
+		fill(a);
+		fill(b);
+		float[] expected = new float[COUNT * 16], actual = new float[COUNT * 16];
+		MathBackends.get().mul(a, b, expected, 0, COUNT);
+		transformer.mul(a, b, actual, 0, COUNT);
+		assertArrayEquals(expected, actual);
+
+		Mat4[] left = new Mat4[COUNT], right = new Mat4[COUNT], result = new Mat4[COUNT];
+		for (int i = 0; i < COUNT; i++) {
+			left[i] = matrix();
+			right[i] = matrix();
+			result[i] = new Mat4();
+		}
+		transformer.mul(left, right, result, 0, COUNT);
+		for (int i = 0; i < COUNT; i++) {
+			assertArrayEquals(Mat4.mul(left[i], right[i], new Mat4()).elements, result[i].elements);
+		}
+	}
+
+	@Test
+	void mulMatNMatchesSequential() {
+		MatN a = new MatN(150, 120), b = new MatN(120, 90);
+		for (int e = 0; e < a.elements.length; e++) {
+			a.elements[e] = random.nextDouble();
+		}
+		for (int e = 0; e < b.elements.length; e++) {
+			b.elements[e] = random.nextDouble();
+		}
+		MatN expected = MatN.mul(a, b, new MatN(150, 90));
+		assertArrayEquals(expected.elements, transformer.mul(a, b, new MatN(150, 90)).elements);
+	}
+
+	@Test
+	void solveMatchesSequential() {
+		float[] matrices = new float[COUNT * 16], vectors = new float[COUNT * 4];
+		fill(matrices);
+		fill(vectors);
+		Arrays.fill(matrices, 16 * 3, 16 * 4, 0.0f);
+		float[] expected = new float[COUNT * 4], actual = new float[COUNT * 4];
+		boolean[] expectedSingular = new boolean[COUNT], actualSingular = new boolean[COUNT];
+		int singular = Mat4.solve(matrices, vectors, expected, 0, COUNT, expectedSingular);
+		assertEquals(singular, transformer.solve(matrices, vectors, actual, 0, COUNT, actualSingular));
+		assertArrayEquals(expected, actual);
+		assertArrayEquals(expectedSingular, actualSingular);
+
+		Mat4[] objects = new Mat4[COUNT];
+		Vec4[] rightHandSides = new Vec4[COUNT], solutions = new Vec4[COUNT];
+		for (int i = 0; i < COUNT; i++) {
+			objects[i] = new Mat4();
+			System.arraycopy(matrices, i * 16, objects[i].elements, 0, 16);
+			rightHandSides[i] = new Vec4(vectors[i * 4], vectors[i * 4 + 1], vectors[i * 4 + 2], vectors[i * 4 + 3]);
+			solutions[i] = new Vec4();
+		}
+		assertEquals(singular, transformer.solve(objects, rightHandSides, solutions, 0, COUNT, actualSingular));
+		assertArrayEquals(expectedSingular, actualSingular);
+		for (int i = 0; i < COUNT; i++) {
+			assertArrayEquals(Arrays.copyOfRange(expected, i * 4, i * 4 + 4),
+					new float[] { solutions[i].x, solutions[i].y, solutions[i].z, solutions[i].w });
+		}
+	}
+
+	@Test
+	void skinMatchesSequential() {
+		int bonesCount = 30, influences = 4;
+		float[] palette = new float[bonesCount * 16];
+		fill(palette);
+		int[] bones = new int[COUNT * influences];
+		float[] weights = new float[COUNT * influences];
+		for (int i = 0; i < bones.length; i++) {
+			bones[i] = random.nextInt(bonesCount);
+			weights[i] = random.nextFloat();
+		}
+		Vec3Buffer positions = new Vec3Buffer(COUNT), normals = new Vec3Buffer(COUNT);
+		fill(positions.x);
+		fill(positions.y);
+		fill(positions.z);
+		fill(normals.x);
+		fill(normals.y);
+		fill(normals.z);
+		Vec3Buffer expectedPositions = new Vec3Buffer(COUNT), expectedNormals = new Vec3Buffer(COUNT);
+		Vec3Buffer actualPositions = new Vec3Buffer(COUNT), actualNormals = new Vec3Buffer(COUNT);
+		Skinning.skin(palette, bones, weights, influences, positions, normals, expectedPositions, expectedNormals, 5,
+				COUNT - 5);
+		transformer.skin(palette, bones, weights, influences, positions, normals, actualPositions, actualNormals, 5,
+				COUNT - 5);
+		assertArrayEquals(expectedPositions.x, actualPositions.x);
+		assertArrayEquals(expectedPositions.y, actualPositions.y);
+		assertArrayEquals(expectedPositions.z, actualPositions.z);
+		assertArrayEquals(expectedNormals.x, actualNormals.x);
+		assertArrayEquals(expectedNormals.y, actualNormals.y);
+		assertArrayEquals(expectedNormals.z, actualNormals.z);
+	}
+
+	private Mat4 matrix() {
+		Mat4 matrix = new Mat4();
+		fill(matrix.elements);
+		return matrix;
+	}
+
+	private void fill(float[] values) {
+		for (int i = 0; i < values.length; i++) {
+			values[i] = random.nextFloat() * 2.0f - 1.0f;
+		}
+	}
+
+}
@@ -0,0 +1,67 @@
+package de.rojer.maths.quat;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+import de.rojer.maths.mat.Mat4;
+import de.rojer.maths.vec.Vec3;
+
+/**
+ * Tests for the composition and conversion of {@link Quat}
+ *
+ * @author Rojer
+ * @version 18.10.2026
+ */
+class QuatTest {
+
+	private static final float EPSILON = 1e-5f;
+
+	@Test
+	void mulTakesTheArgumentsOfMat4Mul() {
+		Random random = new Random(8);
+		for (int n = 0; n < 1000; n++) {
+			Quat a = random(random), b = random(random);
+			Mat4 expected = Mat4.mul(a.toMat4(new Mat4()), b.toMat4(new Mat4()), new Mat4());
+			Mat4 actual = Quat.mul(a, b, new Quat()).toMat4(new Mat4());
+			for (int i = 0; i < 16; i++) {
+				assertEquals(expected.elements[i], actual.elements[i], EPSILON);
+			}
+		}
+	}
+
+	@Test
+	void mulAppliesTheFirstArgumentFirst() {
+		Quat a = Quat.AxisAngle(new Vec3(0.0f, 0.0f, 1.0f), 90.0f, new Quat());
+		Quat b = Quat.AxisAngle(new Vec3(1.0f, 0.0f, 0.0f), 90.0f, new Quat());
+		Vec3 stepwise = b.rotate(a.rotate(new Vec3(1.0f, 0.0f, 0.0f), new Vec3()), new Vec3());
+		Vec3 composed = Quat.mul(a, b, new Quat()).rotate(new Vec3(1.0f, 0.0f, 0.0f), new Vec3());
+		assertEquals(stepwise.x, composed.x, EPSILON);
+		assertEquals(stepwise.y, composed.y, EPSILON);
+		assertEquals(stepwise.z, composed.z, EPSILON);
+	}
+
+	@Test
+	void multiplyMatchesMul() {
+		Random random = new Random(9);
+		Quat a = random(random), b = random(random);
+		assertEquals(Quat.mul(a, b, new Quat()), new Quat(a.x, a.y, a.z, a.w).multiply(b));
+	}
+
+	@Test
+	void rotationMatchesMat4() {
+		Mat4 expected = Mat4.Rotation(10.0f, 20.0f, 30.0f);
+		Mat4 actual = Quat.Rotation(10.0f, 20.0f, 30.0f, new Quat()).toMat4(new Mat4());
+		for (int i = 0; i < 16; i++) {
+			assertEquals(expected.elements[i], actual.elements[i], EPSILON);
+		}
+	}
+
+	private static Quat random(Random random) {
+		return new Quat(random.nextFloat() - 0.5f, random.nextFloat() - 0.5f, random.nextFloat() - 0.5f,
+				random.nextFloat() - 0.5f).normalize();
+	}
+
+}
@@ -0,0 +1,81 @@
+package de.rojer.maths.scene;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+import de.rojer.maths.mat.Mat4;
+import de.rojer.maths.mat.Mat4d;
+import de.rojer.maths.vec.Vec3;
+import de.rojer.maths.vec.Vec3Buffer;
+import de.rojer.maths.vec.Vec3d;
+
+/**
+ * Tests for {@link CameraRelative}, against exact double results for an
+ * object 20 km from the world origin
+ *
+ * @author Rojer
+ * @version 18.10.2026
+ */
+class CameraRelativeTest {
+
+	private static final double EPSILON = 1e-5;
+
+	private final Mat4d model = Mat4d.Rotation(10.0, 20.0, 30.0)
+			.multiply(Mat4d.Translation(new Vec3d(20000.125, 3.5, -20000.25)));
+	private final Vec3d origin = new Vec3d(20001.0, 4.0, -19999.0);
+	private final Vec3d vertex = new Vec3d(0.3, 0.7, -0.2);
+
+	@Test
+	void modelMatchesDoublePrecision() {
+		Vec3d exact = model.transform(vertex, new Vec3d()).subtract(origin);
+		Vec3 relative = CameraRelative.model(model, origin, new Mat4()).transform(vertex.get(new Vec3()), new Vec3());
+		assertEquals(exact.x, relative.x, EPSILON);
+		assertEquals(exact.y, relative.y, EPSILON);
+		assertEquals(exact.z, relative.z, EPSILON);
+
+		// Without the camera origin, float rounding at 20 km is far coarser
+		Vec3 world = model.get(new Mat4()).transform(vertex.get(new Vec3()), new Vec3());
+		assertTrue(Math.abs(world.x - origin.x - exact.x) > 10 * EPSILON
+				|| Math.abs(world.z - origin.z - exact.z) > 10 * EPSILON);
+	}
+
+	@Test
+	void modelsMatchModel() {
+		float[] packed = new float[32];
+		double[] src = new double[32];
+		System.arraycopy(model.elements, 0, src, 16, 16);
+		CameraRelative.models(src, origin, packed, 1, 1);
+		float[] single = CameraRelative.model(model, origin, new Mat4()).elements;
+		for (int i = 0; i < 16; i++) {
+			assertEquals(single[i], packed[16 + i]);
+		}
+	}
+
+	@Test
+	void viewMatchesDoublePrecision() {
+		Vec3d camera = new Vec3d(20000.5, 4.0, -19999.5);
+		Mat4d view = Mat4d.Translation(new Vec3d(-camera.x, -camera.y, -camera.z))
+				.multiply(Mat4d.Rotation(5.0, -40.0, 0.0));
+		Vec3d point = new Vec3d(20002.25, 5.5, -19997.75);
+		Vec3d exact = view.transform(point, new Vec3d());
+		Vec3 relative = CameraRelative.view(view, origin, new Mat4())
+				.transform(CameraRelative.position(point, origin, new Vec3()), new Vec3());
+		assertEquals(exact.x, relative.x, EPSILON);
+		assertEquals(exact.y, relative.y, EPSILON);
+		assertEquals(exact.z, relative.z, EPSILON);
+	}
+
+	@Test
+	void positionsMatchPosition() {
+		double[] x = { 20000.1, 19999.9, 20003.0 }, y = { 1.0, 2.0, 3.0 }, z = { -20000.0, -19990.5, -20010.25 };
+		Vec3Buffer dest = new Vec3Buffer(3);
+		CameraRelative.positions(x, y, z, origin, dest, 0, 3);
+		for (int i = 0; i < 3; i++) {
+			Vec3 expected = CameraRelative.position(new Vec3d(x[i], y[i], z[i]), origin, new Vec3());
+			assertEquals(expected, dest.get(i, new Vec3()));
+		}
+	}
+
+}
@@ -0,0 +1,131 @@
+package de.rojer.maths.scene;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+import de.rojer.maths.mat.Mat4;
+import de.rojer.maths.vec.Vec3;
+
+/**
+ * Tests that the batch culling of {@link Frustum} gives the same results as
+ * the single tests, also for objects touching a plane
+ *
+ * @author Rojer
+ * @version 18.10.2026
+ */
+class FrustumTest {
+
+	private static final int COUNT = 5000;
+	private static final int OFFSET = 3;
+
+	private final Frustum frustum = new Frustum(Mat4.Rotation(10.0f, 20.0f, 30.0f)
+			.multiply(Mat4.Translation(new Vec3(1.0f, 2.0f, -10.0f)))
+			.multiply(Mat4.Perspective(70.0f, 16.0f / 9.0f, 0.1f, 100.0f)));
+	private final Random random = new Random(14);
+
+	@Test
+	void containsPointsInsideOnly() {
+		Frustum frustum = new Frustum(Mat4.Translation(new Vec3(0.0f, 0.0f, -10.0f))
+				.multiply(Mat4.Perspective(70.0f, 1.0f, 0.1f, 100.0f)));
+		assertTrue(frustum.containsPoint(0.0f, 0.0f, 0.0f));
+		assertFalse(frustum.containsPoint(0.0f, 0.0f, 20.0f));
+		assertFalse(frustum.containsPoint(100.0f, 0.0f, 0.0f));
+		assertTrue(frustum.intersectsSphere(0.0f, 0.0f, 20.0f, 15.0f));
+	}
+
+	@Test
+	void cullAabbsMatchesIntersectsAabb() {
+		float[][] boxes = new float[6][OFFSET + COUNT];
+		float[] plane = new float[4];
+		for (int i = OFFSET; i < OFFSET + COUNT; i++) {
+			// Half of the boxes have the corner farthest along a normal on its plane
+			float[] corner = point();
+			float[] normal = frustum.getPlane(random.nextInt(6), plane);
+			if (i % 2 == 0) {
+				project(corner, normal);
+			}
+			for (int axis = 0; axis < 3; axis++) {
+				float size = random.nextFloat() * 5.0f;
+				boolean maxOnCorner = normal[axis] >= 0.0f;
+				boxes[axis][i] = maxOnCorner ? corner[axis] - size : corner[axis];
+				boxes[axis + 3][i] = maxOnCorner ? corner[axis] : corner[axis] + size;
+			}
+		}
+		long[] visible = new long[(COUNT + 63) / 64];
+		int[] indices = new int[COUNT];
+		int bits = frustum.cullAabbs(boxes[0], boxes[1], boxes[2], boxes[3], boxes[4], boxes[5], OFFSET, COUNT,
+				visible);
+		int listed = frustum.cullAabbs(boxes[0], boxes[1], boxes[2], boxes[3], boxes[4], boxes[5], OFFSET, COUNT,
+				indices);
+		int expected = 0;
+		for (int j = 0; j < COUNT; j++) {
+			int i = OFFSET + j;
+			boolean single = frustum.intersectsAabb(boxes[0][i], boxes[1][i], boxes[2][i], boxes[3][i], boxes[4][i],
+					boxes[5][i]);
+			assertEquals(single, (visible[j >>> 6] >>> j & 1L) != 0, "box " + i);
+			if (single) {
+				assertEquals(i, indices[expected++]);
+			}
+		}
+		assertEquals(expected, bits);
+		assertEquals(expected, listed);
+	}
+
+	@Test
+	void cullSpheresMatchesIntersectsSphere() {
+		float[][] spheres = new float[4][OFFSET + COUNT];
+		float[] plane = new float[4];
+		for (int i = OFFSET; i < OFFSET + COUNT; i++) {
+			float[] center = point();
+			float[] normal = frustum.getPlane(random.nextInt(6), plane);
+			float radius = random.nextFloat() * 5.0f;
+			if (i % 2 == 0) {
+				// Centers exactly radius outside of a plane, up to rounding
+				project(center, normal);
+				for (int axis = 0; axis < 3; axis++) {
+					center[axis] -= normal[axis] * radius;
+				}
+			}
+			spheres[0][i] = center[0];
+			spheres[1][i] = center[1];
+			spheres[2][i] = center[2];
+			spheres[3][i] = radius;
+		}
+		long[] visible = new long[(COUNT + 63) / 64];
+		int[] indices = new int[COUNT];
+		int bits = frustum.cullSpheres(spheres[0], spheres[1], spheres[2], spheres[3], OFFSET, COUNT, visible);
+		int listed = frustum.cullSpheres(spheres[0], spheres[1], spheres[2], spheres[3], OFFSET, COUNT, indices);
+		int expected = 0;
+		for (int j = 0; j < COUNT; j++) {
+			int i = OFFSET + j;
+			boolean single = frustum.intersectsSphere(spheres[0][i], spheres[1][i], spheres[2][i], spheres[3][i]);
+			assertEquals(single, (visible[j >>> 6] >>> j & 1L) != 0, "sphere " + i);
+			if (single) {
+				assertEquals(i, indices[expected++]);
+			}
+		}
+		assertEquals(expected, bits);
+		assertEquals(expected, listed);
+	}
+
+	private float[] point() {
+		return new float[] { random.nextFloat() * 80.0f - 40.0f, random.nextFloat() * 80.0f - 40.0f,
+				random.nextFloat() * 80.0f - 40.0f };
+	}
+
+	/**
+	 * Moves a point onto a plane, up to rounding
+	 */
+	private static void project(float[] point, float[] plane) {
+		float distance = plane[0] * point[0] + plane[1] * point[1] + plane[2] * point[2] + plane[3];
+		for (int axis = 0; axis < 3; axis++) {
+			point[axis] -= plane[axis] * distance;
+		}
+	}
+
+}
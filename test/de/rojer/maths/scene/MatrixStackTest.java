@@ -0,0 +1,181 @@
+package de.rojer.maths.scene;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+import de.rojer.maths.mat.Mat4;
+import de.rojer.maths.quat.Quat;
+import de.rojer.maths.vec.Vec3;
+
+/**
+ * Tests that the in-place operations of {@link MatrixStack} give the same
+ * matrices as multiplying with the factories of {@link Mat4}, and that push
+ * and pop copy and restore the frames
+ *
+ * @author Rojer
+ * @version 18.10.2026
+ */
+class MatrixStackTest {
+
+	private final Random random = new Random(23);
+
+	@Test
+	void operationsMatchMat4() {
+		MatrixStack stack = new MatrixStack();
+		Mat4 expected = randomMatrix();
+		stack.set(expected);
+		for (int n = 0; n < 500; n++) {
+			Mat4 step;
+			switch (n % 6) {
+			case 0:
+				step = randomMatrix();
+				stack.multiply(step);
+				break;
+			case 1: {
+				Vec3 translation = new Vec3(next(), next(), next());
+				step = Mat4.Translation(translation);
+				if (n % 12 == 1) {
+					stack.translate(translation);
+				} else {
+					stack.translate(translation.x, translation.y, translation.z);
+				}
+				break;
+			}
+			case 2: {
+				float x = 180.0f * next(), y = 180.0f * next(), z = 180.0f * next();
+				step = Mat4.Rotation(x, y, z);
+				stack.rotate(x, y, z);
+				break;
+			}
+			case 3: {
+				Vec3 axis = new Vec3(next(), next(), next());
+				float length = (float) Math.sqrt(axis.x * axis.x + axis.y * axis.y + axis.z * axis.z);
+				axis = new Vec3(axis.x / length, axis.y / length, axis.z / length);
+				Quat rotation = Quat.AxisAngle(axis, 180.0f * next(), new Quat());
+				step = rotation.toMat4(new Mat4());
+				stack.rotate(rotation);
+				break;
+			}
+			case 4: {
+				Vec3 scale = new Vec3(1.0f + 0.5f * next(), 1.0f + 0.5f * next(), 1.0f + 0.5f * next());
+				step = Mat4.Scale(scale);
+				if (n % 12 == 4) {
+					stack.scale(scale);
+				} else {
+					stack.scale(scale.x, scale.y, scale.z);
+				}
+				break;
+			}
+			default:
+				// Keeps the values in range
+				expected = randomMatrix();
+				stack.set(expected);
+				continue;
+			}
+			// The step is applied to vectors before the current matrix
+			expected = Mat4.mul(step, expected, new Mat4());
+			assertClose(expected, stack.get(new Mat4()), "step " + n);
+		}
+	}
+
+	@Test
+	void transformMatchesMat4() {
+		MatrixStack stack = new MatrixStack();
+		for (int n = 0; n < 100; n++) {
+			Mat4 matrix = randomMatrix();
+			Vec3 point = new Vec3(next(), next(), next());
+			Vec3 expected = matrix.transform(point, new Vec3());
+			Vec3 actual = stack.set(matrix).transform(point, point);
+			assertArrayEquals(new float[] { expected.x, expected.y, expected.z },
+					new float[] { actual.x, actual.y, actual.z }, 0.0f);
+		}
+	}
+
+	@Test
+	void pushCopiesAndPopRestores() {
+		MatrixStack stack = new MatrixStack();
+		Mat4 bottom = randomMatrix();
+		stack.set(bottom);
+		assertEquals(1, stack.depth());
+		assertEquals(0, stack.offset());
+
+		stack.push();
+		assertEquals(2, stack.depth());
+		assertEquals(16, stack.offset());
+		assertArrayEquals(bottom.elements, stack.get(new Mat4()).elements, 0.0f);
+		stack.translate(1.0f, 2.0f, 3.0f).rotate(10.0f, 20.0f, 30.0f).scale(2.0f, 2.0f, 2.0f);
+		Mat4 changed = stack.get(new Mat4());
+
+		// Changing the pushed frame leaves the one below as it was
+		stack.push().identity();
+		assertArrayEquals(Mat4.Identity().elements, stack.get(new Mat4()).elements, 0.0f);
+		stack.pop();
+		assertArrayEquals(changed.elements, stack.get(new Mat4()).elements, 0.0f);
+		stack.pop();
+		assertArrayEquals(bottom.elements, stack.get(new Mat4()).elements, 0.0f);
+		float[] frame = Arrays.copyOfRange(stack.elements(), stack.offset(), stack.offset() + 16);
+		assertArrayEquals(bottom.elements, frame, 0.0f);
+	}
+
+	@Test
+	void growsPastInitialCapacity() {
+		MatrixStack stack = new MatrixStack(2);
+		float[] initial = stack.elements();
+		for (int i = 1; i < 40; i++) {
+			stack.push().translate(1.0f, 0.0f, 0.0f);
+			assertEquals(i + 1, stack.depth());
+			assertEquals(i, stack.get(new Mat4()).elements[12], 0.0f);
+		}
+		assertNotSame(initial, stack.elements());
+		for (int i = 39; i > 0; i--) {
+			assertEquals(i, stack.get(new Mat4()).elements[12], 0.0f);
+			stack.pop();
+		}
+		assertArrayEquals(Mat4.Identity().elements, stack.get(new Mat4()).elements, 0.0f);
+		// A stack made with no room at all still holds one frame
+		assertEquals(2, new MatrixStack(0).push().depth());
+	}
+
+	@Test
+	void popOnLastFrameThrows() {
+		MatrixStack stack = new MatrixStack();
+		assertThrows(IllegalStateException.class, stack::pop);
+		stack.push().push().translate(1.0f, 2.0f, 3.0f);
+		stack.clear();
+		assertEquals(1, stack.depth());
+		assertArrayEquals(Mat4.Identity().elements, stack.get(new Mat4()).elements, 0.0f);
+		assertThrows(IllegalStateException.class, stack::pop);
+	}
+
+	// Internals
+
+	private float next() {
+		return random.nextFloat() * 2.0f - 1.0f;
+	}
+
+	/**
+	 * @return a matrix with all 16 elements random, so it is of kind GENERAL
+	 */
+	private Mat4 randomMatrix() {
+		Mat4 matrix = new Mat4();
+		for (int e = 0; e < 16; e++) {
+			matrix.elements[e] = next();
+		}
+		return matrix.updateKind();
+	}
+
+	private static void assertClose(Mat4 expected, Mat4 actual, String message) {
+		for (int e = 0; e < 16; e++) {
+			float tolerance = 1e-5f * Math.max(1.0f, Math.abs(expected.elements[e]));
+			assertEquals(expected.elements[e], actual.elements[e], tolerance, message + ", element " + e);
+		}
+	}
+
+}
@@ -0,0 +1,131 @@
+package de.rojer.maths.scene;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+import de.rojer.maths.mat.Mat4;
+import de.rojer.maths.vec.Vec3;
+
+/**
+ * Tests that {@link TransformHierarchy#update()} recomputes exactly the moved
+ * nodes and their descendants, and that the world matrices are the local
+ * matrices chained through the parents
+ *
+ * @author Rojer
+ * @version 18.10.2026
+ */
+class TransformHierarchyTest {
+
+	private final Random random = new Random(7);
+
+	@Test
+	void updatesOnlyMovedSubtrees() {
+		TransformHierarchy hierarchy = new TransformHierarchy();
+		Transform root = hierarchy.add(), a = hierarchy.add(root), b = hierarchy.add(root);
+		Transform c = hierarchy.add(a), other = hierarchy.add();
+		assertEquals(5, hierarchy.update());
+		// An untouched frame recomputes nothing
+		assertEquals(0, hierarchy.update());
+
+		a.setTranslation(1.0f, 0.0f, 0.0f);
+		assertEquals(2, hierarchy.update());
+		root.setRotation(0.0f, 90.0f, 0.0f);
+		assertEquals(4, hierarchy.update());
+		c.setScale(2.0f, 2.0f, 2.0f);
+		assertEquals(1, hierarchy.update());
+		b.setTranslation(0.0f, 1.0f, 0.0f);
+		other.setTranslation(0.0f, 0.0f, 1.0f);
+		assertEquals(2, hierarchy.update());
+		// Setting a value twice still recomputes the node once
+		a.setRotation(10.0f, 0.0f, 0.0f).setRotation(20.0f, 0.0f, 0.0f);
+		assertEquals(2, hierarchy.update());
+		assertEquals(0, hierarchy.update());
+	}
+
+	@Test
+	void worldIsLocalChainedThroughParents() {
+		TransformHierarchy hierarchy = new TransformHierarchy(2);
+		Transform[] nodes = new Transform[40];
+		for (int i = 0; i < nodes.length; i++) {
+			// Every node hangs below one of the nodes before it, or is a root
+			nodes[i] = hierarchy.add(i == 0 || i % 7 == 0 ? null : nodes[random.nextInt(i)]);
+			randomize(nodes[i]);
+		}
+		assertEquals(nodes.length, hierarchy.size());
+		assertEquals(nodes.length, hierarchy.update());
+		assertWorlds(nodes);
+
+		for (int frame = 0; frame < 5; frame++) {
+			randomize(nodes[random.nextInt(nodes.length)]);
+			hierarchy.update();
+			assertWorlds(nodes);
+		}
+	}
+
+	@Test
+	void knowsParentsAndIndices() {
+		TransformHierarchy hierarchy = new TransformHierarchy(1);
+		Transform root = hierarchy.add(), child = hierarchy.add(root);
+		assertNull(root.getParent());
+		assertSame(root, child.getParent());
+		assertEquals(1, child.getIndex());
+		assertSame(child, hierarchy.get(1));
+		assertThrows(IndexOutOfBoundsException.class, () -> hierarchy.get(2));
+	}
+
+	@Test
+	void rejectsParentOfAnotherHierarchy() {
+		TransformHierarchy hierarchy = new TransformHierarchy(), other = new TransformHierarchy();
+		hierarchy.add();
+		Transform foreign = other.add();
+		assertThrows(IllegalArgumentException.class, () -> hierarchy.add(foreign));
+		Transform deeper = other.add(other.add(foreign));
+		assertThrows(IllegalArgumentException.class, () -> hierarchy.add(deeper));
+		assertEquals(1, hierarchy.size());
+	}
+
+	// Internals
+
+	private void randomize(Transform node) {
+		node.setTranslation(value() * 10.0f, value() * 10.0f, value() * 10.0f);
+		node.setRotation(value() * 180.0f, value() * 180.0f, value() * 180.0f);
+		node.setScale(1.0f + value() * 0.5f, 1.0f + value() * 0.5f, 1.0f + value() * 0.5f);
+	}
+
+	private float value() {
+		return random.nextFloat() * 2.0f - 1.0f;
+	}
+
+	/**
+	 * Asserts that every world matrix is Translation * Rotation * Scale of the
+	 * node, applied after the scale, followed by the world matrix of its parent
+	 */
+	private static void assertWorlds(Transform[] nodes) {
+		for (Transform node : nodes) {
+			Mat4 expected = Mat4.Identity();
+			for (Transform n = node; n != null; n = n.getParent()) {
+				Vec3 angles = n.getRotation(new Vec3());
+				Mat4 local = Mat4.Scale(n.getScale(new Vec3()))
+						.multiply(Mat4.Rotation(angles.x, angles.y, angles.z))
+						.multiply(Mat4.Translation(n.getTranslation(new Vec3())));
+				expected.multiply(local);
+				assertClose(local, n.getLocal());
+			}
+			assertClose(expected, node.getWorld());
+		}
+	}
+
+	private static void assertClose(Mat4 expected, Mat4 actual) {
+		for (int e = 0; e < 16; e++) {
+			float tolerance = 1e-4f * Math.max(1.0f, Math.abs(expected.elements[e]));
+			assertEquals(expected.elements[e], actual.elements[e], tolerance, "element " + e);
+		}
+	}
+
+}
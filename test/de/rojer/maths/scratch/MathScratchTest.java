@@ -0,0 +1,75 @@
+package de.rojer.maths.scratch;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.jupiter.api.Test;
+
+import de.rojer.maths.mat.Mat4;
+import de.rojer.maths.vec.Vec3;
+
+/**
+ * Tests for the scopes of {@link MathScratch}
+ *
+ * @author Rojer
+ * @version 18.10.2026
+ */
+class MathScratchTest {
+
+	@Test
+	void closedScopesReclaimTheirTemporaries() {
+		Vec3 first;
+		try (MathScratch scratch = MathScratch.open()) {
+			first = scratch.vec3();
+			first.x = 5.0f;
+		}
+		try (MathScratch scratch = MathScratch.open()) {
+			Vec3 again = scratch.vec3();
+			assertSame(first, again);
+			assertEquals(new Vec3(), again);
+		}
+	}
+
+	@Test
+	void nestedScopesKeepTheTemporariesOfOuterOnes() {
+		try (MathScratch outer = MathScratch.open()) {
+			Mat4 kept = outer.identity();
+			try (MathScratch inner = MathScratch.open()) {
+				assertNotSame(kept, inner.mat4());
+			}
+			assertArrayEquals(Mat4.Identity().elements, kept.elements);
+		}
+	}
+
+	@Test
+	void scopesHaveToBeClosedInReverseOrder() {
+		MathScratch outer = MathScratch.open();
+		MathScratch inner = MathScratch.open();
+		assertThrows(IllegalStateException.class, outer::close);
+		inner.close();
+		outer.close();
+		assertThrows(IllegalStateException.class, outer::close);
+	}
+
+	@Test
+	void threadsHaveTheirOwnPools() throws InterruptedException {
+		AtomicReference<Vec3> other = new AtomicReference<>();
+		try (MathScratch scratch = MathScratch.open()) {
+			Vec3 mine = scratch.vec3();
+			Thread thread = new Thread(() -> {
+				try (MathScratch s = MathScratch.open()) {
+					other.set(s.vec3());
+				}
+			});
+			thread.start();
+			thread.join();
+			assertNotSame(mine, other.get());
+		}
+	}
+
+}
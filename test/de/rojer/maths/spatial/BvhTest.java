@@ -0,0 +1,146 @@
+package de.rojer.maths.spatial;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests the queries of {@link Bvh} against checking every primitive, also for
+ * rays parallel to the faces of the boxes
+ *
+ * @author Rojer
+ * @version 18.10.2026
+ */
+class BvhTest {
+
+	private static final int COUNT = 2000;
+
+	private final Random random = new Random(15);
+	private final BvhQuery query = new BvhQuery();
+
+	@Test
+	void raycastHitsBoxAlongItsFace() {
+		Bvh bvh = unitBox();
+		assertEquals(0, bvh.raycast(0.0f, 0.5f, -5.0f, 0.0f, 0.0f, 1.0f, 100.0f, query));
+		assertEquals(5.0f, query.distance(0), 0.0f);
+		assertEquals(0, bvh.raycast(0.5f, 1.0f, -5.0f, 0.0f, 0.0f, 1.0f, 100.0f, query));
+		assertEquals(0, bvh.raycast(1.0f, 0.5f, 5.0f, -0.0f, 0.0f, -1.0f, 100.0f, query));
+		assertEquals(0, bvh.raycast(0.5f, 0.5f, 0.5f, 0.0f, 0.0f, 0.0f, 100.0f, query));
+	}
+
+	@Test
+	void raycastMissesBoxBesideIt() {
+		Bvh bvh = unitBox();
+		assertEquals(-1, bvh.raycast(-0.001f, 0.5f, -5.0f, 0.0f, 0.0f, 1.0f, 100.0f, query));
+		assertEquals(-1, bvh.raycast(0.5f, 1.001f, -5.0f, 0.0f, 0.0f, 1.0f, 100.0f, query));
+		assertEquals(-1, bvh.raycast(0.5f, 0.5f, -5.0f, 0.0f, 0.0f, 1.0f, 4.0f, query));
+		assertEquals(-1, bvh.raycast(0.5f, 0.5f, -5.0f, 0.0f, 0.0f, -1.0f, 100.0f, query));
+	}
+
+	@Test
+	void raycastMatchesAllBoxes() {
+		float[][] boxes = boxes();
+		Bvh bvh = Bvh.Boxes(boxes[0], boxes[1], boxes[2], boxes[3], boxes[4], boxes[5], 0, COUNT);
+		for (int r = 0; r < 500; r++) {
+			float[] origin = { coordinate(), coordinate(), coordinate() };
+			float[] direction = { random.nextFloat() - 0.5f, random.nextFloat() - 0.5f, random.nextFloat() - 0.5f };
+			// Every second ray runs along an axis from a face of a box
+			if (r % 2 == 0) {
+				int box = random.nextInt(COUNT), axis = random.nextInt(3);
+				for (int a = 0; a < 3; a++) {
+					direction[a] = a == axis ? 1.0f : 0.0f;
+					origin[a] = a == axis ? boxes[a][box] - 10.0f : boxes[a + 3 * random.nextInt(2)][box];
+				}
+			}
+			float expected = Float.POSITIVE_INFINITY;
+			for (int i = 0; i < COUNT; i++) {
+				expected = Math.min(expected, enter(boxes, i, origin, direction));
+			}
+			int hit = bvh.raycast(origin[0], origin[1], origin[2], direction[0], direction[1], direction[2], 1000.0f,
+					query);
+			if (expected == Float.POSITIVE_INFINITY) {
+				assertEquals(-1, hit);
+			} else {
+				assertEquals(expected, query.distance(0), 0.0f);
+				assertEquals(expected, enter(boxes, hit, origin, direction), 0.0f);
+			}
+		}
+	}
+
+	@Test
+	void nearestAndRadiusMatchAllPoints() {
+		float[] x = new float[COUNT], y = new float[COUNT], z = new float[COUNT];
+		for (int i = 0; i < COUNT; i++) {
+			x[i] = coordinate();
+			y[i] = coordinate();
+			z[i] = coordinate();
+		}
+		Bvh bvh = Bvh.Points(x, y, z, 0, COUNT);
+		float[] distances = new float[COUNT];
+		for (int q = 0; q < 100; q++) {
+			float px = coordinate(), py = coordinate(), pz = coordinate();
+			for (int i = 0; i < COUNT; i++) {
+				float dx = x[i] - px, dy = y[i] - py, dz = z[i] - pz;
+				distances[i] = (float) Math.sqrt(dx * dx + dy * dy + dz * dz);
+			}
+			float[] sorted = distances.clone();
+			Arrays.sort(sorted);
+			assertEquals(8, bvh.nearest(px, py, pz, 8, query));
+			for (int i = 0; i < 8; i++) {
+				assertEquals(sorted[i], query.distance(i), 0.0f);
+			}
+			int inside = 0;
+			for (float distance : distances) {
+				inside += distance <= 10.0f ? 1 : 0;
+			}
+			assertEquals(inside, bvh.radius(px, py, pz, 10.0f, query));
+		}
+	}
+
+	// Internals
+
+	private static Bvh unitBox() {
+		float[] zero = { 0.0f }, one = { 1.0f };
+		return Bvh.Boxes(zero, zero, zero, one, one, one, 0, 1);
+	}
+
+	private float coordinate() {
+		return random.nextFloat() * 100.0f - 50.0f;
+	}
+
+	private float[][] boxes() {
+		float[][] boxes = new float[6][COUNT];
+		for (int i = 0; i < COUNT; i++) {
+			for (int a = 0; a < 3; a++) {
+				boxes[a][i] = coordinate();
+				boxes[a + 3][i] = boxes[a][i] + random.nextFloat() * 3.0f;
+			}
+		}
+		return boxes;
+	}
+
+	/**
+	 * @return the distance at which a ray enters box i, infinity if it misses
+	 */
+	private static float enter(float[][] boxes, int i, float[] origin, float[] direction) {
+		float near = 0.0f, far = Float.POSITIVE_INFINITY;
+		for (int a = 0; a < 3; a++) {
+			float min = boxes[a][i], max = boxes[a + 3][i];
+			if (direction[a] == 0.0f) {
+				if (origin[a] < min || origin[a] > max) {
+					return Float.POSITIVE_INFINITY;
+				}
+				continue;
+			}
+			float inverse = 1.0f / direction[a];
+			float t0 = (min - origin[a]) * inverse, t1 = (max - origin[a]) * inverse;
+			near = Math.max(near, Math.min(t0, t1));
+			far = Math.min(far, Math.max(t0, t1));
+		}
+		return near <= far && near <= 1000.0f ? near : Float.POSITIVE_INFINITY;
+	}
+
+}
@@ -0,0 +1,129 @@
+package de.rojer.maths.spatial;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+import de.rojer.maths.vec.Vec3Buffer;
+
+/**
+ * Tests that {@link QuantizedVec3Map} shares keys exactly within a grid cell,
+ * also for coordinates far from 0
+ *
+ * @author Rojer
+ * @version 18.10.2026
+ */
+class QuantizedVec3MapTest {
+
+	@Test
+	void sharesKeysWithinCellsOnly() {
+		QuantizedVec3Map map = new QuantizedVec3Map(0.5f);
+		// The cell of 0.5 spans [0.25, 0.75)
+		assertEquals(0, map.weld(0.25f, 0.0f, 0.0f));
+		assertEquals(0, map.weld(0.5f, 0.0f, 0.0f));
+		assertEquals(0, map.weld(0.74f, 0.0f, 0.0f));
+		assertEquals(1, map.weld(0.76f, 0.0f, 0.0f));
+		assertEquals(2, map.weld(0.24f, 0.0f, 0.0f));
+		assertEquals(2, map.weld(-0.0f, 0.1f, -0.1f));
+		assertEquals(3, map.weld(0.5f, 0.5f, 0.0f));
+		assertEquals(4, map.size());
+		assertEquals(1, map.get(1.0f, 0.0f, 0.0f));
+		assertEquals(QuantizedVec3Map.NO_VALUE, map.get(0.0f, 0.0f, 1.0f));
+	}
+
+	@Test
+	void keepsLargeCoordinatesApart() {
+		QuantizedVec3Map map = new QuantizedVec3Map(1e-6f);
+		assertEquals(0, map.weld(5000.0f, 0.0f, 0.0f));
+		assertEquals(1, map.weld(6000.0f, 0.0f, 0.0f));
+		assertEquals(2, map.weld(Math.nextUp(5000.0f), 0.0f, 0.0f));
+		assertEquals(3, map.weld(0.0f, -1e7f, 0.0f));
+		assertEquals(4, map.weld(0.0f, 0.0f, 1e30f));
+		assertEquals(5, map.weld(0.0f, 0.0f, Math.nextDown(1e30f)));
+		assertEquals(6, map.weld(0.0f, 0.0f, -1e30f));
+		assertEquals(7, map.weld(Float.MAX_VALUE, -Float.MAX_VALUE, 0.0f));
+		assertEquals(0, map.weld(5000.0f, 0.0f, 0.0f));
+		assertEquals(4, map.weld(0.0f, 0.0f, 1e30f));
+		assertEquals(7, map.get(Float.MAX_VALUE, -Float.MAX_VALUE, 0.0f));
+	}
+
+	@Test
+	void mixesNearAndFarKeys() {
+		QuantizedVec3Map map = new QuantizedVec3Map(1e-6f);
+		for (int round = 0; round < 2; round++) {
+			for (int i = 0; i < 1000; i++) {
+				// Every second key has a component beyond 2^31 cells
+				float x = i % 2 == 0 ? i * 0.001f : 3000.0f + i;
+				assertEquals(i, map.weld(x, 1.0f, -1.0f));
+			}
+			for (int i = 0; i < 1000; i++) {
+				assertEquals(i, map.get(i % 2 == 0 ? i * 0.001f : 3000.0f + i, 1.0f, -1.0f));
+			}
+			assertEquals(1000, map.size());
+			map.clear();
+			assertEquals(QuantizedVec3Map.NO_VALUE, map.get(3001.0f, 1.0f, -1.0f));
+		}
+	}
+
+	@Test
+	void comparesExactlyWithoutTolerance() {
+		QuantizedVec3Map map = new QuantizedVec3Map(0.0f);
+		assertEquals(0, map.weld(1.0f, 2.0f, 3.0f));
+		assertEquals(1, map.weld(Math.nextUp(1.0f), 2.0f, 3.0f));
+		assertEquals(2, map.weld(0.0f, 0.0f, 0.0f));
+		assertEquals(2, map.weld(-0.0f, -0.0f, 0.0f));
+		assertEquals(0, map.get(1.0f, 2.0f, 3.0f));
+	}
+
+	@Test
+	void rejectsNanAndInfinity() {
+		for (float tolerance : new float[] { 0.0f, 1e-3f }) {
+			QuantizedVec3Map map = new QuantizedVec3Map(tolerance);
+			for (float invalid : List.of(Float.NaN, Float.POSITIVE_INFINITY, Float.NEGATIVE_INFINITY)) {
+				assertThrows(IllegalArgumentException.class, () -> map.weld(invalid, 0.0f, 0.0f));
+				assertThrows(IllegalArgumentException.class, () -> map.putIfAbsent(0.0f, invalid, 0.0f, 0));
+				assertThrows(IllegalArgumentException.class, () -> map.get(0.0f, 0.0f, invalid));
+			}
+			assertEquals(0, map.size());
+		}
+	}
+
+	@Test
+	void weldMatchesHashMapOfCells() {
+		Random random = new Random(19);
+		int count = 100_000;
+		float tolerance = 0.01f;
+		Vec3Buffer vertices = new Vec3Buffer(count);
+		for (int i = 0; i < count; i++) {
+			// Few distinct cells, so many vertices are welded
+			vertices.set(i, random.nextInt(30) * 0.01f, random.nextInt(30) * 0.01f + 2000.0f,
+					random.nextInt(30) * -0.01f);
+		}
+		QuantizedVec3Map map = new QuantizedVec3Map(tolerance);
+		int[] indices = new int[count];
+		Vec3Buffer distinct = new Vec3Buffer(count);
+		int size = map.weld(vertices, 0, count, indices, distinct);
+
+		Map<List<Long>, Integer> cells = new HashMap<>();
+		for (int i = 0; i < count; i++) {
+			List<Long> cell = List.of(Math.round(vertices.x[i] / (double) tolerance),
+					Math.round(vertices.y[i] / (double) tolerance), Math.round(vertices.z[i] / (double) tolerance));
+			Integer index = cells.putIfAbsent(cell, cells.size());
+			assertEquals(index == null ? cells.size() - 1 : index, indices[i]);
+		}
+		assertEquals(cells.size(), size);
+		int[] expected = new int[count];
+		for (int i = 0; i < count; i++) {
+			expected[i] = map.get(distinct.x[indices[i]], distinct.y[indices[i]], distinct.z[indices[i]]);
+		}
+		assertArrayEquals(expected, indices);
+	}
+
+}
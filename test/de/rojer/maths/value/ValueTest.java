@@ -0,0 +1,223 @@
+package de.rojer.maths.value;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+import de.rojer.maths.mat.Mat4;
+import de.rojer.maths.mat.Mat4.Kind;
+import de.rojer.maths.vec.Vec2;
+import de.rojer.maths.vec.Vec3;
+import de.rojer.maths.vec.Vec4;
+
+/**
+ * Tests that the immutable value classes compute bit for bit what their
+ * mutable counterparts compute, and that equals and hashCode compare like
+ * {@link Float#equals(Object)}
+ *
+ * @author Rojer
+ * @version 18.10.2026
+ */
+class ValueTest {
+
+	private final Random random = new Random(17);
+
+	@Test
+	void vec2MatchesVec2() {
+		for (int n = 0; n < 1000; n++) {
+			Vec2 a = new Vec2(next(), next()), b = new Vec2(next(), next());
+			Vec2Value va = new Vec2Value(a), vb = new Vec2Value(b);
+			assertExact(a.cadd(b), va.add(vb));
+			assertExact(a.csubtract(b), va.subtract(vb));
+			assertExact(a.cmultiply(b), va.multiply(vb));
+			assertExact(a.cdivide(b), va.divide(vb));
+			assertExact(new Vec2(-a.x, -a.y), va.negate());
+			float factor = next(), t = random.nextFloat();
+			assertExact(new Vec2(a.x * factor, a.y * factor), va.multiply(factor));
+			assertEquals(a.x * b.x + a.y * b.y, va.dot(vb), 0.0f);
+			float length = (float) Math.sqrt(a.x * a.x + a.y * a.y);
+			assertEquals(length, va.length(), 0.0f);
+			assertEquals(1.0f, va.normalize().length(), 1e-6f);
+			assertExact(new Vec2(a.x + (b.x - a.x) * t, a.y + (b.y - a.y) * t), va.lerp(vb, t));
+			assertEquals(a, va.toVec2());
+			assertEquals(va, new Vec2Value(va.get(new Vec2())));
+		}
+	}
+
+	@Test
+	void vec3MatchesVec3() {
+		for (int n = 0; n < 1000; n++) {
+			Vec3 a = new Vec3(next(), next(), next()), b = new Vec3(next(), next(), next());
+			Vec3Value va = new Vec3Value(a), vb = new Vec3Value(b);
+			assertExact(a.cadd(b), va.add(vb));
+			assertExact(a.csubtract(b), va.subtract(vb));
+			assertExact(a.cmultiply(b), va.multiply(vb));
+			assertExact(a.cdivide(b), va.divide(vb));
+			assertExact(new Vec3(-a.x, -a.y, -a.z), va.negate());
+			float factor = next(), t = random.nextFloat();
+			assertExact(new Vec3(a.x * factor, a.y * factor, a.z * factor), va.multiply(factor));
+			assertEquals(a.x * b.x + a.y * b.y + a.z * b.z, va.dot(vb), 0.0f);
+			Vec3Value cross = va.cross(vb);
+			assertExact(new Vec3(a.y * b.z - a.z * b.y, a.z * b.x - a.x * b.z, a.x * b.y - a.y * b.x), cross);
+			assertEquals(0.0f, cross.dot(va), 1e-5f);
+			assertEquals(1.0f, va.normalize().length(), 1e-6f);
+			assertExact(new Vec3(a.x + (b.x - a.x) * t, a.y + (b.y - a.y) * t, a.z + (b.z - a.z) * t),
+					va.lerp(vb, t));
+			assertEquals(a, va.toVec3());
+			assertEquals(va, new Vec3Value(va.get(new Vec3())));
+		}
+	}
+
+	@Test
+	void vec4MatchesVec4() {
+		for (int n = 0; n < 1000; n++) {
+			Vec4 a = new Vec4(next(), next(), next(), next()), b = new Vec4(next(), next(), next(), next());
+			Vec4Value va = new Vec4Value(a), vb = new Vec4Value(b);
+			assertExact(a.cadd(b), va.add(vb));
+			assertExact(a.csubtract(b), va.subtract(vb));
+			assertExact(a.cmultiply(b), va.multiply(vb));
+			assertExact(a.cdivide(b), va.divide(vb));
+			assertExact(new Vec4(-a.x, -a.y, -a.z, -a.w), va.negate());
+			float factor = next();
+			assertExact(new Vec4(a.x * factor, a.y * factor, a.z * factor, a.w * factor), va.multiply(factor));
+			assertEquals(a.x * b.x + a.y * b.y + a.z * b.z + a.w * b.w, va.dot(vb), 0.0f);
+			assertEquals(1.0f, va.normalize().length(), 1e-6f);
+			assertExact(a, va.lerp(vb, 0.0f));
+			assertExact(b, va.lerp(vb, 1.0f));
+			assertExact(a, new Vec4Value(va.toVec4()).get(new Vec4()));
+		}
+	}
+
+	@Test
+	void mat4MatchesMat4() {
+		for (int n = 0; n < 1000; n++) {
+			Mat4 a = matrix(), b = matrix();
+			Mat4Value va = new Mat4Value(a), vb = new Mat4Value(b);
+			assertArrayEquals(a.elements, va.toMat4().elements, 0.0f);
+			// Both compute b * a, that is a is applied first
+			Mat4 product = a.cmultiply(b);
+			assertArrayEquals(product.elements, va.multiply(vb).toMat4().elements, 0.0f);
+			assertArrayEquals(Mat4.mul(a, b, new Mat4()).elements, va.multiply(vb).toMat4().elements, 0.0f);
+
+			Vec3 point = new Vec3(next(), next(), next());
+			assertExact(a.transform(point, new Vec3()), va.transform(new Vec3Value(point)));
+			Vec4 vector = new Vec4(next(), next(), next(), next());
+			assertExact(a.transform(vector, new Vec4()), va.transform(new Vec4Value(vector)));
+			Vec4 direction = a.transform(new Vec4(point.x, point.y, point.z, 0.0f), new Vec4());
+			assertExact(new Vec3(direction.x, direction.y, direction.z),
+					va.transformDirection(new Vec3Value(point)));
+
+			Mat4Value transposed = va.transpose();
+			for (int row = 0; row < 4; row++) {
+				for (int column = 0; column < 4; column++) {
+					assertEquals(a.elements[row + 4 * column], transposed.toMat4().elements[column + 4 * row], 0.0f);
+				}
+			}
+			assertEquals(va, transposed.transpose());
+		}
+	}
+
+	@Test
+	void mat4ColumnsAndFactories() {
+		Vec4Value c0 = new Vec4Value(1.0f, 2.0f, 3.0f, 4.0f), c1 = new Vec4Value(5.0f, 6.0f, 7.0f, 8.0f);
+		Vec4Value c2 = new Vec4Value(9.0f, 10.0f, 11.0f, 12.0f), c3 = new Vec4Value(13.0f, 14.0f, 15.0f, 16.0f);
+		Mat4Value matrix = new Mat4Value(c0, c1, c2, c3);
+		assertEquals(2.0f, matrix.m10, 0.0f);
+		assertEquals(5.0f, matrix.m01, 0.0f);
+		assertEquals(c2, matrix.transform(new Vec4Value(0.0f, 0.0f, 1.0f, 0.0f)));
+
+		Vec3Value vector = new Vec3Value(2.0f, -3.0f, 0.5f);
+		assertArrayEquals(Mat4.Translation(vector.toVec3()).elements,
+				Mat4Value.Translation(vector).toMat4().elements, 0.0f);
+		assertArrayEquals(Mat4.Scale(vector.toVec3()).elements, Mat4Value.Scale(vector).toMat4().elements, 0.0f);
+		assertArrayEquals(Mat4.Identity().elements, Mat4Value.IDENTITY.toMat4().elements, 0.0f);
+	}
+
+	@Test
+	void getDetectsTheKind() {
+		Vec3Value vector = new Vec3Value(2.0f, -3.0f, 0.5f);
+		assertEquals(Kind.IDENTITY, Mat4Value.IDENTITY.get(new Mat4()).getKind());
+		assertEquals(Kind.TRANSLATION, Mat4Value.Translation(vector).toMat4().getKind());
+		assertEquals(Kind.SCALE, Mat4Value.Scale(vector).toMat4().getKind());
+		assertEquals(Kind.AFFINE, Mat4Value.Scale(vector).multiply(Mat4Value.Translation(vector)).toMat4().getKind());
+		assertEquals(Kind.AFFINE, new Mat4Value(Mat4.Rotation(10.0f, 20.0f, 30.0f)).toMat4().getKind());
+		assertEquals(Kind.GENERAL, new Mat4Value(matrix()).toMat4().getKind());
+		// A matrix reused as dest gets the kind of the new elements
+		Mat4 dest = new Mat4Value(matrix()).toMat4();
+		assertEquals(Kind.TRANSLATION, Mat4Value.Translation(vector).get(dest).getKind());
+	}
+
+	@Test
+	void equalsComparesLikeFloatEquals() {
+		assertEquals(new Vec2Value(1.0f, 2.0f), new Vec2Value(1.0f, 2.0f));
+		assertNotEquals(new Vec2Value(0.0f, 2.0f), new Vec2Value(-0.0f, 2.0f));
+		assertEquals(new Vec2Value(Float.NaN, 2.0f), new Vec2Value(Float.NaN, 2.0f));
+		assertEquals(new Vec2Value(Float.NaN, 2.0f).hashCode(), new Vec2Value(Float.NaN, 2.0f).hashCode());
+
+		assertNotEquals(Vec3Value.ZERO, new Vec3Value(0.0f, 0.0f, -0.0f));
+		assertEquals(new Vec3Value(Float.NaN, 0.0f, 1.0f), new Vec3Value(Float.NaN, 0.0f, 1.0f));
+		assertEquals(Vec3Value.ZERO.hashCode(), new Vec3Value(0.0f, 0.0f, 0.0f).hashCode());
+		assertNotEquals(Vec3Value.ZERO, new Vec3(0.0f, 0.0f, 0.0f));
+
+		assertNotEquals(Vec4Value.ZERO, new Vec4Value(0.0f, 0.0f, 0.0f, -0.0f));
+		assertEquals(new Vec4Value(1.0f, Float.NaN, 0.0f, 1.0f), new Vec4Value(1.0f, Float.NaN, 0.0f, 1.0f));
+
+		Mat4 negativeZero = Mat4.Identity();
+		negativeZero.elements[7] = -0.0f;
+		assertNotEquals(Mat4Value.IDENTITY, new Mat4Value(negativeZero));
+		assertEquals(Mat4Value.IDENTITY, new Mat4Value(Mat4.Identity()));
+		assertEquals(Mat4Value.IDENTITY.hashCode(), new Mat4Value(Mat4.Identity()).hashCode());
+
+		// Equal values have equal hash codes
+		for (int n = 0; n < 100; n++) {
+			float x = next(), y = next(), z = next(), w = next();
+			assertEquals(new Vec2Value(x, y).hashCode(), new Vec2Value(x, y).hashCode());
+			assertEquals(new Vec3Value(x, y, z).hashCode(), new Vec3Value(x, y, z).hashCode());
+			assertEquals(new Vec4Value(x, y, z, w).hashCode(), new Vec4Value(x, y, z, w).hashCode());
+			Mat4 matrix = matrix(), copy = new Mat4().set(matrix);
+			assertEquals(new Mat4Value(matrix), new Mat4Value(copy));
+			assertEquals(new Mat4Value(matrix).hashCode(), new Mat4Value(copy).hashCode());
+		}
+	}
+
+	// Internals
+
+	private float next() {
+		return random.nextFloat() * 4.0f - 2.0f;
+	}
+
+	/**
+	 * @return a matrix with all 16 elements random, so it is of kind GENERAL
+	 */
+	private Mat4 matrix() {
+		Mat4 matrix = new Mat4();
+		for (int e = 0; e < 16; e++) {
+			matrix.elements[e] = next();
+		}
+		return matrix.updateKind();
+	}
+
+	private static void assertExact(Vec2 expected, Vec2Value actual) {
+		assertArrayEquals(new float[] { expected.x, expected.y }, new float[] { actual.x, actual.y }, 0.0f);
+	}
+
+	private static void assertExact(Vec3 expected, Vec3Value actual) {
+		assertArrayEquals(new float[] { expected.x, expected.y, expected.z },
+				new float[] { actual.x, actual.y, actual.z }, 0.0f);
+	}
+
+	private static void assertExact(Vec4 expected, Vec4Value actual) {
+		assertArrayEquals(new float[] { expected.x, expected.y, expected.z, expected.w },
+				new float[] { actual.x, actual.y, actual.z, actual.w }, 0.0f);
+	}
+
+	private static void assertExact(Vec4 expected, Vec4 actual) {
+		assertArrayEquals(new float[] { expected.x, expected.y, expected.z, expected.w },
+				new float[] { actual.x, actual.y, actual.z, actual.w }, 0.0f);
+	}
+
+}
@@ -0,0 +1,56 @@
+package de.rojer.maths.vec;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for the arithmetic of {@link Vec3}
+ *
+ * @author Rojer
+ * @version 18.10.2026
+ */
+class Vec3Test {
+
+	@Test
+	void arithmeticIsComponentWise() {
+		Vec3 a = new Vec3(1.0f, 2.0f, 3.0f), b = new Vec3(4.0f, 8.0f, 16.0f);
+		assertEquals(new Vec3(5.0f, 10.0f, 19.0f), a.cadd(b));
+		assertEquals(new Vec3(-3.0f, -6.0f, -13.0f), a.csubtract(b));
+		assertEquals(new Vec3(4.0f, 16.0f, 48.0f), a.cmultiply(b));
+		assertEquals(new Vec3(0.25f, 0.25f, 0.1875f), a.cdivide(b));
+	}
+
+	@Test
+	void copiesLeaveTheOriginal() {
+		Vec3 a = new Vec3(1.0f, 2.0f, 3.0f);
+		a.cadd(new Vec3(1.0f, 1.0f, 1.0f));
+		assertEquals(new Vec3(1.0f, 2.0f, 3.0f), a);
+		a.add(new Vec3(1.0f, 1.0f, 1.0f));
+		assertEquals(new Vec3(2.0f, 3.0f, 4.0f), a);
+	}
+
+	@Test
+	void equalsComparesComponents() {
+		assertEquals(new Vec3(1.0f, 2.0f, 3.0f), new Vec3(1.0f, 2.0f, 3.0f));
+		assertNotEquals(new Vec3(1.0f, 2.0f, 3.0f), new Vec3(1.0f, 2.0f, 4.0f));
+	}
+
+	@Test
+	void equalVectorsHaveEqualHashCodes() {
+		Vec3 zero = new Vec3(0.0f, 0.0f, 0.0f), negativeZero = new Vec3(-0.0f, -0.0f, -0.0f);
+		assertEquals(zero, negativeZero);
+		assertEquals(zero.hashCode(), negativeZero.hashCode());
+		// Vectors of different dimensions are equal when their common components are
+		Vec3 vector = new Vec3(1.0f, -2.0f, 3.0f);
+		Vec2 flat = new Vec2(1.0f, -2.0f);
+		Vec4 homogeneous = new Vec4(1.0f, -2.0f, 3.0f, 1.0f);
+		assertEquals(vector, flat);
+		assertEquals(vector, homogeneous);
+		assertEquals(vector.hashCode(), flat.hashCode());
+		assertEquals(vector.hashCode(), homogeneous.hashCode());
+		assertEquals(new Vec2(-0.0f, 5.0f).hashCode(), new Vec4(0.0f, 5.0f, -0.0f, 0.0f).hashCode());
+	}
+
+}
@@ -0,0 +1,282 @@
+package de.rojer.maths.vec;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+import de.rojer.maths.mat.Mat4;
+
+/**
+ * Tests the bulk operations of the structure-of-arrays and interleaved vector
+ * buffers against the methods of {@link Vec3} and {@link Vec4} and
+ * {@link Mat4#transform}
+ *
+ * @author Rojer
+ * @version 18.10.2026
+ */
+class VectorBufferTest {
+
+	private static final int SIZE = 1000, OFFSET = 13, COUNT = 900;
+	private static final float UNTOUCHED = -12345.0f;
+
+	private final Random random = new Random(3);
+
+	@Test
+	void arithmeticMatchesVec3() {
+		Vec3Buffer a = random3(), b = random3();
+		InterleavedVec3Buffer ia = new InterleavedVec3Buffer(SIZE).copyFrom(a, 0, SIZE);
+		InterleavedVec3Buffer ib = new InterleavedVec3Buffer(SIZE).copyFrom(b, 0, SIZE);
+		for (int op = 0; op < 4; op++) {
+			Vec3Buffer dest = filled3();
+			InterleavedVec3Buffer interleaved = new InterleavedVec3Buffer(SIZE).copyFrom(dest, 0, SIZE);
+			switch (op) {
+			case 0:
+				Vec3Buffer.add(a, b, dest, OFFSET, COUNT);
+				InterleavedVec3Buffer.add(ia, ib, interleaved, OFFSET, COUNT);
+				break;
+			case 1:
+				Vec3Buffer.subtract(a, b, dest, OFFSET, COUNT);
+				InterleavedVec3Buffer.subtract(ia, ib, interleaved, OFFSET, COUNT);
+				break;
+			case 2:
+				Vec3Buffer.multiply(a, b, dest, OFFSET, COUNT);
+				InterleavedVec3Buffer.multiply(ia, ib, interleaved, OFFSET, COUNT);
+				break;
+			default:
+				Vec3Buffer.divide(a, b, dest, OFFSET, COUNT);
+				InterleavedVec3Buffer.divide(ia, ib, interleaved, OFFSET, COUNT);
+			}
+			Vec3 left = new Vec3(), right = new Vec3(), actual = new Vec3();
+			for (int i = 0; i < SIZE; i++) {
+				Vec3 expected = new Vec3(UNTOUCHED, UNTOUCHED, UNTOUCHED);
+				if (i >= OFFSET && i < OFFSET + COUNT) {
+					expected = apply(op, a.get(i, left), b.get(i, right));
+				}
+				assertExact(expected, dest.get(i, actual));
+				assertExact(expected, interleaved.get(i, actual));
+			}
+		}
+	}
+
+	@Test
+	void arithmeticMatchesVec4() {
+		Vec4Buffer a = random4(), b = random4();
+		InterleavedVec4Buffer ia = new InterleavedVec4Buffer(SIZE).copyFrom(a, 0, SIZE);
+		InterleavedVec4Buffer ib = new InterleavedVec4Buffer(SIZE).copyFrom(b, 0, SIZE);
+		for (int op = 0; op < 4; op++) {
+			Vec4Buffer dest = filled4();
+			InterleavedVec4Buffer interleaved = new InterleavedVec4Buffer(SIZE).copyFrom(dest, 0, SIZE);
+			switch (op) {
+			case 0:
+				Vec4Buffer.add(a, b, dest, OFFSET, COUNT);
+				InterleavedVec4Buffer.add(ia, ib, interleaved, OFFSET, COUNT);
+				break;
+			case 1:
+				Vec4Buffer.subtract(a, b, dest, OFFSET, COUNT);
+				InterleavedVec4Buffer.subtract(ia, ib, interleaved, OFFSET, COUNT);
+				break;
+			case 2:
+				Vec4Buffer.multiply(a, b, dest, OFFSET, COUNT);
+				InterleavedVec4Buffer.multiply(ia, ib, interleaved, OFFSET, COUNT);
+				break;
+			default:
+				Vec4Buffer.divide(a, b, dest, OFFSET, COUNT);
+				InterleavedVec4Buffer.divide(ia, ib, interleaved, OFFSET, COUNT);
+			}
+			Vec4 left = new Vec4(), right = new Vec4(), actual = new Vec4();
+			for (int i = 0; i < SIZE; i++) {
+				Vec4 expected = new Vec4(UNTOUCHED, UNTOUCHED, UNTOUCHED, UNTOUCHED);
+				if (i >= OFFSET && i < OFFSET + COUNT) {
+					expected = apply(op, a.get(i, left), b.get(i, right));
+				}
+				assertExact(expected, dest.get(i, actual));
+				assertExact(expected, interleaved.get(i, actual));
+			}
+		}
+	}
+
+	@Test
+	void instanceArithmeticCoversWholeBuffer() {
+		Vec3Buffer a = random3(), b = random3(), expected = new Vec3Buffer(SIZE);
+		Vec3Buffer.add(a, b, expected, 0, SIZE);
+		Vec3Buffer.multiply(expected, b, expected, 0, SIZE);
+		Vec3Buffer.subtract(expected, a, expected, 0, SIZE);
+		Vec3Buffer.divide(expected, b, expected, 0, SIZE);
+		InterleavedVec3Buffer interleaved = new InterleavedVec3Buffer(SIZE).copyFrom(a, 0, SIZE);
+		InterleavedVec3Buffer other = new InterleavedVec3Buffer(SIZE).copyFrom(b, 0, SIZE);
+		InterleavedVec3Buffer first = new InterleavedVec3Buffer(SIZE).copyFrom(a, 0, SIZE);
+		a.add(b).multiply(b).subtract(first.copyTo(new Vec3Buffer(SIZE), 0, SIZE)).divide(b);
+		interleaved.add(other).multiply(other).subtract(first).divide(other);
+		assertArrayEquals(expected.x, a.x, 0.0f);
+		assertArrayEquals(expected.y, a.y, 0.0f);
+		assertArrayEquals(expected.z, a.z, 0.0f);
+		assertArrayEquals(new InterleavedVec3Buffer(SIZE).copyFrom(expected, 0, SIZE).data, interleaved.data, 0.0f);
+	}
+
+	@Test
+	void transformMatchesMat4InPlaceAndSeparate() {
+		Mat4 matrix = randomMatrix();
+		Vec3Buffer src = random3(), inPlace = new Vec3Buffer(SIZE), separate = filled3();
+		// inPlace = src + 0, a copy of src
+		Vec3Buffer.add(src, inPlace, inPlace, 0, SIZE);
+		InterleavedVec3Buffer interleaved = new InterleavedVec3Buffer(SIZE).copyFrom(src, 0, SIZE);
+		Vec3Buffer.transform(matrix, inPlace, inPlace, OFFSET, COUNT);
+		Vec3Buffer.transform(matrix, src, separate, OFFSET, COUNT);
+		InterleavedVec3Buffer.transform(matrix, interleaved, interleaved, OFFSET, COUNT);
+		Vec3 in = new Vec3(), actual = new Vec3();
+		for (int i = 0; i < SIZE; i++) {
+			src.get(i, in);
+			boolean inRange = i >= OFFSET && i < OFFSET + COUNT;
+			Vec3 expected = inRange ? matrix.transform(in, new Vec3()) : in;
+			assertExact(expected, inPlace.get(i, actual));
+			assertExact(expected, interleaved.get(i, actual));
+			assertExact(inRange ? expected : new Vec3(UNTOUCHED, UNTOUCHED, UNTOUCHED), separate.get(i, actual));
+		}
+	}
+
+	@Test
+	void transformMatchesMat4ForVec4() {
+		Mat4 matrix = randomMatrix();
+		Vec4Buffer src = random4(), inPlace = new Vec4Buffer(SIZE), separate = filled4();
+		// inPlace = src + 0, a copy of src
+		Vec4Buffer.add(src, inPlace, inPlace, 0, SIZE);
+		InterleavedVec4Buffer interleaved = new InterleavedVec4Buffer(SIZE).copyFrom(src, 0, SIZE);
+		Vec4Buffer.transform(matrix, inPlace, inPlace, OFFSET, COUNT);
+		Vec4Buffer.transform(matrix, src, separate, OFFSET, COUNT);
+		InterleavedVec4Buffer.transform(matrix, interleaved, interleaved, OFFSET, COUNT);
+		Vec4 in = new Vec4(), actual = new Vec4();
+		for (int i = 0; i < SIZE; i++) {
+			src.get(i, in);
+			boolean inRange = i >= OFFSET && i < OFFSET + COUNT;
+			Vec4 expected = inRange ? matrix.transform(in, new Vec4()) : in;
+			assertExact(expected, inPlace.get(i, actual));
+			assertExact(expected, interleaved.get(i, actual));
+			assertExact(inRange ? expected : new Vec4(UNTOUCHED, UNTOUCHED, UNTOUCHED, UNTOUCHED),
+					separate.get(i, actual));
+		}
+	}
+
+	@Test
+	void conversionCopiesOnlyTheRange() {
+		Vec3Buffer soa = random3();
+		InterleavedVec3Buffer interleaved = new InterleavedVec3Buffer(SIZE).copyFrom(filled3(), 0, SIZE);
+		interleaved.copyFrom(soa, OFFSET, COUNT);
+		Vec3Buffer back = interleaved.copyTo(filled3(), OFFSET, COUNT);
+		Vec4Buffer soa4 = random4();
+		InterleavedVec4Buffer interleaved4 = new InterleavedVec4Buffer(SIZE).copyFrom(filled4(), 0, SIZE);
+		interleaved4.copyFrom(soa4, OFFSET, COUNT);
+		Vec4Buffer back4 = interleaved4.copyTo(filled4(), OFFSET, COUNT);
+		for (int i = 0; i < SIZE; i++) {
+			boolean inRange = i >= OFFSET && i < OFFSET + COUNT;
+			Vec3 expected = inRange ? soa.get(i, new Vec3()) : new Vec3(UNTOUCHED, UNTOUCHED, UNTOUCHED);
+			assertExact(expected, interleaved.get(i, new Vec3()));
+			assertExact(expected, back.get(i, new Vec3()));
+			Vec4 expected4 = inRange ? soa4.get(i, new Vec4()) : new Vec4(UNTOUCHED, UNTOUCHED, UNTOUCHED, UNTOUCHED);
+			assertExact(expected4, interleaved4.get(i, new Vec4()));
+			assertExact(expected4, back4.get(i, new Vec4()));
+		}
+		// The interleaved layout is x, y, z, x, y, z, ...
+		assertEquals(soa.y[OFFSET], interleaved.data[OFFSET * InterleavedVec3Buffer.STRIDE + 1], 0.0f);
+		assertEquals(soa4.w[OFFSET], interleaved4.data[OFFSET * InterleavedVec4Buffer.STRIDE + 3], 0.0f);
+	}
+
+	@Test
+	void interleavedRejectsPartialVectors() {
+		assertThrows(IllegalArgumentException.class, () -> new InterleavedVec3Buffer(new float[10]));
+		assertThrows(IllegalArgumentException.class, () -> new InterleavedVec4Buffer(new float[10]));
+		assertEquals(4, new InterleavedVec3Buffer(new float[12]).size());
+		assertEquals(3, new InterleavedVec4Buffer(new float[12]).size());
+	}
+
+	// Internals
+
+	private float value() {
+		// Away from 0, so the divisions stay finite
+		float value = 0.5f + random.nextFloat() * 10.0f;
+		return random.nextBoolean() ? value : -value;
+	}
+
+	private Vec3Buffer random3() {
+		Vec3Buffer buffer = new Vec3Buffer(SIZE);
+		for (int i = 0; i < SIZE; i++) {
+			buffer.set(i, value(), value(), value());
+		}
+		return buffer;
+	}
+
+	private Vec4Buffer random4() {
+		Vec4Buffer buffer = new Vec4Buffer(SIZE);
+		for (int i = 0; i < SIZE; i++) {
+			buffer.set(i, value(), value(), value(), value());
+		}
+		return buffer;
+	}
+
+	private static Vec3Buffer filled3() {
+		Vec3Buffer buffer = new Vec3Buffer(SIZE);
+		for (int i = 0; i < SIZE; i++) {
+			buffer.set(i, UNTOUCHED, UNTOUCHED, UNTOUCHED);
+		}
+		return buffer;
+	}
+
+	private static Vec4Buffer filled4() {
+		Vec4Buffer buffer = new Vec4Buffer(SIZE);
+		for (int i = 0; i < SIZE; i++) {
+			buffer.set(i, UNTOUCHED, UNTOUCHED, UNTOUCHED, UNTOUCHED);
+		}
+		return buffer;
+	}
+
+	/**
+	 * @return a matrix with all 16 elements random, so it is of kind GENERAL
+	 */
+	private Mat4 randomMatrix() {
+		Mat4 matrix = new Mat4();
+		for (int e = 0; e < 16; e++) {
+			matrix.elements[e] = value();
+		}
+		return matrix.updateKind();
+	}
+
+	private static Vec3 apply(int op, Vec3 a, Vec3 b) {
+		switch (op) {
+		case 0:
+			return a.cadd(b);
+		case 1:
+			return a.csubtract(b);
+		case 2:
+			return a.cmultiply(b);
+		default:
+			return a.cdivide(b);
+		}
+	}
+
+	private static Vec4 apply(int op, Vec4 a, Vec4 b) {
+		switch (op) {
+		case 0:
+			return a.cadd(b);
+		case 1:
+			return a.csubtract(b);
+		case 2:
+			return a.cmultiply(b);
+		default:
+			return a.cdivide(b);
+		}
+	}
+
+	private static void assertExact(Vec3 expected, Vec3 actual) {
+		assertArrayEquals(new float[] { expected.x, expected.y, expected.z },
+				new float[] { actual.x, actual.y, actual.z }, 0.0f);
+	}
+
+	private static void assertExact(Vec4 expected, Vec4 actual) {
+		assertArrayEquals(new float[] { expected.x, expected.y, expected.z, expected.w },
+				new float[] { actual.x, actual.y, actual.z, actual.w }, 0.0f);
+	}
+
+}